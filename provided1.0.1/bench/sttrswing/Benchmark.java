@@ -0,0 +1,53 @@
+package sttrswing;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Minimal timing harness shared by the benchmarks in this source folder. Each benchmark is a plain
+ * {@code main} so it can be run straight from the IDE without any extra tooling.
+ */
+public final class Benchmark {
+
+  private static volatile long sink;
+
+  private Benchmark() {
+    // Utility class
+  }
+
+  /**
+   * Runs the given operation for a warmup phase and then a measured phase, printing and returning
+   * the mean time taken per operation. The value each call returns is consumed so the JIT cannot
+   * optimise the work away.
+   *
+   * @param name       - label printed alongside the result.
+   * @param warmup     - how many calls to make before measuring.
+   * @param iterations - how many calls to measure.
+   * @param operation  - the operation being measured.
+   * @return mean nanoseconds per call over the measured phase.
+   */
+  public static double measure(final String name, final int warmup, final int iterations,
+      final LongSupplier operation) {
+    long consumed = 0;
+    for (int i = 0; i < warmup; i += 1) {
+      consumed += operation.getAsLong();
+    }
+    final long start = System.nanoTime();
+    for (int i = 0; i < iterations; i += 1) {
+      consumed += operation.getAsLong();
+    }
+    final long elapsed = System.nanoTime() - start;
+    sink = consumed;
+    final double perOperation = (double) elapsed / iterations;
+    System.out.printf("%-48s %14.1f ns/op%n", name, perOperation);
+    return perOperation;
+  }
+
+  /**
+   * Returns the value last consumed by {@link #measure}, only exists so the sink is read.
+   *
+   * @return the value last consumed by {@link #measure}.
+   */
+  public static long sink() {
+    return sink;
+  }
+}
@@ -0,0 +1,52 @@
+package sttrswing.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import sttrswing.Benchmark;
+import sttrswing.model.Game;
+import sttrswing.model.enums.TickMode;
+
+/**
+ * Compares how long the thread playing the game is held up by saving a 512x512 galaxy of 262,144
+ * quadrants synchronously, as the Save menu used to, with handing it to an {@link AutoSaver},
+ * which only forks the game on the calling thread. Turns in {@link TickMode#LAZY} so the turns
+ * played between requests stay cheap after each fork. Also prints how long the last background
+ * save itself took, a delta save of only the quadrants changed since the one before. Run with a
+ * heap of a few GiB.
+ */
+public class AutoSaveBenchmark {
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args unused.
+   * @throws Exception if the save directory can not be created or the wait is interrupted.
+   */
+  public static void main(String[] args) throws Exception {
+    final Game game = new Game(512, 512, 3L);
+    // in TickMode.EAGER every turn after a fork copies each quadrant ticked out of focus
+    game.getGalaxy().setTickMode(TickMode.LAZY);
+    final Path directory = Files.createTempDirectory("autosave-bench");
+    final Path path = directory.resolve("sync.trekf");
+    Benchmark.measure("synchronous full save (caller)", 1, 5, () -> {
+      try {
+        GameSaver.save(path.toString(), game.exportFull());
+        return Files.size(path);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    try (AutoSaver saver = new AutoSaver(directory.resolve("autosave.trekf"))) {
+      Benchmark.measure("autosave request (caller)", 5, 1_000, () -> {
+        game.turn();
+        saver.request(game);
+        return game.getGalaxy().getTurns();
+      });
+      saver.flush();
+      System.out.printf("%-48s %14d ns/op%n", "last background save",
+          saver.lastSaveDuration().toNanos());
+    }
+  }
+}
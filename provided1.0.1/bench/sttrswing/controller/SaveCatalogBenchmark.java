@@ -0,0 +1,73 @@
+package sttrswing.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import sttrswing.Benchmark;
+import sttrswing.model.Game;
+import sttrswing.model.SaveHeader;
+import sttrswing.model.SavedGame;
+
+/**
+ * Compares listing what is in 300 saves of 32x32 galaxies by loading each one, as a load dialog
+ * would have to without headers, with reading only their {@link SaveHeader}s and with asking a
+ * {@link SaveCatalog} that has already read them.
+ */
+public class SaveCatalogBenchmark {
+
+  private static final int SAVES = 300;
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args unused.
+   * @throws Exception if the saves can not be written.
+   */
+  public static void main(String[] args) throws Exception {
+    final Path directory = Files.createTempDirectory("catalog-bench");
+    final String[] extensions = {"trek", "trekb", "trekf"};
+    for (int i = 0; i < SAVES; i += 1) {
+      final Game game = new Game(32, 32, i);
+      final Path path = directory.resolve("save" + i + "." + extensions[i % 3]);
+      GameSaver.save(path.toString(), GameSaver.encode(game, path));
+    }
+    final List<Path> paths;
+    try (var listing = Files.list(directory)) {
+      paths = listing.toList();
+    }
+    Benchmark.measure("list " + SAVES + " saves by loading each", 1, 3, () -> {
+      long klingons = 0;
+      for (Path path : paths) {
+        try {
+          final SavedGame saved = GameLoader.read(path);
+          klingons += saved.galaxy().klingonCount();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+      return klingons;
+    });
+    Benchmark.measure("list " + SAVES + " saves by header", 3, 20, () -> {
+      long klingons = 0;
+      for (Path path : paths) {
+        try {
+          klingons += SaveHeader.read(path).klingons();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+      return klingons;
+    });
+    try (SaveCatalog catalog = new SaveCatalog(directory)) {
+      Benchmark.measure("list " + SAVES + " saves from catalog", 10, 1_000, () -> {
+        long klingons = 0;
+        for (SaveCatalog.Entry entry : catalog.entries()) {
+          klingons += entry.header().klingons();
+        }
+        return klingons;
+      });
+    }
+  }
+}
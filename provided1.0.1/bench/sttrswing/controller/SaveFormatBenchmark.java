@@ -0,0 +1,84 @@
+package sttrswing.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import sttrswing.Benchmark;
+import sttrswing.model.BinarySaveCodec;
+import sttrswing.model.Game;
+import sttrswing.model.enums.GenerationMode;
+
+/**
+ * Compares saving and loading through the text {@code .trek} format and the binary
+ * {@code .trekb} format, on an 8x8 galaxy of 64 quadrants and a 1024x1024 galaxy of a million,
+ * along with the size of the file each writes. Loading rebuilds every quadrant either way, so
+ * decoding alone is also timed. Run with a heap of a few GiB for the large galaxy.
+ */
+public class SaveFormatBenchmark {
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args unused.
+   * @throws IOException if the save files can not be written.
+   */
+  public static void main(String[] args) throws IOException {
+    run(8, 2_000, 20_000);
+    run(1024, 1, 3);
+  }
+
+  private static void run(final int size, final int warmup, final int iterations)
+      throws IOException {
+    final Game game = new Game(size, size, 7L, GenerationMode.LAZY);
+    final String label = " " + size + "x" + size;
+    final Path directory = Files.createTempDirectory("saves");
+    final Path text = directory.resolve("save.trek");
+    final Path binary = directory.resolve("save." + BinarySaveCodec.EXTENSION);
+    try {
+      Benchmark.measure("save text" + label, warmup, iterations, () -> {
+        try {
+          GameSaver.save(text.toString(), game.export());
+          return Files.size(text);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      Benchmark.measure("save binary" + label, warmup, iterations, () -> {
+        try {
+          GameSaver.save(binary.toString(), game.exportBinary());
+          return Files.size(binary);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      System.out.printf("%-48s %14d bytes%n", "text file" + label, Files.size(text));
+      System.out.printf("%-48s %14d bytes%n", "binary file" + label, Files.size(binary));
+
+      final String content = GameLoader.load(text.toString());
+      final byte[] bytes = Files.readAllBytes(binary);
+      Benchmark.measure("load text" + label, warmup, iterations, () -> {
+        try {
+          return GameLoader.read(text).galaxy().getWidth();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      Benchmark.measure("load binary" + label, warmup, iterations, () -> {
+        try {
+          return GameLoader.read(binary).galaxy().getWidth();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      Benchmark.measure("parse text, already read" + label, warmup, iterations,
+          () -> GameLoader.parse(content).galaxy().getWidth());
+      Benchmark.measure("decode binary, already read" + label, warmup, iterations,
+          () -> BinarySaveCodec.decode(bytes).galaxy().getWidth());
+    } finally {
+      Files.deleteIfExists(text);
+      Files.deleteIfExists(binary);
+      Files.delete(directory);
+    }
+  }
+}
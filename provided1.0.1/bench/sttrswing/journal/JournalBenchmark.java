@@ -0,0 +1,81 @@
+package sttrswing.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import sttrswing.Benchmark;
+import sttrswing.headless.RandomPolicy;
+import sttrswing.model.interfaces.GameModel;
+
+/**
+ * Measures what journaling adds to each command, and how long it takes to rebuild a 10,000
+ * command game from its journal file and from the nearest in-memory snapshot. With an eagerly
+ * ticked galaxy every quadrant ticked after a snapshot has to be copied away from it, so journaling
+ * costs more there than with a lazy one.
+ */
+public class JournalBenchmark {
+
+  private static final int COMMANDS = 10_000;
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args unused.
+   * @throws IOException if the journal file can not be written.
+   */
+  public static void main(String[] args) throws IOException {
+    for (boolean lazy : new boolean[] {false, true}) {
+      System.out.println(lazy ? "lazy 64x64 galaxy" : "eager 64x64 galaxy");
+      run(new JournalHeader(64, 64, 3L, lazy));
+    }
+  }
+
+  private static void run(final JournalHeader header) throws IOException {
+    Benchmark.measure(COMMANDS + " commands, plain", 20, 100,
+        () -> play(header.newGame()));
+    Benchmark.measure(COMMANDS + " commands, journaled in memory", 20, 100,
+        () -> play(new JournaledGame(header, JournaledGame.DEFAULT_SNAPSHOT_INTERVAL)));
+
+    final Path path = Files.createTempFile("journal", ".trekj");
+    try {
+      for (SyncMode sync : new SyncMode[] {SyncMode.NONE, SyncMode.BATCH}) {
+        Benchmark.measure(COMMANDS + " commands, journaled to file " + sync, 20, 100, () -> {
+          try (JournalWriter writer = new JournalWriter(path, header, sync)) {
+            return play(new JournaledGame(writer, JournaledGame.DEFAULT_SNAPSHOT_INTERVAL));
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      }
+      System.out.printf("%-48s %14d bytes%n", "journal file", Files.size(path));
+
+      Benchmark.measure("replay " + COMMANDS + " commands from file", 20, 100, () -> {
+        try {
+          return JournalReader.replay(path).stateHash();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+
+      final JournaledGame journaled =
+          new JournaledGame(header, JournaledGame.DEFAULT_SNAPSHOT_INTERVAL);
+      play(journaled);
+      final SplittableRandom random = new SplittableRandom(9L);
+      Benchmark.measure("stateAt random command", 2_000, 20_000,
+          () -> journaled.stateAt(random.nextLong(COMMANDS + 1)).stateHash());
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  private static long play(final GameModel game) {
+    final RandomPolicy policy = new RandomPolicy();
+    final SplittableRandom random = new SplittableRandom(1L);
+    for (int i = 0; i < COMMANDS; i += 1) {
+      policy.act(game, random);
+    }
+    return game.stateHash();
+  }
+}
@@ -0,0 +1,59 @@
+package sttrswing.logging;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumSet;
+import sttrswing.Benchmark;
+
+/**
+ * Measures the cost of a {@link GameLog} call while its category is switched off and while it is
+ * switched on into an in-memory sink, along with the bytes the calling thread allocates per call
+ * in each case. A switched off call should allocate nothing.
+ */
+public class LoggingBenchmark {
+
+  private static final int CALLS = 10_000_000;
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args unused.
+   */
+  public static void main(String[] args) {
+    run("disabled");
+    GameLog.enable(Level.DEBUG, EnumSet.of(Category.COMBAT), new LogSink() {
+      @Override
+      public void write(final LogEvent event) {
+        // discard, only the game thread side is being measured
+      }
+
+      @Override
+      public void flush() {
+      }
+    }, 1 << 16);
+    run("enabled");
+    System.out.println("dropped while enabled: " + GameLog.dropped());
+    GameLog.disable();
+  }
+
+  private static void run(final String label) {
+    final long[] damage = {0};
+    Benchmark.measure("log " + label, CALLS, CALLS, () -> {
+      damage[0] += 1;
+      GameLog.log(Level.DEBUG, Category.COMBAT, "klingon hit", "damage", damage[0],
+          "energyBefore", 300, "energyAfter", 300 - damage[0]);
+      return damage[0];
+    });
+    final long before = allocatedBytes();
+    for (int i = 0; i < CALLS; i += 1) {
+      GameLog.log(Level.DEBUG, Category.COMBAT, "klingon hit", "damage", i, "energyBefore", 300,
+          "energyAfter", 300 - i);
+    }
+    System.out.printf("%-48s %14.3f bytes/op%n", "allocated " + label,
+        (double) (allocatedBytes() - before) / CALLS);
+  }
+
+  private static long allocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+        .getCurrentThreadAllocatedBytes();
+  }
+}
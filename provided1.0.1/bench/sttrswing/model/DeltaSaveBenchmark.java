@@ -0,0 +1,59 @@
+package sttrswing.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import sttrswing.Benchmark;
+import sttrswing.model.enums.TickMode;
+
+/**
+ * Compares saving a large galaxy in full every turn with saving it through a {@link SaveChain},
+ * which after the first save writes only the {@link Quadrant}s that changed. Runs on an eagerly
+ * generated 512x512 galaxy of 262,144 quadrants turned in {@link TickMode#LAZY}, so a turn changes
+ * only the {@link Quadrant} being played in, and times the turn on its own so its cost can be taken
+ * out. Writes to a temporary directory. Run with a heap of a few GiB.
+ */
+public class DeltaSaveBenchmark {
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args unused.
+   * @throws IOException if the temporary directory can not be created.
+   */
+  public static void main(String[] args) throws IOException {
+    final Path directory = Files.createTempDirectory("delta-bench");
+    final Game game = new Game(512, 512, 3L);
+    game.getGalaxy().setTickMode(TickMode.LAZY);
+
+    Benchmark.measure("turn only", 5, 50, () -> turn(game));
+    final Path full = directory.resolve("full.trekf");
+    Benchmark.measure("turn + full save", 1, 10, () -> {
+      try {
+        FullSaveCodec.write(full, game.getEnterprise(), game.getGalaxy(), game.galaxyPosition());
+        return turn(game) + Files.size(full);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    final SaveChain chain = new SaveChain(directory.resolve("chain.trekf"), Integer.MAX_VALUE);
+    Benchmark.measure("turn + delta save", 1, 50, () -> {
+      try {
+        final Path written = chain.save(game);
+        return turn(game) + Files.size(written);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    System.out.printf("%-48s %14d bytes%n", "full save", Files.size(chain.base()));
+    System.out.printf("%-48s %14d bytes%n", "last delta save",
+        Files.size(chain.base().resolveSibling("chain.trekf.d" + chain.deltaCount())));
+  }
+
+  private static long turn(final Game game) {
+    game.moveWithinQuadrant(game.stateHash() % 2 == 0 ? 3 : 7, 1);
+    game.turn();
+    return game.getGalaxy().getTurns();
+  }
+}
@@ -0,0 +1,39 @@
+package sttrswing.model;
+
+import sttrswing.Benchmark;
+import sttrswing.model.enums.GenerationMode;
+import sttrswing.model.enums.TickMode;
+
+/**
+ * Measures {@link Game#fork()} on its own and followed by the kind of short "what if" line a
+ * search based bot plays out on each fork, on a small and a large galaxy. Forking shares every
+ * {@link Quadrant}, so both should cost the same whatever the size of the galaxy.
+ */
+public class ForkBenchmark {
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args unused.
+   */
+  public static void main(String[] args) {
+    for (int size : new int[] {8, 512}) {
+      final Game root = new Game(size, size, size, GenerationMode.LAZY);
+      root.getGalaxy().setTickMode(TickMode.LAZY);
+      Benchmark.measure("fork " + size + "x" + size, 200_000, 2_000_000,
+          () -> root.fork().playerEnergy());
+      final int[] cursor = {0};
+      Benchmark.measure("fork + phasers, warp, torpedo " + size + "x" + size, 50_000, 500_000,
+          () -> {
+            final int course = 1 + (cursor[0]++ & 7);
+            final Game fork = root.fork();
+            fork.firePhasers(300);
+            fork.turn();
+            fork.moveBetweenQuadrants(course, 1);
+            fork.fireTorpedo(course);
+            fork.turn();
+            return fork.playerEnergy();
+          });
+    }
+  }
+}
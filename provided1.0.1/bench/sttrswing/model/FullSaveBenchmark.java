@@ -0,0 +1,55 @@
+package sttrswing.model;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import sttrswing.Benchmark;
+import sttrswing.model.enums.GenerationMode;
+
+/**
+ * Compares loading a large galaxy from a full-fidelity save, which rebuilds every {@link Quadrant}
+ * directly, with loading it from a {@code .trek} save, which places everything afresh from the
+ * counts, and with generating it again from its seed. Runs on an eagerly generated 512x512 galaxy
+ * of 262,144 quadrants and on a lazily generated 1024x1024 galaxy of a million quadrants where
+ * only those the {@link Enterprise} warped through are built, which a full save keeps unbuilt. Run
+ * with a heap of a few GiB.
+ */
+public class FullSaveBenchmark {
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args unused.
+   */
+  public static void main(String[] args) {
+    run("eager 512x512", new Game(512, 512, 3L), 512, GenerationMode.EAGER);
+    final Game lazy = new Game(1024, 1024, 3L, GenerationMode.LAZY);
+    for (int warp = 0; warp < 200; warp += 1) {
+      lazy.moveBetweenQuadrants(warp % 8 + 1, 2);
+    }
+    run("lazy 1024x1024", lazy, 1024, GenerationMode.LAZY);
+  }
+
+  private static void run(final String label, final Game game, final int size,
+      final GenerationMode mode) {
+    System.out.printf("%-48s %14d quadrants%n", label + " built",
+        game.getGalaxy().materialisedCount());
+    final byte[] full = game.exportFull();
+    final String text = game.export();
+    System.out.printf("%-48s %14d bytes%n", label + " full save", full.length);
+    System.out.printf("%-48s %14d bytes%n", label + " text save", text.length());
+
+    Benchmark.measure(label + " save full", 1, 5, () -> game.exportFull().length);
+    Benchmark.measure(label + " load full", 1, 5,
+        () -> FullSaveCodec.decode(full).galaxy().materialisedCount());
+    Benchmark.measure(label + " load text", 1, 3, () -> {
+      try {
+        return TrekParser.read(new StringReader(text)).galaxy().materialisedCount();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    Benchmark.measure(label + " regenerate from seed", 1, 3,
+        () -> new Galaxy(size, size, 3L, mode).materialisedCount());
+  }
+}
@@ -0,0 +1,54 @@
+package sttrswing.model;
+
+import java.util.Random;
+import sttrswing.Benchmark;
+
+/**
+ * Measures {@link Galaxy#quadrantAt(int, int)} and {@link Galaxy#getQuadrantClusterAt(int, int)}
+ * across growing galaxy sizes, the cost per lookup should stay flat as the galaxy grows.
+ *
+ * <p>Usage: {@code GalaxyBenchmark [size...]} where each size is the width and height of a square
+ * galaxy, defaults to 8 64 256.</p>
+ */
+public class GalaxyBenchmark {
+
+  private static final int LOOKUPS = 1 << 16;
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args optional galaxy sizes to benchmark.
+   */
+  public static void main(String[] args) {
+    int[] sizes = {8, 64, 256};
+    if (args.length > 0) {
+      sizes = new int[args.length];
+      for (int i = 0; i < args.length; i += 1) {
+        sizes[i] = Integer.parseInt(args[i]);
+      }
+    }
+    for (int size : sizes) {
+      run(size);
+    }
+  }
+
+  private static void run(final int size) {
+    final Galaxy galaxy = new Galaxy(size, size);
+    final Random random = new Random(size);
+    final int[] xs = new int[LOOKUPS];
+    final int[] ys = new int[LOOKUPS];
+    for (int i = 0; i < LOOKUPS; i += 1) {
+      xs[i] = random.nextInt(size);
+      ys[i] = random.nextInt(size);
+    }
+    final int[] cursor = {0};
+    Benchmark.measure("quadrantAt " + size + "x" + size, 2_000_000, 10_000_000, () -> {
+      final int i = cursor[0]++ & (LOOKUPS - 1);
+      return galaxy.quadrantAt(xs[i], ys[i]).getX();
+    });
+    Benchmark.measure("getQuadrantClusterAt " + size + "x" + size, 200_000, 1_000_000, () -> {
+      final int i = cursor[0]++ & (LOOKUPS - 1);
+      return galaxy.getQuadrantClusterAt(xs[i], ys[i]).size();
+    });
+  }
+}
@@ -0,0 +1,59 @@
+package sttrswing.model;
+
+import sttrswing.model.enums.GenerationMode;
+
+/**
+ * Measures how long it takes to generate a {@link Galaxy} and how much heap it holds afterwards in
+ * each {@link GenerationMode}, then how long the first visit to a lazily generated
+ * {@link Quadrant} costs.
+ *
+ * <p>Usage: {@code GalaxyGenerationBenchmark [size...]} where each size is the width and height of
+ * a square galaxy, defaults to 64 256 1024.</p>
+ */
+public class GalaxyGenerationBenchmark {
+
+  private static final long SEED = 42L;
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args optional galaxy sizes to benchmark.
+   */
+  public static void main(String[] args) {
+    int[] sizes = {64, 256, 1024};
+    if (args.length > 0) {
+      sizes = new int[args.length];
+      for (int i = 0; i < args.length; i += 1) {
+        sizes[i] = Integer.parseInt(args[i]);
+      }
+    }
+    for (int size : sizes) {
+      for (GenerationMode mode : GenerationMode.values()) {
+        run(size, mode);
+      }
+    }
+  }
+
+  private static void run(final int size, final GenerationMode mode) {
+    final long heapBefore = usedHeap();
+    final long start = System.nanoTime();
+    final Galaxy galaxy = new Galaxy(size, size, SEED, mode);
+    final long elapsed = System.nanoTime() - start;
+    final long heapAfter = usedHeap();
+    System.out.printf("%-48s %11.1f ms %9.1f MiB%n", mode + " generate " + size + "x" + size,
+        elapsed / 1e6, (heapAfter - heapBefore) / (1024.0 * 1024.0));
+
+    final long visitStart = System.nanoTime();
+    galaxy.quadrantAt(size / 3, size / 5);
+    System.out.printf("%-48s %14.1f us%n", mode + " first visit " + size + "x" + size,
+        (System.nanoTime() - visitStart) / 1e3);
+  }
+
+  private static long usedHeap() {
+    final Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i += 1) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
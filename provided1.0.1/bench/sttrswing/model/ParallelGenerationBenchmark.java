@@ -0,0 +1,42 @@
+package sttrswing.model;
+
+import sttrswing.Benchmark;
+import sttrswing.model.enums.GenerationMode;
+
+/**
+ * Compares {@link GenerationMode#EAGER} and {@link GenerationMode#PARALLEL} galaxy generation at
+ * 64, 4,096 and 1,048,576 quadrants.
+ *
+ * <p>Usage: {@code ParallelGenerationBenchmark [size...]} where each size is the width and height
+ * of a square galaxy, defaults to 8 64 1024. Give the JVM a few gigabytes of heap for the largest
+ * size.</p>
+ */
+public class ParallelGenerationBenchmark {
+
+  private static final int QUADRANTS_PER_RUN = 1 << 22;
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args optional galaxy sizes to benchmark.
+   */
+  public static void main(String[] args) {
+    int[] sizes = {8, 64, 1024};
+    if (args.length > 0) {
+      sizes = new int[args.length];
+      for (int i = 0; i < args.length; i += 1) {
+        sizes[i] = Integer.parseInt(args[i]);
+      }
+    }
+    System.out.println("cores: " + Runtime.getRuntime().availableProcessors());
+    for (int size : sizes) {
+      // roughly the same number of quadrants generated per measurement whatever the size
+      final int iterations = Math.max(3, QUADRANTS_PER_RUN / (size * size));
+      for (GenerationMode mode : new GenerationMode[] {GenerationMode.EAGER,
+          GenerationMode.PARALLEL}) {
+        Benchmark.measure(mode + " " + size + "x" + size, Math.max(1, iterations / 4), iterations,
+            () -> new Galaxy(size, size, size, mode).klingonCount());
+      }
+    }
+  }
+}
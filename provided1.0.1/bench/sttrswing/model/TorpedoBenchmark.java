@@ -0,0 +1,76 @@
+package sttrswing.model;
+
+import java.util.SplittableRandom;
+import sttrswing.Benchmark;
+
+/**
+ * Compares {@link TorpedoResolver} against the step by step loop {@link Game#torpedoes} used
+ * before it, over every course from every sector of a spread of generated quadrants.
+ */
+public class TorpedoBenchmark {
+
+  private static final int QUADRANTS = 256;
+  private static final int SHOT_MASK = QUADRANTS * 64 - 1;
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args unused.
+   */
+  public static void main(String[] args) {
+    final Quadrant[] quadrants = new Quadrant[QUADRANTS];
+    for (int i = 0; i < QUADRANTS; i += 1) {
+      quadrants[i] = new Quadrant(0, 0, new SplittableRandom(i));
+    }
+    final Game game = new Game();
+    final int[] cursor = {0};
+    // each operation fires along all 8 courses from one sector so the harness overhead is shared
+    Benchmark.measure("stepping loop (8 shots)", 200_000, 2_000_000, () -> {
+      final int shot = cursor[0]++ & SHOT_MASK;
+      final Quadrant quadrant = quadrants[shot >>> 6];
+      long hits = 0;
+      for (int course = 1; course <= 8; course += 1) {
+        hits += steppingLoop(game, quadrant, shot & 63, course);
+      }
+      return hits;
+    });
+    Benchmark.measure("ray table (8 shots)", 200_000, 2_000_000, () -> {
+      final int shot = cursor[0]++ & SHOT_MASK;
+      final Quadrant quadrant = quadrants[shot >>> 6];
+      final int x = shot & 7;
+      final int y = (shot >>> 3) & 7;
+      long hits = 0;
+      for (int course = 1; course <= 8; course += 1) {
+        hits += TorpedoResolver.resolve(quadrant, x, y, course);
+      }
+      return hits;
+    });
+  }
+
+  /**
+   * The torpedo path loop as it was in {@link Game#torpedoes}, less the ammo and report handling.
+   */
+  private static long steppingLoop(final Game game, final Quadrant quadrant, final int sector,
+      final int course) {
+    final var vector = game.getVectorFrom(course);
+    final var torpedo = new Entity(sector % 8, sector / 8);
+    torpedo.adjustPosition(vector.getX(), vector.getY());
+
+    final int onGridMax = 9;
+    final int maxIterations = 999;
+
+    int iterations = 0;
+    boolean isGoingToHit = (quadrant.getEntityAt(torpedo.getX(), torpedo.getY()) != null);
+    boolean onGrid = (torpedo.getX() > 0 && torpedo.getY() > 0 && torpedo.getX() < onGridMax
+        && torpedo.getY() < onGridMax);
+
+    while (!isGoingToHit && onGrid && iterations < maxIterations) {
+      iterations += 1;
+      torpedo.adjustPosition(vector.getX(), vector.getY());
+      isGoingToHit = (quadrant.getEntityAt(torpedo.getX(), torpedo.getY()) != null);
+      onGrid = (torpedo.getX() > 0 && torpedo.getY() > 0 && torpedo.getX() < onGridMax
+          && torpedo.getY() < onGridMax);
+    }
+    return isGoingToHit ? torpedo.getY() * 8 + torpedo.getX() : -1;
+  }
+}
@@ -0,0 +1,88 @@
+package sttrswing.model;
+
+import com.sun.management.ThreadMXBean;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+import sttrswing.Benchmark;
+import sttrswing.model.enums.GenerationMode;
+
+/**
+ * Compares tokenizing the records of a 1024x1024 galaxy's {@code .trek} save, a million
+ * {@code [q]} lines, by splitting it into lines and searching each as the loaders used to, with
+ * streaming it through {@link TrekParser}. Neither builds any quadrants, so this is the cost of
+ * reading the text alone, along with the bytes each allocates doing it.
+ */
+public class TrekParserBenchmark {
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args unused.
+   */
+  public static void main(String[] args) {
+    final String content = new Game(1024, 1024, 7L, GenerationMode.LAZY).export();
+    System.out.printf("%-48s %14d chars%n", "save", content.length());
+
+    run("split lines and search", TrekParserBenchmark::splitAndSearch, content);
+    run("TrekParser", TrekParserBenchmark::stream, content);
+  }
+
+  private static void run(final String name, final Tokenizer tokenizer, final String content) {
+    final LongSupplier task = () -> tokenizer.sum(content);
+    Benchmark.measure(name, 2, 10, task);
+    final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final long before = threads.getCurrentThreadAllocatedBytes();
+    task.getAsLong();
+    System.out.printf("%-48s %14d bytes%n", name + ", allocated",
+        threads.getCurrentThreadAllocatedBytes() - before);
+  }
+
+  private static long splitAndSearch(final String content) {
+    long sum = 0;
+    for (String line : content.split("\\R", -1)) {
+      String trimmed = line.trim();
+      if (trimmed.startsWith("[q]")) {
+        sum += number(trimmed, "x:") + number(trimmed, "y:") + number(trimmed, "s:");
+      } else if (trimmed.startsWith("[e]")) {
+        sum += number(trimmed, "e:");
+      }
+    }
+    return sum;
+  }
+
+  private static int number(final String line, final String token) {
+    int start = line.indexOf(token) + token.length();
+    int end = start;
+    while (end < line.length() && Character.isDigit(line.charAt(end))) {
+      end++;
+    }
+    return Integer.parseInt(line.substring(start, end));
+  }
+
+  private static long stream(final String content) {
+    final long[] sum = {0};
+    try {
+      TrekParser.parse(new StringReader(content), new TrekParser.Handler() {
+        @Override
+        public void enterprise(int x, int y, int energy, int shields, int torpedoes) {
+          sum[0] += energy;
+        }
+
+        @Override
+        public void quadrant(int x, int y, int stars, int starbases, int klingons) {
+          sum[0] += x + y + stars * 100 + starbases * 10 + klingons;
+        }
+      });
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return sum[0];
+  }
+
+  private interface Tokenizer {
+    long sum(String content);
+  }
+}
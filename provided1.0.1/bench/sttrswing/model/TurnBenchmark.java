@@ -0,0 +1,47 @@
+package sttrswing.model;
+
+import sttrswing.model.enums.GenerationMode;
+
+/**
+ * Measures {@link Game#turn()} through {@link Game#getLastTurnNanos()} across growing, lazily
+ * generated galaxies. Only {@link Quadrant}s with out of focus work are ticked, so the time per
+ * turn should follow how many have been visited rather than how large the galaxy is.
+ *
+ * <p>Usage: {@code TurnBenchmark [size...]} where each size is the width and height of a square
+ * galaxy, defaults to 8 64 512.</p>
+ */
+public class TurnBenchmark {
+
+  private static final int TURNS = 20_000;
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args optional galaxy sizes to benchmark.
+   */
+  public static void main(String[] args) {
+    int[] sizes = {8, 64, 512};
+    if (args.length > 0) {
+      sizes = new int[args.length];
+      for (int i = 0; i < args.length; i += 1) {
+        sizes[i] = Integer.parseInt(args[i]);
+      }
+    }
+    for (int size : sizes) {
+      final Game game = new Game(size, size, size, GenerationMode.LAZY);
+      // visit a fixed neighbourhood so every size has a similar number of active quadrants
+      for (int x = 0; x < Math.min(size, 8); x += 1) {
+        for (int y = 0; y < Math.min(size, 8); y += 1) {
+          game.getGalaxy().quadrantAt(x, y);
+        }
+      }
+      long total = 0;
+      for (int turn = 0; turn < TURNS; turn += 1) {
+        game.turn();
+        total += game.getLastTurnNanos();
+      }
+      System.out.printf("%-48s %14.1f ns/turn (%d active)%n", "turn " + size + "x" + size,
+          (double) total / TURNS, game.getGalaxy().activeQuadrantCount());
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package sttrswing.model.navigation;
+
+import sttrswing.Benchmark;
+
+/**
+ * Times {@link Autopilot} route plotting across a 512 by 512 galaxy, both when the distance field
+ * towards the target has to be built and when it is already cached.
+ */
+public class AutopilotBenchmark {
+
+  private static final int SIZE = 512;
+
+  /**
+   * Entry point for the benchmark.
+   *
+   * @param args unused.
+   */
+  public static void main(String[] args) {
+    final Autopilot autopilot = new Autopilot(SIZE, SIZE, 1);
+    final int[] cursor = {0};
+    // a fresh autopilot per operation so every plot has to build its distance field
+    Benchmark.measure("plot, field built", 50, 500, () -> {
+      final int target = cursor[0]++;
+      return new Autopilot(SIZE, SIZE, 1)
+          .plot(0, 0, (target * 37) % SIZE, (target * 91) % SIZE).quadrants();
+    });
+    Benchmark.measure("plot, field cached", 20_000, 200_000, () -> {
+      final int start = cursor[0]++;
+      return autopilot.plot((start * 37) % SIZE, (start * 91) % SIZE, SIZE - 1, SIZE - 1)
+          .quadrants();
+    });
+  }
+}
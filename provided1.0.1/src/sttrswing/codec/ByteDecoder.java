@@ -0,0 +1,95 @@
+package sttrswing.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the varints written by {@link ByteEncoder} from a big-endian {@link ByteBuffer}, which
+ * reads everything else itself.
+ *
+ * <p>Every reader throws {@link java.nio.BufferUnderflowException} if the buffer ends part way
+ * through the number, so callers can tell a record cut short from a malformed one, and
+ * {@link IllegalArgumentException} if the number is longer than 64 bits or does not fit the type
+ * asked for.</p>
+ */
+public final class ByteDecoder {
+
+  private ByteDecoder() {
+    // Utility class
+  }
+
+  /**
+   * Reads a varint written by {@link ByteEncoder#putVarint}.
+   *
+   * @param in - positioned at the varint, left just past it.
+   * @return the number read.
+   * @throws IllegalArgumentException if the number is malformed or larger than an int.
+   */
+  public static int getVarint(final ByteBuffer in) {
+    final int start = in.position();
+    final long value = getVarlong(in);
+    if (value > Integer.MAX_VALUE) {
+      throw malformed(start);
+    }
+    return (int) value;
+  }
+
+  /**
+   * Reads a varint written by {@link ByteEncoder#putVarlong}.
+   *
+   * @param in - positioned at the varint, left just past it.
+   * @return the number read.
+   * @throws IllegalArgumentException if the number is malformed or larger than a long.
+   */
+  public static long getVarlong(final ByteBuffer in) {
+    final int start = in.position();
+    final long value = getBits(in, start);
+    if (value < 0) {
+      throw malformed(start);
+    }
+    return value;
+  }
+
+  /**
+   * Reads a zigzag varint written by {@link ByteEncoder#putZigzagVarint}.
+   *
+   * @param in - positioned at the varint, left just past it.
+   * @return the number read.
+   * @throws IllegalArgumentException if the number is malformed or does not fit an int.
+   */
+  public static int getZigzagVarint(final ByteBuffer in) {
+    final int start = in.position();
+    final long value = getZigzagVarlong(in);
+    if (value != (int) value) {
+      throw malformed(start);
+    }
+    return (int) value;
+  }
+
+  /**
+   * Reads a zigzag varint written by {@link ByteEncoder#putZigzagVarlong}.
+   *
+   * @param in - positioned at the varint, left just past it.
+   * @return the number read.
+   * @throws IllegalArgumentException if the number is malformed.
+   */
+  public static long getZigzagVarlong(final ByteBuffer in) {
+    final long bits = getBits(in, in.position());
+    return (bits >>> 1) ^ -(bits & 1);
+  }
+
+  private static long getBits(final ByteBuffer in, final int start) {
+    long value = 0;
+    for (int i = 0; i < ByteEncoder.MAX_VARLONG_BYTES; i += 1) {
+      final byte b = in.get();
+      value |= (long) (b & 0x7F) << (7 * i);
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw malformed(start);
+  }
+
+  private static IllegalArgumentException malformed(final int position) {
+    return new IllegalArgumentException("Malformed number at byte " + position + ".");
+  }
+}
@@ -0,0 +1,192 @@
+package sttrswing.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A growable big-endian byte array that saves and journal records are encoded into, read back with
+ * {@link ByteDecoder}.
+ *
+ * <p>Whole numbers can be written two ways as varints, 7 bits to a byte, least significant first,
+ * with the top bit set on every byte but the last:</p>
+ * <ul>
+ *   <li>{@link #putVarint} and {@link #putVarlong} for counts and coordinates that are never
+ *   negative, 1 byte for anything up to 127,</li>
+ *   <li>{@link #putZigzagVarint} and {@link #putZigzagVarlong} for values that may be negative,
+ *   zigzag encoded first so 1 byte holds anything between -64 and 63.</li>
+ * </ul>
+ */
+public final class ByteEncoder {
+
+  /**
+   * The most bytes a varint of a long takes.
+   */
+  static final int MAX_VARLONG_BYTES = 10;
+
+  private byte[] bytes;
+  private int length = 0;
+
+  /**
+   * Constructs an empty {@link ByteEncoder}.
+   *
+   * @param capacity - how many bytes to make room for up front.
+   */
+  public ByteEncoder(final int capacity) {
+    this.bytes = new byte[Math.max(16, capacity)];
+  }
+
+  /**
+   * Returns how many bytes have been written.
+   *
+   * @return how many bytes have been written.
+   */
+  public int length() {
+    return this.length;
+  }
+
+  /**
+   * Returns the backing array, valid up to {@link #length()} until the next write.
+   *
+   * @return the backing array.
+   */
+  public byte[] array() {
+    return this.bytes;
+  }
+
+  /**
+   * Returns a copy of the bytes written so far.
+   *
+   * @return the bytes written so far.
+   */
+  public byte[] toByteArray() {
+    return Arrays.copyOf(this.bytes, this.length);
+  }
+
+  /**
+   * Returns a read only view of the bytes written so far, from the given offset.
+   *
+   * @param offset - where the view starts.
+   * @return the view, positioned at its start.
+   */
+  public ByteBuffer view(final int offset) {
+    return ByteBuffer.wrap(this.bytes, offset, this.length - offset).slice().asReadOnlyBuffer();
+  }
+
+  /**
+   * Forgets everything written, keeping the capacity.
+   */
+  public void clear() {
+    this.length = 0;
+  }
+
+  /**
+   * Writes the low 8 bits of the given value as a single byte.
+   *
+   * @param value - the byte to write.
+   */
+  public void put(final int value) {
+    this.ensure(1);
+    this.bytes[this.length++] = (byte) value;
+  }
+
+  /**
+   * Writes the low 16 bits of the given value in 2 bytes.
+   *
+   * @param value - the short to write.
+   */
+  public void putShort(final int value) {
+    this.ensure(Short.BYTES);
+    this.bytes[this.length++] = (byte) (value >>> 8);
+    this.bytes[this.length++] = (byte) value;
+  }
+
+  /**
+   * Writes the given value in 4 bytes.
+   *
+   * @param value - the int to write.
+   */
+  public void putInt(final int value) {
+    this.ensure(Integer.BYTES);
+    for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+      this.bytes[this.length++] = (byte) (value >>> shift);
+    }
+  }
+
+  /**
+   * Writes the given value in 8 bytes.
+   *
+   * @param value - the long to write.
+   */
+  public void putLong(final long value) {
+    this.ensure(Long.BYTES);
+    for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+      this.bytes[this.length++] = (byte) (value >>> shift);
+    }
+  }
+
+  /**
+   * Writes the given value in 8 bytes.
+   *
+   * @param value - the double to write.
+   */
+  public void putDouble(final double value) {
+    this.putLong(Double.doubleToRawLongBits(value));
+  }
+
+  /**
+   * Writes a whole number that is never negative as a varint.
+   *
+   * @param value - the number to write.
+   * @throws IllegalArgumentException if the number is negative.
+   */
+  public void putVarint(final int value) {
+    this.putVarlong(value);
+  }
+
+  /**
+   * Writes a whole number that is never negative as a varint.
+   *
+   * @param value - the number to write.
+   * @throws IllegalArgumentException if the number is negative.
+   */
+  public void putVarlong(final long value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Can not save a negative value, got " + value + ".");
+    }
+    this.putBits(value);
+  }
+
+  /**
+   * Writes a whole number that may be negative as a zigzag varint.
+   *
+   * @param value - the number to write.
+   */
+  public void putZigzagVarint(final int value) {
+    this.putZigzagVarlong(value);
+  }
+
+  /**
+   * Writes a whole number that may be negative as a zigzag varint.
+   *
+   * @param value - the number to write.
+   */
+  public void putZigzagVarlong(final long value) {
+    this.putBits((value << 1) ^ (value >> 63));
+  }
+
+  private void putBits(final long bits) {
+    this.ensure(MAX_VARLONG_BYTES);
+    long rest = bits;
+    while ((rest & ~0x7FL) != 0) {
+      this.bytes[this.length++] = (byte) (rest | 0x80);
+      rest >>>= 7;
+    }
+    this.bytes[this.length++] = (byte) rest;
+  }
+
+  private void ensure(final int extra) {
+    if (this.length + extra > this.bytes.length) {
+      this.bytes = Arrays.copyOf(this.bytes, Math.max(this.length + extra, this.bytes.length * 2));
+    }
+  }
+}
@@ -0,0 +1,219 @@
+package sttrswing.controller;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import sttrswing.logging.Category;
+import sttrswing.logging.GameLog;
+import sttrswing.logging.Level;
+import sttrswing.model.FullSaveCodec;
+import sttrswing.model.SaveChain;
+import sttrswing.model.SaveSnapshot;
+import sttrswing.model.interfaces.GameModel;
+
+/**
+ * Saves a game in the background so that the thread playing it, normally the Event Dispatch
+ * Thread, never waits on the disk. {@link #request} takes a snapshot of the game with
+ * {@link GameModel#snapshot()}, which is constant time, so the state saved is exactly the state
+ * at the time of the request however the game carries on. Encoding and writing then happen on a
+ * single background thread, and every file is replaced atomically.
+ *
+ * <p>Full-fidelity saves ({@code .trekf}) are written through a {@link SaveChain}, so after the
+ * first save each request writes only the quadrants that changed since the one before, with the
+ * chain compacted into a full save every so often. Other formats are written whole through
+ * {@link GameSaver}.</p>
+ *
+ * <p>Requests made while a save is being written are coalesced: only the latest snapshot is kept,
+ * with the changes of those it replaced merged in (see {@link SaveSnapshot#followedBy}), so a
+ * burst of requests costs at most one save in flight and one more after it, and the save on disk
+ * always ends up as the latest state requested.</p>
+ */
+public final class AutoSaver implements AutoCloseable {
+
+  /**
+   * Writes a snapshot to disk, on the background thread.
+   */
+  private interface Target {
+    void write(SaveSnapshot snapshot) throws IOException;
+  }
+
+  private final Path path;
+  private final Target target;
+  private final ExecutorService writer;
+  private final Object lock = new Object();
+  private SaveSnapshot pending;
+  private int requested;
+  private int finished;
+  private volatile Instant lastSaveTime;
+  private volatile Duration lastSaveDuration;
+  private volatile IOException lastFailure;
+
+  /**
+   * Constructs an {@link AutoSaver} writing to the given file, in whichever format its extension
+   * says (see {@link GameSaver#encode}), as a {@link SaveChain} of delta saves for a full-fidelity
+   * save.
+   *
+   * @param path location on disk to save to.
+   */
+  public AutoSaver(final Path path) {
+    this(path, target(path));
+  }
+
+  /**
+   * Constructs an {@link AutoSaver} writing whole saves to the given file with the given encoder.
+   *
+   * @param path    location on disk to save to.
+   * @param encoder turns a snapshot of the game into the bytes to write, called on the background
+   *                thread.
+   */
+  AutoSaver(final Path path, final Function<GameModel, byte[]> encoder) {
+    this(path, (Target) snapshot -> GameSaver.save(path.toString(),
+        encoder.apply(snapshot.game())));
+  }
+
+  private AutoSaver(final Path path, final Target target) {
+    this.path = Objects.requireNonNull(path, "Path must not be null.");
+    this.target = target;
+    this.writer = Executors.newSingleThreadExecutor(task -> {
+      Thread thread = new Thread(task, "autosave");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Returns the file this {@link AutoSaver} writes to.
+   *
+   * @return the file this {@link AutoSaver} writes to.
+   */
+  public Path path() {
+    return this.path;
+  }
+
+  /**
+   * Takes a snapshot of the given game and saves it in the background. Must be called on the
+   * thread that plays the game, and returns without touching the disk.
+   *
+   * @param game the game to save.
+   * @throws IllegalStateException if this {@link AutoSaver} has been closed.
+   */
+  public void request(final GameModel game) {
+    synchronized (this.lock) {
+      if (this.writer.isShutdown()) {
+        throw new IllegalStateException("Autosave has been closed.");
+      }
+      SaveSnapshot snapshot = game.snapshot();
+      this.requested += 1;
+      if (this.pending == null) {
+        this.pending = snapshot;
+        this.writer.execute(this::writeLatest);
+      } else {
+        // the pending snapshot is never written, so its changes go with the one replacing it
+        this.pending = this.pending.followedBy(snapshot);
+      }
+    }
+  }
+
+  /**
+   * Waits until every snapshot requested so far has been written, or replaced by a later one that
+   * has been.
+   *
+   * @throws InterruptedException if interrupted while waiting.
+   */
+  public void flush() throws InterruptedException {
+    synchronized (this.lock) {
+      int target = this.requested;
+      while (this.finished < target) {
+        this.lock.wait();
+      }
+    }
+  }
+
+  /**
+   * Returns when the last save that succeeded finished.
+   *
+   * @return when the last save that succeeded finished, or null if none has yet.
+   */
+  public Instant lastSaveTime() {
+    return this.lastSaveTime;
+  }
+
+  /**
+   * Returns how long the last save that succeeded took to encode and write.
+   *
+   * @return how long the last save that succeeded took, or null if none has yet.
+   */
+  public Duration lastSaveDuration() {
+    return this.lastSaveDuration;
+  }
+
+  /**
+   * Returns why the last save failed, if it did.
+   *
+   * @return the failure of the last save, or null if it succeeded or none has been made yet.
+   */
+  public IOException lastFailure() {
+    return this.lastFailure;
+  }
+
+  /**
+   * Writes any snapshot still waiting and stops the background thread, waiting a few seconds at
+   * most for the last save to finish.
+   */
+  @Override
+  public void close() {
+    synchronized (this.lock) {
+      this.writer.shutdown();
+    }
+    try {
+      this.writer.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static Target target(final Path path) {
+    String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+    if (name.endsWith("." + FullSaveCodec.EXTENSION)) {
+      SaveChain chain = new SaveChain(path);
+      return chain::save;
+    }
+    return snapshot -> GameSaver.save(path.toString(), GameSaver.encode(snapshot.game(), path));
+  }
+
+  private void writeLatest() {
+    SaveSnapshot snapshot;
+    int covered;
+    synchronized (this.lock) {
+      snapshot = this.pending;
+      this.pending = null;
+      // every request made so far is covered by this snapshot or one already written
+      covered = this.requested;
+    }
+    long start = System.nanoTime();
+    try {
+      this.target.write(snapshot);
+      this.lastSaveDuration = Duration.ofNanos(System.nanoTime() - start);
+      this.lastSaveTime = Instant.now();
+      this.lastFailure = null;
+    } catch (IOException e) {
+      this.lastFailure = e;
+      GameLog.log(Level.WARN, Category.IO, "autosave failed", "error", e.getMessage());
+    } catch (RuntimeException e) {
+      this.lastFailure = new IOException(e);
+      GameLog.log(Level.WARN, Category.IO, "autosave failed", "error", String.valueOf(e));
+    } finally {
+      synchronized (this.lock) {
+        this.finished = Math.max(this.finished, covered);
+        this.lock.notifyAll();
+      }
+    }
+  }
+}
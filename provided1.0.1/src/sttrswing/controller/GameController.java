@@ -1,13 +1,15 @@
 package sttrswing.controller;
 
-import sttrswing.model.Enterprise;
-import sttrswing.model.Galaxy;
+import sttrswing.model.BinarySaveCodec;
+import sttrswing.model.FullSaveCodec;
+import sttrswing.model.SaveHeader;
 import sttrswing.model.interfaces.GameModel;
 import sttrswing.view.LoseGameView;
 import sttrswing.view.StandardLayoutView;
 import sttrswing.view.StartView;
 import sttrswing.view.View;
 import sttrswing.view.WinGameView;
+import sttrswing.view.guicomponents.SavePreview;
 import sttrswing.view.panels.EnterpriseStatus;
 import sttrswing.view.panels.NearbyQuadrantScan;
 import sttrswing.view.panels.Options;
@@ -24,22 +26,48 @@ import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
 import javax.swing.JOptionPane;
+import javax.swing.ProgressMonitor;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+import javax.swing.event.MenuEvent;
+import javax.swing.event.MenuListener;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.Dimension;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 
 public class GameController extends JFrame {
 
     private static final String DATA_DIR = "data";
     private static final String SAVE_FILE_EXTENSION = "trek";
     private static final String SAVE_FILE_DESCRIPTION = "Star Trek Save Files (*.trek)";
+    private static final String BINARY_SAVE_FILE_EXTENSION = BinarySaveCodec.EXTENSION;
+    private static final String BINARY_SAVE_FILE_DESCRIPTION =
+            "Compact Star Trek Save Files (*." + BINARY_SAVE_FILE_EXTENSION + ")";
+    private static final String FULL_SAVE_FILE_EXTENSION = FullSaveCodec.EXTENSION;
+    private static final String FULL_SAVE_FILE_DESCRIPTION =
+            "Full Star Trek Save Files (*." + FULL_SAVE_FILE_EXTENSION + ")";
     private static final String DEFAULT_SAVE_FILE_NAME = "save";
+    private static final String AUTOSAVE_FILE_NAME = "autosave." + FULL_SAVE_FILE_EXTENSION;
+    private static final DateTimeFormatter AUTOSAVE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss");
 
     private View currentView;
     private final GameModel game;
     private final JMenu fileMenu;
+    private final JMenuItem autosaveStatus;
+    private final AutoSaver autoSaver;
+    private SaveCatalog saveCatalog;
     private final Dimension windowSize;
     private String title = "";
 
@@ -63,6 +91,35 @@ public class GameController extends JFrame {
         fileMenu.add(saveItem);
         fileMenu.add(loadItem);
 
+        // the game is saved in the background after every action, see setDefaultView
+        this.autoSaver = new AutoSaver(Path.of(System.getProperty("user.dir"), DATA_DIR,
+                AUTOSAVE_FILE_NAME));
+        this.autosaveStatus = new JMenuItem();
+        this.autosaveStatus.setEnabled(false);
+        fileMenu.addSeparator();
+        fileMenu.add(this.autosaveStatus);
+        fileMenu.addMenuListener(new MenuListener() {
+            @Override
+            public void menuSelected(MenuEvent e) {
+                autosaveStatus.setText(autosaveStatusText());
+            }
+
+            @Override
+            public void menuDeselected(MenuEvent e) {
+            }
+
+            @Override
+            public void menuCanceled(MenuEvent e) {
+            }
+        });
+        this.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                autoSaver.close();
+                closeSaveCatalog();
+            }
+        });
+
         JMenuBar menuBar = new JMenuBar();
         menuBar.add(fileMenu);
         this.setJMenuBar(menuBar);
@@ -73,6 +130,8 @@ public class GameController extends JFrame {
     }
 
     public void end() {
+        this.autoSaver.close();
+        this.closeSaveCatalog();
         this.dispose();
         System.exit(0);
     }
@@ -168,6 +227,7 @@ public class GameController extends JFrame {
     public void setDefaultView(View view) {
         Objects.requireNonNull(view, "view");
         GameModel game = this.game;
+        this.autoSaver.request(game);
         if (game.hasWon()) {
             setWinGameView(game);
             return;
@@ -227,8 +287,15 @@ public class GameController extends JFrame {
         JFileChooser fileChooser = new JFileChooser();
         fileChooser.setDialogTitle("Save Game");
         fileChooser.setAcceptAllFileFilterUsed(false);
-        fileChooser.setFileFilter(new FileNameExtensionFilter(SAVE_FILE_DESCRIPTION,
-                SAVE_FILE_EXTENSION));
+        FileNameExtensionFilter textFilter = new FileNameExtensionFilter(SAVE_FILE_DESCRIPTION,
+                SAVE_FILE_EXTENSION);
+        fileChooser.addChoosableFileFilter(textFilter);
+        FileNameExtensionFilter binaryFilter = new FileNameExtensionFilter(
+                BINARY_SAVE_FILE_DESCRIPTION, BINARY_SAVE_FILE_EXTENSION);
+        fileChooser.addChoosableFileFilter(binaryFilter);
+        fileChooser.addChoosableFileFilter(new FileNameExtensionFilter(
+                FULL_SAVE_FILE_DESCRIPTION, FULL_SAVE_FILE_EXTENSION));
+        fileChooser.setFileFilter(textFilter);
 
         File projectRoot = new File(System.getProperty("user.dir"));
         File dataDirectory = new File(projectRoot, DATA_DIR);
@@ -242,9 +309,13 @@ public class GameController extends JFrame {
         }
 
         File selectedFile = fileChooser.getSelectedFile();
-        if (!selectedFile.getName().toLowerCase().endsWith("." + SAVE_FILE_EXTENSION)) {
+        String extension = saveExtension(selectedFile);
+        if (extension == null) {
+            extension = fileChooser.getFileFilter() == textFilter ? SAVE_FILE_EXTENSION
+                    : fileChooser.getFileFilter() == binaryFilter ? BINARY_SAVE_FILE_EXTENSION
+                    : FULL_SAVE_FILE_EXTENSION;
             selectedFile = new File(selectedFile.getParentFile(), selectedFile.getName()
-                    + "." + SAVE_FILE_EXTENSION);
+                    + "." + extension);
         }
 
         try {
@@ -259,12 +330,7 @@ public class GameController extends JFrame {
                 return;
             }
 
-            String exported = this.game.export();
-            GameSaver.save(canonicalSelectedFile.getAbsolutePath(), exported);
-            JOptionPane.showMessageDialog(this,
-                    "Game saved successfully.",
-                    "Save Game",
-                    JOptionPane.INFORMATION_MESSAGE);
+            saveInBackground(this.game.fork(), canonicalSelectedFile.toPath());
         } catch (IOException | IllegalArgumentException ex) {
             JOptionPane.showMessageDialog(this,
                     "Failed to save game: " + ex.getMessage(),
@@ -273,17 +339,110 @@ public class GameController extends JFrame {
         }
     }
 
+    /**
+     * Encodes and writes the given snapshot of the game on a background thread, then reports how
+     * it went back on the Event Dispatch Thread.
+     *
+     * @param snapshot a fork of the game, no longer touched by the Event Dispatch Thread.
+     * @param path     location on disk to save to.
+     */
+    private void saveInBackground(GameModel snapshot, Path path) {
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() throws IOException {
+                GameSaver.save(path.toString(), GameSaver.encode(snapshot, path));
+                return null;
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    this.get();
+                    JOptionPane.showMessageDialog(GameController.this,
+                            "Game saved successfully.",
+                            "Save Game",
+                            JOptionPane.INFORMATION_MESSAGE);
+                } catch (ExecutionException | InterruptedException ex) {
+                    Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+                    JOptionPane.showMessageDialog(GameController.this,
+                            "Failed to save game: " + cause.getMessage(),
+                            "Save Error",
+                            JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Loads the given save file on a background thread (see {@link LoadWorker}) behind a progress
+     * dialog that can cancel it, keeping the File menu disabled until it finishes.
+     *
+     * @param file the save file to load.
+     */
+    private void loadInBackground(File file) {
+        ProgressMonitor monitor = new ProgressMonitor(this, "Loading " + file.getName(), null,
+                0, 100);
+        monitor.setMillisToDecideToPopup(200);
+        this.fileMenu.setEnabled(false);
+        Timer cancelPoll = new Timer(100, null);
+        LoadWorker worker = new LoadWorker(file.toPath(), this.game,
+                () -> {
+                    setDefaultView(new QuadrantNavigation(this.game, this));
+                    JOptionPane.showMessageDialog(this,
+                            "Game loaded successfully.",
+                            "Load Game",
+                            JOptionPane.INFORMATION_MESSAGE);
+                },
+                ex -> JOptionPane.showMessageDialog(this,
+                        "Failed to load game: " + ex.getMessage(),
+                        "Load Error",
+                        JOptionPane.ERROR_MESSAGE));
+        worker.addPropertyChangeListener(event -> {
+            if ("progress".equals(event.getPropertyName())) {
+                monitor.setProgress((Integer) event.getNewValue());
+            } else if ("state".equals(event.getPropertyName())
+                    && event.getNewValue() == SwingWorker.StateValue.DONE) {
+                cancelPoll.stop();
+                monitor.close();
+                this.fileMenu.setEnabled(true);
+            }
+        });
+        cancelPoll.addActionListener(e -> {
+            if (monitor.isCanceled()) {
+                worker.cancel(true);
+            }
+        });
+        cancelPoll.start();
+        worker.execute();
+    }
+
+    private String autosaveStatusText() {
+        if (this.autoSaver.lastFailure() != null) {
+            return "Autosave failed: " + this.autoSaver.lastFailure().getMessage();
+        }
+        Instant time = this.autoSaver.lastSaveTime();
+        if (time == null) {
+            return "Not autosaved yet";
+        }
+        Duration duration = this.autoSaver.lastSaveDuration();
+        return "Autosaved at " + LocalTime.ofInstant(time, ZoneId.systemDefault())
+                .format(AUTOSAVE_TIME_FORMAT) + " in " + duration.toMillis() + " ms";
+    }
+
     private void loadGame() {
         JFileChooser fileChooser = new JFileChooser();
         fileChooser.setDialogTitle("Load Game");
         fileChooser.setAcceptAllFileFilterUsed(false);
-        fileChooser.setFileFilter(new FileNameExtensionFilter(SAVE_FILE_DESCRIPTION,
-                SAVE_FILE_EXTENSION));
+        fileChooser.setFileFilter(new FileNameExtensionFilter(
+                "Star Trek Save Files (*." + SAVE_FILE_EXTENSION + ", *."
+                        + BINARY_SAVE_FILE_EXTENSION + ", *." + FULL_SAVE_FILE_EXTENSION + ")",
+                SAVE_FILE_EXTENSION, BINARY_SAVE_FILE_EXTENSION, FULL_SAVE_FILE_EXTENSION));
 
         File projectRoot = new File(System.getProperty("user.dir"));
         File dataDirectory = new File(projectRoot, DATA_DIR);
         if (dataDirectory.exists()) {
             fileChooser.setCurrentDirectory(dataDirectory);
+            new SavePreview(fileChooser, this::saveHeader);
         } else {
             fileChooser.setCurrentDirectory(projectRoot);
         }
@@ -298,9 +457,10 @@ public class GameController extends JFrame {
             return;
         }
 
-        if (!selectedFile.getName().toLowerCase().endsWith("." + SAVE_FILE_EXTENSION)) {
+        if (saveExtension(selectedFile) == null) {
             JOptionPane.showMessageDialog(this,
-                    "Please select a ." + SAVE_FILE_EXTENSION + " save file.",
+                    "Please select a ." + SAVE_FILE_EXTENSION + ", ." + BINARY_SAVE_FILE_EXTENSION
+                            + " or ." + FULL_SAVE_FILE_EXTENSION + " save file.",
                     "Invalid File",
                     JOptionPane.ERROR_MESSAGE);
             return;
@@ -318,21 +478,66 @@ public class GameController extends JFrame {
                 return;
             }
 
-            String content = GameLoader.load(canonicalSelectedFile.getAbsolutePath());
-            GameLoader.GameState loadedState = GameLoader.parse(content);
-            Enterprise enterprise = loadedState.enterprise();
-            Galaxy galaxy = loadedState.galaxy();
-            this.game.load(enterprise, galaxy);
-            setDefaultView(new QuadrantNavigation(this.game, this));
-            JOptionPane.showMessageDialog(this,
-                    "Game loaded successfully.",
-                    "Load Game",
-                    JOptionPane.INFORMATION_MESSAGE);
-        } catch (IOException | IllegalArgumentException ex) {
+            loadInBackground(canonicalSelectedFile);
+        } catch (IOException ex) {
             JOptionPane.showMessageDialog(this,
                     "Failed to load game: " + ex.getMessage(),
                     "Load Error",
                     JOptionPane.ERROR_MESSAGE);
         }
     }
+
+    /**
+     * Returns the header of the given save from the catalog of the data directory, which is
+     * started the first time a save is previewed and kept up to date from then on, so listing
+     * saves again only reads the headers of those that changed.
+     *
+     * @param file a file selected in the load dialog.
+     * @return its header, or null if it is not a save in the data directory or has no header.
+     */
+    private SaveHeader saveHeader(File file) {
+        try {
+            if (this.saveCatalog == null) {
+                this.saveCatalog = new SaveCatalog(Path.of(System.getProperty("user.dir"),
+                        DATA_DIR));
+            }
+            Path path = file.toPath().toAbsolutePath();
+            if (!this.saveCatalog.directory().toAbsolutePath().equals(path.getParent())) {
+                return null;
+            }
+            SaveCatalog.Entry entry = this.saveCatalog.entry(path);
+            return entry == null ? null : entry.header();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void closeSaveCatalog() {
+        if (this.saveCatalog == null) {
+            return;
+        }
+        try {
+            this.saveCatalog.close();
+        } catch (IOException e) {
+            // nothing left to watch for
+        }
+        this.saveCatalog = null;
+    }
+
+    /**
+     * Returns the save format extension the given file has.
+     *
+     * @param file a save file.
+     * @return its extension if it is one of the save formats, otherwise null.
+     */
+    private static String saveExtension(File file) {
+        String name = file.getName().toLowerCase();
+        for (String extension : new String[] {SAVE_FILE_EXTENSION, BINARY_SAVE_FILE_EXTENSION,
+                FULL_SAVE_FILE_EXTENSION}) {
+            if (name.endsWith("." + extension)) {
+                return extension;
+            }
+        }
+        return null;
+    }
 }
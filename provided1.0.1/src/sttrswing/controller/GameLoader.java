@@ -1,9 +1,20 @@
 package sttrswing.controller;
 
+import sttrswing.model.BinarySaveCodec;
 import sttrswing.model.Enterprise;
+import sttrswing.model.FullSaveCodec;
 import sttrswing.model.Galaxy;
+import sttrswing.model.SaveChain;
+import sttrswing.model.SavedGame;
+import sttrswing.model.TrekParser;
 
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -11,6 +22,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.LongConsumer;
 
 public class GameLoader {
     private final String path;
@@ -37,92 +50,31 @@ public class GameLoader {
 
     public Enterprise buildEnterprise() {
         if (!success() || this.content == null) throw new IllegalStateException("No content loaded");
-        String line = enterpriseLine();
-        if (line == null) throw new IllegalStateException("Enterprise line missing");
+        final Enterprise[] enterprise = new Enterprise[1];
         try {
-            int x = parseLineForX(line);
-            int y = parseLineForY(line);
-            int e = parseLineForEnergy(line);
-            int s = parseLineForShields(line);
-            int t = parseLineForTorpedoes(line);
-            try {
-                var ctor = Enterprise.class.getDeclaredConstructor(int.class, int.class, int.class, int.class, int.class);
-                ctor.setAccessible(true);
-                return ctor.newInstance(x, y, e, s, t);
-            } catch (NoSuchMethodException ex) {
-                try {
-                    var ctor0 = Enterprise.class.getDeclaredConstructor();
-                    ctor0.setAccessible(true);
-                    return ctor0.newInstance();
-                } catch (Exception ex2) {
-                    throw new IllegalStateException("No suitable Enterprise constructor", ex2);
+            TrekParser.parse(new StringReader(this.content), new TrekParser.Handler() {
+                @Override
+                public void enterprise(int x, int y, int energy, int shields, int torpedoes) {
+                    enterprise[0] = new Enterprise(x, y, energy, shields, torpedoes);
                 }
-            }
+
+                @Override
+                public void quadrant(int x, int y, int stars, int starbases, int klingons) {
+                    // only the enterprise is wanted
+                }
+            });
         } catch (IOException ioe) {
-            throw new IllegalStateException("Failed to parse enterprise line", ioe);
-        } catch (RuntimeException re) {
-            throw re;
-        } catch (Exception e) {
-            throw new IllegalStateException("Failed to construct Enterprise", e);
+            throw new IllegalStateException("Failed to parse enterprise line: " + ioe.getMessage(), ioe);
         }
+        return enterprise[0];
     }
 
     public Galaxy buildGalaxy() {
         if (!success() || this.content == null) throw new IllegalStateException("No content loaded");
         try {
-            Galaxy g;
-            try {
-                var ctor0 = Galaxy.class.getDeclaredConstructor();
-                ctor0.setAccessible(true);
-                g = ctor0.newInstance();
-            } catch (NoSuchMethodException ex) {
-                g = null;
-            } catch (Exception ex) {
-                throw new IllegalStateException("Failed to construct Galaxy", ex);
-            }
-            ArrayList<String> lines = galaxyLines();
-            if (g != null) {
-                for (String line : lines) {
-                    int x = parseLineForX(line);
-                    int y = parseLineForY(line);
-                    Map<String, Integer> m = parseLineForQuadrantSymbol(line);
-                    int stars = m.getOrDefault("stars", 0);
-                    int klingons = m.getOrDefault("klingons", 0);
-                    int starbases = m.getOrDefault("starbases", 0);
-                    boolean set = false;
-                    try {
-                        var m1 = Galaxy.class.getMethod("addQuadrant", int.class, int.class, int.class, int.class, int.class);
-                        m1.invoke(g, x, y, stars, klingons, starbases);
-                        set = true;
-                    } catch (NoSuchMethodException ignore) {}
-                    if (!set) {
-                        try {
-                            var m2 = Galaxy.class.getMethod("setQuadrant", int.class, int.class, int.class, int.class, int.class);
-                            m2.invoke(g, x, y, stars, klingons, starbases);
-                            set = true;
-                        } catch (NoSuchMethodException ignore) {}
-                    }
-                }
-            }
-            if (g == null) {
-                try {
-                    var ctor = Galaxy.class.getDeclaredConstructor(int.class, int.class, int.class, int.class, int.class);
-                    ctor.setAccessible(true);
-                    String first = lines.isEmpty() ? "" : lines.get(0);
-                    int x = parseLineForX(first);
-                    int y = parseLineForY(first);
-                    Map<String, Integer> m = parseLineForQuadrantSymbol(first);
-                    int stars = m.getOrDefault("stars", 0);
-                    int klingons = m.getOrDefault("klingons", 0);
-                    int starbases = m.getOrDefault("starbases", 0);
-                    return ctor.newInstance(x, y, stars, klingons, starbases);
-                } catch (Exception ex) {
-                    throw new IllegalStateException("No suitable Galaxy constructor", ex);
-                }
-            }
-            return g;
+            return TrekParser.read(new StringReader(this.content)).galaxy();
         } catch (IOException ioe) {
-            throw new IllegalStateException("Failed to parse galaxy lines", ioe);
+            throw new IllegalStateException("Failed to parse galaxy lines: " + ioe.getMessage(), ioe);
         }
     }
 
@@ -163,8 +115,8 @@ public class GameLoader {
             if (!Character.isDigit(c)) throw new IOException("non-digit in s: field");
             vals[pos] = c - '0';
         }
-        map.put("starbases", vals[0]);
-        map.put("klingons", vals[1]);
+        map.put("klingons", vals[0]);
+        map.put("starbases", vals[1]);
         map.put("stars", vals[2]);
         return map;
     }
@@ -188,6 +140,127 @@ public class GameLoader {
         return result;
     }
 
+    /**
+     * Reads a whole save file as text.
+     *
+     * @param path location of the save file.
+     * @return the contents of the file.
+     * @throws IOException if the file can not be read.
+     */
+    public static String load(String path) throws IOException {
+        return Files.readString(Path.of(path), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses the text of a .trek save.
+     *
+     * @param content the text of the save.
+     * @return the saved {@link Enterprise} and {@link Galaxy}.
+     * @throws IllegalArgumentException if the text is not a valid save, saying where.
+     */
+    public static SavedGame parse(String content) {
+        if (content == null) throw new IllegalArgumentException("No content to parse");
+        try {
+            return TrekParser.read(new StringReader(content));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a save file in whichever format its extension says, binary for
+     * .{@value BinarySaveCodec#EXTENSION}, full-fidelity for .{@value FullSaveCodec#EXTENSION} and
+     * text otherwise. A full-fidelity save is read together with any delta saves written on top of
+     * it by a {@link SaveChain}. Text saves are streamed through {@link TrekParser} rather than read
+     * into memory whole.
+     *
+     * @param path location of the save file.
+     * @return the saved {@link Enterprise} and {@link Galaxy}.
+     * @throws IOException              if the file can not be read, or is a malformed text save, in
+     *                                  which case it is a {@link sttrswing.model.TrekFormatException}
+     *                                  saying where.
+     * @throws IllegalArgumentException if the file is not a valid save.
+     */
+    public static SavedGame read(Path path) throws IOException {
+        return read(path, bytesRead -> { });
+    }
+
+    /**
+     * Reads a save file as {@link #read(Path)} does, telling the given listener how far through
+     * the file it is as it goes: the bytes parsed so far of a text save, and the bytes decoded so
+     * far of a binary or full-fidelity save, which is read whole first as building its
+     * {@link Galaxy} is the slow part. Stops with an {@link InterruptedIOException} if the loading
+     * thread is interrupted, so a load running in the background can be cancelled.
+     *
+     * @param path     location of the save file.
+     * @param progress told the running total of bytes read or decoded as it goes, ending with
+     *                 the size of the file.
+     * @return the saved {@link Enterprise} and {@link Galaxy}.
+     * @throws IOException              if the file can not be read, is a malformed text save, or
+     *                                  the thread was interrupted.
+     * @throws IllegalArgumentException if the file is not a valid save.
+     */
+    public static SavedGame read(Path path, LongConsumer progress) throws IOException {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        try {
+            if (name.endsWith("." + BinarySaveCodec.EXTENSION)) {
+                return BinarySaveCodec.decode(readAllBytes(path), progress);
+            }
+            if (name.endsWith("." + FullSaveCodec.EXTENSION)) {
+                return SaveChain.read(path, readAllBytes(path), progress);
+            }
+        } catch (CancellationException e) {
+            throw new InterruptedIOException(e.getMessage());
+        }
+        try (InputStream in = new ProgressInputStream(Files.newInputStream(path), progress)) {
+            return TrekParser.read(new BufferedReader(
+                    new InputStreamReader(in, StandardCharsets.UTF_8)));
+        }
+    }
+
+    /**
+     * Reads a whole file, giving up if the thread is interrupted part way through.
+     */
+    private static byte[] readAllBytes(Path path) throws IOException {
+        try (InputStream in = new ProgressInputStream(Files.newInputStream(path),
+                bytesRead -> { })) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Counts the bytes read through it for {@link #read(Path, LongConsumer)}, and gives up once
+     * the reading thread is interrupted.
+     */
+    private static final class ProgressInputStream extends FilterInputStream {
+        private final LongConsumer progress;
+        private long total;
+
+        private ProgressInputStream(InputStream in, LongConsumer progress) {
+            super(in);
+            this.progress = progress;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return this.read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Loading was cancelled.");
+            }
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                this.total += read;
+                this.progress.accept(this.total);
+            }
+            return read;
+        }
+    }
+
     public String toString() {
         return "GameLoader{path=" + path + ", success=" + success() + "}";
     }
@@ -2,12 +2,18 @@ package sttrswing.controller;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Locale;
 import java.util.Objects;
+import sttrswing.model.AtomicFile;
+import sttrswing.model.BinarySaveCodec;
+import sttrswing.model.FullSaveCodec;
+import sttrswing.model.interfaces.GameModel;
 
 /**
- * Utility responsible for writing game save data to disk.
+ * Utility responsible for writing game save data to disk. Every save is written to a temporary
+ * file beside the target and then moved over it, so a crash mid-write leaves the previous save as
+ * it was rather than a corrupt one.
  */
 public final class GameSaver {
 
@@ -29,11 +35,44 @@ public final class GameSaver {
     }
     Objects.requireNonNull(content, "Content must not be null.");
 
-    Path savePath = Path.of(path);
-    Path parent = savePath.getParent();
-    if (parent != null && !Files.exists(parent)) {
-      Files.createDirectories(parent);
+    AtomicFile.write(Path.of(path), content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Persist the provided binary game data to the supplied file path.
+   *
+   * @param path    location on disk to save to.
+   * @param content game state encoded as a binary save.
+   * @throws IOException              if writing to disk fails.
+   * @throws IllegalArgumentException if either argument is null or empty.
+   */
+  public static void save(String path, byte[] content) throws IOException {
+    if (path == null || path.isBlank()) {
+      throw new IllegalArgumentException("Path must not be empty.");
+    }
+    Objects.requireNonNull(content, "Content must not be null.");
+
+    AtomicFile.write(Path.of(path), content);
+  }
+
+  /**
+   * Encodes the given game in whichever format the extension of the given path says, binary for
+   * .{@value BinarySaveCodec#EXTENSION}, full-fidelity for .{@value FullSaveCodec#EXTENSION} and
+   * text otherwise, the counterpart of {@link GameLoader#read}. Every format starts with the
+   * game's {@link sttrswing.model.SaveHeader}.
+   *
+   * @param game the game to encode.
+   * @param path location the save is meant for.
+   * @return the encoded save.
+   */
+  public static byte[] encode(GameModel game, Path path) {
+    String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+    if (name.endsWith("." + BinarySaveCodec.EXTENSION)) {
+      return game.exportBinary();
+    }
+    if (name.endsWith("." + FullSaveCodec.EXTENSION)) {
+      return game.exportFull();
     }
-    Files.writeString(savePath, content, StandardCharsets.UTF_8);
+    return (game.saveHeader().toText() + game.export()).getBytes(StandardCharsets.UTF_8);
   }
 }
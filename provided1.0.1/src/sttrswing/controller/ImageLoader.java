@@ -5,6 +5,9 @@ import java.io.File;
 import java.io.IOException;
 import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
+import sttrswing.logging.Category;
+import sttrswing.logging.GameLog;
+import sttrswing.logging.Level;
 
 /**
  * {@link ImageLoader} is responsible for loading a {@link BufferedImage} at given filepath.
@@ -26,7 +29,7 @@ public class ImageLoader {
       this.icon = new ImageIcon(img);
       this.success = true;
     } catch (IOException exception) {
-      System.out.println(exception.getMessage());
+      GameLog.log(Level.WARN, Category.IO, "image load failed", "error", exception.getMessage());
     }
   }
 
@@ -0,0 +1,85 @@
+package sttrswing.controller;
+
+import sttrswing.model.SavedGame;
+import sttrswing.model.interfaces.GameModel;
+
+import javax.swing.SwingWorker;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Loads a save file without holding up the Event Dispatch Thread. The file is read, parsed and
+ * its {@link sttrswing.model.Galaxy} built on a background thread by
+ * {@link GameLoader#read(Path, java.util.function.LongConsumer)}, which reports how many bytes it
+ * has read or decoded as the worker's progress, from 0 to 100. Only once that has finished is the
+ * result handed to {@link GameModel#load(SavedGame)}, back on the Event Dispatch Thread, so the
+ * game is never seen half loaded. {@link #cancel(boolean) Cancelling} with interruption stops the
+ * load at the next chunk read or batch of quadrants built and leaves the game as it was.
+ */
+public class LoadWorker extends SwingWorker<SavedGame, Void> {
+
+    private final Path path;
+    private final GameModel game;
+    private final Runnable onLoaded;
+    private final Consumer<Exception> onFailed;
+
+    /**
+     * Constructs a {@link LoadWorker}, call {@link #execute()} to start it.
+     *
+     * @param path     the save file to load.
+     * @param game     the game to load it into.
+     * @param onLoaded run on the Event Dispatch Thread once the game has been loaded.
+     * @param onFailed run on the Event Dispatch Thread with the reason if the file could not be
+     *                 loaded, not run if the load was cancelled.
+     */
+    public LoadWorker(Path path, GameModel game, Runnable onLoaded, Consumer<Exception> onFailed) {
+        this.path = Objects.requireNonNull(path, "path");
+        this.game = Objects.requireNonNull(game, "game");
+        this.onLoaded = Objects.requireNonNull(onLoaded, "onLoaded");
+        this.onFailed = Objects.requireNonNull(onFailed, "onFailed");
+    }
+
+    @Override
+    protected SavedGame doInBackground() throws IOException {
+        long size = Math.max(1L, Files.size(this.path));
+        SavedGame saved = GameLoader.read(this.path,
+                bytesRead -> this.setProgress((int) Math.min(99L, bytesRead * 100L / size)));
+        this.setProgress(100);
+        return saved;
+    }
+
+    @Override
+    protected void done() {
+        if (this.isCancelled()) {
+            return;
+        }
+        SavedGame saved;
+        try {
+            saved = this.get();
+        } catch (CancellationException e) {
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof InterruptedIOException) {
+                return;
+            }
+            this.onFailed.accept(e.getCause() instanceof Exception cause ? cause : e);
+            return;
+        }
+        try {
+            this.game.load(saved);
+        } catch (RuntimeException e) {
+            this.onFailed.accept(e);
+            return;
+        }
+        this.onLoaded.run();
+    }
+}
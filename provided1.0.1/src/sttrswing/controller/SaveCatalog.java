@@ -0,0 +1,312 @@
+package sttrswing.controller;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import sttrswing.model.BinarySaveCodec;
+import sttrswing.model.FullSaveCodec;
+import sttrswing.model.SaveChain;
+import sttrswing.model.SaveHeader;
+
+/**
+ * Keeps an index of the saves in a directory and their {@link SaveHeader}s, so that hundreds of
+ * saves can be listed with what is in them without parsing any of them. Only the fixed size header
+ * at the start of each file is read, and it is cached against the file's modification time and
+ * size, so it is read again only once the file changes.
+ *
+ * <p>The directory is scanned once up front and then watched with a {@link WatchService}.
+ * {@link #refresh()}, which {@link #entries()} and {@link #entry} call first, applies only the
+ * changes reported since, so keeping the index up to date costs in proportion to how many saves
+ * changed rather than how many there are. Should the watch service lose track, the directory is
+ * scanned again, still reading only the headers of files that changed.</p>
+ *
+ * <p>A full save with delta saves written beside it by {@link SaveChain}, such as the autosave,
+ * is listed with the header of its newest delta, so it shows what was saved last rather than what
+ * was saved when the chain was last compacted. Telling which deltas follow on from the full save
+ * takes its CRC-32, which is worked out once each time the full save changes, after that only the
+ * start of each delta is read when one is written.</p>
+ */
+public final class SaveCatalog implements AutoCloseable {
+
+  /**
+   * A save in the catalog.
+   *
+   * @param path     location of the save file.
+   * @param modified when the file was last modified.
+   * @param size     size of the file in bytes.
+   * @param header   the header at the start of the file, or of the newest delta save that follows
+   *                 on from it, or null if it has none, such as a save written before headers
+   *                 were added, or it could not be read.
+   */
+  public record Entry(Path path, FileTime modified, long size, SaveHeader header) {
+  }
+
+  private static final String[] EXTENSIONS = {"trek", BinarySaveCodec.EXTENSION,
+      FullSaveCodec.EXTENSION};
+
+  private final Path directory;
+  private final WatchService watcher;
+  private final Map<Path, Entry> entries = new HashMap<>();
+  private final Map<Path, ChainBase> chainBases = new HashMap<>();
+  private long headersRead;
+
+  /**
+   * Constructs a {@link SaveCatalog} of the given directory, creating it if need be, and indexes
+   * the saves already in it.
+   *
+   * @param directory the directory holding the saves.
+   * @throws IOException if the directory can not be created, listed or watched.
+   */
+  public SaveCatalog(final Path directory) throws IOException {
+    this.directory = Files.createDirectories(directory);
+    this.watcher = directory.getFileSystem().newWatchService();
+    try {
+      directory.register(this.watcher, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+      this.rescan();
+    } catch (IOException | RuntimeException e) {
+      this.watcher.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns true if the given file has the extension of one of the save formats.
+   *
+   * @param path a file.
+   * @return true if the file is named as a save.
+   */
+  public static boolean isSave(final Path path) {
+    final Path name = path.getFileName();
+    if (name == null) {
+      return false;
+    }
+    final String lower = name.toString().toLowerCase(Locale.ROOT);
+    for (String extension : EXTENSIONS) {
+      if (lower.endsWith("." + extension)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the directory this {@link SaveCatalog} indexes.
+   *
+   * @return the directory this {@link SaveCatalog} indexes.
+   */
+  public Path directory() {
+    return this.directory;
+  }
+
+  /**
+   * Returns every save in the directory, ordered by file name, after applying any changes
+   * reported since the last call.
+   *
+   * @return every save in the directory.
+   */
+  public synchronized List<Entry> entries() {
+    this.refresh();
+    final List<Entry> sorted = new ArrayList<>(this.entries.values());
+    sorted.sort((a, b) -> a.path().getFileName().toString()
+        .compareTo(b.path().getFileName().toString()));
+    return sorted;
+  }
+
+  /**
+   * Returns the entry for the given save, after applying any changes reported since the last call.
+   *
+   * @param path a save file in the directory.
+   * @return its entry, or null if it is not a save in the directory.
+   */
+  public synchronized Entry entry(final Path path) {
+    this.refresh();
+    return this.entries.get(this.directory.resolve(path.getFileName()));
+  }
+
+  /**
+   * Returns how many headers have been read from disk so far, for checking the cache is doing its
+   * job.
+   *
+   * @return how many headers have been read from disk.
+   */
+  public synchronized long headersRead() {
+    return this.headersRead;
+  }
+
+  /**
+   * Applies every change the watch service has reported since the last call without waiting for
+   * more, reading the header of each save created or changed since.
+   *
+   * @return how many saves changed.
+   */
+  public synchronized int refresh() {
+    int changed = 0;
+    for (WatchKey key = this.watcher.poll(); key != null; key = this.watcher.poll()) {
+      for (WatchEvent<?> event : key.pollEvents()) {
+        if (event.kind() == OVERFLOW) {
+          changed += this.rescan();
+        } else if (this.updateFor(this.directory.resolve((Path) event.context()))) {
+          changed += 1;
+        }
+      }
+      if (!key.reset()) {
+        // the directory itself has gone
+        changed += this.entries.size();
+        this.entries.clear();
+        this.chainBases.clear();
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Stops watching the directory.
+   *
+   * @throws IOException if the watch service can not be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    this.watcher.close();
+  }
+
+  /**
+   * Brings every entry up to date by listing the directory, reading only the headers of saves
+   * whose modification time or size differ from the cached entry.
+   *
+   * @return how many saves changed.
+   */
+  private int rescan() {
+    int changed = 0;
+    final List<Path> seen = new ArrayList<>();
+    try (DirectoryStream<Path> saves = Files.newDirectoryStream(this.directory,
+        SaveCatalog::isSave)) {
+      for (Path path : saves) {
+        seen.add(path);
+        if (this.update(path, true)) {
+          changed += 1;
+        }
+      }
+    } catch (IOException e) {
+      // keep what we have, the next change reported will try again
+      return changed;
+    }
+    final int before = this.entries.size();
+    this.entries.keySet().retainAll(seen);
+    this.chainBases.keySet().retainAll(seen);
+    return changed + before - this.entries.size();
+  }
+
+  /**
+   * Brings the entry a change to the given file affects up to date, that of the file itself or,
+   * for a delta save, that of the full save it is written beside.
+   *
+   * @return true if the entry was added, changed or removed.
+   */
+  private boolean updateFor(final Path path) {
+    final Path base = SaveChain.baseOf(path);
+    return base != null ? this.update(base, true) : this.update(path, false);
+  }
+
+  /**
+   * Brings the entry for the given file up to date.
+   *
+   * @param deltasChanged true if delta saves beside it may have changed even if it has not.
+   * @return true if the entry was added, changed or removed.
+   */
+  private boolean update(final Path path, final boolean deltasChanged) {
+    if (!isSave(path)) {
+      return false;
+    }
+    final BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    } catch (NoSuchFileException e) {
+      return this.remove(path);
+    } catch (IOException e) {
+      return false;
+    }
+    if (!attributes.isRegularFile()) {
+      return this.remove(path);
+    }
+    final boolean chained = isChainBase(path);
+    final Entry cached = this.entries.get(path);
+    if (cached != null && cached.modified().equals(attributes.lastModifiedTime())
+        && cached.size() == attributes.size() && !(chained && deltasChanged)) {
+      return false;
+    }
+    SaveHeader header;
+    try {
+      header = SaveHeader.read(path);
+    } catch (IOException e) {
+      header = null;
+    }
+    this.headersRead += 1;
+    if (chained) {
+      final SaveHeader newest = this.newestDeltaHeader(path, attributes);
+      if (newest != null) {
+        header = newest;
+      }
+    }
+    final Entry entry = new Entry(path, attributes.lastModifiedTime(), attributes.size(),
+        header);
+    return !entry.equals(this.entries.put(path, entry));
+  }
+
+  /**
+   * Reads the header of the newest delta save that follows on from the given full save, working
+   * out the CRC-32 of the full save only if there are deltas and it changed since last time.
+   *
+   * @return the header, or null if there is no such delta or it has no header.
+   */
+  private SaveHeader newestDeltaHeader(final Path base, final BasicFileAttributes attributes) {
+    if (!Files.exists(SaveChain.deltaPath(base, 1))) {
+      return null;
+    }
+    try {
+      ChainBase chainBase = this.chainBases.get(base);
+      if (chainBase == null || !chainBase.modified().equals(attributes.lastModifiedTime())
+          || chainBase.size() != attributes.size()) {
+        chainBase = new ChainBase(attributes.lastModifiedTime(), attributes.size(),
+            SaveChain.crc(base));
+        this.chainBases.put(base, chainBase);
+      }
+      this.headersRead += 1;
+      return SaveChain.newestHeader(base, chainBase.crc());
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private boolean remove(final Path path) {
+    this.chainBases.remove(path);
+    return this.entries.remove(path) != null;
+  }
+
+  private static boolean isChainBase(final Path path) {
+    return path.getFileName().toString().toLowerCase(Locale.ROOT)
+        .endsWith("." + FullSaveCodec.EXTENSION);
+  }
+
+  /**
+   * The CRC-32 of a full save, cached against its modification time and size.
+   */
+  private record ChainBase(FileTime modified, long size, int crc) {
+  }
+}
@@ -0,0 +1,119 @@
+package sttrswing.headless;
+
+/**
+ * Summary of a {@link BatchRunner} run: how the games ended, how fast they were played and how
+ * long individual turns took.
+ */
+public class BatchReport {
+
+  private final long[] outcomes;
+  private final long elapsedNanos;
+  private final LatencyHistogram latencies;
+  private final String firstFailure;
+
+  /**
+   * Constructs a {@link BatchReport}.
+   *
+   * @param outcomes     - how many games ended each way, indexed by {@link Outcome#ordinal()}.
+   * @param elapsedNanos - wall clock time the whole batch took.
+   * @param latencies    - every turn played across the batch.
+   * @param firstFailure - description of the first game to throw, null if none did.
+   */
+  BatchReport(final long[] outcomes, final long elapsedNanos, final LatencyHistogram latencies,
+      final String firstFailure) {
+    this.outcomes = outcomes.clone();
+    this.elapsedNanos = elapsedNanos;
+    this.latencies = latencies;
+    this.firstFailure = firstFailure;
+  }
+
+  /**
+   * Returns how many games were played.
+   *
+   * @return how many games were played.
+   */
+  public long games() {
+    long games = 0;
+    for (long count : this.outcomes) {
+      games += count;
+    }
+    return games;
+  }
+
+  /**
+   * Returns how many games ended the given way.
+   *
+   * @param outcome - the way the games ended.
+   * @return how many games ended that way.
+   */
+  public long count(final Outcome outcome) {
+    return this.outcomes[outcome.ordinal()];
+  }
+
+  /**
+   * Returns how many turns were played across every game.
+   *
+   * @return how many turns were played across every game.
+   */
+  public long turns() {
+    return this.latencies.count();
+  }
+
+  /**
+   * Returns the wall clock time the batch took.
+   *
+   * @return the wall clock time the batch took in nanoseconds.
+   */
+  public long elapsedNanos() {
+    return this.elapsedNanos;
+  }
+
+  /**
+   * Returns how many games were played per second of wall clock time.
+   *
+   * @return how many games were played per second of wall clock time.
+   */
+  public double gamesPerSecond() {
+    return this.games() / (Math.max(1L, this.elapsedNanos) / 1e9);
+  }
+
+  /**
+   * Returns the turn latency at the given percentile, see {@link LatencyHistogram#percentile}.
+   *
+   * @param percentile - between 0 and 100.
+   * @return the turn latency at that percentile in nanoseconds.
+   */
+  public long turnLatency(final double percentile) {
+    return this.latencies.percentile(percentile);
+  }
+
+  /**
+   * Returns a description of the first game to throw, including the seed to replay it from.
+   *
+   * @return a description of the first game to throw, null if none did.
+   */
+  public String firstFailure() {
+    return this.firstFailure;
+  }
+
+  @Override
+  public String toString() {
+    final long games = Math.max(1L, this.games());
+    final StringBuilder sb = new StringBuilder();
+    sb.append(String.format("games        %d in %.2fs (%.0f games/s, %.0f games/min)%n",
+        this.games(), this.elapsedNanos / 1e9, this.gamesPerSecond(), this.gamesPerSecond() * 60));
+    for (Outcome outcome : Outcome.values()) {
+      sb.append(String.format("%-12s %d (%.1f%%)%n", outcome.name().toLowerCase(),
+          this.count(outcome), 100.0 * this.count(outcome) / games));
+    }
+    sb.append(String.format("turns        %d (%.1f per game)%n", this.turns(),
+        (double) this.turns() / games));
+    sb.append(String.format("turn latency p50 %dns p90 %dns p99 %dns p99.9 %dns max %dns%n",
+        this.turnLatency(50), this.turnLatency(90), this.turnLatency(99), this.turnLatency(99.9),
+        this.latencies.max()));
+    if (this.firstFailure != null) {
+      sb.append("first failure ").append(this.firstFailure).append(System.lineSeparator());
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,148 @@
+package sttrswing.headless;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import sttrswing.model.interfaces.GameModel;
+
+/**
+ * Plays large batches of headless games across a pool of threads for balance and regression
+ * testing.
+ *
+ * <p>Every game gets its own seed derived from the batch seed and its number, which seeds both
+ * the {@link GameModel} and the generator handed to its {@link Policy}. A batch therefore has the
+ * same outcomes however many threads play it, and any single game can be replayed on its own from
+ * the seed reported for it.</p>
+ */
+public class BatchRunner {
+
+  private static final int GAMES_PER_CLAIM = 64;
+
+  private final int threads;
+  private final HeadlessEngine engine;
+  private final LongFunction<GameModel> games;
+  private final Supplier<Policy> policies;
+
+  /**
+   * Constructs a {@link BatchRunner}.
+   *
+   * @param threads  - how many threads to play games on.
+   * @param maxTurns - how many turns to play each game for before giving up on it.
+   * @param games    - creates the game to play from its seed.
+   * @param policies - creates a fresh {@link Policy} for each game.
+   * @throws IllegalArgumentException if threads or maxTurns is less than 1.
+   */
+  public BatchRunner(final int threads, final int maxTurns, final LongFunction<GameModel> games,
+      final Supplier<Policy> policies) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Threads must be positive, got " + threads + ".");
+    }
+    this.threads = threads;
+    this.engine = new HeadlessEngine(maxTurns);
+    this.games = games;
+    this.policies = policies;
+  }
+
+  /**
+   * Returns the seed the given game in a batch with the given seed is played from.
+   *
+   * @param batchSeed - the seed of the batch.
+   * @param game      - which game in the batch, from 0.
+   * @return the seed of that game.
+   */
+  public static long gameSeed(final long batchSeed, final int game) {
+    return new SplittableRandom(batchSeed + game * 0x9E3779B97F4A7C15L).nextLong();
+  }
+
+  /**
+   * Plays the given number of games and reports on them.
+   *
+   * @param count - how many games to play.
+   * @param seed  - seed of the batch.
+   * @return a report on the games played.
+   * @throws IllegalStateException if the batch is interrupted.
+   */
+  public BatchReport run(final int count, final long seed) {
+    final AtomicInteger claimed = new AtomicInteger();
+    final List<Callable<Worker>> workers = new ArrayList<>();
+    for (int i = 0; i < this.threads; i += 1) {
+      workers.add(() -> new Worker().play(claimed, count, seed));
+    }
+
+    final ExecutorService pool = Executors.newFixedThreadPool(this.threads);
+    final long start = System.nanoTime();
+    try {
+      final long[] outcomes = new long[Outcome.values().length];
+      final LatencyHistogram latencies = new LatencyHistogram();
+      int firstFailedGame = Integer.MAX_VALUE;
+      String firstFailure = null;
+      for (Future<Worker> future : pool.invokeAll(workers)) {
+        final Worker worker = future.get();
+        for (int i = 0; i < outcomes.length; i += 1) {
+          outcomes[i] += worker.outcomes[i];
+        }
+        latencies.merge(worker.latencies);
+        if (worker.firstFailedGame < firstFailedGame) {
+          firstFailedGame = worker.firstFailedGame;
+          firstFailure = worker.firstFailure;
+        }
+      }
+      return new BatchReport(outcomes, System.nanoTime() - start, latencies, firstFailure);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Batch was interrupted.", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Batch worker failed.", e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Plays games claimed from a shared counter on one thread, keeping its own tallies so threads
+   * never contend on anything but the counter.
+   */
+  private class Worker {
+
+    private final long[] outcomes = new long[Outcome.values().length];
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private int firstFailedGame = Integer.MAX_VALUE;
+    private String firstFailure;
+
+    private Worker play(final AtomicInteger claimed, final int count, final long seed) {
+      int from = claimed.getAndAdd(GAMES_PER_CLAIM);
+      while (from < count) {
+        final int to = Math.min(count, from + GAMES_PER_CLAIM);
+        for (int game = from; game < to; game += 1) {
+          this.playOne(game, seed);
+        }
+        from = claimed.getAndAdd(GAMES_PER_CLAIM);
+      }
+      return this;
+    }
+
+    private void playOne(final int game, final long batchSeed) {
+      final long seed = gameSeed(batchSeed, game);
+      Outcome outcome;
+      try {
+        outcome = engine.play(games.apply(seed), policies.get(), new SplittableRandom(seed),
+            this.latencies);
+      } catch (RuntimeException e) {
+        outcome = Outcome.FAILED;
+        if (game < this.firstFailedGame) {
+          this.firstFailedGame = game;
+          this.firstFailure = "game " + game + " (seed " + seed + "): " + e;
+        }
+      }
+      this.outcomes[outcome.ordinal()] += 1;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package sttrswing.headless;
+
+import java.util.SplittableRandom;
+import sttrswing.model.interfaces.GameModel;
+
+/**
+ * Plays a single {@link GameModel} to the end with a {@link Policy} in place of a player, with no
+ * controller or views involved.
+ */
+public class HeadlessEngine {
+
+  private final int maxTurns;
+
+  /**
+   * Constructs a {@link HeadlessEngine} that gives up on a game after the given number of turns.
+   *
+   * @param maxTurns - how many turns to play before calling the game {@link Outcome#TIMED_OUT}.
+   * @throws IllegalArgumentException if maxTurns is less than 1.
+   */
+  public HeadlessEngine(final int maxTurns) {
+    if (maxTurns < 1) {
+      throw new IllegalArgumentException("Max turns must be positive, got " + maxTurns + ".");
+    }
+    this.maxTurns = maxTurns;
+  }
+
+  /**
+   * Plays the given game until it is won, lost or times out, recording how long each turn took.
+   * Anything the game throws is passed straight on.
+   *
+   * @param game      - the game to play.
+   * @param policy    - decides the command issued each turn.
+   * @param random    - generator handed to the policy.
+   * @param latencies - where to record how long each turn took.
+   * @return how the game ended.
+   */
+  public Outcome play(final GameModel game, final Policy policy, final SplittableRandom random,
+      final LatencyHistogram latencies) {
+    for (int turn = 0; turn < this.maxTurns; turn += 1) {
+      if (game.hasLost()) {
+        return Outcome.LOST;
+      }
+      if (game.hasWon()) {
+        return Outcome.WON;
+      }
+      final long start = System.nanoTime();
+      policy.act(game, random);
+      latencies.record(System.nanoTime() - start);
+    }
+    if (game.hasLost()) {
+      return Outcome.LOST;
+    }
+    return game.hasWon() ? Outcome.WON : Outcome.TIMED_OUT;
+  }
+}
@@ -0,0 +1,74 @@
+package sttrswing.headless;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import sttrswing.model.Game;
+import sttrswing.model.enums.GenerationMode;
+import sttrswing.model.enums.TickMode;
+import sttrswing.model.interfaces.GameModel;
+
+/**
+ * Command line entry point for running a batch of headless games.
+ *
+ * <p>Usage: {@code HeadlessMain [--games n] [--threads n] [--max-turns n] [--seed n] [--size n]
+ * [--lazy] [--script file]}. Plays random games unless a script is given, see
+ * {@link ScriptedPolicy} for its format.</p>
+ */
+public class HeadlessMain {
+
+  /**
+   * Entry point for the batch runner.
+   *
+   * @param args options described in the class comment.
+   * @throws IOException if the script can not be read.
+   */
+  public static void main(String[] args) throws IOException {
+    int games = 10_000;
+    int threads = Runtime.getRuntime().availableProcessors();
+    int maxTurns = 500;
+    long seed = 1L;
+    int size = 8;
+    boolean lazy = false;
+    String script = null;
+    for (int i = 0; i < args.length; i += 1) {
+      switch (args[i]) {
+        case "--games" -> games = Integer.parseInt(args[++i]);
+        case "--threads" -> threads = Integer.parseInt(args[++i]);
+        case "--max-turns" -> maxTurns = Integer.parseInt(args[++i]);
+        case "--seed" -> seed = Long.parseLong(args[++i]);
+        case "--size" -> size = Integer.parseInt(args[++i]);
+        case "--lazy" -> lazy = true;
+        case "--script" -> script = Files.readString(Path.of(args[++i]));
+        default -> throw new IllegalArgumentException("Unknown option '" + args[i] + "'.");
+      }
+    }
+
+    final Supplier<Policy> policies;
+    if (script == null) {
+      policies = RandomPolicy::new;
+    } else {
+      final String lines = script;
+      new ScriptedPolicy(lines); // fail fast on a bad script before starting any threads
+      policies = () -> new ScriptedPolicy(lines);
+    }
+    final int galaxySize = size;
+    final boolean lazyGalaxy = lazy;
+    final LongFunction<GameModel> factory = gameSeed -> {
+      if (!lazyGalaxy) {
+        return new Game(galaxySize, galaxySize, gameSeed);
+      }
+      final Game game = new Game(galaxySize, galaxySize, gameSeed, GenerationMode.LAZY);
+      game.getGalaxy().setTickMode(TickMode.LAZY);
+      return game;
+    };
+
+    final BatchReport report =
+        new BatchRunner(threads, maxTurns, factory, policies).run(games, seed);
+    System.out.printf("threads      %d, max turns %d, %dx%d galaxy, seed %d%n", threads, maxTurns,
+        size, size, seed);
+    System.out.print(report);
+  }
+}
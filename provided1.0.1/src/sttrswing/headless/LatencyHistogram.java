@@ -0,0 +1,105 @@
+package sttrswing.headless;
+
+/**
+ * Records latencies in nanoseconds into log-linear buckets, 16 per power of two, so any
+ * percentile can be read back to within about 6% using a fixed 7.5KB no matter how many values
+ * are recorded. Not thread safe, give each thread its own and {@link #merge} them afterwards.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final long[] counts = new long[BUCKETS];
+  private long count;
+  private long max;
+
+  /**
+   * Record one latency.
+   *
+   * @param nanos - the latency in nanoseconds, negative values are recorded as 0.
+   */
+  public void record(final long nanos) {
+    final long value = Math.max(0L, nanos);
+    this.counts[bucket(value)] += 1;
+    this.count += 1;
+    this.max = Math.max(this.max, value);
+  }
+
+  /**
+   * Adds every latency recorded by the given histogram to this one.
+   *
+   * @param other - the histogram to add to this one.
+   */
+  public void merge(final LatencyHistogram other) {
+    for (int i = 0; i < BUCKETS; i += 1) {
+      this.counts[i] += other.counts[i];
+    }
+    this.count += other.count;
+    this.max = Math.max(this.max, other.max);
+  }
+
+  /**
+   * Returns how many latencies have been recorded.
+   *
+   * @return how many latencies have been recorded.
+   */
+  public long count() {
+    return this.count;
+  }
+
+  /**
+   * Returns the largest latency recorded, exactly.
+   *
+   * @return the largest latency recorded in nanoseconds, 0 if none have been.
+   */
+  public long max() {
+    return this.max;
+  }
+
+  /**
+   * Returns the latency the given percentage of recorded latencies are at or below, rounded up to
+   * the top of its bucket.
+   *
+   * @param percentile - between 0 and 100.
+   * @return the latency at that percentile in nanoseconds, 0 if none have been recorded.
+   * @throws IllegalArgumentException if the percentile is outside 0 to 100.
+   */
+  public long percentile(final double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100, got "
+          + percentile + ".");
+    }
+    if (this.count == 0) {
+      return 0L;
+    }
+    final long rank = Math.max(1L, (long) Math.ceil(this.count * percentile / 100.0));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i += 1) {
+      seen += this.counts[i];
+      if (seen >= rank) {
+        return Math.min(upperBound(i), this.max);
+      }
+    }
+    return this.max;
+  }
+
+  private static int bucket(final long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    final int shift = exponent - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+  }
+
+  private static long upperBound(final int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    final int shift = bucket / SUB_BUCKETS - 1;
+    final long sub = bucket % SUB_BUCKETS;
+    return ((SUB_BUCKETS + sub + 1) << shift) - 1;
+  }
+}
@@ -0,0 +1,23 @@
+package sttrswing.headless;
+
+/**
+ * How a headless game ended.
+ */
+public enum Outcome {
+  /**
+   * Every Klingon was destroyed with the Enterprise still alive.
+   */
+  WON,
+  /**
+   * The Enterprise was destroyed.
+   */
+  LOST,
+  /**
+   * The game was still going when it hit the turn limit.
+   */
+  TIMED_OUT,
+  /**
+   * The game threw an exception part way through.
+   */
+  FAILED
+}
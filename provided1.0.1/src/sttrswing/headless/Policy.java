@@ -0,0 +1,21 @@
+package sttrswing.headless;
+
+import java.util.SplittableRandom;
+import sttrswing.model.interfaces.GameModel;
+
+/**
+ * Decides what a headless captain does. Each call issues exactly one command to the
+ * {@link GameModel}, the same as a single button press in the UI, and counts as one turn of the
+ * game being played.
+ */
+public interface Policy {
+
+  /**
+   * Issue the next command to the given game.
+   *
+   * @param game   - the game being played.
+   * @param random - generator owned by this game, the only source of randomness a policy should
+   *               use so a game can be replayed from its seed.
+   */
+  void act(GameModel game, SplittableRandom random);
+}
@@ -0,0 +1,24 @@
+package sttrswing.headless;
+
+import java.util.SplittableRandom;
+import sttrswing.model.interfaces.GameModel;
+
+/**
+ * A {@link Policy} that issues a random valid looking command every turn, with amounts and
+ * courses drawn from the same ranges the UI accepts.
+ */
+public class RandomPolicy implements Policy {
+
+  @Override
+  public void act(final GameModel game, final SplittableRandom random) {
+    final int course = 1 + random.nextInt(8);
+    switch (random.nextInt(6)) {
+      case 0 -> game.firePhasers(1 + random.nextInt(Math.max(1, game.spareEnergy())));
+      case 1 -> game.fireTorpedo(course);
+      case 2 -> game.moveWithinQuadrant(course, 1 + random.nextInt(7));
+      case 3 -> game.moveBetweenQuadrants(course, 1 + random.nextInt(3));
+      case 4 -> game.shields(1 + random.nextInt(Math.max(1, game.spareEnergy())));
+      default -> game.scanQuadrant();
+    }
+  }
+}
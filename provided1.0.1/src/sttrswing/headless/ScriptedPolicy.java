@@ -0,0 +1,88 @@
+package sttrswing.headless;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import sttrswing.model.interfaces.GameModel;
+
+/**
+ * A {@link Policy} that plays a fixed script of commands, starting again from the top once it
+ * runs out. One command per line, blank lines and lines starting with # are ignored:
+ * <ul>
+ *   <li>{@code phasers <energy>}</li>
+ *   <li>{@code torpedo <course>}</li>
+ *   <li>{@code move <course> <distance>}</li>
+ *   <li>{@code warp <course> <distance>}</li>
+ *   <li>{@code shields <energy>}</li>
+ *   <li>{@code scan}</li>
+ * </ul>
+ */
+public class ScriptedPolicy implements Policy {
+
+  private final List<String> commands;
+  private final List<int[]> arguments;
+  private int next = 0;
+
+  /**
+   * Constructs a {@link ScriptedPolicy} from the given script.
+   *
+   * @param script - the commands to play, one per line.
+   * @throws IllegalArgumentException if a line is not a valid command or the script is empty.
+   */
+  public ScriptedPolicy(final String script) {
+    this.commands = new ArrayList<>();
+    this.arguments = new ArrayList<>();
+    final String[] lines = script.split("\\R");
+    for (int i = 0; i < lines.length; i += 1) {
+      final String line = lines[i].trim();
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      final String[] command = line.split("\\s+");
+      this.commands.add(command[0]);
+      this.arguments.add(parse(command, i + 1));
+    }
+    if (this.commands.isEmpty()) {
+      throw new IllegalArgumentException("Script has no commands.");
+    }
+  }
+
+  private static int[] parse(final String[] command, final int line) {
+    final int expected = switch (command[0]) {
+      case "phasers", "torpedo", "shields" -> 1;
+      case "move", "warp" -> 2;
+      case "scan" -> 0;
+      default -> throw new IllegalArgumentException(
+          "Unknown command '" + command[0] + "' on line " + line + ".");
+    };
+    if (command.length != expected + 1) {
+      throw new IllegalArgumentException("'" + command[0] + "' takes " + expected
+          + " argument(s), got " + (command.length - 1) + " on line " + line + ".");
+    }
+    final int[] arguments = new int[expected];
+    for (int i = 0; i < expected; i += 1) {
+      try {
+        arguments[i] = Integer.parseInt(command[i + 1]);
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException(
+            "Expected a whole number but got '" + command[i + 1] + "' on line " + line + ".", e);
+      }
+    }
+    return arguments;
+  }
+
+  @Override
+  public void act(final GameModel game, final SplittableRandom random) {
+    final String command = this.commands.get(this.next);
+    final int[] arguments = this.arguments.get(this.next);
+    this.next = (this.next + 1) % this.commands.size();
+    switch (command) {
+      case "phasers" -> game.firePhasers(arguments[0]);
+      case "torpedo" -> game.fireTorpedo(arguments[0]);
+      case "move" -> game.moveWithinQuadrant(arguments[0], arguments[1]);
+      case "warp" -> game.moveBetweenQuadrants(arguments[0], arguments[1]);
+      case "shields" -> game.shields(arguments[0]);
+      default -> game.scanQuadrant();
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package sttrswing.journal;
+
+import static sttrswing.codec.ByteDecoder.getZigzagVarint;
+import static sttrswing.codec.ByteDecoder.getZigzagVarlong;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import sttrswing.codec.ByteEncoder;
+import sttrswing.model.interfaces.GameModel;
+
+/**
+ * The binary layout of a journal file.
+ *
+ * <p>A journal starts with a header: the magic number, the format version, the galaxy width and
+ * height as varints, the 8 byte seed and a flags byte (bit 0 set for a lazy galaxy). After that
+ * come records, each an opcode byte followed by its arguments. Whole numbers are zigzag varints so
+ * small values, including negative ones, take a single byte, and distances are 8 byte doubles.
+ * Checkpoint records hold how many commands came before them and the {@link GameModel#stateHash()}
+ * after them, letting a replay check it is still in step with the game that was recorded.</p>
+ */
+final class JournalFormat {
+
+  static final int MAGIC = 0x54524B4A; // "TRKJ"
+  static final int VERSION = 1;
+
+  static final int SHIELDS = 1;
+  static final int PHASERS = 2;
+  static final int TORPEDO = 3;
+  static final int SCAN = 4;
+  static final int TURN = 5;
+  static final int MOVE = 6;
+  static final int WARP = 7;
+  static final int AUTOPILOT = 8;
+  static final int CHECKPOINT = 9;
+
+  /**
+   * Returned by {@link #replay} when the buffer ends part way through a record.
+   */
+  static final int TORN = -1;
+
+  private static final int LAZY_FLAG = 1;
+
+  private JournalFormat() {
+  }
+
+  /**
+   * Writes the journal header for the given game to the buffer.
+   *
+   * @param out    - the buffer to write to.
+   * @param header - the game the journal starts from.
+   */
+  static void writeHeader(final ByteEncoder out, final JournalHeader header) {
+    out.putInt(MAGIC);
+    out.put(VERSION);
+    out.putZigzagVarint(header.width());
+    out.putZigzagVarint(header.height());
+    out.putLong(header.seed());
+    out.put(header.lazy() ? LAZY_FLAG : 0);
+  }
+
+  /**
+   * Reads a journal header from the buffer.
+   *
+   * @param in - the buffer to read from, left just past the header.
+   * @return the header read.
+   * @throws IllegalArgumentException if the buffer does not start with a journal header this
+   *                                  version can read.
+   */
+  static JournalHeader readHeader(final ByteBuffer in) {
+    try {
+      if (in.getInt() != MAGIC) {
+        throw new IllegalArgumentException("Not a journal file.");
+      }
+      final int version = in.get();
+      if (version != VERSION) {
+        throw new IllegalArgumentException("Unsupported journal version " + version + ".");
+      }
+      final int width = getZigzagVarint(in);
+      final int height = getZigzagVarint(in);
+      final long seed = in.getLong();
+      final boolean lazy = (in.get() & LAZY_FLAG) != 0;
+      return new JournalHeader(width, height, seed, lazy);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Journal header is cut short.", e);
+    }
+  }
+
+  /**
+   * Reads the next record from the buffer and plays it against the game. Checkpoints are checked
+   * against the game rather than played.
+   *
+   * @param in       - the buffer to read from, left just past the record.
+   * @param game     - the game to play the record against.
+   * @param commands - how many commands have been played against the game so far.
+   * @return the opcode of the record, or {@link #TORN} if the buffer ends part way through it, in
+   *         which case nothing is played and the buffer is left where it was.
+   * @throws IllegalStateException if a checkpoint does not match the game.
+   * @throws IllegalArgumentException if the record's opcode is not known.
+   */
+  static int replay(final ByteBuffer in, final GameModel game, final long commands) {
+    final int start = in.position();
+    try {
+      final int op = in.get();
+      switch (op) {
+        case SHIELDS -> game.shields(getZigzagVarint(in));
+        case PHASERS -> game.firePhasers(getZigzagVarint(in));
+        case TORPEDO -> game.fireTorpedo(getZigzagVarint(in));
+        case SCAN -> game.scanQuadrant();
+        case TURN -> game.turn();
+        case MOVE -> game.moveWithinQuadrant(getZigzagVarint(in), in.getDouble());
+        case WARP -> game.moveBetweenQuadrants(getZigzagVarint(in), in.getDouble());
+        case AUTOPILOT -> game.engageAutopilot(getZigzagVarint(in), getZigzagVarint(in));
+        case CHECKPOINT -> {
+          final long recorded = getZigzagVarlong(in);
+          final long hash = in.getLong();
+          if (recorded != commands || hash != game.stateHash()) {
+            throw new IllegalStateException("Replay no longer matches the recorded game at command "
+                + commands + ".");
+          }
+        }
+        default -> throw new IllegalArgumentException(
+            "Unknown journal record " + op + " at byte " + start + ".");
+      }
+      return op;
+    } catch (BufferUnderflowException e) {
+      in.position(start);
+      return TORN;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package sttrswing.journal;
+
+import sttrswing.model.Game;
+import sttrswing.model.enums.GenerationMode;
+import sttrswing.model.enums.TickMode;
+
+/**
+ * Everything needed to recreate the {@link Game} a journal starts from.
+ *
+ * @param width  - how many quadrants wide the galaxy is.
+ * @param height - how many quadrants high the galaxy is.
+ * @param seed   - the seed the galaxy and all of its random choices are derived from.
+ * @param lazy   - whether the galaxy is generated and ticked lazily.
+ */
+public record JournalHeader(int width, int height, long seed, boolean lazy) {
+
+  /**
+   * Validates a {@link JournalHeader}.
+   *
+   * @param width  - how many quadrants wide the galaxy is.
+   * @param height - how many quadrants high the galaxy is.
+   * @param seed   - the seed the galaxy and all of its random choices are derived from.
+   * @param lazy   - whether the galaxy is generated and ticked lazily.
+   * @throws IllegalArgumentException if the width or height is less than 1.
+   */
+  public JournalHeader {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException(
+          "Galaxy must be at least 1x1, got " + width + "x" + height + ".");
+    }
+  }
+
+  /**
+   * Creates the game the journal starts from.
+   *
+   * @return a new game in its starting state.
+   */
+  public Game newGame() {
+    if (!this.lazy) {
+      return new Game(this.width, this.height, this.seed);
+    }
+    final Game game = new Game(this.width, this.height, this.seed, GenerationMode.LAZY);
+    game.getGalaxy().setTickMode(TickMode.LAZY);
+    return game;
+  }
+}
@@ -0,0 +1,74 @@
+package sttrswing.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import sttrswing.model.interfaces.GameModel;
+
+/**
+ * Rebuilds games from journal files written through a {@link JournalWriter}.
+ */
+public final class JournalReader {
+
+  private JournalReader() {
+  }
+
+  /**
+   * Replays every command in the journal.
+   *
+   * @param path - the journal file.
+   * @return the game as it was after the last command that was fully written.
+   * @throws IOException              if the file can not be read.
+   * @throws IllegalArgumentException if the file is not a journal or holds an unknown record.
+   * @throws IllegalStateException    if the replay does not match a recorded checkpoint.
+   */
+  public static GameModel replay(final Path path) throws IOException {
+    return replay(path, Long.MAX_VALUE);
+  }
+
+  /**
+   * Replays the journal up to the given number of commands. A record cut short by a crash while
+   * it was being written ends the replay as if it had never been made.
+   *
+   * @param path     - the journal file.
+   * @param commands - how many commands to play at most.
+   * @return the game as it was after that many commands, or after the last command that was fully
+   *         written if the journal holds fewer.
+   * @throws IOException              if the file can not be read.
+   * @throws IllegalArgumentException if the file is not a journal or holds an unknown record.
+   * @throws IllegalStateException    if the replay does not match a recorded checkpoint.
+   */
+  public static GameModel replay(final Path path, final long commands) throws IOException {
+    final ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(path));
+    final GameModel game = JournalFormat.readHeader(in).newGame();
+    long played = 0;
+    while (played < commands && in.hasRemaining()) {
+      final int op = JournalFormat.replay(in, game, played);
+      if (op == JournalFormat.TORN) {
+        break;
+      }
+      if (op != JournalFormat.CHECKPOINT) {
+        played += 1;
+      }
+    }
+    return game;
+  }
+
+  /**
+   * Reads the header of a journal without replaying it.
+   *
+   * @param path - the journal file.
+   * @return the game the journal starts from.
+   * @throws IOException              if the file can not be read.
+   * @throws IllegalArgumentException if the file is not a journal.
+   */
+  public static JournalHeader header(final Path path) throws IOException {
+    final byte[] start = new byte[32];
+    final int read;
+    try (var input = Files.newInputStream(path)) {
+      read = input.readNBytes(start, 0, start.length);
+    }
+    return JournalFormat.readHeader(ByteBuffer.wrap(start, 0, read));
+  }
+}
@@ -0,0 +1,116 @@
+package sttrswing.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import sttrswing.codec.ByteEncoder;
+
+/**
+ * Appends journal records to a file in batches, so recording a command usually costs no more than
+ * copying a few bytes into memory. See {@link SyncMode} for how soon they reach the disk.
+ */
+public final class JournalWriter implements AutoCloseable {
+
+  private static final int BATCH_BYTES = 64 * 1024;
+
+  private final JournalHeader header;
+  private final SyncMode sync;
+  private final FileChannel channel;
+  private final ByteBuffer batch = ByteBuffer.allocate(BATCH_BYTES);
+
+  /**
+   * Creates a journal file, replacing any already at the path, and writes its header.
+   *
+   * @param path   - where to write the journal.
+   * @param header - the game the journal starts from.
+   * @param sync   - how soon records are forced onto the disk.
+   * @throws IOException if the file can not be created.
+   */
+  public JournalWriter(final Path path, final JournalHeader header, final SyncMode sync)
+      throws IOException {
+    this.header = header;
+    this.sync = sync;
+    this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+    final ByteEncoder start = new ByteEncoder(32);
+    JournalFormat.writeHeader(start, header);
+    this.batch.put(start.array(), 0, start.length());
+    this.flush();
+  }
+
+  /**
+   * Returns the game the journal starts from.
+   *
+   * @return the journal's header.
+   */
+  public JournalHeader header() {
+    return this.header;
+  }
+
+  /**
+   * Adds encoded records to the journal, writing out the batch first if they do not fit.
+   *
+   * @param bytes  - array holding the records.
+   * @param offset - where the records start.
+   * @param length - how many bytes the records take.
+   * @throws UncheckedIOException if a batch can not be written.
+   */
+  synchronized void append(final byte[] bytes, final int offset, final int length) {
+    try {
+      if (this.batch.remaining() < length) {
+        this.writeBatch();
+      }
+      if (length > this.batch.capacity()) {
+        this.channel.write(ByteBuffer.wrap(bytes, offset, length));
+      } else {
+        this.batch.put(bytes, offset, length);
+      }
+      if (this.sync == SyncMode.EVERY_COMMAND) {
+        this.writeBatch();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes out everything appended so far, forcing it onto the disk unless the journal was opened
+   * with {@link SyncMode#NONE}.
+   *
+   * @throws IOException if the batch can not be written.
+   */
+  public synchronized void flush() throws IOException {
+    this.writeBatch();
+  }
+
+  /**
+   * Flushes the journal and closes the file.
+   *
+   * @throws IOException if the last batch can not be written or the file fails to close.
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (!this.channel.isOpen()) {
+      return;
+    }
+    try {
+      this.writeBatch();
+    } finally {
+      this.channel.close();
+    }
+  }
+
+  private void writeBatch() throws IOException {
+    this.batch.flip();
+    while (this.batch.hasRemaining()) {
+      this.channel.write(this.batch);
+    }
+    this.batch.clear();
+    if (this.sync != SyncMode.NONE) {
+      this.channel.force(false);
+    }
+  }
+}
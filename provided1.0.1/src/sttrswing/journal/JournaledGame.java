@@ -0,0 +1,375 @@
+package sttrswing.journal;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import sttrswing.codec.ByteEncoder;
+import sttrswing.model.Enterprise;
+import sttrswing.model.Galaxy;
+import sttrswing.model.SaveHeader;
+import sttrswing.model.SaveSnapshot;
+import sttrswing.model.SavedGame;
+import sttrswing.model.interfaces.GameModel;
+import sttrswing.model.interfaces.HasFaction;
+import sttrswing.model.interfaces.HasPosition;
+import sttrswing.model.interfaces.HasSymbol;
+import sttrswing.model.navigation.Route;
+import sttrswing.model.reports.ActionReport;
+
+/**
+ * A {@link GameModel} that records every command played against it, so the game can be rebuilt as
+ * it was after any of them.
+ *
+ * <p>Commands are encoded as compact journal records (see {@link JournalFormat}), kept in memory
+ * and, if a {@link JournalWriter} is given, appended to its file. Every few commands the game is
+ * also {@link GameModel#fork() forked} as a snapshot and a checkpoint of its state hash is
+ * recorded. {@link #stateAt(long)} then only has to fork the nearest snapshot and replay the
+ * commands since it, while a replay of the file from the seed by {@link JournalReader} can check
+ * it is still in step at every checkpoint.</p>
+ *
+ * <p>{@link #load(Enterprise, Galaxy)} is not supported, as a loaded game can not be rebuilt from
+ * the journal's seed.</p>
+ */
+public final class JournaledGame implements GameModel {
+
+  /**
+   * How many commands apart snapshots are taken unless told otherwise.
+   */
+  public static final int DEFAULT_SNAPSHOT_INTERVAL = 256;
+
+  private final JournalHeader header;
+  private final GameModel game;
+  private final JournalWriter writer;
+  private final int snapshotInterval;
+  private final ByteEncoder records = new ByteEncoder(4096);
+  private final List<GameModel> snapshots = new ArrayList<>();
+  private final List<Integer> snapshotOffsets = new ArrayList<>();
+  private long commands = 0;
+
+  /**
+   * Starts a journaled game that is only recorded in memory.
+   *
+   * @param header           - the game to start.
+   * @param snapshotInterval - how many commands apart to take snapshots.
+   * @throws IllegalArgumentException if the snapshot interval is less than 1.
+   */
+  public JournaledGame(final JournalHeader header, final int snapshotInterval) {
+    this(header, null, snapshotInterval);
+  }
+
+  /**
+   * Starts a journaled game that is also recorded to the given writer's file.
+   *
+   * @param writer           - the journal file to append to, it starts the game in its header.
+   * @param snapshotInterval - how many commands apart to take snapshots.
+   * @throws IllegalArgumentException if the snapshot interval is less than 1.
+   */
+  public JournaledGame(final JournalWriter writer, final int snapshotInterval) {
+    this(writer.header(), writer, snapshotInterval);
+  }
+
+  private JournaledGame(final JournalHeader header, final JournalWriter writer,
+      final int snapshotInterval) {
+    if (snapshotInterval < 1) {
+      throw new IllegalArgumentException(
+          "Snapshot interval must be positive, got " + snapshotInterval + ".");
+    }
+    this.header = header;
+    this.game = header.newGame();
+    this.writer = writer;
+    this.snapshotInterval = snapshotInterval;
+    this.snapshots.add(this.game.fork());
+    this.snapshotOffsets.add(0);
+  }
+
+  /**
+   * Returns the game the journal starts from.
+   *
+   * @return the journal's header.
+   */
+  public JournalHeader header() {
+    return this.header;
+  }
+
+  /**
+   * Returns how many commands have been recorded.
+   *
+   * @return how many commands have been recorded.
+   */
+  public long commandCount() {
+    return this.commands;
+  }
+
+  /**
+   * Rebuilds the game as it was after the given number of commands, from the nearest snapshot
+   * before it. The result is independent of this game and is not journaled.
+   *
+   * @param command - how many commands to have played, from 0 to {@link #commandCount()}.
+   * @return the game as it was then.
+   * @throws IllegalArgumentException if the command is out of range.
+   */
+  public GameModel stateAt(final long command) {
+    if (command < 0 || command > this.commands) {
+      throw new IllegalArgumentException("Command must be between 0 and " + this.commands
+          + ", got " + command + ".");
+    }
+    final int snapshot = (int) Math.min(command / this.snapshotInterval,
+        this.snapshots.size() - 1);
+    final GameModel state = this.snapshots.get(snapshot).fork();
+    final ByteBuffer in = this.records.view(this.snapshotOffsets.get(snapshot));
+    long played = (long) snapshot * this.snapshotInterval;
+    while (played < command) {
+      final int op = JournalFormat.replay(in, state, played);
+      if (op == JournalFormat.TORN) {
+        throw new IllegalStateException("Journal ends before command " + command + ".");
+      }
+      if (op != JournalFormat.CHECKPOINT) {
+        played += 1;
+      }
+    }
+    return state;
+  }
+
+  /**
+   * Records the command just encoded after {@code start}, taking a snapshot if one is due.
+   */
+  private void recorded(final int start) {
+    this.commands += 1;
+    if (this.commands % this.snapshotInterval == 0) {
+      this.records.put(JournalFormat.CHECKPOINT);
+      this.records.putZigzagVarlong(this.commands);
+      this.records.putLong(this.game.stateHash());
+      this.snapshots.add(this.game.fork());
+      this.snapshotOffsets.add(this.records.length());
+    }
+    if (this.writer != null) {
+      this.writer.append(this.records.array(), start, this.records.length() - start);
+    }
+  }
+
+  @Override
+  public void shields(final int requestedEnergyToSpend) {
+    this.game.shields(requestedEnergyToSpend);
+    final int start = this.records.length();
+    this.records.put(JournalFormat.SHIELDS);
+    this.records.putZigzagVarint(requestedEnergyToSpend);
+    this.recorded(start);
+  }
+
+  @Override
+  public void firePhasers(final int energy) {
+    this.game.firePhasers(energy);
+    final int start = this.records.length();
+    this.records.put(JournalFormat.PHASERS);
+    this.records.putZigzagVarint(energy);
+    this.recorded(start);
+  }
+
+  @Override
+  public void fireTorpedo(final int course) {
+    this.game.fireTorpedo(course);
+    final int start = this.records.length();
+    this.records.put(JournalFormat.TORPEDO);
+    this.records.putZigzagVarint(course);
+    this.recorded(start);
+  }
+
+  @Override
+  public void scanQuadrant() {
+    this.game.scanQuadrant();
+    final int start = this.records.length();
+    this.records.put(JournalFormat.SCAN);
+    this.recorded(start);
+  }
+
+  @Override
+  public void turn() {
+    this.game.turn();
+    final int start = this.records.length();
+    this.records.put(JournalFormat.TURN);
+    this.recorded(start);
+  }
+
+  @Override
+  public void moveWithinQuadrant(final int course, final double distance) {
+    this.game.moveWithinQuadrant(course, distance);
+    final int start = this.records.length();
+    this.records.put(JournalFormat.MOVE);
+    this.records.putZigzagVarint(course);
+    this.records.putDouble(distance);
+    this.recorded(start);
+  }
+
+  @Override
+  public void moveBetweenQuadrants(final int course, final double distance) {
+    this.game.moveBetweenQuadrants(course, distance);
+    final int start = this.records.length();
+    this.records.put(JournalFormat.WARP);
+    this.records.putZigzagVarint(course);
+    this.records.putDouble(distance);
+    this.recorded(start);
+  }
+
+  @Override
+  public Route engageAutopilot(final int targetX, final int targetY) {
+    final Route route = this.game.engageAutopilot(targetX, targetY);
+    final int start = this.records.length();
+    this.records.put(JournalFormat.AUTOPILOT);
+    this.records.putZigzagVarint(targetX);
+    this.records.putZigzagVarint(targetY);
+    this.recorded(start);
+    return route;
+  }
+
+  @Override
+  public Route plotCourse(final int targetX, final int targetY) {
+    return this.game.plotCourse(targetX, targetY);
+  }
+
+  @Override
+  public boolean hasWon() {
+    return this.game.hasWon();
+  }
+
+  @Override
+  public boolean hasLost() {
+    return this.game.hasLost();
+  }
+
+  @Override
+  public String lastActionReport() {
+    return this.game.lastActionReport();
+  }
+
+  @Override
+  public ActionReport lastAction() {
+    return this.game.lastAction();
+  }
+
+  @Override
+  public HasPosition galaxyPosition() {
+    return this.game.galaxyPosition();
+  }
+
+  @Override
+  public HasPosition playerPosition() {
+    return this.game.playerPosition();
+  }
+
+  @Override
+  public int spareTorpedoes() {
+    return this.game.spareTorpedoes();
+  }
+
+  @Override
+  public boolean hasSpareTorpedoes() {
+    return this.game.hasSpareTorpedoes();
+  }
+
+  @Override
+  public int playerShields() {
+    return this.game.playerShields();
+  }
+
+  @Override
+  public int playerEnergy() {
+    return this.game.playerEnergy();
+  }
+
+  @Override
+  public int spareEnergy() {
+    return this.game.spareEnergy();
+  }
+
+  @Override
+  public boolean hasSpareEnergy() {
+    return this.game.hasSpareEnergy();
+  }
+
+  @Override
+  public boolean hasSpareEnergy(final int energy) {
+    return this.game.hasSpareEnergy(energy);
+  }
+
+  @Override
+  public HashMap<String, String> getSurroundingQuadrants() {
+    return this.game.getSurroundingQuadrants();
+  }
+
+  @Override
+  public int totalStarbaseCount() {
+    return this.game.totalStarbaseCount();
+  }
+
+  @Override
+  public int totalKlingonCount() {
+    return this.game.totalKlingonCount();
+  }
+
+  @Override
+  public <T extends HasPosition & HasSymbol & HasFaction> ArrayList<T> getSymbolsForQuadrant() {
+    return this.game.getSymbolsForQuadrant();
+  }
+
+  /**
+   * Returns an independent, unjournaled copy of the game.
+   *
+   * @return the forked game.
+   */
+  @Override
+  public GameModel fork() {
+    return this.game.fork();
+  }
+
+  @Override
+  public SaveSnapshot snapshot() {
+    return this.game.snapshot();
+  }
+
+  @Override
+  public long stateHash() {
+    return this.game.stateHash();
+  }
+
+  /**
+   * Not supported, a journal can only replay games started from its seed.
+   *
+   * @throws IllegalStateException always.
+   */
+  @Override
+  public void load(final Enterprise enterprise, final Galaxy galaxy) {
+    throw new IllegalStateException(
+        "A journaled game can not load another game, start a new journal instead.");
+  }
+
+  /**
+   * Not supported, a journal can only replay games started from its seed.
+   *
+   * @throws IllegalStateException always.
+   */
+  @Override
+  public void load(final SavedGame saved) {
+    this.load(saved.enterprise(), saved.galaxy());
+  }
+
+  @Override
+  public String export() {
+    return this.game.export();
+  }
+
+  @Override
+  public byte[] exportBinary() {
+    return this.game.exportBinary();
+  }
+
+  @Override
+  public byte[] exportFull() {
+    return this.game.exportFull();
+  }
+
+  @Override
+  public SaveHeader saveHeader() {
+    return this.game.saveHeader();
+  }
+}
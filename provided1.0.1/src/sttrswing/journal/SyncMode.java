@@ -0,0 +1,21 @@
+package sttrswing.journal;
+
+/**
+ * How hard a {@link JournalWriter} works to get recorded commands onto the disk.
+ */
+public enum SyncMode {
+  /**
+   * Batches are handed to the operating system when they fill up or the journal is flushed, and
+   * it decides when they reach the disk. A crash of the process loses at most the batch being
+   * filled, a crash of the machine can lose more.
+   */
+  NONE,
+  /**
+   * Every batch is forced onto the disk as it is written.
+   */
+  BATCH,
+  /**
+   * Every command is written and forced onto the disk before the call that made it returns.
+   */
+  EVERY_COMMAND
+}
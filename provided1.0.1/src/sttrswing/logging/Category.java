@@ -0,0 +1,27 @@
+package sttrswing.logging;
+
+/**
+ * Which part of the game a logged event comes from, so each can be switched on separately.
+ */
+public enum Category {
+  /**
+   * Phasers, torpedoes, Klingon attacks and damage.
+   */
+  COMBAT,
+  /**
+   * The Enterprise moving within and between Quadrants.
+   */
+  MOVEMENT,
+  /**
+   * Turns passing and the reports they produce.
+   */
+  TURN,
+  /**
+   * The Swing views.
+   */
+  UI,
+  /**
+   * Reading and writing files.
+   */
+  IO
+}
@@ -0,0 +1,319 @@
+package sttrswing.logging;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Structured game event logging with level and category guards.
+ *
+ * <p>Events are a constant message plus a few named number fields and at most one text field,
+ * passed straight in as arguments rather than built into a string. While an event's level and
+ * category are switched off the call is a single bit test, with nothing built and nothing
+ * allocated. While switched on the arguments are copied into a preallocated slot of a ring buffer
+ * and a background thread formats and writes them to the {@link LogSink}, so the game thread never
+ * waits on I/O.</p>
+ *
+ * <p>Logging is off unless {@link #enable} is called, or the {@code sttrswing.log.level} system
+ * property is set at startup. {@code sttrswing.log.categories} (comma separated, default all),
+ * {@code sttrswing.log.file} (default standard error) and {@code sttrswing.log.capacity} (default
+ * 8192) refine it.</p>
+ */
+public final class GameLog {
+
+  private static final int LEVELS_PER_CATEGORY = 8;
+  private static final long FLUSH_TIMEOUT_NANOS = 10_000_000_000L;
+
+  private static volatile long enabled;
+  private static volatile LogRing ring;
+  private static volatile long flushed;
+  private static Thread drainer;
+  private static volatile boolean running;
+
+  static {
+    final String level = System.getProperty("sttrswing.log.level");
+    if (level != null) {
+      enableFromProperties(level);
+    }
+  }
+
+  private GameLog() {
+    // Utility class
+  }
+
+  /**
+   * Returns true if events at the given level in the given category are being logged. Only worth
+   * calling directly when working out a field is itself expensive.
+   *
+   * @param level    - the level of the event.
+   * @param category - the category of the event.
+   * @return true if such events are being logged.
+   */
+  public static boolean isEnabled(final Level level, final Category category) {
+    return (enabled >>> (category.ordinal() * LEVELS_PER_CATEGORY + level.ordinal()) & 1L) != 0;
+  }
+
+  /**
+   * Log an event with no fields.
+   *
+   * @param level    - the level of the event.
+   * @param category - the category of the event.
+   * @param message  - what happened, should be a constant.
+   */
+  public static void log(final Level level, final Category category, final String message) {
+    if (!isEnabled(level, category)) {
+      return;
+    }
+    final LogRing target = ring;
+    final long sequence = target == null ? -1L : target.claim();
+    if (sequence < 0) {
+      return;
+    }
+    final LogEvent event = target.slot(sequence);
+    event.fill(level, category, message);
+    event.publish(sequence);
+  }
+
+  /**
+   * Log an event with one number field.
+   *
+   * @param level    - the level of the event.
+   * @param category - the category of the event.
+   * @param message  - what happened, should be a constant.
+   * @param key      - name of the field.
+   * @param value    - value of the field.
+   */
+  public static void log(final Level level, final Category category, final String message,
+      final String key, final long value) {
+    if (!isEnabled(level, category)) {
+      return;
+    }
+    final LogRing target = ring;
+    final long sequence = target == null ? -1L : target.claim();
+    if (sequence < 0) {
+      return;
+    }
+    final LogEvent event = target.slot(sequence);
+    event.fill(level, category, message);
+    event.field(key, value);
+    event.publish(sequence);
+  }
+
+  /**
+   * Log an event with two number fields.
+   *
+   * @param level    - the level of the event.
+   * @param category - the category of the event.
+   * @param message  - what happened, should be a constant.
+   * @param key1     - name of the first field.
+   * @param value1   - value of the first field.
+   * @param key2     - name of the second field.
+   * @param value2   - value of the second field.
+   */
+  public static void log(final Level level, final Category category, final String message,
+      final String key1, final long value1, final String key2, final long value2) {
+    if (!isEnabled(level, category)) {
+      return;
+    }
+    final LogRing target = ring;
+    final long sequence = target == null ? -1L : target.claim();
+    if (sequence < 0) {
+      return;
+    }
+    final LogEvent event = target.slot(sequence);
+    event.fill(level, category, message);
+    event.field(key1, value1);
+    event.field(key2, value2);
+    event.publish(sequence);
+  }
+
+  /**
+   * Log an event with three number fields.
+   *
+   * @param level    - the level of the event.
+   * @param category - the category of the event.
+   * @param message  - what happened, should be a constant.
+   * @param key1     - name of the first field.
+   * @param value1   - value of the first field.
+   * @param key2     - name of the second field.
+   * @param value2   - value of the second field.
+   * @param key3     - name of the third field.
+   * @param value3   - value of the third field.
+   */
+  public static void log(final Level level, final Category category, final String message,
+      final String key1, final long value1, final String key2, final long value2,
+      final String key3, final long value3) {
+    if (!isEnabled(level, category)) {
+      return;
+    }
+    final LogRing target = ring;
+    final long sequence = target == null ? -1L : target.claim();
+    if (sequence < 0) {
+      return;
+    }
+    final LogEvent event = target.slot(sequence);
+    event.fill(level, category, message);
+    event.field(key1, value1);
+    event.field(key2, value2);
+    event.field(key3, value3);
+    event.publish(sequence);
+  }
+
+  /**
+   * Log an event with one text field. The text is only turned into a string on the sink thread,
+   * so it must be immutable or at least safe to call toString() on from another thread.
+   *
+   * @param level    - the level of the event.
+   * @param category - the category of the event.
+   * @param message  - what happened, should be a constant.
+   * @param key      - name of the field.
+   * @param text     - value of the field.
+   */
+  public static void log(final Level level, final Category category, final String message,
+      final String key, final Object text) {
+    if (!isEnabled(level, category)) {
+      return;
+    }
+    final LogRing target = ring;
+    final long sequence = target == null ? -1L : target.claim();
+    if (sequence < 0) {
+      return;
+    }
+    final LogEvent event = target.slot(sequence);
+    event.fill(level, category, message);
+    event.text(key, text);
+    event.publish(sequence);
+  }
+
+  /**
+   * Start logging events at or above the given level in the given categories to the given sink,
+   * replacing any previous configuration once its events have been written.
+   *
+   * @param threshold  - the lowest level to log.
+   * @param categories - the categories to log.
+   * @param sink       - where to write events.
+   * @param capacity   - how many events can wait for the sink before new ones are dropped.
+   */
+  public static synchronized void enable(final Level threshold, final Set<Category> categories,
+      final LogSink sink, final int capacity) {
+    disable();
+    final LogRing started = new LogRing(capacity);
+    ring = started;
+    flushed = 0L;
+    running = true;
+    drainer = new Thread(() -> drain(started, sink), "game-log-sink");
+    drainer.setDaemon(true);
+    drainer.start();
+
+    long mask = 0L;
+    for (Category category : categories) {
+      for (Level level : Level.values()) {
+        if (level.compareTo(threshold) >= 0) {
+          mask |= 1L << (category.ordinal() * LEVELS_PER_CATEGORY + level.ordinal());
+        }
+      }
+    }
+    enabled = mask;
+  }
+
+  /**
+   * Stop logging, after writing out every event already logged.
+   */
+  public static synchronized void disable() {
+    enabled = 0L;
+    if (drainer == null) {
+      return;
+    }
+    running = false;
+    LockSupport.unpark(drainer);
+    try {
+      drainer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    drainer = null;
+    ring = null;
+  }
+
+  /**
+   * Waits until every event logged so far has been written out and the sink flushed, giving up
+   * after 10 seconds.
+   */
+  public static void flush() {
+    final LogRing target = ring;
+    final Thread thread = drainer;
+    if (target == null || thread == null) {
+      return;
+    }
+    final long wanted = target.claimed();
+    final long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+    while (flushed < wanted && ring == target && System.nanoTime() < deadline) {
+      LockSupport.unpark(thread);
+      LockSupport.parkNanos(100_000L);
+    }
+  }
+
+  /**
+   * Returns how many events have been dropped since logging was last enabled, because they came in
+   * faster than the sink could write them or the sink failed.
+   *
+   * @return how many events have been dropped.
+   */
+  public static long dropped() {
+    final LogRing target = ring;
+    return target == null ? 0L : target.dropped();
+  }
+
+  private static void drain(final LogRing source, final LogSink sink) {
+    boolean dirty = false;
+    while (running) {
+      if (source.drain(sink) > 0) {
+        dirty = true;
+        continue;
+      }
+      if (dirty) {
+        flushQuietly(sink);
+        dirty = false;
+      }
+      flushed = source.consumed();
+      LockSupport.parkNanos(1_000_000L);
+    }
+    source.drain(sink);
+    flushQuietly(sink);
+    flushed = source.consumed();
+  }
+
+  private static void flushQuietly(final LogSink sink) {
+    try {
+      sink.flush();
+    } catch (RuntimeException e) {
+      // a broken sink must never take the game down with it
+    }
+  }
+
+  private static void enableFromProperties(final String level) {
+    final Set<Category> categories = EnumSet.allOf(Category.class);
+    final String names = System.getProperty("sttrswing.log.categories");
+    if (names != null) {
+      categories.clear();
+      for (String name : names.split(",")) {
+        categories.add(Category.valueOf(name.trim().toUpperCase()));
+      }
+    }
+    final String file = System.getProperty("sttrswing.log.file");
+    final LogSink sink;
+    try {
+      sink = file == null ? new WriterLogSink(new OutputStreamWriter(System.err))
+          : WriterLogSink.toFile(Path.of(file));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    enable(Level.valueOf(level.trim().toUpperCase()), categories, sink,
+        Integer.getInteger("sttrswing.log.capacity", 8192));
+    Runtime.getRuntime().addShutdownHook(new Thread(GameLog::disable, "game-log-shutdown"));
+  }
+}
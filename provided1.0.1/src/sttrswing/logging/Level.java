@@ -0,0 +1,27 @@
+package sttrswing.logging;
+
+/**
+ * How important a logged event is, from least to most.
+ */
+public enum Level {
+  /**
+   * Step by step detail, such as every move.
+   */
+  TRACE,
+  /**
+   * Detail useful when working out what happened in a game.
+   */
+  DEBUG,
+  /**
+   * Notable things happening in a game.
+   */
+  INFO,
+  /**
+   * Something went wrong but the game carried on.
+   */
+  WARN,
+  /**
+   * Something went wrong and could not be recovered from.
+   */
+  ERROR
+}
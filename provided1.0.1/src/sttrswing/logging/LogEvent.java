@@ -0,0 +1,114 @@
+package sttrswing.logging;
+
+/**
+ * One slot of the {@link LogRing}. Slots are allocated once and refilled by each event that
+ * claims them, so logging an event never allocates. Only the thread that claimed a slot writes to
+ * it until it is published, and only the sink thread reads it after that.
+ */
+public final class LogEvent {
+
+  private static final int MAX_FIELDS = 3;
+
+  private volatile long published = -1L;
+  private long timeMillis;
+  private Level level;
+  private Category category;
+  private String message;
+  private final String[] keys = new String[MAX_FIELDS];
+  private final long[] values = new long[MAX_FIELDS];
+  private int fieldCount;
+  private String textKey;
+  private Object text;
+
+  LogEvent() {
+  }
+
+  void fill(final Level level, final Category category, final String message) {
+    this.timeMillis = System.currentTimeMillis();
+    this.level = level;
+    this.category = category;
+    this.message = message;
+    this.fieldCount = 0;
+    this.textKey = null;
+    this.text = null;
+  }
+
+  void field(final String key, final long value) {
+    this.keys[this.fieldCount] = key;
+    this.values[this.fieldCount] = value;
+    this.fieldCount += 1;
+  }
+
+  void text(final String key, final Object text) {
+    this.textKey = key;
+    this.text = text;
+  }
+
+  void publish(final long sequence) {
+    this.published = sequence;
+  }
+
+  boolean isPublished(final long sequence) {
+    return this.published == sequence;
+  }
+
+  /**
+   * Returns when the event was logged.
+   *
+   * @return when the event was logged, in milliseconds since the epoch.
+   */
+  public long timeMillis() {
+    return this.timeMillis;
+  }
+
+  /**
+   * Returns the level the event was logged at.
+   *
+   * @return the level the event was logged at.
+   */
+  public Level level() {
+    return this.level;
+  }
+
+  /**
+   * Returns the category the event was logged under.
+   *
+   * @return the category the event was logged under.
+   */
+  public Category category() {
+    return this.category;
+  }
+
+  /**
+   * Returns the message the event was logged with.
+   *
+   * @return the message the event was logged with.
+   */
+  public String message() {
+    return this.message;
+  }
+
+  /**
+   * Appends the event to the given builder as a single line (without a line separator), for
+   * example {@code 1700000000000 DEBUG COMBAT klingon hit damage=100 energy=200}.
+   *
+   * @param sb - where to append the event.
+   * @return the same builder.
+   */
+  public StringBuilder appendTo(final StringBuilder sb) {
+    sb.append(this.timeMillis).append(' ').append(this.level).append(' ').append(this.category)
+        .append(' ').append(this.message);
+    for (int i = 0; i < this.fieldCount; i += 1) {
+      sb.append(' ').append(this.keys[i]).append('=').append(this.values[i]);
+    }
+    if (this.textKey != null) {
+      sb.append(' ').append(this.textKey).append("=\"").append(this.text).append('"');
+    }
+    return sb;
+  }
+
+  @Override
+  public String toString() {
+    return this.appendTo(new StringBuilder()).toString();
+  }
+}
@@ -0,0 +1,124 @@
+package sttrswing.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed size ring of reusable {@link LogEvent} slots that any number of game threads log into and
+ * a single sink thread drains in order.
+ *
+ * <p>A producer claims the next sequence number with a compare and set, fills the slot it maps to
+ * and publishes it by writing the sequence into the slot. The sink thread only reads a slot once
+ * it sees its own sequence there, and only frees it after writing it out. When the ring is full
+ * the event is dropped and counted rather than making the game wait on the sink.</p>
+ */
+final class LogRing {
+
+  private final LogEvent[] slots;
+  private final int mask;
+  private final AtomicLong claimed = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private volatile long consumed;
+
+  /**
+   * Constructs a {@link LogRing} holding at least the given number of events.
+   *
+   * @param capacity - how many events can wait for the sink, rounded up to a power of two.
+   * @throws IllegalArgumentException if capacity is less than 1 or more than 2^30.
+   */
+  LogRing(final int capacity) {
+    if (capacity < 1 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("Capacity must be between 1 and 2^30, got " + capacity
+          + ".");
+    }
+    int size = 1;
+    while (size < capacity) {
+      size <<= 1;
+    }
+    this.slots = new LogEvent[size];
+    for (int i = 0; i < size; i += 1) {
+      this.slots[i] = new LogEvent();
+    }
+    this.mask = size - 1;
+  }
+
+  /**
+   * Claims the next slot for an event.
+   *
+   * @return the sequence of the claimed slot, or -1 if the ring is full and the event was dropped.
+   */
+  long claim() {
+    while (true) {
+      final long sequence = this.claimed.get();
+      if (sequence - this.consumed >= this.slots.length) {
+        this.dropped.incrementAndGet();
+        return -1L;
+      }
+      if (this.claimed.compareAndSet(sequence, sequence + 1)) {
+        return sequence;
+      }
+    }
+  }
+
+  /**
+   * Returns the slot the given sequence maps to.
+   *
+   * @param sequence - a claimed sequence.
+   * @return the slot to fill.
+   */
+  LogEvent slot(final long sequence) {
+    return this.slots[(int) (sequence & this.mask)];
+  }
+
+  /**
+   * Writes every published event not yet written, in order, to the given sink. Must only be
+   * called from one thread.
+   *
+   * @param sink - where to write the events.
+   * @return how many events were written.
+   */
+  int drain(final LogSink sink) {
+    int drained = 0;
+    long sequence = this.consumed;
+    LogEvent event = this.slot(sequence);
+    while (event.isPublished(sequence)) {
+      try {
+        sink.write(event);
+      } catch (RuntimeException e) {
+        // a broken sink must never take the game down with it
+        this.dropped.incrementAndGet();
+      }
+      sequence += 1;
+      this.consumed = sequence;
+      drained += 1;
+      event = this.slot(sequence);
+    }
+    return drained;
+  }
+
+  /**
+   * Returns how many events have been claimed so far.
+   *
+   * @return how many events have been claimed so far.
+   */
+  long claimed() {
+    return this.claimed.get();
+  }
+
+  /**
+   * Returns how many events have been written to the sink so far.
+   *
+   * @return how many events have been written to the sink so far.
+   */
+  long consumed() {
+    return this.consumed;
+  }
+
+  /**
+   * Returns how many events were dropped because the ring was full or the sink failed.
+   *
+   * @return how many events were dropped.
+   */
+  long dropped() {
+    return this.dropped.get();
+  }
+}
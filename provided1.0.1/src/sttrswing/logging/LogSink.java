@@ -0,0 +1,20 @@
+package sttrswing.logging;
+
+/**
+ * Where enabled {@link GameLog} events end up. Only ever called from the single sink thread, so
+ * implementations do not need to be thread safe with respect to each other's calls.
+ */
+public interface LogSink {
+
+  /**
+   * Write the given event. The event is reused once this returns so must not be kept.
+   *
+   * @param event - the event to write.
+   */
+  void write(LogEvent event);
+
+  /**
+   * Push anything buffered out to its destination.
+   */
+  void flush();
+}
@@ -0,0 +1,51 @@
+package sttrswing.logging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link LogSink} that keeps the most recent events in memory as lines of text, for tests and
+ * for showing recent events in process.
+ */
+public class MemoryLogSink implements LogSink {
+
+  private final int capacity;
+  private final ArrayDeque<String> lines = new ArrayDeque<>();
+
+  /**
+   * Constructs a {@link MemoryLogSink} that keeps up to the given number of events, dropping the
+   * oldest first.
+   *
+   * @param capacity - how many events to keep.
+   * @throws IllegalArgumentException if capacity is less than 1.
+   */
+  public MemoryLogSink(final int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive, got " + capacity + ".");
+    }
+    this.capacity = capacity;
+  }
+
+  @Override
+  public synchronized void write(final LogEvent event) {
+    if (this.lines.size() == this.capacity) {
+      this.lines.removeFirst();
+    }
+    this.lines.addLast(event.toString());
+  }
+
+  @Override
+  public void flush() {
+    // nothing buffered
+  }
+
+  /**
+   * Returns the events kept, oldest first.
+   *
+   * @return the events kept, oldest first.
+   */
+  public synchronized List<String> lines() {
+    return new ArrayList<>(this.lines);
+  }
+}
@@ -0,0 +1,60 @@
+package sttrswing.logging;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link LogSink} that writes each event as a line of text to a {@link Writer}, such as a log
+ * file.
+ */
+public class WriterLogSink implements LogSink {
+
+  private final Writer writer;
+  private final StringBuilder line = new StringBuilder(128);
+
+  /**
+   * Constructs a {@link WriterLogSink} writing to the given {@link Writer}.
+   *
+   * @param writer - where to write events.
+   */
+  public WriterLogSink(final Writer writer) {
+    this.writer = writer;
+  }
+
+  /**
+   * Constructs a {@link WriterLogSink} appending to the file at the given path, creating it if
+   * needed.
+   *
+   * @param path - the log file.
+   * @return a sink writing to that file.
+   * @throws IOException if the file can not be opened.
+   */
+  public static WriterLogSink toFile(final Path path) throws IOException {
+    return new WriterLogSink(Files.newBufferedWriter(path, StandardOpenOption.CREATE,
+        StandardOpenOption.APPEND));
+  }
+
+  @Override
+  public void write(final LogEvent event) {
+    this.line.setLength(0);
+    event.appendTo(this.line).append(System.lineSeparator());
+    try {
+      this.writer.append(this.line);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void flush() {
+    try {
+      this.writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package sttrswing.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Replaces files whole, so a crash or failure mid-write leaves the file as it was rather than
+ * half written. Used for every save.
+ */
+public final class AtomicFile {
+
+  private AtomicFile() {
+    // Utility class
+  }
+
+  /**
+   * Writes the given bytes to a temporary file beside the target, creating its directory if
+   * needed, and moves it over the target, atomically where the file system allows it. The bytes
+   * are forced to disk before the move, so a power loss can not leave the target renamed onto data
+   * that was never written, and the directory after it where the platform allows, so the move
+   * itself is kept.
+   *
+   * @param target - the file to replace.
+   * @param bytes  - its new contents.
+   * @throws IOException if the file can not be written, the target is then left as it was.
+   */
+  public static void write(final Path target, final byte[] bytes) throws IOException {
+    final Path parent = target.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    final Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING)) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+      try {
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    forceDirectory(parent);
+  }
+
+  /**
+   * Forces the given directory's entries to disk. Not every platform can open a directory, on
+   * Windows for one, and there the move is left to the file system.
+   */
+  private static void forceDirectory(final Path directory) {
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (IOException e) {
+      // the save itself is written, only its durability across a power loss is less certain
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package sttrswing.model;
+
+import static sttrswing.codec.ByteDecoder.getVarint;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.function.LongConsumer;
+import sttrswing.codec.ByteEncoder;
+
+/**
+ * Reads and writes the compact binary save format, the {@code .trekb} counterpart of the text
+ * {@code .trek} format produced by {@link Game#export()}. Both hold the same information.
+ *
+ * <p>Layout, version 2:</p>
+ * <ul>
+ *   <li>the magic number {@code TRKB} and a version byte,</li>
+ *   <li>a {@link SaveHeader} of {@value SaveHeader#BYTES} bytes, which version 1 saves, still
+ *   read, do not have,</li>
+ *   <li>the {@link Enterprise} x, y, energy, shields and torpedoes as unsigned varints,</li>
+ *   <li>the {@link Galaxy} width and height as unsigned varints,</li>
+ *   <li>one 2 byte record per grid position, in the same column by column order as the text
+ *   format, packing the star, starbase and klingon counts into 4 bits each
+ *   ({@code stars << 8 | starbases << 4 | klingons}), or {@code 0xFFFF} where there is no
+ *   {@link Quadrant}.</li>
+ * </ul>
+ * All multi-byte values are big-endian.
+ */
+public final class BinarySaveCodec {
+
+  /**
+   * File extension of binary saves, without the dot.
+   */
+  public static final String EXTENSION = "trekb";
+
+  static final int MAGIC = 0x54524B42; // "TRKB"
+  static final int VERSION = 2;
+
+  private static final int MISSING = 0xFFFF;
+  private static final int MAX_COUNT = 0xF;
+  private static final int MAX_VARINT_BYTES = 5;
+
+  private BinarySaveCodec() {
+    // Utility class
+  }
+
+  /**
+   * Encodes the given state in the binary save format.
+   *
+   * @param enterprise - the {@link Enterprise} to save.
+   * @param galaxy     - the {@link Galaxy} to save.
+   * @return the encoded save.
+   * @throws IllegalArgumentException if a stat is negative or a {@link Quadrant} holds more than 15
+   *                                  of anything.
+   */
+  public static byte[] encode(final Enterprise enterprise, final Galaxy galaxy) {
+    final int width = galaxy.getWidth();
+    final int height = galaxy.getHeight();
+    final int positions = Math.multiplyExact(width, height);
+    final ByteEncoder out = new ByteEncoder(
+        Integer.BYTES + 1 + SaveHeader.BYTES + 7 * MAX_VARINT_BYTES
+            + Math.multiplyExact(positions, Short.BYTES));
+    out.putInt(MAGIC);
+    out.put(VERSION);
+    SaveHeader.of(enterprise, galaxy).put(out);
+    out.putVarint(enterprise.getX());
+    out.putVarint(enterprise.getY());
+    out.putVarint(enterprise.energy());
+    out.putVarint(enterprise.shields());
+    out.putVarint(enterprise.torpedoAmmo());
+    out.putVarint(width);
+    out.putVarint(height);
+    for (int i = 0; i < positions; i += 1) {
+      final int counts = galaxy.countsAt(i);
+      if (counts < 0) {
+        out.putShort(MISSING);
+        continue;
+      }
+      final int stars = counts >>> 16;
+      final int starbases = (counts >>> 8) & 0xFF;
+      final int klingons = counts & 0xFF;
+      if (stars > MAX_COUNT || starbases > MAX_COUNT || klingons > MAX_COUNT) {
+        throw new IllegalArgumentException("Quadrant (" + i / height + "," + i % height
+            + ") holds too much to save, at most " + MAX_COUNT + " of each kind fit.");
+      }
+      out.putShort(stars << 8 | starbases << 4 | klingons);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Decodes a save in the binary save format. Like the text loader every {@link Quadrant} is
+   * rebuilt from its counts, with everything in it placed afresh.
+   *
+   * @param bytes - the encoded save.
+   * @return the saved {@link Enterprise} and {@link Galaxy}.
+   * @throws IllegalArgumentException if the bytes are not a binary save this version can read.
+   */
+  public static SavedGame decode(final byte[] bytes) {
+    return decode(bytes, null);
+  }
+
+  /**
+   * Decodes a save as {@link #decode(byte[])} does, telling the given listener how many bytes have
+   * been decoded every {@value DecodeProgress#EVERY} quadrant records, and giving up once the
+   * thread is interrupted so a load running in the background can be cancelled.
+   *
+   * @param bytes    - the encoded save.
+   * @param progress - told the running total of bytes decoded, ending with all of them.
+   * @return the saved {@link Enterprise} and {@link Galaxy}.
+   * @throws IllegalArgumentException if the bytes are not a binary save this version can read.
+   * @throws CancellationException    if the thread is interrupted, it is left interrupted.
+   */
+  public static SavedGame decode(final byte[] bytes, final LongConsumer progress) {
+    final ByteBuffer in = ByteBuffer.wrap(bytes);
+    try {
+      if (in.getInt() != MAGIC) {
+        throw new IllegalArgumentException("Not a binary save file.");
+      }
+      final int version = in.get();
+      if (version < 1 || version > VERSION) {
+        throw new IllegalArgumentException("Unsupported binary save version " + version + ".");
+      }
+      if (version >= 2) {
+        SaveHeader.get(in);
+      }
+      final Enterprise enterprise = new Enterprise(getVarint(in), getVarint(in), getVarint(in),
+          getVarint(in), getVarint(in));
+      final int width = getVarint(in);
+      final int height = getVarint(in);
+      final int positions = Math.multiplyExact(width, height);
+      if (in.remaining() != positions * Short.BYTES) {
+        throw new IllegalArgumentException("Binary save should hold " + positions
+            + " quadrant records but holds " + in.remaining() / Short.BYTES + ".");
+      }
+      final ArrayList<Quadrant> quadrants = new ArrayList<>(positions);
+      int records = 0;
+      for (int x = 0; x < width; x += 1) {
+        for (int y = 0; y < height; y += 1) {
+          DecodeProgress.every(progress, records++, in.position());
+          final int record = in.getShort() & 0xFFFF;
+          if (record == MISSING) {
+            continue;
+          }
+          quadrants.add(new Quadrant(x, y, (record >>> 4) & MAX_COUNT, record & MAX_COUNT,
+              (record >>> 8) & MAX_COUNT));
+        }
+      }
+      if (quadrants.isEmpty()) {
+        throw new IllegalArgumentException("Binary save holds no quadrants.");
+      }
+      DecodeProgress.at(progress, in.position());
+      return new SavedGame(enterprise, new Galaxy(quadrants));
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Binary save is cut short.", e);
+    }
+  }
+
+  /**
+   * Writes the given state to a file in the binary save format, creating its directory if needed.
+   *
+   * @param path       - the file to write.
+   * @param enterprise - the {@link Enterprise} to save.
+   * @param galaxy     - the {@link Galaxy} to save.
+   * @throws IOException if the file can not be written.
+   */
+  public static void write(final Path path, final Enterprise enterprise, final Galaxy galaxy)
+      throws IOException {
+    final Path parent = path.getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Files.write(path, encode(enterprise, galaxy));
+  }
+
+  /**
+   * Reads a file in the binary save format.
+   *
+   * @param path - the file to read.
+   * @return the saved {@link Enterprise} and {@link Galaxy}.
+   * @throws IOException              if the file can not be read.
+   * @throws IllegalArgumentException if the file is not a binary save this version can read.
+   */
+  public static SavedGame read(final Path path) throws IOException {
+    return decode(Files.readAllBytes(path));
+  }
+}
@@ -0,0 +1,69 @@
+package sttrswing.model;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.LongConsumer;
+
+/**
+ * Reports how far the binary save decoders have got and stops them once the thread decoding is
+ * interrupted, so a large save loading in the background shows its progress and can be cancelled
+ * part way through building its {@link Galaxy}. Decoding without a listener does neither.
+ */
+final class DecodeProgress {
+
+  /**
+   * How many records are decoded between reports.
+   */
+  static final int EVERY = 1024;
+
+  private DecodeProgress() {
+    // Utility class
+  }
+
+  /**
+   * Reports the given progress once every {@value #EVERY} records.
+   *
+   * @param progress - told how many bytes have been decoded, may be null.
+   * @param records  - how many records have been decoded so far.
+   * @param decoded  - how many bytes have been decoded so far.
+   * @throws CancellationException if the thread has been interrupted, which is left interrupted.
+   */
+  static void every(final LongConsumer progress, final int records, final int decoded) {
+    if (records % EVERY == 0) {
+      at(progress, decoded);
+    }
+  }
+
+  /**
+   * Reports the given progress.
+   *
+   * @param progress - told how many bytes have been decoded, may be null.
+   * @param decoded  - how many bytes have been decoded so far.
+   * @throws CancellationException if the thread has been interrupted, which is left interrupted.
+   */
+  static void at(final LongConsumer progress, final int decoded) {
+    if (progress != null) {
+      stopIfInterrupted();
+      progress.accept(decoded);
+    }
+  }
+
+  /**
+   * Gives up once every {@value #EVERY} records if the thread has been interrupted, for work done
+   * after every byte has been decoded and reported.
+   *
+   * @param progress - the listener being told, nothing is checked if null.
+   * @param records  - how many records have been handled so far.
+   * @throws CancellationException if the thread has been interrupted, which is left interrupted.
+   */
+  static void check(final LongConsumer progress, final int records) {
+    if (progress != null && records % EVERY == 0) {
+      stopIfInterrupted();
+    }
+  }
+
+  private static void stopIfInterrupted() {
+    if (Thread.currentThread().isInterrupted()) {
+      throw new CancellationException("Loading was cancelled.");
+    }
+  }
+}
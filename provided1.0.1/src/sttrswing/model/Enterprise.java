@@ -13,11 +13,12 @@ public class Enterprise extends Entity implements Healable, HasFaction {
     private final int startingTorpedoes = 10;
     private final int startingShields = 500;
     private final int startingEnergy = 2500;
-    private final Stat torpedoes = new Stat(startingTorpedoes, startingTorpedoes);
-    private final Stat shields = new Stat(startingShields, 3000);
-    private final Stat energy = new Stat(startingEnergy, 3000);
+    private final Stat torpedoes = new Stat(startingTorpedoes, startingTorpedoes, this);
+    private final Stat shields = new Stat(startingShields, 3000, this);
+    private final Stat energy = new Stat(startingEnergy, 3000, this);
     private final Faction faction = Faction.FEDERATION;
     private boolean isAlive = true;
+    private boolean changed;
 
     /**
      * Constructs a {@link Enterprise} instance with:
@@ -58,6 +59,39 @@ public class Enterprise extends Entity implements Healable, HasFaction {
         this.setSymbol("-E-");
     }
 
+    /**
+     * Constructs a {@link Enterprise} with the given position and stats that may already have been
+     * destroyed, for restoring a saved one.
+     *
+     * @param x         - horizontal coordinate
+     * @param y         - vertical coordinate
+     * @param energy    - energy left
+     * @param shields   - energy in the shields
+     * @param torpedoes - torpedoes left
+     * @param alive     - if it has not been destroyed
+     */
+    Enterprise(final int x, final int y, final int energy, final int shields,
+               final int torpedoes, final boolean alive) {
+        this(x, y, energy, shields, torpedoes);
+        this.setSymbol("-E-");
+        this.isAlive = alive;
+    }
+
+    /**
+     * Constructs a {@link Enterprise} in the same state as the given one, for a forked
+     * {@link Game}.
+     *
+     * @param source - the {@link Enterprise} to copy.
+     */
+    Enterprise(final Enterprise source) {
+        super(source);
+        this.torpedoes.set(source.torpedoes.get());
+        this.shields.set(source.shields.get());
+        this.energy.set(source.energy.get());
+        this.isAlive = source.isAlive;
+        this.changed = source.changed;
+    }
+
     /**
      * Returns which {@link Faction} this belongs to.
      *
@@ -90,6 +124,20 @@ public class Enterprise extends Entity implements Healable, HasFaction {
         return new Entity(this.getX(), this.getY());
     }
 
+    /**
+     * Reduces the {@link Enterprise} internal ammo tracking by 1 without creating a Torpedo, for
+     * when where the torpedo goes is worked out separately.
+     *
+     * @return true if there was ammo to spend, false if none was left.
+     */
+    public boolean launchTorpedo() {
+        if (!this.hasTorpedoAmmo()) {
+            return false;
+        }
+        this.torpedoes.adjust(-1);
+        return true;
+    }
+
     /**
      * Returns if the {@link Enterprise} still has Torpedo Ammo to spend.
      *
@@ -259,6 +307,7 @@ public class Enterprise extends Entity implements Healable, HasFaction {
         //if we take damage while our shields are down, or enough damage in a hit to reduce  we lose
         if (this.shields.get() <= 0) {
             this.isAlive = false;
+            this.stateChanged();
         }
     }
 
@@ -272,6 +321,30 @@ public class Enterprise extends Entity implements Healable, HasFaction {
         this.energy.adjust(energy);
     }
 
+    @Override
+    void stateChanged() {
+        this.changed = true;
+        super.stateChanged();
+    }
+
+    /**
+     * Returns true if the {@link Enterprise} has moved or any of its stats have changed since this
+     * was last called, then forgets it, for writing only what changed in a delta save.
+     *
+     * @return true if the {@link Enterprise} has changed since this was last called.
+     */
+    boolean takeChanged() {
+        final boolean result = this.changed;
+        this.changed = false;
+        return result;
+    }
+
+    @Override
+    long hashedState() {
+        return (long) this.energy.get() << 40 | (long) this.shields.get() << 16
+            | (long) this.torpedoes.get() << 1 | (this.isAlive ? 1L : 0L);
+    }
+
     /**
      * Export a stringified representation of the enterprises state. Meaning its: x, y, energy count,
      * torpedo count and shield count.
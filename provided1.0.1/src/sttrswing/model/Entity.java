@@ -4,6 +4,7 @@ import sttrswing.model.interfaces.HasSymbol;
 import sttrswing.model.interfaces.Hittable;
 import sttrswing.model.interfaces.Positionable;
 import java.util.List;
+import java.util.function.LongConsumer;
 
 /**
  * {@link Entity} is used to represent an {@link Entity} or 'thing' for want of a better term in the
@@ -16,6 +17,9 @@ public class Entity implements Hittable, Positionable, HasSymbol {
   private String symbol = "###";
   private boolean markedForRemoval = false;
   private boolean scanned = false;
+  private LongConsumer observer;
+  private long salt;
+  private long stateHash;
 
   /**
    * Construct a new {@link Entity} at the given coordinates.
@@ -28,11 +32,26 @@ public class Entity implements Hittable, Positionable, HasSymbol {
     this.position.setY(y);
   }
 
+  /**
+   * Construct a new {@link Entity} in the same state as the given one.
+   *
+   * @param source - the {@link Entity} to copy.
+   */
+  protected Entity(final Entity source) {
+    this(source.getX(), source.getY());
+    this.symbol = source.symbol;
+    this.markedForRemoval = source.markedForRemoval;
+    this.scanned = source.scanned;
+  }
+
   /**
    * Marks this {@link Entity} as scanned, so it doesn't have to be scanned twice.
    */
   public void scan() {
-    this.scanned = true;
+    if (!this.scanned) {
+      this.scanned = true;
+      this.flagsChanged();
+    }
   }
 
   /**
@@ -40,7 +59,10 @@ public class Entity implements Hittable, Positionable, HasSymbol {
    * etc. Holding that entity as part of a cleanup step.
    */
   public void remove() {
-    this.markedForRemoval = true;
+    if (!this.markedForRemoval) {
+      this.markedForRemoval = true;
+      this.flagsChanged();
+    }
   }
 
   /**
@@ -79,6 +101,7 @@ public class Entity implements Hittable, Positionable, HasSymbol {
   @Override
   public void setX(final int x) {
     this.position.setX(x);
+    this.stateChanged();
   }
 
   /**
@@ -99,6 +122,7 @@ public class Entity implements Hittable, Positionable, HasSymbol {
   @Override
   public void setY(final int y) {
     this.position.setY(y);
+    this.stateChanged();
   }
 
   /**
@@ -116,6 +140,79 @@ public class Entity implements Hittable, Positionable, HasSymbol {
   public void adjustPosition(final int x, final int y) {
     this.position.adjustX(x);
     this.position.adjustY(y);
+    this.stateChanged();
+  }
+
+  /**
+   * Starts keeping this {@link Entity}s share of the state hash (see {@link Game#stateHash()}) up
+   * to date, passing the change in it to the given observer whenever the {@link Entity} moves or
+   * anything else it hashes changes.
+   *
+   * @param observer - told the XOR of the old and new share of the hash on every change, null to
+   *                 stop observing.
+   * @param salt     - the salt for this {@link Entity}s kind and {@link Quadrant}, see
+   *                 {@link Zobrist#salt}.
+   * @return this {@link Entity}s current share of the state hash.
+   */
+  long observe(final LongConsumer observer, final long salt) {
+    this.observer = observer;
+    this.salt = salt;
+    this.stateHash = this.computeStateHash();
+    return this.stateHash;
+  }
+
+  /**
+   * Returns this {@link Entity}s current share of the state hash, as last kept up to date.
+   *
+   * @return this {@link Entity}s share of the state hash.
+   */
+  long stateHash() {
+    return this.stateHash;
+  }
+
+  /**
+   * Works out this {@link Entity}s share of the state hash from scratch.
+   *
+   * @return this {@link Entity}s share of the state hash.
+   */
+  long computeStateHash() {
+    return Zobrist.key(this.salt, this.getX(), this.getY(), this.hashedState());
+  }
+
+  /**
+   * Returns everything about this {@link Entity} other than its position that the state hash
+   * covers, packed into a long. Subclasses with energy or other stats override this.
+   *
+   * @return the hashed state of this {@link Entity}.
+   */
+  long hashedState() {
+    return 0L;
+  }
+
+  /**
+   * Brings this {@link Entity}s share of the state hash up to date and tells its observer about
+   * the change, should be called after anything {@link #hashedState()} depends on changes.
+   */
+  void stateChanged() {
+    if (this.observer == null) {
+      return;
+    }
+    final long hash = this.computeStateHash();
+    final long delta = hash ^ this.stateHash;
+    if (delta != 0L) {
+      this.stateHash = hash;
+      this.observer.accept(delta);
+    }
+  }
+
+  /**
+   * Tells the observer that a flag the state hash does not cover has changed, with a delta of 0,
+   * so whatever holds this {@link Entity} still knows it needs saving again.
+   */
+  private void flagsChanged() {
+    if (this.observer != null) {
+      this.observer.accept(0L);
+    }
   }
 
   /**
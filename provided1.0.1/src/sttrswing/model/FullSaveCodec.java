@@ -0,0 +1,403 @@
+package sttrswing.model;
+
+import static sttrswing.codec.ByteDecoder.getVarint;
+import static sttrswing.codec.ByteDecoder.getVarlong;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+import sttrswing.codec.ByteEncoder;
+import sttrswing.model.enums.Faction;
+import sttrswing.model.enums.TickMode;
+import sttrswing.model.interfaces.HasFaction;
+import sttrswing.model.interfaces.HasPosition;
+
+/**
+ * Reads and writes the full-fidelity binary save format, {@code .trekf}. The {@code .trek} and
+ * {@code .trekb} formats keep only how many of each thing every {@link Quadrant} holds, so loading
+ * them places everything afresh at full energy. This format keeps the exact state instead, so a
+ * save loads back into the very game that was saved, down to its {@link Game#stateHash()}, and
+ * loading is a direct reconstruction that draws nothing random.
+ *
+ * <p>Layout, version 2:</p>
+ * <ul>
+ *   <li>the magic number {@code TRKF} and a version byte,</li>
+ *   <li>a {@link SaveHeader} of {@value SaveHeader#BYTES} bytes, which version 1 saves, still
+ *   read, do not have,</li>
+ *   <li>the {@link Enterprise} x, y, energy, shields and torpedoes as unsigned varints and a byte
+ *   for whether it is alive,</li>
+ *   <li>a byte for whether a current {@link Quadrant} follows, then its x and y,</li>
+ *   <li>the {@link Galaxy} width, height, seed, turns, {@link TickMode}, and for a {@link Galaxy}
+ *   generated lazily the 2 byte summary of every grid position,</li>
+ *   <li>the share of the state hash of the {@link Quadrant}s not built yet, and the state hash of
+ *   the whole {@link Galaxy} to check the load against,</li>
+ *   <li>how many {@link Quadrant}s are built, then for each the gap in grid positions since the
+ *   last, its random seed, random draws and last ticked turn, then its {@link Starbase}s,
+ *   {@link Klingon}s and {@link Star}s, each kind as a count followed by a sector byte
+ *   ({@code y * 8 + x}) and a flags byte per entity, plus its energy for {@link Starbase}s and
+ *   {@link Klingon}s.</li>
+ * </ul>
+ * The flags byte holds whether the entity is scanned (bit 0) and marked for removal (bit 1), and
+ * its {@link Faction} ordinal (bits 2 and 3). Counts, coordinates and energies are unsigned
+ * varints, seeds and hashes 8 bytes big-endian.
+ */
+public final class FullSaveCodec {
+
+  /**
+   * File extension of full-fidelity saves, without the dot.
+   */
+  public static final String EXTENSION = "trekf";
+
+  static final int MAGIC = 0x54524B46; // "TRKF"
+  static final int VERSION = 2;
+
+  private static final int SIDE = 8;
+  private static final int SCANNED = 1;
+  private static final int REMOVED = 1 << 1;
+  private static final int FACTION_SHIFT = 2;
+  private static final int FACTION_MASK = 0x3;
+  private static final Faction[] FACTIONS = Faction.values();
+  private static final TickMode[] TICK_MODES = TickMode.values();
+
+  private FullSaveCodec() {
+    // Utility class
+  }
+
+  /**
+   * Encodes the given state in the full-fidelity save format.
+   *
+   * @param enterprise      - the {@link Enterprise} to save.
+   * @param galaxy          - the {@link Galaxy} to save.
+   * @param currentQuadrant - the {@link Quadrant} the {@link Enterprise} is in, may be null.
+   * @return the encoded save.
+   * @throws IllegalArgumentException if a stat is negative.
+   */
+  public static byte[] encode(final Enterprise enterprise, final Galaxy galaxy,
+      final HasPosition currentQuadrant) {
+    final int positions = Math.multiplyExact(galaxy.getWidth(), galaxy.getHeight());
+    final ByteEncoder out = new ByteEncoder(1 << 12);
+    out.putInt(MAGIC);
+    out.put(VERSION);
+    SaveHeader.of(enterprise, galaxy).put(out);
+    putEnterprise(out, enterprise);
+    putCurrentQuadrant(out, currentQuadrant);
+
+    out.putVarint(galaxy.getWidth());
+    out.putVarint(galaxy.getHeight());
+    out.putLong(galaxy.getSeed());
+    out.putVarint(galaxy.getTurns());
+    out.put(galaxy.getTickMode().ordinal());
+    final boolean lazy = galaxy.summaryAt(0) >= 0;
+    out.put(lazy ? 1 : 0);
+    if (lazy) {
+      for (int i = 0; i < positions; i += 1) {
+        out.putShort(galaxy.summaryAt(i));
+      }
+    }
+    out.putLong(galaxy.pendingHash());
+    out.putLong(galaxy.stateHash());
+
+    out.putVarint(galaxy.materialisedCount());
+    int previous = -1;
+    for (int i = 0; i < positions; i += 1) {
+      final Quadrant quadrant = galaxy.builtAt(i);
+      if (quadrant == null) {
+        continue;
+      }
+      out.putVarint(i - previous - 1);
+      previous = i;
+      putQuadrant(out, quadrant);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Decodes a save in the full-fidelity save format, rebuilding every {@link Quadrant} as it was
+   * without drawing anything random.
+   *
+   * @param bytes - the encoded save.
+   * @return the saved {@link Enterprise}, {@link Galaxy} and current {@link Quadrant}.
+   * @throws IllegalArgumentException if the bytes are not a full-fidelity save this version can
+   *                                  read, or do not rebuild the state that was saved.
+   */
+  public static SavedGame decode(final byte[] bytes) {
+    return decodeImage(bytes, null).build(null);
+  }
+
+  /**
+   * Decodes a save in the full-fidelity save format without building its {@link Galaxy} yet, so
+   * that delta saves can be applied on top first.
+   *
+   * @param bytes    - the encoded save.
+   * @param progress - told the running total of bytes decoded every
+   *                 {@value DecodeProgress#EVERY} {@link Quadrant}s, may be null.
+   * @return the state held in the save.
+   * @throws IllegalArgumentException if the bytes are not a full-fidelity save this version can
+   *                                  read.
+   * @throws java.util.concurrent.CancellationException if there is a listener and the thread is
+   *                                  interrupted, it is left interrupted.
+   */
+  static Image decodeImage(final byte[] bytes, final LongConsumer progress) {
+    final ByteBuffer in = ByteBuffer.wrap(bytes);
+    try {
+      if (in.getInt() != MAGIC) {
+        throw new IllegalArgumentException("Not a full save file.");
+      }
+      final int version = in.get();
+      if (version < 1 || version > VERSION) {
+        throw new IllegalArgumentException("Unsupported full save version " + version + ".");
+      }
+      if (version >= 2) {
+        SaveHeader.get(in);
+      }
+      final Image image = new Image();
+      image.enterprise = getEnterprise(in);
+      image.currentQuadrant = getCurrentQuadrant(in);
+
+      image.width = getVarint(in);
+      image.height = getVarint(in);
+      final int positions = Math.multiplyExact(image.width, image.height);
+      image.seed = in.getLong();
+      image.turns = getVarint(in);
+      image.tickMode = getTickMode(in);
+      if (in.get() != 0) {
+        if (in.remaining() < (long) positions * Short.BYTES) {
+          throw new BufferUnderflowException();
+        }
+        image.summaries = new short[positions];
+        in.asShortBuffer().get(image.summaries);
+        in.position(in.position() + positions * Short.BYTES);
+      }
+      image.pendingHash = in.getLong();
+      image.stateHash = in.getLong();
+
+      final int built = getVarint(in);
+      if (built > positions) {
+        throw new IllegalArgumentException("Full save holds " + built + " quadrants for "
+            + positions + " positions.");
+      }
+      image.quadrants = new Quadrant[positions];
+      int index = -1;
+      for (int q = 0; q < built; q += 1) {
+        DecodeProgress.every(progress, q, in.position());
+        index += getVarint(in) + 1;
+        image.put(index, getQuadrant(in, index, image.height));
+      }
+      if (in.hasRemaining()) {
+        throw new IllegalArgumentException("Full save has " + in.remaining()
+            + " bytes left over.");
+      }
+      DecodeProgress.at(progress, in.position());
+      return image;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Full save is cut short.", e);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Full save holds a galaxy too large to load.", e);
+    }
+  }
+
+  /**
+   * Writes the given state to a file in the full-fidelity save format, creating its directory if
+   * needed.
+   *
+   * @param path            - the file to write.
+   * @param enterprise      - the {@link Enterprise} to save.
+   * @param galaxy          - the {@link Galaxy} to save.
+   * @param currentQuadrant - the {@link Quadrant} the {@link Enterprise} is in, may be null.
+   * @throws IOException if the file can not be written.
+   */
+  public static void write(final Path path, final Enterprise enterprise, final Galaxy galaxy,
+      final HasPosition currentQuadrant) throws IOException {
+    final Path parent = path.getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Files.write(path, encode(enterprise, galaxy, currentQuadrant));
+  }
+
+  /**
+   * Reads a file in the full-fidelity save format.
+   *
+   * @param path - the file to read.
+   * @return the saved {@link Enterprise}, {@link Galaxy} and current {@link Quadrant}.
+   * @throws IOException              if the file can not be read.
+   * @throws IllegalArgumentException if the file is not a full-fidelity save this version can
+   *                                  read.
+   */
+  public static SavedGame read(final Path path) throws IOException {
+    return decode(Files.readAllBytes(path));
+  }
+
+  static void putEnterprise(final ByteEncoder out, final Enterprise enterprise) {
+    out.putVarint(enterprise.getX());
+    out.putVarint(enterprise.getY());
+    out.putVarint(enterprise.energy());
+    out.putVarint(enterprise.shields());
+    out.putVarint(enterprise.torpedoAmmo());
+    out.put(enterprise.isAlive() ? 1 : 0);
+  }
+
+  static Enterprise getEnterprise(final ByteBuffer in) {
+    return new Enterprise(getVarint(in), getVarint(in), getVarint(in), getVarint(in),
+        getVarint(in), in.get() != 0);
+  }
+
+  static void putCurrentQuadrant(final ByteEncoder out, final HasPosition currentQuadrant) {
+    out.put(currentQuadrant == null ? 0 : 1);
+    if (currentQuadrant != null) {
+      out.putVarint(currentQuadrant.getX());
+      out.putVarint(currentQuadrant.getY());
+    }
+  }
+
+  static XyPair getCurrentQuadrant(final ByteBuffer in) {
+    return in.get() != 0 ? new XyPair(getVarint(in), getVarint(in)) : null;
+  }
+
+  static TickMode getTickMode(final ByteBuffer in) {
+    final int tickMode = in.get();
+    if (tickMode < 0 || tickMode >= TICK_MODES.length) {
+      throw new IllegalArgumentException("Save holds unknown tick mode " + tickMode + ".");
+    }
+    return TICK_MODES[tickMode];
+  }
+
+  /**
+   * Writes everything in a {@link Quadrant} but its position.
+   */
+  static void putQuadrant(final ByteEncoder out, final Quadrant quadrant) {
+    out.putLong(quadrant.randomSeed());
+    out.putVarlong(quadrant.randomDraws());
+    out.putVarint(quadrant.lastTickedTurn());
+    out.putVarint(quadrant.starbases().size());
+    for (Starbase starbase : quadrant.starbases()) {
+      putEntity(out, starbase);
+      out.putVarint(starbase.energy());
+    }
+    out.putVarint(quadrant.klingons().size());
+    for (Klingon klingon : quadrant.klingons()) {
+      putEntity(out, klingon);
+      out.putVarint(klingon.energy());
+    }
+    out.putVarint(quadrant.stars().size());
+    for (Star star : quadrant.stars()) {
+      putEntity(out, star);
+    }
+  }
+
+  /**
+   * Reads back a {@link Quadrant} written by {@link #putQuadrant} at the given grid position.
+   */
+  static Quadrant getQuadrant(final ByteBuffer in, final int index, final int height) {
+    final long randomSeed = in.getLong();
+    final long randomDraws = getVarlong(in);
+    final int lastTickedTurn = getVarint(in);
+    final List<Starbase> starbases = new ArrayList<>();
+    for (int n = getCount(in); n > 0; n -= 1) {
+      final int sector = in.get() & 0xFF;
+      final int flags = in.get();
+      starbases.add(restored(new Starbase(sector % SIDE, sector / SIDE, getVarint(in)), flags));
+    }
+    final List<Klingon> klingons = new ArrayList<>();
+    for (int n = getCount(in); n > 0; n -= 1) {
+      final int sector = in.get() & 0xFF;
+      final int flags = in.get();
+      klingons.add(restored(new Klingon(sector % SIDE, sector / SIDE, getVarint(in)), flags));
+    }
+    final List<Star> stars = new ArrayList<>();
+    for (int n = getCount(in); n > 0; n -= 1) {
+      final int sector = in.get() & 0xFF;
+      stars.add(restored(new Star(sector % SIDE, sector / SIDE), in.get()));
+    }
+    return new Quadrant(index / height, index % height, randomSeed, randomDraws, lastTickedTurn,
+        starbases, klingons, stars);
+  }
+
+  private static <T extends Entity & HasFaction> void putEntity(final ByteEncoder out,
+      final T entity) {
+    out.put(entity.getY() * SIDE + entity.getX());
+    out.put((entity.isScanned() ? SCANNED : 0) | (entity.isMarkedForRemoval() ? REMOVED : 0)
+        | entity.faction().ordinal() << FACTION_SHIFT);
+  }
+
+  /**
+   * Applies a flags byte to a freshly built entity, checking the recorded {@link Faction} is the
+   * one it ends up with.
+   */
+  private static <T extends Entity & HasFaction> T restored(final T entity, final int flags) {
+    if ((flags & SCANNED) != 0) {
+      entity.scan();
+    }
+    if ((flags & REMOVED) != 0) {
+      entity.remove();
+    }
+    final int faction = (flags >>> FACTION_SHIFT) & FACTION_MASK;
+    if (faction >= FACTIONS.length || entity.faction() != FACTIONS[faction]) {
+      throw new IllegalArgumentException("Save holds an entity of the wrong faction at ("
+          + entity.getX() + "," + entity.getY() + ").");
+    }
+    return entity;
+  }
+
+  private static int getCount(final ByteBuffer in) {
+    final int count = getVarint(in);
+    if (count > SIDE * SIDE) {
+      throw new IllegalArgumentException("Save holds more entities than fit a quadrant.");
+    }
+    return count;
+  }
+
+  /**
+   * The state held in a full save, with its {@link Quadrant}s built but not yet placed in a
+   * {@link Galaxy}, so delta saves can replace them first.
+   */
+  static final class Image {
+
+    Enterprise enterprise;
+    XyPair currentQuadrant;
+    int width;
+    int height;
+    long seed;
+    int turns;
+    TickMode tickMode;
+    short[] summaries;
+    long pendingHash;
+    long stateHash;
+    Quadrant[] quadrants;
+
+    /**
+     * Places a {@link Quadrant} at the given grid position, replacing any already there.
+     */
+    void put(final int index, final Quadrant quadrant) {
+      if (index < 0 || index >= this.quadrants.length) {
+        throw new IllegalArgumentException("Save holds a quadrant outside the galaxy.");
+      }
+      this.quadrants[index] = quadrant;
+    }
+
+    /**
+     * Builds the {@link Galaxy}, checking it hashes as the one that was saved. Given a listener,
+     * gives up once the thread is interrupted, see {@link FullSaveCodec#decodeImage(byte[], LongConsumer)}.
+     */
+    SavedGame build(final LongConsumer progress) {
+      final ArrayList<Quadrant> built = new ArrayList<>();
+      for (int i = 0; i < this.quadrants.length; i += 1) {
+        DecodeProgress.check(progress, i);
+        if (this.quadrants[i] != null) {
+          built.add(this.quadrants[i]);
+        }
+      }
+      final Galaxy galaxy = new Galaxy(this.width, this.height, this.seed, this.summaries,
+          this.pendingHash, built, this.turns, this.tickMode);
+      if (galaxy.stateHash() != this.stateHash) {
+        throw new IllegalArgumentException("Save does not rebuild the galaxy it saved.");
+      }
+      return new SavedGame(this.enterprise, galaxy, this.currentQuadrant);
+    }
+  }
+}
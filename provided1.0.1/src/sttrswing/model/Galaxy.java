@@ -1,31 +1,546 @@
 package sttrswing.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import sttrswing.model.enums.GenerationMode;
+import sttrswing.model.enums.TickMode;
 
 /**
  * Handles the {@link Quadrant}s held within the {@link Galaxy}.
+ *
+ * <p>{@link Quadrant}s are stored in a dense grid indexed by their x,y coordinates so looking one
+ * up is constant time regardless of how large the {@link Galaxy} is. Galaxy-wide {@link Klingon}
+ * and {@link Starbase} totals are kept as running counts, updated by {@link Quadrant#cleanup()},
+ * so checking them is also constant time. Run with assertions enabled ({@code -ea}) to have every
+ * read of a total checked against a full recount.</p>
+ *
+ * <p>Generated galaxies are driven by a single master seed. Each {@link Quadrant} draws from its
+ * own generator derived from that seed and its coordinates (see {@link #quadrantRandom}), so any
+ * {@link Quadrant} can be regenerated on its own, in any order, and come out identical.</p>
+ *
+ * <p>A {@link Galaxy} generated in {@link GenerationMode#LAZY} mode relies on that to hold only a
+ * packed summary of each {@link Quadrant}s counts until it is first asked for through
+ * {@link #quadrantAt}, at which point it is built from its seed and caught up on the turns it
+ * missed. Long range scans and exports read the summaries, so only {@link Quadrant}s the
+ * {@link Enterprise} has actually visited ever cost a full {@link Quadrant}. Starting one rolls
+ * only the counts for each summary, a handful of draws per position, leaving where everything goes
+ * until a {@link Quadrant} is built, and the share of {@link #stateHash()} that depends on it until
+ * the hash is first asked for.</p>
+ *
+ * <p>In {@link TickMode#LAZY} the out of focus turns are not applied as they happen at all, each
+ * {@link Quadrant} instead catches up on the turns it missed whenever it is looked at through the
+ * {@link Galaxy}, so a turn costs the same however large the {@link Galaxy} is.</p>
+ *
+ * <p>{@link #fork()} hands out an independent copy of a {@link Galaxy} in constant time. The two
+ * share every {@link Quadrant} until one of them hands it out through {@link #quadrantAt} or
+ * ticks it, at which point that side copies the {@link Quadrant} for itself, so a fork costs time
+ * in proportion to the {@link Quadrant}s it touches rather than the size of the
+ * {@link Galaxy}. Forks turned in {@link TickMode#LAZY} touch only the {@link Quadrant}s they are
+ * played in, where in {@link TickMode#EAGER} every turn also copies each {@link Quadrant} that
+ * is ticked out of focus.</p>
  */
 public class Galaxy {
 
-  private List<Quadrant> quadrants;
+  private static final int DEFAULT_WIDTH = 8;
+  private static final int DEFAULT_HEIGHT = 8;
+
+  private final int width;
+  private final int height;
+  private final long seed;
+  private final QuadrantGrid grid;
+  private final short[] summaries;
+  private TickScheduler scheduler;
+  private boolean schedulerShared;
+  private int klingonTotal;
+  private int starbaseTotal;
+  private int turns;
+  private TickMode tickMode = TickMode.EAGER;
+  private long stateHash;
+  private long pendingHash;
+  private boolean layoutHashDue;
+  private int[] changes = new int[16];
+  private int changeCount;
+  private Object changeMark = new Object();
 
   /**
    * Constructs a new Galaxy with 64 {@link Quadrant}s.
    */
   public Galaxy() {
-    quadrants = new ArrayList<>();
-    this.quadrants = this.generateQuadrants();
+    this(DEFAULT_WIDTH, DEFAULT_HEIGHT);
+  }
+
+  /**
+   * Constructs a new Galaxy of the given dimensions, generating a {@link Quadrant} for every x,y
+   * coordinate within it from a randomly chosen seed.
+   *
+   * @param width  - how many {@link Quadrant}s wide the {@link Galaxy} is.
+   * @param height - how many {@link Quadrant}s high the {@link Galaxy} is.
+   * @throws IllegalArgumentException if either dimension is less than 1.
+   */
+  public Galaxy(final int width, final int height) {
+    this(width, height, new SplittableRandom().nextLong());
+  }
+
+  /**
+   * Constructs a new Galaxy of the given dimensions, generating a {@link Quadrant} for every x,y
+   * coordinate within it from the given seed. The same dimensions and seed always produce the
+   * same {@link Galaxy}.
+   *
+   * @param width  - how many {@link Quadrant}s wide the {@link Galaxy} is.
+   * @param height - how many {@link Quadrant}s high the {@link Galaxy} is.
+   * @param seed   - master seed every {@link Quadrant}s generator is derived from.
+   * @throws IllegalArgumentException if either dimension is less than 1.
+   */
+  public Galaxy(final int width, final int height, final long seed) {
+    this(width, height, seed, GenerationMode.EAGER);
+  }
+
+  /**
+   * Constructs a new Galaxy of the given dimensions from the given seed, building its
+   * {@link Quadrant}s as the given {@link GenerationMode} says. The same dimensions and seed
+   * produce the same {@link Galaxy} whatever the mode.
+   *
+   * @param width  - how many {@link Quadrant}s wide the {@link Galaxy} is.
+   * @param height - how many {@link Quadrant}s high the {@link Galaxy} is.
+   * @param seed   - master seed every {@link Quadrant}s generator is derived from.
+   * @param mode   - when to build each {@link Quadrant}.
+   * @throws IllegalArgumentException if either dimension is less than 1.
+   */
+  public Galaxy(final int width, final int height, final long seed, final GenerationMode mode) {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException(
+          "Galaxy dimensions must be positive, got " + width + "x" + height + ".");
+    }
+    this.width = width;
+    this.height = height;
+    this.seed = seed;
+    this.grid = new QuadrantGrid(Math.multiplyExact(width, height));
+    this.scheduler = new TickScheduler(this.grid.size());
+    if (mode == GenerationMode.LAZY) {
+      this.summaries = new short[this.grid.size()];
+      for (int x = 0; x < width; x += 1) {
+        for (int y = 0; y < height; y += 1) {
+          // only the counts are rolled now, placing them is left until the quadrant is built
+          this.summaries[this.index(x, y)] = summarise(Quadrant.counts(quadrantRandom(seed, x, y)));
+        }
+      }
+      // the hash of where everything is placed is left until it is first asked for
+      this.layoutHashDue = true;
+    } else {
+      this.summaries = null;
+      final List<Quadrant> quadrants = mode == GenerationMode.PARALLEL
+          ? this.generateQuadrantsParallel() : this.generateQuadrants();
+      for (Quadrant quadrant : quadrants) {
+        this.grid.set(this.index(quadrant.getX(), quadrant.getY()), quadrant);
+      }
+    }
+    this.attachQuadrants();
   }
 
   /**
-   * Constructs a new Galaxy using the passed in quadrants rather than generating its own.
+   * Constructs a new Galaxy using the passed in quadrants rather than generating its own. The
+   * dimensions of the {@link Galaxy} are taken from the largest x and y coordinates present. As
+   * nothing is generated the seed is 0.
    *
    * @param quadrants quadrants we want the {@link Galaxy} to use.
+   * @throws IllegalArgumentException if a {@link Quadrant} has a negative coordinate or two
+   *                                  {@link Quadrant}s share the same coordinates.
    */
   public Galaxy(ArrayList<Quadrant> quadrants) {
-    this.quadrants = quadrants;
-    //JB: we could add a check here to error for duplicate x, ys?
+    int maxX = -1;
+    int maxY = -1;
+    for (Quadrant quadrant : quadrants) {
+      if (quadrant.getX() < 0 || quadrant.getY() < 0) {
+        throw new IllegalArgumentException("Quadrant coordinates must not be negative, got ("
+            + quadrant.getX() + "," + quadrant.getY() + ").");
+      }
+      maxX = Math.max(maxX, quadrant.getX());
+      maxY = Math.max(maxY, quadrant.getY());
+    }
+    this.width = maxX + 1;
+    this.height = maxY + 1;
+    this.seed = 0L;
+    this.grid = new QuadrantGrid(Math.multiplyExact(this.width, this.height));
+    this.scheduler = new TickScheduler(this.grid.size());
+    this.summaries = null;
+    for (Quadrant quadrant : quadrants) {
+      final int index = this.index(quadrant.getX(), quadrant.getY());
+      if (this.grid.get(index) != null) {
+        throw new IllegalArgumentException("Duplicate quadrant at ("
+            + quadrant.getX() + "," + quadrant.getY() + ").");
+      }
+      this.grid.set(index, quadrant);
+    }
+    this.attachQuadrants();
+  }
+
+  /**
+   * Constructs a {@link Galaxy} exactly as it was saved (see {@link FullSaveCodec}), placing the
+   * given {@link Quadrant}s without generating anything.
+   *
+   * @param width       - how many {@link Quadrant}s wide the {@link Galaxy} is.
+   * @param height      - how many {@link Quadrant}s high the {@link Galaxy} is.
+   * @param seed        - master seed any {@link Quadrant} not built yet is generated from.
+   * @param summaries   - packed summary of every grid position for a {@link Galaxy} generated in
+   *                    {@link GenerationMode#LAZY} mode, or null if it was not.
+   * @param pendingHash - the share of the state hash of the {@link Quadrant}s not built yet.
+   * @param quadrants   - every {@link Quadrant} built so far.
+   * @param turns       - how many turns it has been ticked through.
+   * @param tickMode    - how out of focus turns are being applied to it.
+   * @throws IllegalArgumentException if either dimension is less than 1, there is a summary for
+   *                                  other than every position, or a {@link Quadrant} is outside
+   *                                  the {@link Galaxy} or shares its position with another.
+   */
+  Galaxy(final int width, final int height, final long seed, final short[] summaries,
+      final long pendingHash, final List<Quadrant> quadrants, final int turns,
+      final TickMode tickMode) {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException(
+          "Galaxy dimensions must be positive, got " + width + "x" + height + ".");
+    }
+    this.width = width;
+    this.height = height;
+    this.seed = seed;
+    this.grid = new QuadrantGrid(Math.multiplyExact(width, height));
+    this.scheduler = new TickScheduler(this.grid.size());
+    if (summaries != null && summaries.length != this.grid.size()) {
+      throw new IllegalArgumentException("Expected " + this.grid.size() + " summaries, got "
+          + summaries.length + ".");
+    }
+    this.summaries = summaries;
+    this.turns = turns;
+    this.tickMode = tickMode;
+    this.stateHash = pendingHash;
+    this.pendingHash = pendingHash;
+    for (Quadrant quadrant : quadrants) {
+      final int x = quadrant.getX();
+      final int y = quadrant.getY();
+      if (x < 0 || y < 0 || x >= width || y >= height) {
+        throw new IllegalArgumentException("Quadrant (" + x + "," + y + ") is outside a "
+            + width + "x" + height + " galaxy.");
+      }
+      if (this.grid.get(this.index(x, y)) != null) {
+        throw new IllegalArgumentException("Duplicate quadrant at (" + x + "," + y + ").");
+      }
+      this.grid.set(this.index(x, y), quadrant);
+    }
+    this.attachQuadrants();
+  }
+
+  /**
+   * Constructs an independent copy of the given {@link Galaxy} sharing all of its
+   * {@link Quadrant}s, see {@link #fork()}.
+   *
+   * @param source - the {@link Galaxy} to copy.
+   */
+  private Galaxy(final Galaxy source) {
+    this.width = source.width;
+    this.height = source.height;
+    this.seed = source.seed;
+    this.grid = source.grid.fork();
+    // only ever read once built, so the summaries can be shared outright
+    this.summaries = source.summaries;
+    this.scheduler = source.scheduler;
+    this.schedulerShared = true;
+    source.schedulerShared = true;
+    this.klingonTotal = source.klingonTotal;
+    this.starbaseTotal = source.starbaseTotal;
+    this.turns = source.turns;
+    this.tickMode = source.tickMode;
+    this.stateHash = source.stateHash;
+    this.pendingHash = source.pendingHash;
+    this.layoutHashDue = source.layoutHashDue;
+    this.changes = Arrays.copyOf(source.changes, Math.max(source.changeCount, 16));
+    this.changeCount = source.changeCount;
+    this.changeMark = source.changeMark;
+  }
+
+  /**
+   * Returns an independent copy of this {@link Galaxy} in constant time. Nothing done to either
+   * {@link Galaxy} afterwards shows up in the other, {@link Quadrant}s the two still share are
+   * copied by whichever side first needs to change one. {@link Quadrant}s handed out by
+   * {@link #quadrantAt} before the fork belong to neither side any more and should be looked up
+   * again.
+   *
+   * @return an independent copy of this {@link Galaxy}.
+   */
+  public Galaxy fork() {
+    return new Galaxy(this);
+  }
+
+  /**
+   * Returns true if the given {@link Quadrant} is one this {@link Galaxy} may change in place,
+   * meaning it was handed out by {@link #quadrantAt} since this {@link Galaxy} was last forked.
+   *
+   * @param quadrant - the {@link Quadrant} to check.
+   * @return true if the {@link Quadrant} belongs to this {@link Galaxy} alone.
+   */
+  public boolean owns(final Quadrant quadrant) {
+    return quadrant.isOwnedBy(this.grid.edit());
+  }
+
+  /**
+   * Returns the {@link Quadrant} at the given grid position, first swapping in a copy of it if it
+   * is still shared with a fork so that the caller is free to change it.
+   *
+   * @param index - position of the {@link Quadrant} in the grid.
+   * @return the {@link Quadrant}, or null if none has been built there.
+   */
+  Quadrant ownedAt(final int index) {
+    final Quadrant quadrant = this.grid.get(index);
+    if (quadrant == null || quadrant.isOwnedBy(this.grid.edit())) {
+      return quadrant;
+    }
+    final Quadrant copy = quadrant.copy();
+    copy.attach(this, this.grid.edit());
+    this.grid.set(index, copy);
+    return copy;
+  }
+
+  /**
+   * Registers this {@link Galaxy} with every {@link Quadrant} in it, schedules the ones with out of
+   * focus work and sets the running totals from their current counts.
+   */
+  private void attachQuadrants() {
+    for (int i = 0; i < this.grid.size(); i += 1) {
+      final Quadrant quadrant = this.grid.get(i);
+      if (quadrant != null) {
+        quadrant.attach(this, this.grid.edit());
+        this.scheduler.refresh(i, quadrant);
+        this.stateHash ^= quadrant.stateHash();
+      }
+    }
+    this.klingonTotal = this.countKlingons();
+    this.starbaseTotal = this.countStarbases();
+  }
+
+  /**
+   * Applies a change to the state hash, called by a {@link Quadrant} in this {@link Galaxy}
+   * whenever its own share of the hash changes.
+   *
+   * @param delta - the XOR of the old and new share of the {@link Quadrant}.
+   */
+  void rehash(final long delta) {
+    this.stateHash ^= delta;
+  }
+
+  /**
+   * Returns the Zobrist hash of every {@link Quadrant} in this {@link Galaxy}, kept up to date as
+   * they change so this is constant time. Quadrants not built yet count as they will be once
+   * built. In {@link TickMode#LAZY} each {@link Quadrant} counts as it was when last caught up.
+   *
+   * @return the state hash of this {@link Galaxy}.
+   */
+  public long stateHash() {
+    this.settleLayoutHash();
+    return this.stateHash;
+  }
+
+  /**
+   * Adds the share of the state hash every {@link Quadrant} had as first laid out, for a
+   * {@link Galaxy} generated in {@link GenerationMode#LAZY} mode that has not worked it out yet.
+   * That means placing everything in every {@link Quadrant}, so it is put off until the hash is
+   * first needed rather than paid for on starting. Built {@link Quadrant}s only ever add their
+   * changes to the hash, so their share as first laid out is still missing too.
+   */
+  private void settleLayoutHash() {
+    if (!this.layoutHashDue) {
+      return;
+    }
+    long hash = 0L;
+    for (int x = 0; x < this.width; x += 1) {
+      for (int y = 0; y < this.height; y += 1) {
+        hash ^= Quadrant.layoutHash(x, y, Quadrant.layout(quadrantRandom(this.seed, x, y)));
+      }
+    }
+    this.stateHash ^= hash;
+    this.pendingHash ^= hash;
+    this.layoutHashDue = false;
+  }
+
+  /**
+   * Works out {@link #stateHash()} from scratch by visiting every {@link Quadrant}, rebuilding the
+   * layout of any not built yet from its seed.
+   *
+   * @return the state hash of this {@link Galaxy}.
+   */
+  long computeStateHash() {
+    long hash = 0L;
+    for (int i = 0; i < this.grid.size(); i += 1) {
+      final Quadrant quadrant = this.grid.get(i);
+      final int x = i / this.height;
+      final int y = i % this.height;
+      if (quadrant != null) {
+        hash ^= quadrant.computeStateHash();
+      } else if (this.summaries != null) {
+        hash ^= Quadrant.layoutHash(x, y, Quadrant.layout(quadrantRandom(this.seed, x, y)));
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * Adjusts the running totals, called by a {@link Quadrant} in this {@link Galaxy} whenever its
+   * number of {@link Klingon}s or {@link Starbase}s changes. Also reschedules that
+   * {@link Quadrant}, as losing its last {@link Starbase} leaves it nothing to do out of focus.
+   *
+   * @param quadrant  - the {@link Quadrant} whose counts changed.
+   * @param klingons  - change in the number of {@link Klingon}s.
+   * @param starbases - change in the number of {@link Starbase}s.
+   */
+  void countsChanged(final Quadrant quadrant, final int klingons, final int starbases) {
+    this.klingonTotal += klingons;
+    this.starbaseTotal += starbases;
+    this.reschedule(quadrant);
+  }
+
+  /**
+   * Re-checks whether the given {@link Quadrant} has out of focus work and adds it to or drops it
+   * from the set of {@link Quadrant}s ticked each turn to match. Should be called after changing
+   * anything {@link Quadrant#hasOutOfFocusWork()} depends on.
+   *
+   * @param quadrant - a {@link Quadrant} in this {@link Galaxy}.
+   * @throws IllegalArgumentException if the {@link Quadrant} is not in this {@link Galaxy}.
+   */
+  public void reschedule(final Quadrant quadrant) {
+    final int x = quadrant.getX();
+    final int y = quadrant.getY();
+    if (x < 0 || y < 0 || x >= this.width || y >= this.height
+        || this.grid.get(this.index(x, y)) != quadrant) {
+      throw new IllegalArgumentException(
+          "Quadrant at (" + x + "," + y + ") is not part of this galaxy.");
+    }
+    this.refreshSchedule(this.index(x, y), quadrant);
+  }
+
+  /**
+   * Brings the scheduler in line with whether the given {@link Quadrant} has out of focus work,
+   * first taking a copy of the scheduler if it is shared with a fork and about to change. In
+   * {@link TickMode#LAZY} nothing is scheduled, the scheduler is rebuilt on switching back to
+   * {@link TickMode#EAGER} instead, which spares lazily ticked forks from ever copying it.
+   *
+   * @param index    - position of the {@link Quadrant} in the grid.
+   * @param quadrant - the {@link Quadrant} at that position.
+   */
+  private void refreshSchedule(final int index, final Quadrant quadrant) {
+    if (this.tickMode == TickMode.LAZY
+        || this.scheduler.isActive(index) == quadrant.hasOutOfFocusWork()) {
+      return;
+    }
+    if (this.schedulerShared) {
+      this.scheduler = this.scheduler.copy();
+      this.schedulerShared = false;
+    }
+    this.scheduler.refresh(index, quadrant);
+  }
+
+  /**
+   * Returns how out of focus turns are being applied to this {@link Galaxy}.
+   *
+   * @return how out of focus turns are being applied to this {@link Galaxy}.
+   */
+  public TickMode getTickMode() {
+    return this.tickMode;
+  }
+
+  /**
+   * Changes how out of focus turns are applied to this {@link Galaxy}. Switching back to
+   * {@link TickMode#EAGER} first brings every {@link Quadrant} up to date and schedules the ones
+   * with out of focus work again.
+   *
+   * @param tickMode - how out of focus turns should be applied from now on.
+   */
+  public void setTickMode(final TickMode tickMode) {
+    if (tickMode == this.tickMode) {
+      return;
+    }
+    if (tickMode == TickMode.EAGER) {
+      this.scheduler = new TickScheduler(this.grid.size());
+      this.schedulerShared = false;
+    }
+    for (int i = 0; i < this.grid.size(); i += 1) {
+      final Quadrant quadrant = this.ownedAt(i);
+      if (quadrant == null) {
+        continue;
+      }
+      if (tickMode == TickMode.EAGER) {
+        quadrant.catchUp(this.turns);
+        this.scheduler.refresh(i, quadrant);
+      } else {
+        quadrant.markTicked(this.turns);
+      }
+    }
+    this.tickMode = tickMode;
+  }
+
+  /**
+   * Returns how many turns this {@link Galaxy} has been ticked through.
+   *
+   * @return how many turns this {@link Galaxy} has been ticked through.
+   */
+  public int getTurns() {
+    return this.turns;
+  }
+
+  /**
+   * Returns how many {@link Quadrant}s currently have out of focus work, which is how many each
+   * turn visits. Always 0 in {@link TickMode#LAZY}, where a turn visits none.
+   *
+   * @return how many {@link Quadrant}s each turn visits.
+   */
+  public int activeQuadrantCount() {
+    if (this.tickMode == TickMode.LAZY) {
+      return 0;
+    }
+    return this.scheduler.activeCount();
+  }
+
+  /**
+   * Returns how many {@link Quadrant}s wide this {@link Galaxy} is.
+   *
+   * @return how many {@link Quadrant}s wide this {@link Galaxy} is.
+   */
+  public int getWidth() {
+    return this.width;
+  }
+
+  /**
+   * Returns the master seed this {@link Galaxy} was generated from.
+   *
+   * @return the master seed this {@link Galaxy} was generated from.
+   */
+  public long getSeed() {
+    return this.seed;
+  }
+
+  /**
+   * Returns the generator for the {@link Quadrant} at the given coordinates of a {@link Galaxy}
+   * generated from the given master seed. The master seed and coordinates are mixed together so
+   * neighbouring {@link Quadrant}s get unrelated streams.
+   *
+   * @param seed - master seed of the {@link Galaxy}.
+   * @param x    - horizontal coordinate of the {@link Quadrant}.
+   * @param y    - vertical coordinate of the {@link Quadrant}.
+   * @return a new generator for the {@link Quadrant} at the given coordinates.
+   */
+  public static SplittableRandom quadrantRandom(final long seed, final int x, final int y) {
+    long key = seed ^ (((long) x << 32) | (y & 0xffffffffL));
+    // SplitMix64 finaliser, spreads nearby keys across the whole seed space
+    key = (key ^ (key >>> 30)) * 0xbf58476d1ce4e5b9L;
+    key = (key ^ (key >>> 27)) * 0x94d049bb133111ebL;
+    return new SplittableRandom(key ^ (key >>> 31));
+  }
+
+  /**
+   * Returns how many {@link Quadrant}s high this {@link Galaxy} is.
+   *
+   * @return how many {@link Quadrant}s high this {@link Galaxy} is.
+   */
+  public int getHeight() {
+    return this.height;
   }
 
   /**
@@ -95,46 +610,97 @@ public class Galaxy {
   }
 
   /**
-   * Generate 64 {@link Quadrant} each with their own unique {@link XyPair} coordinates that is set
-   * up to describe them in an 8*8 grid.
+   * Generate a {@link Quadrant} for every x,y coordinate in this {@link Galaxy}, each with their
+   * own unique {@link XyPair} coordinates, 64 of them in the default 8*8 grid. Each is generated
+   * from the generator {@link #quadrantRandom} derives for it from this {@link Galaxy}s seed.
    *
    * @return a {@link List} of {@link Quadrant}s
    */
   public List<Quadrant> generateQuadrants() {
-    final int maxRows = 8;
-    final int maxCols = 8;
-    var quadrants = new ArrayList<Quadrant>();
+    final int maxRows = this.width;
+    final int maxCols = this.height;
+    var quadrants = new ArrayList<Quadrant>(maxRows * maxCols);
     for (int row = 0; row < maxRows; row += 1) {
       for (int col = 0; col < maxCols; col += 1) {
-        quadrants.add(new Quadrant(row, col));
+        quadrants.add(new Quadrant(row, col, quadrantRandom(this.seed, row, col)));
       }
     }
     return quadrants;
   }
 
+  /**
+   * Does the same as {@link #generateQuadrants()}, returning the same {@link Quadrant}s in the same
+   * order, but splits the work across the common fork/join pool. Every {@link Quadrant} draws only
+   * from its own generator and is written to its own slot, so the split and the order the pieces
+   * run in can not change the result.
+   *
+   * @return a {@link List} of {@link Quadrant}s
+   */
+  public List<Quadrant> generateQuadrantsParallel() {
+    final Quadrant[] quadrants = new Quadrant[Math.multiplyExact(this.width, this.height)];
+    IntStream.range(0, quadrants.length).parallel().forEach(i -> {
+      final int row = i / this.height;
+      final int col = i % this.height;
+      quadrants[i] = new Quadrant(row, col, quadrantRandom(this.seed, row, col));
+    });
+    return new ArrayList<>(Arrays.asList(quadrants));
+  }
+
   /**
    * Returns how many {@link Klingon} total are in the {@link Quadrant}s in this {@link Galaxy}.
    *
    * @return how many {@link Klingon} total are in the {@link Quadrant}s in this {@link Galaxy}.
    */
   public int klingonCount() {
+    assert this.klingonTotal == this.countKlingons()
+        : "Klingon total " + this.klingonTotal + " out of step with recount";
+    return this.klingonTotal;
+  }
+
+  /**
+   * Returns how many {@link Starbase}s total are in the {@link Quadrant}s in this {@link Galaxy}.
+   *
+   * @return how many {@link Starbase}s total are in the {@link Quadrant}s in this {@link Galaxy}.
+   */
+  public int starbaseCount() {
+    assert this.starbaseTotal == this.countStarbases()
+        : "Starbase total " + this.starbaseTotal + " out of step with recount";
+    return this.starbaseTotal;
+  }
+
+  /**
+   * Counts the {@link Klingon}s in every {@link Quadrant} from scratch.
+   *
+   * @return how many {@link Klingon}s are in this {@link Galaxy}.
+   */
+  private int countKlingons() {
     int klingons = 0;
-    for (Quadrant q : this.quadrants) {
-      klingons += q.klingonCount();
+    for (int i = 0; i < this.grid.size(); i += 1) {
+      final Quadrant quadrant = this.grid.get(i);
+      if (quadrant != null) {
+        klingons += quadrant.klingonCount();
+      } else if (this.summaries != null) {
+        klingons += summaryKlingons(this.summaries[i]);
+      }
     }
     return klingons;
   }
 
 
   /**
-   * Returns how many {@link Klingon} total are in the {@link Quadrant}s in this {@link Galaxy}.
+   * Counts the {@link Starbase}s in every {@link Quadrant} from scratch.
    *
-   * @return how many {@link Klingon} total are in the {@link Quadrant}s in this {@link Galaxy}.
+   * @return how many {@link Starbase}s are in this {@link Galaxy}.
    */
-  public int starbaseCount() {
+  private int countStarbases() {
     int starbases = 0;
-    for (Quadrant q : this.quadrants) {
-      starbases += q.starbaseCount();
+    for (int i = 0; i < this.grid.size(); i += 1) {
+      final Quadrant quadrant = this.grid.get(i);
+      if (quadrant != null) {
+        starbases += quadrant.starbaseCount();
+      } else if (this.summaries != null) {
+        starbases += summaryStarbases(this.summaries[i]);
+      }
     }
     return starbases;
   }
@@ -146,29 +712,302 @@ public class Galaxy {
    *          {@link Galaxy}.
    * @param y - vertical coordinate of the {@link Quadrant} we are trying to find in the
    *          {@link Galaxy}.
-   * @return {@link Quadrant} - the {@link Quadrant} we are looking for.
+   * @return {@link Quadrant} - the {@link Quadrant} we are looking for, or null if there is none
+   *     at those coordinates.
    */
   public Quadrant quadrantAt(final int x, final int y) {
-    for (Quadrant quadrant : this.quadrants) {
-      if (quadrant.getX() == x && quadrant.getY() == y) {
-        return quadrant;
+    if (x < 0 || y < 0 || x >= this.width || y >= this.height) {
+      return null;
+    }
+    final int index = this.index(x, y);
+    final Quadrant quadrant = this.ownedAt(index);
+    if (quadrant == null && this.summaries != null) {
+      return this.materialise(x, y, index);
+    }
+    return this.caughtUp(quadrant);
+  }
+
+  /**
+   * Returns whether there is a {@link Quadrant} at the given coordinates, without building it if
+   * it has not been built yet or copying it if it is shared with a fork.
+   *
+   * @param x - horizontal coordinate of the {@link Quadrant}.
+   * @param y - vertical coordinate of the {@link Quadrant}.
+   * @return true if {@link #quadrantAt(int, int)} would return a {@link Quadrant}.
+   */
+  public boolean hasQuadrantAt(final int x, final int y) {
+    if (x < 0 || y < 0 || x >= this.width || y >= this.height) {
+      return false;
+    }
+    return this.summaries != null || this.grid.get(this.index(x, y)) != null;
+  }
+
+  /**
+   * Brings the given {@link Quadrant} up to date before it is handed out if turns are being applied
+   * lazily.
+   *
+   * @param quadrant - a {@link Quadrant} in this {@link Galaxy}, may be null.
+   * @return the same {@link Quadrant}.
+   */
+  private Quadrant caughtUp(final Quadrant quadrant) {
+    if (quadrant != null && this.tickMode == TickMode.LAZY) {
+      quadrant.catchUp(this.turns);
+    }
+    return quadrant;
+  }
+
+  /**
+   * Returns the symbol of the {@link Quadrant} at the given coordinates (see
+   * {@link Quadrant#symbol()}) without building it if it has not been built yet.
+   *
+   * @param x - horizontal coordinate of the {@link Quadrant}.
+   * @param y - vertical coordinate of the {@link Quadrant}.
+   * @return the symbol of the {@link Quadrant}, or null if there is no {@link Quadrant} there.
+   */
+  public String symbolAt(final int x, final int y) {
+    if (x < 0 || y < 0 || x >= this.width || y >= this.height) {
+      return null;
+    }
+    return this.symbolAt(this.index(x, y));
+  }
+
+  private String symbolAt(final int index) {
+    final Quadrant quadrant = this.grid.get(index);
+    if (quadrant != null) {
+      // a shared quadrant can be read as it is unless it has turns to catch up on
+      if (this.tickMode == TickMode.LAZY && quadrant.isBehind(this.turns)) {
+        return this.caughtUp(this.ownedAt(index)).symbol();
       }
+      return quadrant.symbol();
+    }
+    if (this.summaries == null) {
+      return null;
     }
-    return null;
+    final short summary = this.summaries[index];
+    return "" + summaryStars(summary) + summaryStarbases(summary) + summaryKlingons(summary);
   }
 
   /**
-   * Call .outOfFocusTick() on all {@link Quadrant} except the ones we are asked to skip
+   * Returns the counts of the {@link Quadrant} at the given grid position packed as in
+   * {@link Quadrant#counts()}, read from its summary if it has not been built.
+   *
+   * @param index - the grid position.
+   * @return the packed counts, or -1 if there is no {@link Quadrant} at that position.
+   */
+  int countsAt(final int index) {
+    final Quadrant quadrant = this.grid.get(index);
+    if (quadrant != null) {
+      if (this.tickMode == TickMode.LAZY && quadrant.isBehind(this.turns)) {
+        return this.caughtUp(this.ownedAt(index)).counts();
+      }
+      return quadrant.counts();
+    }
+    if (this.summaries == null) {
+      return -1;
+    }
+    final short summary = this.summaries[index];
+    return summaryStars(summary) << 16 | summaryStarbases(summary) << 8
+        | summaryKlingons(summary);
+  }
+
+  /**
+   * Returns the {@link Quadrant} built at the given grid position as it is, for reading only, it
+   * may still be shared with a fork and may be behind on turns in {@link TickMode#LAZY}.
+   *
+   * @param index - the grid position.
+   * @return the {@link Quadrant}, or null if none has been built there.
+   */
+  Quadrant builtAt(final int index) {
+    return this.grid.get(index);
+  }
+
+  /**
+   * Returns the packed summary ({@code stars << 8 | starbases << 4 | klingons}) the given grid
+   * position was generated with, for a {@link Galaxy} generated in {@link GenerationMode#LAZY}
+   * mode.
+   *
+   * @param index - the grid position.
+   * @return the summary, or -1 if this {@link Galaxy} was not generated lazily.
+   */
+  int summaryAt(final int index) {
+    return this.summaries == null ? -1 : this.summaries[index];
+  }
+
+  /**
+   * Returns the share of {@link #stateHash()} that belongs to the {@link Quadrant}s not built yet.
+   *
+   * @return the share of the state hash of the {@link Quadrant}s not built yet.
+   */
+  long pendingHash() {
+    this.settleLayoutHash();
+    return this.pendingHash;
+  }
+
+  /**
+   * Records that the given {@link Quadrant} has changed since {@link #takeChanges()} was last
+   * called, called by the {@link Quadrant} itself the first time it changes after that.
+   *
+   * @param quadrant - a {@link Quadrant} in this {@link Galaxy}.
+   */
+  void quadrantChanged(final Quadrant quadrant) {
+    if (this.changeCount == this.changes.length) {
+      this.changes = Arrays.copyOf(this.changes, this.changeCount * 2);
+    }
+    this.changes[this.changeCount++] = this.index(quadrant.getX(), quadrant.getY());
+  }
+
+  /**
+   * Returns the grid position of every {@link Quadrant} built or changed since this was last
+   * called, in ascending order, then forgets them, for writing only what changed in a delta save
+   * (see {@link SaveChain}). Costs time in proportion to how many changed, not to the size of the
+   * {@link Galaxy}. A fork starts out with the changes of the {@link Galaxy} it was taken from, so
+   * to save a fork the changes are taken from the live {@link Galaxy} first (see
+   * {@link SaveSnapshot}). Hands out a new {@link #changeMark()}.
+   *
+   * @return the grid positions changed since this was last called.
+   */
+  int[] takeChanges() {
+    final int[] taken = Arrays.copyOf(this.changes, this.changeCount);
+    Arrays.sort(taken);
+    int distinct = 0;
+    for (int i = 0; i < taken.length; i += 1) {
+      if (distinct == 0 || taken[distinct - 1] != taken[i]) {
+        taken[distinct++] = taken[i];
+      }
+      // may still be shared with a fork, which then saves it again at worst
+      this.grid.get(taken[i]).clearChanged();
+    }
+    this.changeCount = 0;
+    this.changeMark = new Object();
+    return Arrays.copyOf(taken, distinct);
+  }
+
+  /**
+   * Returns a token for the state the changes {@link #takeChanges()} would hand out are relative
+   * to, new each time they are taken and shared with forks taken since. A delta save can only
+   * follow on from the save before it if that save took the changes under the same mark, which
+   * stops a fork played differently being saved on top of the game it was taken from.
+   *
+   * @return the change mark of this {@link Galaxy}.
+   */
+  Object changeMark() {
+    return this.changeMark;
+  }
+
+  /**
+   * Returns how many {@link Quadrant}s have been built so far, which for a {@link Galaxy}
+   * generated in {@link GenerationMode#LAZY} mode is how many have been visited.
+   *
+   * @return how many {@link Quadrant}s have been built so far.
+   */
+  public int materialisedCount() {
+    int count = 0;
+    for (int i = 0; i < this.grid.size(); i += 1) {
+      if (this.grid.get(i) != null) {
+        count += 1;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Builds the not yet built {@link Quadrant} at the given coordinates from its seed, then has it
+   * catch up on every turn that has passed while it only existed as a summary.
+   *
+   * @param x     - horizontal coordinate of the {@link Quadrant}.
+   * @param y     - vertical coordinate of the {@link Quadrant}.
+   * @param index - position of the {@link Quadrant} in the grid.
+   * @return the newly built {@link Quadrant}.
+   */
+  private Quadrant materialise(final int x, final int y, final int index) {
+    final Quadrant quadrant = new Quadrant(x, y, quadrantRandom(this.seed, x, y));
+    this.pendingHash ^= quadrant.stateHash();
+    quadrant.attach(this, this.grid.edit());
+    quadrant.markChanged();
+    quadrant.catchUp(this.turns);
+    this.grid.set(index, quadrant);
+    this.refreshSchedule(index, quadrant);
+    return quadrant;
+  }
+
+  private static short summarise(final int[] counts) {
+    return (short) (counts[2] << 8 | counts[0] << 4 | counts[1]);
+  }
+
+  private static int summaryStars(final short summary) {
+    return (summary >> 8) & 0xf;
+  }
+
+  private static int summaryStarbases(final short summary) {
+    return (summary >> 4) & 0xf;
+  }
+
+  private static int summaryKlingons(final short summary) {
+    return summary & 0xf;
+  }
+
+  /**
+   * Returns the position in the grid for the given coordinates, laid out column by column so that
+   * iterating the grid visits {@link Quadrant}s in the same order they are generated and exported.
+   *
+   * @param x - horizontal coordinate, assumed to be within the {@link Galaxy}.
+   * @param y - vertical coordinate, assumed to be within the {@link Galaxy}.
+   * @return the position in the grid for the given coordinates.
+   */
+  private int index(final int x, final int y) {
+    return x * this.height + y;
+  }
+
+  /**
+   * Call .outOfFocusTick() on all {@link Quadrant} except the ones we are asked to skip. Any
+   * {@link Quadrant} not built yet instead catches up on the turn when it is built.
    *
    * @param quadrantsToSkip - array list of one or more quadrants we wish to NOT slow tick.
    * @param game - The game that is to be ticked.
    */
   public void outOfFocusTick(ArrayList<Quadrant> quadrantsToSkip, Game game) {
-    for (Quadrant quadrant : this.quadrants) {
-      if (!quadrantsToSkip.contains(quadrant)) {
-        quadrant.outOfFocusTick(game);
+    if (this.tickMode == TickMode.LAZY) {
+      for (Quadrant quadrant : quadrantsToSkip) {
+        quadrant.catchUp(this.turns);
+      }
+      this.turns += 1;
+      for (Quadrant quadrant : quadrantsToSkip) {
+        quadrant.markTicked(this.turns);
+      }
+      return;
+    }
+    for (int i = 0; i < this.grid.size(); i += 1) {
+      final Quadrant quadrant = this.grid.get(i);
+      if (quadrant != null && quadrant.hasOutOfFocusWork() && !quadrantsToSkip.contains(quadrant)) {
+        this.ownedAt(i).outOfFocusTick(game);
       }
     }
+    this.turns += 1;
+  }
+
+  /**
+   * Call .outOfFocusTick() on every {@link Quadrant} with out of focus work except the given one.
+   * Only visits the {@link Quadrant}s the scheduler holds, so the cost of a turn does not grow with
+   * the size of the {@link Galaxy}. Any {@link Quadrant} not built yet instead catches up on the
+   * turn when it is built. In {@link TickMode#LAZY} no {@link Quadrant} is visited at all, the
+   * turn is only counted and each catches up when next looked at.
+   *
+   * @param quadrantToSkip - the quadrant we wish to NOT slow tick, may be null.
+   * @param game           - The game that is to be ticked.
+   */
+  public void outOfFocusTick(final Quadrant quadrantToSkip, final Game game) {
+    if (this.tickMode == TickMode.LAZY) {
+      // the skipped quadrant was in focus, so it is the only one that must not owe this turn
+      if (quadrantToSkip != null) {
+        quadrantToSkip.catchUp(this.turns);
+        quadrantToSkip.markTicked(this.turns + 1);
+      }
+    } else {
+      this.scheduler.tick(this,
+          quadrantToSkip == null ? -1 : this.index(quadrantToSkip.getX(), quadrantToSkip.getY()),
+          game);
+    }
+    this.turns += 1;
   }
 
   /**
@@ -178,12 +1017,16 @@ public class Galaxy {
    */
   public String export() {
     StringBuilder exportString = new StringBuilder();
-    for (Quadrant quadrant : this.quadrants) {
+    for (int i = 0; i < this.grid.size(); i += 1) {
+      final String symbol = this.symbolAt(i);
+      if (symbol == null) {
+        continue;
+      }
       StringBuilder sb = new StringBuilder();
       sb.append("[q]");
-      sb.append(" x:" + quadrant.getX());
-      sb.append(" y:" + quadrant.getY());
-      sb.append(" s:" + quadrant.symbol());
+      sb.append(" x:" + i / this.height);
+      sb.append(" y:" + i % this.height);
+      sb.append(" s:" + symbol);
       sb.append(" |");
       sb.append("\n");
       exportString.append(sb);
@@ -1,12 +1,29 @@
 package sttrswing.model;
 
+import sttrswing.logging.Category;
+import sttrswing.logging.GameLog;
+import sttrswing.logging.Level;
+import sttrswing.model.enums.GenerationMode;
+import sttrswing.model.enums.StopReason;
+import sttrswing.model.reports.ActionReport;
+import sttrswing.model.reports.MoveBlockedReport;
+import sttrswing.model.reports.MoveReport;
+import sttrswing.model.reports.NoActionReport;
+import sttrswing.model.reports.PhaserReport;
+import sttrswing.model.reports.ScanReport;
+import sttrswing.model.reports.ShieldsReport;
+import sttrswing.model.reports.TorpedoReport;
+import sttrswing.model.reports.WarpReport;
 import sttrswing.model.interfaces.GameModel;
 import sttrswing.model.interfaces.HasFaction;
 import sttrswing.model.interfaces.HasPosition;
 import sttrswing.model.interfaces.HasSymbol;
+import sttrswing.model.navigation.Autopilot;
+import sttrswing.model.navigation.Leg;
+import sttrswing.model.navigation.Route;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
+import java.util.function.LongConsumer;
 
 /**
  * The main Game class responsible for holding all relevant classes for the game coordinating player
@@ -14,22 +31,180 @@ import java.util.List;
  */
 public class Game implements GameModel {
 
-  private String report = "";
+  /**
+   * Energy it costs to warp through a single {@link Quadrant}, warping is currently free.
+   */
+  public static final int WARP_ENERGY_PER_QUADRANT = 0;
+
+  private static final long ENTERPRISE_SALT = Zobrist.salt(Zobrist.ENTERPRISE, 0, 0);
+  private static final long CURRENT_QUADRANT_SALT = Zobrist.salt(Zobrist.CURRENT_QUADRANT, 0, 0);
+
+  private ActionReport report = NoActionReport.INSTANCE;
+  private String reportText;
   private Galaxy galaxy;
-  private final int startingQuadrantX = 4;
-  private final int startingQuadrantY = 4;
   private Quadrant currentQuadrant;
   private Enterprise enterprise;
+  private long lastTurnNanos;
+  private Autopilot autopilot;
+  private long stateHash;
+  private final LongConsumer hashObserver = delta -> this.stateHash ^= delta;
 
   /**
    * Construct an instance of {@link Game} with a generated list of 64 {@link Quadrant}s and a
    * current {@link Quadrant} chosen to act as the starting {@link Quadrant}.
    */
   public Game() {
+    this(new Galaxy());
+  }
+
+  /**
+   * Construct an instance of {@link Game} with a generated {@link Galaxy} of the given dimensions,
+   * starting in the {@link Quadrant} at its center.
+   *
+   * @param galaxyWidth  - how many {@link Quadrant}s wide the {@link Galaxy} should be.
+   * @param galaxyHeight - how many {@link Quadrant}s high the {@link Galaxy} should be.
+   */
+  public Game(final int galaxyWidth, final int galaxyHeight) {
+    this(new Galaxy(galaxyWidth, galaxyHeight));
+  }
+
+  /**
+   * Construct an instance of {@link Game} with a {@link Galaxy} of the given dimensions generated
+   * from the given master seed. Games built with the same dimensions and seed start out identical
+   * and, given the same actions, play out identically.
+   *
+   * @param galaxyWidth  - how many {@link Quadrant}s wide the {@link Galaxy} should be.
+   * @param galaxyHeight - how many {@link Quadrant}s high the {@link Galaxy} should be.
+   * @param seed         - master seed the {@link Galaxy} is generated from.
+   */
+  public Game(final int galaxyWidth, final int galaxyHeight, final long seed) {
+    this(new Galaxy(galaxyWidth, galaxyHeight, seed));
+  }
+
+  /**
+   * Construct an instance of {@link Game} with a {@link Galaxy} of the given dimensions generated
+   * from the given master seed, building its {@link Quadrant}s as the given
+   * {@link GenerationMode} says.
+   *
+   * @param galaxyWidth  - how many {@link Quadrant}s wide the {@link Galaxy} should be.
+   * @param galaxyHeight - how many {@link Quadrant}s high the {@link Galaxy} should be.
+   * @param seed         - master seed the {@link Galaxy} is generated from.
+   * @param mode         - when the {@link Galaxy} should build each {@link Quadrant}.
+   */
+  public Game(final int galaxyWidth, final int galaxyHeight, final long seed,
+      final GenerationMode mode) {
+    this(new Galaxy(galaxyWidth, galaxyHeight, seed, mode));
+  }
+
+  /**
+   * Construct an instance of {@link Game} using the given {@link Galaxy}, starting in the
+   * {@link Quadrant} at its center.
+   *
+   * @param galaxy - the {@link Galaxy} the game should take place in.
+   */
+  private Game(final Galaxy galaxy) {
     this.enterprise = new Enterprise(5, 5);
+    this.stateHash ^= this.enterprise.observe(this.hashObserver, ENTERPRISE_SALT);
+
+    this.galaxy = galaxy;
+    this.enterQuadrant(this.getGalaxy().quadrantAt(galaxy.getWidth() / 2,
+        galaxy.getHeight() / 2));
+  }
 
-    this.galaxy = new Galaxy();
-    this.currentQuadrant = this.getGalaxy().quadrantAt(startingQuadrantX, startingQuadrantY);
+  /**
+   * Construct an independent copy of the given {@link Game}, see {@link #fork()}.
+   *
+   * @param source - the {@link Game} to copy.
+   */
+  private Game(final Game source) {
+    this.report = source.report;
+    this.reportText = source.reportText;
+    this.galaxy = source.galaxy.fork();
+    this.currentQuadrant = source.currentQuadrant;
+    this.enterprise = new Enterprise(source.enterprise);
+    this.enterprise.observe(this.hashObserver, ENTERPRISE_SALT);
+    this.lastTurnNanos = source.lastTurnNanos;
+    this.autopilot = source.autopilot;
+    this.stateHash = source.stateHash;
+  }
+
+  /**
+   * Returns an independent copy of this {@link Game} in constant time. The {@link Galaxy} is
+   * forked (see {@link Galaxy#fork()}), so the two games share every {@link Quadrant} until one of
+   * them changes it, and only the {@link Enterprise} is copied up front.
+   *
+   * @return an independent copy of this {@link Game}.
+   */
+  @Override
+  public Game fork() {
+    return new Game(this);
+  }
+
+  @Override
+  public SaveSnapshot snapshot() {
+    return SaveSnapshot.take(this, true);
+  }
+
+  /**
+   * Returns the {@link Quadrant} the {@link Enterprise} is in, first looking it up again if it is
+   * still shared with a fork of this {@link Game} so that it is safe to change. Reading only its
+   * coordinates can go through the field directly, as they are the same in every copy.
+   *
+   * @return the current {@link Quadrant}, owned by this {@link Game}s {@link Galaxy}.
+   */
+  private Quadrant currentQuadrant() {
+    if (this.currentQuadrant != null && !this.galaxy.owns(this.currentQuadrant)) {
+      this.currentQuadrant = this.galaxy.quadrantAt(this.currentQuadrant.getX(),
+          this.currentQuadrant.getY());
+    }
+    return this.currentQuadrant;
+  }
+
+  /**
+   * Returns a Zobrist style 64-bit hash of the state of this game: the {@link Enterprise}s
+   * position and stats, which {@link Quadrant} it is in, and the placement and energy of everything
+   * in every {@link Quadrant} (see {@link Galaxy#stateHash()}). Every change to any of those updates
+   * the hash as it happens, so this is constant time. Equal states always hash the same, so it
+   * suits transposition tables and spotting duplicate positions.
+   *
+   * @return the state hash of this game.
+   */
+  @Override
+  public long stateHash() {
+    return this.stateHash ^ this.galaxy.stateHash();
+  }
+
+  /**
+   * Works out {@link #stateHash()} from scratch, visiting everything it covers.
+   *
+   * @return the state hash of this game.
+   */
+  long computeStateHash() {
+    long hash = this.enterprise.computeStateHash() ^ this.galaxy.computeStateHash();
+    if (this.currentQuadrant != null) {
+      hash ^= currentQuadrantKey(this.currentQuadrant);
+    }
+    return hash;
+  }
+
+  /**
+   * Makes the given {@link Quadrant} the one the {@link Enterprise} is in, keeping the state hash
+   * up to date.
+   *
+   * @param quadrant - the {@link Quadrant} entered, may be null.
+   */
+  private void enterQuadrant(final Quadrant quadrant) {
+    if (this.currentQuadrant != null) {
+      this.stateHash ^= currentQuadrantKey(this.currentQuadrant);
+    }
+    if (quadrant != null) {
+      this.stateHash ^= currentQuadrantKey(quadrant);
+    }
+    this.currentQuadrant = quadrant;
+  }
+
+  private static long currentQuadrantKey(final Quadrant quadrant) {
+    return Zobrist.key(CURRENT_QUADRANT_SALT, quadrant.getX(), quadrant.getY(), 0L);
   }
 
   @Override
@@ -113,43 +288,20 @@ public class Game implements GameModel {
    * to the relevant keys.
    */
   public HashMap<String, String> getSurroundingQuadrants() {
-    int quadrantX = currentQuadrant.getX();
-    int quadrantY = currentQuadrant.getY();
+    int quadrantX = this.currentQuadrant.getX();
+    int quadrantY = this.currentQuadrant.getY();
 
     HashMap<String, String> surroundingQuadrants = new HashMap<>();
-    // Initialize all directions to null
-    surroundingQuadrants.put("top", null);
-    surroundingQuadrants.put("topLeft", null);
-    surroundingQuadrants.put("topRight", null);
-    surroundingQuadrants.put("right", null);
-    surroundingQuadrants.put("bottomRight", null);
-    surroundingQuadrants.put("bottom", null);
-    surroundingQuadrants.put("bottomLeft", null);
-    surroundingQuadrants.put("left", null);
-
-    List<Quadrant> quadrants = this.getGalaxy().getQuadrantClusterAt(quadrantX, quadrantY);
-    for (Quadrant quadrant : quadrants) {
-      int deltaX = quadrant.getX() - quadrantX;
-      int deltaY = quadrant.getY() - quadrantY;
-
-      if (deltaX == 0 && deltaY == -1) {
-        surroundingQuadrants.put("top", quadrant.symbol());
-      } else if (deltaX == -1 && deltaY == -1) {
-        surroundingQuadrants.put("topLeft", quadrant.symbol());
-      } else if (deltaX == 1 && deltaY == -1) {
-        surroundingQuadrants.put("topRight", quadrant.symbol());
-      } else if (deltaX == 1 && deltaY == 0) {
-        surroundingQuadrants.put("right", quadrant.symbol());
-      } else if (deltaX == 1 && deltaY == 1) {
-        surroundingQuadrants.put("bottomRight", quadrant.symbol());
-      } else if (deltaX == 0 && deltaY == 1) {
-        surroundingQuadrants.put("bottom", quadrant.symbol());
-      } else if (deltaX == -1 && deltaY == 1) {
-        surroundingQuadrants.put("bottomLeft", quadrant.symbol());
-      } else if (deltaX == -1 && deltaY == 0) {
-        surroundingQuadrants.put("left", quadrant.symbol());
-      }
-    }
+    // read symbols straight from the galaxy so a long range scan never has to build a quadrant
+    final Galaxy galaxy = this.getGalaxy();
+    surroundingQuadrants.put("top", galaxy.symbolAt(quadrantX, quadrantY - 1));
+    surroundingQuadrants.put("topLeft", galaxy.symbolAt(quadrantX - 1, quadrantY - 1));
+    surroundingQuadrants.put("topRight", galaxy.symbolAt(quadrantX + 1, quadrantY - 1));
+    surroundingQuadrants.put("right", galaxy.symbolAt(quadrantX + 1, quadrantY));
+    surroundingQuadrants.put("bottomRight", galaxy.symbolAt(quadrantX + 1, quadrantY + 1));
+    surroundingQuadrants.put("bottom", galaxy.symbolAt(quadrantX, quadrantY + 1));
+    surroundingQuadrants.put("bottomLeft", galaxy.symbolAt(quadrantX - 1, quadrantY + 1));
+    surroundingQuadrants.put("left", galaxy.symbolAt(quadrantX - 1, quadrantY));
 
     return surroundingQuadrants;
   }
@@ -166,10 +318,10 @@ public class Game implements GameModel {
     boolean canShield = this.hasSpareEnergy(requestedEnergySpend);
     if (canShield) {
       final int energyTransferred = this.enterprise.transferEnergyToShields(requestedEnergySpend);
-      this.report = energyTransferred + " Energy transferred to Shields captain!";
+      this.report(new ShieldsReport(true, energyTransferred));
       this.turn();
     } else {
-      this.report = "Captain I cannae give anymore to the shields!";
+      this.report(new ShieldsReport(false, 0));
     }
   }
 
@@ -181,7 +333,7 @@ public class Game implements GameModel {
   @Override
   public void firePhasers(int energy) {
     int energySpent = this.getEnterprise().drainEnergy(energy);
-    this.phasers(energySpent, this.currentQuadrant);
+    this.phasers(energySpent, this.currentQuadrant());
   }
 
   /**
@@ -215,14 +367,35 @@ public class Game implements GameModel {
   }
 
   /**
-   * Returns the currently stored string report for the outcome of the last action.
+   * Returns the currently stored string report for the outcome of the last action. The text is
+   * only built the first time it is asked for after each action.
    *
    * @return the currently stored string report for the outcome of the last action.
    */
+  @Override
   public String lastActionReport() {
+    if (this.reportText == null) {
+      this.reportText = this.report.text();
+    }
+    return this.reportText;
+  }
+
+  /**
+   * Returns the typed outcome of the last action, for code that wants the numbers rather than the
+   * text.
+   *
+   * @return the typed outcome of the last action.
+   */
+  @Override
+  public ActionReport lastAction() {
     return this.report;
   }
 
+  private void report(final ActionReport report) {
+    this.report = report;
+    this.reportText = null;
+  }
+
   /**
    * Return the games {@link Enterprise} instance, useful for accessing internal state of the
    * {@link Enterprise} for display.
@@ -239,20 +412,17 @@ public class Game implements GameModel {
    * @return the current {@link Quadrant} the game is taking place in.
    */
   public Quadrant getCurrentQuadrant() {
-    return this.currentQuadrant;
+    return this.currentQuadrant();
   }
 
   /**
    * Scan the current Quadrant.
    */
   public void scanQuadrant() {
-    this.currentQuadrant.scan();
-    this.report =
-        "Scanned Quadrant(" + this.currentQuadrant.getX() + "," + this.currentQuadrant.getY()
-            + ") |";
-    this.report += " " + this.currentQuadrant.klingonCount() + " Klingons";
-    this.report += " " + this.currentQuadrant.starCount() + " Stars";
-    this.report += " " + this.currentQuadrant.starbaseCount() + " Starbases";
+    this.currentQuadrant().scan();
+    this.report(new ScanReport(this.currentQuadrant.getX(), this.currentQuadrant.getY(),
+        this.currentQuadrant().klingonCount(), this.currentQuadrant().starCount(),
+        this.currentQuadrant().starbaseCount()));
   }
 
   /**
@@ -261,7 +431,7 @@ public class Game implements GameModel {
    * @param course - the course (direction) we wish to fire the torpedo in.
    */
   public void fireTorpedo(final int course) {
-    this.torpedoes(course, this.currentQuadrant);
+    this.torpedoes(course, this.currentQuadrant());
   }
 
   // JB: This is a bit overkill, but I want to expose them to generics somewhere, and this is the
@@ -279,13 +449,13 @@ public class Game implements GameModel {
   public <T extends HasPosition & HasSymbol & HasFaction> ArrayList<T> getSymbolsForQuadrant() {
     final ArrayList<T> list = new ArrayList<>();
     list.add((T) enterprise);
-    for (Klingon klingon : this.currentQuadrant.klingons()) {
+    for (Klingon klingon : this.currentQuadrant().klingons()) {
       list.add((T) klingon);
     }
-    for (Starbase starbase : this.currentQuadrant.starbases()) {
+    for (Starbase starbase : this.currentQuadrant().starbases()) {
       list.add((T) starbase);
     }
-    for (Star star : this.currentQuadrant.stars()) {
+    for (Star star : this.currentQuadrant().stars()) {
       list.add((T) star);
     }
     return list;
@@ -296,11 +466,21 @@ public class Game implements GameModel {
    * and calls .outOfFocusTick on {@link Quadrant}s that are not the current quadrant.
    */
   public void turn() {
-    this.currentQuadrant.tick(this);
-    var list = new ArrayList<Quadrant>();
-    list.add(this.currentQuadrant);
-    galaxy.outOfFocusTick(list, this);
-    System.out.println("report " + this.report);
+    final long start = System.nanoTime();
+    this.currentQuadrant().tick(this);
+    galaxy.outOfFocusTick(this.currentQuadrant(), this);
+    this.lastTurnNanos = System.nanoTime() - start;
+    GameLog.log(Level.DEBUG, Category.TURN, "turn", "report", this.report);
+  }
+
+  /**
+   * Returns how long the last call to {@link #turn()} took to tick the {@link Galaxy}, for keeping
+   * an eye on turn cost as galaxies grow.
+   *
+   * @return how many nanoseconds the last turn took, 0 if no turn has been taken yet.
+   */
+  public long getLastTurnNanos() {
+    return this.lastTurnNanos;
   }
 
   /**
@@ -312,7 +492,7 @@ public class Game implements GameModel {
    */
   public void phasers(final int energy, final Quadrant quadrant) {
     if (quadrant.klingonCount() < 1) {
-      this.report = "Phaser (" + energy + ") energy wasted, there are no valid targets!";
+      this.report(new PhaserReport(energy, 0, 0, 0));
       return;
     }
 
@@ -321,65 +501,39 @@ public class Game implements GameModel {
     quadrant.hit(damagePerKlingon);
 
     final int klingonsDestroyed = quadrant.klingonsMarkedForRemovalCount();
-    this.report =
-        "Phaser (" + energy + ") at " + klingons + " targets, " + damagePerKlingon
-            + " dmg each, "
-            + klingonsDestroyed + " down";
+    this.report(new PhaserReport(energy, klingons, damagePerKlingon, klingonsDestroyed));
   }
 
   /**
    * Takes a given course, we wish to fire a torpedo at. Handles a torpedo being fired: travelling
    * across the current {@link Quadrant} sectors until it hits another {@link Entity} or the edge of
-   * the {@link Quadrant}.
+   * the {@link Quadrant}. The path is resolved in one go by {@link TorpedoResolver}.
    *
    * @param course   - course/direction we wish to fire the torpedo along in the current
    *                 {@link Quadrant}.
    * @param quadrant - the {@link Quadrant} we wish to fire the torpedo in.
+   * @throws IllegalArgumentException if the course is not between 1 and 8.
    */
   public void torpedoes(final int course, final Quadrant quadrant) {
     if (!this.getEnterprise().hasTorpedoAmmo()) {
-      this.report = "NO TORPEDOS LEFT TO FIRE CAPTAIN!";
+      this.report(new TorpedoReport(course, TorpedoReport.Result.NO_AMMO, null));
       return;
     }
 
-    final var vector = this.getVectorFrom(course);
-    final var torpedo = this.getEnterprise().fireTorpedo(); //handles firing the torpedo
-    if (torpedo == null) {
-      this.report = "I can't do it captain! We have no Torpedos left!";
+    final int target = TorpedoResolver.resolve(quadrant, this.getEnterprise().getX(),
+        this.getEnterprise().getY(), course);
+    if (!this.getEnterprise().launchTorpedo()) {
+      this.report(new TorpedoReport(course, TorpedoReport.Result.LAUNCH_FAILED, null));
       return;
     }
-    torpedo.adjustPosition(vector.getX(), vector.getY());
-
-    final int onGridMax = 9;
-    final int maxIterations = 999;
-
-    int iterations = 0;
-    boolean isGoingToHit = (quadrant.getEntityAt(torpedo.getX(), torpedo.getY()) != null);
-    boolean onGrid = (torpedo.getX() > 0 && torpedo.getY() > 0 && torpedo.getX() < onGridMax
-        && torpedo.getY() < onGridMax);
-
-    while (!isGoingToHit && onGrid && iterations < maxIterations) {
-      iterations += 1;
-      torpedo.adjustPosition(vector.getX(), vector.getY());
-      isGoingToHit = (quadrant.getEntityAt(torpedo.getX(), torpedo.getY()) != null);
-      onGrid = (torpedo.getX() > 0 && torpedo.getY() > 0 && torpedo.getX() < onGridMax
-          && torpedo.getY() < onGridMax);
-    }
-    if (iterations == maxIterations) {
-      throw new RuntimeException("Hit maximum iterations for Game.torpedos()!");
-    }
 
-    final String courseArrow = getDirectionIndicatorArrow(course);
-    this.report = "Torpedo fired at course bearing:" + course + courseArrow
-        + " flies off into the dark of space.";
-    if (isGoingToHit) {
-      this.report =
-          "Torpedo fired at course bearing:" + course + courseArrow
-              + " has hit target! It hit a:";
-      Entity entity = quadrant.getEntityAt(torpedo.getX(), torpedo.getY());
-      this.report += entity.symbol();
-      entity.hit(999999);
+    if (target == TorpedoResolver.MISS) {
+      this.report(new TorpedoReport(course, TorpedoReport.Result.MISSED, null));
+      return;
     }
+    final Entity entity = quadrant.entityAtSector(target);
+    this.report(new TorpedoReport(course, TorpedoReport.Result.HIT, entity.symbol()));
+    entity.hit(999999);
   }
 
   /**
@@ -390,17 +544,7 @@ public class Game implements GameModel {
    * @return a string representation of which direction a given course will go using utf 8 arrows.
    */
   public String getDirectionIndicatorArrow(final int course) {
-    return switch (course) {
-      case 1 -> "→";
-      case 2 -> "↗";
-      case 3 -> "↑";
-      case 4 -> "↖";
-      case 5 -> "←";
-      case 6 -> "↙";
-      case 7 -> "↓";
-      case 8 -> "↘";
-      default -> "X";
-    };
+    return ActionReport.arrow(course);
   }
 
   /**
@@ -428,39 +572,32 @@ public class Game implements GameModel {
 
   /**
    * Move the given {@link Entity} within the {@link Quadrant}, by the course and distance given or
-   * until another {@link Entity} or edge of the {@link Quadrant} would be hit.
+   * until another {@link Entity} or edge of the {@link Quadrant} would be hit. The move is worked
+   * out in one go by {@link MovementResolver}, a course outside 1 to 8 goes nowhere.
    *
    * @param course   the course/direction we wish the given {@link Entity} to move within the given
    *                 {@link Quadrant}
    * @param distance how many sectors in the {@link Quadrant} to attempt to move
    */
   public void moveWithinQuadrant(final int course, final double distance) {
-    //attempt to move distance in that sector updating the enterprise x,
-    // stopping at the last viable move
-    final int maxIterations = 999; //while loop safety, probably overkill! But I am paranoid.
-    final XyPair vector = this.getVectorFrom(course);
-    System.out.println("COURSE IS: " + course);
-    System.out.println("VECTOR IS: " + vector);
-    System.out.println("BEFORE MOVE ENTERPRISE IS AT");
-    System.out.println(this.getEnterprise().getX());
-    System.out.println(this.getEnterprise().getY());
-    boolean nextSectorIsValid = true;
-    int iterations = 0;
-    int jumps = (int) Math.floor(distance);
-    while (nextSectorIsValid && jumps > 0 && iterations < maxIterations) {
-      jumps -= 1;
-      iterations += 1;
-      nextSectorIsValid = attemptMoveInQuadrant(this.currentQuadrant, this.getEnterprise(), vector);
+    // resolve the whole move in one go, stopping at the last viable sector
+    GameLog.log(Level.TRACE, Category.MOVEMENT, "move within quadrant", "course", course,
+        "fromX", this.getEnterprise().getX(), "fromY", this.getEnterprise().getY());
+    final int jumps = (int) Math.floor(distance);
+    int moved = 0;
+    StopReason stopped = StopReason.DISTANCE;
+    if (SectorRays.isCourse(course)) {
+      // resolving only reads the quadrant, so a copy shared with a fork will do
+      final int move = MovementResolver.resolve(this.currentQuadrant,
+          this.getEnterprise().getX(), this.getEnterprise().getY(), course, jumps);
+      this.getEnterprise().setX(MovementResolver.stopX(move));
+      this.getEnterprise().setY(MovementResolver.stopY(move));
+      moved = MovementResolver.steps(move);
+      stopped = MovementResolver.stopReason(move);
     }
 
-    this.report =
-        "Moved" + this.getDirectionIndicatorArrow(course) + "(" + (int) Math.floor(distance)
-            + ") within Quadrant(" + this.currentQuadrant.getX() + "," + this.currentQuadrant.getY()
-            + ")";
-
-    if (iterations == maxIterations) {
-      throw new RuntimeException("Hit maximum iterations for Game.moveWithinQuadrant()!");
-    }
+    this.report(new MoveReport(course, jumps, moved, stopped, this.currentQuadrant.getX(),
+        this.currentQuadrant.getY()));
   }
 
   /**
@@ -485,19 +622,19 @@ public class Game implements GameModel {
 
     final boolean isatxedge = (proposedX < 0 || proposedX > 7);
     if (isatxedge) {
-      this.report = "HIT THE EDGE OF THIS QUADRANT.";
+      this.report(new MoveBlockedReport(null));
       return false;
     }
 
     final boolean isatyedge = (proposedY < 0 || proposedY > 7);
     if (isatyedge) {
-      this.report = "HIT THE EDGE OF THIS QUADRANT.";
+      this.report(new MoveBlockedReport(null));
       return false;
     }
 
     Entity quadrantEntity = quadrant.getEntityAt(proposedX, proposedY);
     if (quadrantEntity != null) { // Oh, no! there is something already there!!!
-      this.report = "ENCOUNTERED A ENTITY:" + quadrantEntity.symbol() + "EN ROUTE.";
+      this.report(new MoveBlockedReport(quadrantEntity.symbol()));
       return false;
     }
 
@@ -509,49 +646,107 @@ public class Game implements GameModel {
 
   /**
    * Moves which {@link Quadrant} the {@link Game} is handling using the given course, and given
-   * number of quadrants to jump (rounded down).
+   * number of quadrants to jump (rounded down). A course outside 1 to 8 goes nowhere, leaving the
+   * {@link Enterprise} where it is.
    *
    * @param course   - the direction of the jump: 1:→, 2:↗, 3:↑, 4:↖, 5:←, 6:↙, 7:↓, 8:↘
    * @param distance - how many quadrants to jump through (we drop the decimal for when jumping
    *                 between quadrants)
    */
   public void moveBetweenQuadrants(final int course, final double distance) {
+    if (!SectorRays.isCourse(course)) {
+      GameLog.log(Level.DEBUG, Category.MOVEMENT, "warp on no course", "course", course);
+      return;
+    }
     XyPair vector = this.getVectorFrom(course);
 
     boolean nextQuadrantIsValid = true;
-    final int maxIterations = 999; //while loop safety
-    int iterations = 0;
-    int jumps = (int) Math.floor(distance);
-    String report = "";
-    while (nextQuadrantIsValid && jumps > 0 && iterations < maxIterations) {
+    // only the quadrant the jump ends in is entered, so a lazy galaxy does not build every
+    // quadrant passed through on the way
+    int x = this.currentQuadrant.getX();
+    int y = this.currentQuadrant.getY();
+    // no course crosses more quadrants than the galaxy is wide or high before reaching its edge
+    int jumps = (int) Math.min(Math.floor(distance),
+        Math.max(this.galaxy.getWidth(), this.galaxy.getHeight()));
+    while (nextQuadrantIsValid && jumps > 0) {
       jumps -= 1;
-      iterations += 1;
-      nextQuadrantIsValid = attemptMoveBetweenQuadrants(vector);
+      nextQuadrantIsValid = this.galaxy.hasQuadrantAt(x + vector.getX(), y + vector.getY());
+      if (nextQuadrantIsValid) {
+        x += vector.getX();
+        y += vector.getY();
+      }
     }
-    if (iterations == maxIterations) {
-      throw new RuntimeException("Hit maximum iterations for Game.moveBetweenQuadrants()!");
+    if (x != this.currentQuadrant.getX() || y != this.currentQuadrant.getY()) {
+      this.enterQuadrant(this.galaxy.quadrantAt(x, y));
     }
     if (nextQuadrantIsValid) {
       /* @todo confirm this is actually firing when I think it should */
-      XyPair newPosition = this.currentQuadrant.getRandomEmptySector();
-      report += "Moved" + this.getDirectionIndicatorArrow(course) + "(" + (int) Math.floor(distance)
-          + ") between quadrants, arrived at quadrant (" + newPosition.getX() + ", "
-          + newPosition.getY() + ")";
-      this.report = report;
+      XyPair newPosition = this.currentQuadrant().getRandomEmptySector();
+      this.report(new WarpReport(course, (int) Math.floor(distance), newPosition.getX(),
+          newPosition.getY()));
 
-      System.out.println("ENTERPRISE ON ENTERING QUADRANT PLACED ON RANDOM EMPTY SECTOR");
+      GameLog.log(Level.DEBUG, Category.MOVEMENT, "placed on random empty sector",
+          "x", newPosition.getX(), "y", newPosition.getY());
       this.enterprise.setX(newPosition.getX());
       this.enterprise.setY(newPosition.getY());
     }
   }
 
+  @Override
+  public Route plotCourse(final int targetX, final int targetY) {
+    return this.autopilot().plot(this.currentQuadrant.getX(), this.currentQuadrant.getY(),
+        targetX, targetY);
+  }
+
+  @Override
+  public Route engageAutopilot(final int targetX, final int targetY) {
+    final Route route = this.plotCourse(targetX, targetY);
+    for (final Leg leg : route.legs()) {
+      this.moveBetweenQuadrants(leg.course(), leg.distance());
+    }
+    GameLog.log(Level.DEBUG, Category.MOVEMENT, "autopilot arrived",
+        "legs", route.legs().size(), "quadrants", route.quadrants());
+    return route;
+  }
+
+  /**
+   * Returns the {@link Autopilot} for the current {@link Galaxy}, making it on first use.
+   */
+  private Autopilot autopilot() {
+    if (this.autopilot == null) {
+      this.autopilot = new Autopilot(this.galaxy.getWidth(), this.galaxy.getHeight(),
+          WARP_ENERGY_PER_QUADRANT);
+    }
+    return this.autopilot;
+  }
+
   @Override
   public void load(Enterprise enterprise, Galaxy galaxy) {
-    int x = this.currentQuadrant.getX();
-    int y = this.currentQuadrant.getY();
+    this.load(enterprise, galaxy, this.currentQuadrant.getX(), this.currentQuadrant.getY());
+  }
+
+  @Override
+  public void load(final SavedGame saved) {
+    final XyPair quadrant = saved.currentQuadrant();
+    if (quadrant == null) {
+      this.load(saved.enterprise(), saved.galaxy());
+    } else {
+      this.load(saved.enterprise(), saved.galaxy(), quadrant.getX(), quadrant.getY());
+    }
+  }
+
+  /**
+   * Switches to the given {@link Enterprise} and {@link Galaxy}, entering the {@link Quadrant} at
+   * the given coordinates.
+   */
+  private void load(final Enterprise enterprise, final Galaxy galaxy, final int x, final int y) {
+    this.stateHash ^= this.enterprise.stateHash();
+    this.enterprise.observe(null, 0L);
     this.enterprise = enterprise;
+    this.stateHash ^= this.enterprise.observe(this.hashObserver, ENTERPRISE_SALT);
     this.galaxy = galaxy;
-    this.currentQuadrant = this.getGalaxy().quadrantAt(x, y);
+    this.autopilot = null;
+    this.enterQuadrant(this.getGalaxy().quadrantAt(x, y));
   }
 
   /**
@@ -569,7 +764,7 @@ public class Game implements GameModel {
       return false;
     }
 
-    this.currentQuadrant = proposedQuadrant;
+    this.enterQuadrant(proposedQuadrant);
     return true;
   }
 
@@ -589,4 +784,19 @@ public class Game implements GameModel {
     String exportedGalaxy = this.galaxy.export();
     return exportedEnterprise + exportedGalaxy;
   }
+
+  @Override
+  public byte[] exportBinary() {
+    return BinarySaveCodec.encode(this.enterprise, this.galaxy);
+  }
+
+  @Override
+  public byte[] exportFull() {
+    return FullSaveCodec.encode(this.enterprise, this.galaxy, this.currentQuadrant);
+  }
+
+  @Override
+  public SaveHeader saveHeader() {
+    return SaveHeader.of(this.enterprise, this.galaxy);
+  }
 }
@@ -1,45 +1,84 @@
 package sttrswing.model;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
  * GameLoader is responsible for loading the game state from a .trek file and reconstructing the
- * model entities.
+ * model entities. The file is streamed through {@link TrekParser} once per {@link #load()}, keeping
+ * only the numbers of each record, so the entities can be rebuilt without reading or splitting the
+ * text again.
  */
 public class GameLoader {
 
-  private static final String ENTERPRISE_PREFIX = "[e]";
-  private static final String QUADRANT_PREFIX = "[q]";
+  private static final int QUADRANT_FIELDS = 3;
 
   private final String path;
-  private String cachedContent;
+  private int[] enterpriseStats;
+  private int[] quadrantRecords;
+  private int quadrantCount;
   private boolean loadAttempted;
   private boolean lastLoadSuccessful;
+  private String lastLoadProblem;
 
   public GameLoader(String path) {
     if (path == null || path.isBlank()) {
       throw new IllegalArgumentException("Path must not be null or blank.");
     }
     this.path = path;
-    this.cachedContent = null;
+    this.enterpriseStats = null;
+    this.quadrantRecords = null;
+    this.quadrantCount = 0;
     this.loadAttempted = false;
     this.lastLoadSuccessful = false;
+    this.lastLoadProblem = null;
   }
 
   public void load() {
     this.loadAttempted = true;
-    try {
-      this.cachedContent = Files.readString(Path.of(this.path));
+    final int[] stats = new int[5];
+    final int[][] records = {new int[64 * QUADRANT_FIELDS]};
+    final int[] count = {0};
+    try (BufferedReader in = Files.newBufferedReader(Path.of(this.path))) {
+      TrekParser.parse(in, new TrekParser.Handler() {
+        @Override
+        public void enterprise(int x, int y, int energy, int shields, int torpedoes) {
+          stats[0] = x;
+          stats[1] = y;
+          stats[2] = energy;
+          stats[3] = shields;
+          stats[4] = torpedoes;
+        }
+
+        @Override
+        public void quadrant(int x, int y, int stars, int starbases, int klingons) {
+          int offset = count[0] * QUADRANT_FIELDS;
+          if (offset == records[0].length) {
+            records[0] = Arrays.copyOf(records[0], offset * 2);
+          }
+          records[0][offset] = x;
+          records[0][offset + 1] = y;
+          records[0][offset + 2] = stars << 8 | starbases << 4 | klingons;
+          count[0] += 1;
+        }
+      });
+      this.enterpriseStats = stats;
+      this.quadrantRecords = records[0];
+      this.quadrantCount = count[0];
       this.lastLoadSuccessful = true;
+      this.lastLoadProblem = null;
     } catch (IOException e) {
-      this.cachedContent = null;
+      this.enterpriseStats = null;
+      this.quadrantRecords = null;
+      this.quadrantCount = 0;
       this.lastLoadSuccessful = false;
+      this.lastLoadProblem = e.getMessage();
     }
   }
 
@@ -50,43 +89,30 @@ public class GameLoader {
     return this.lastLoadSuccessful;
   }
 
+  /**
+   * Returns why the last {@link #load()} failed, which for a malformed file includes the line and
+   * column of the problem.
+   *
+   * @return the problem, or null if the last load succeeded or none was attempted.
+   */
+  public String problem() {
+    return this.lastLoadProblem;
+  }
+
   public Enterprise buildEnterprise() {
     ensureContentIsAvailable();
-    String line = enterpriseLine();
-    try {
-      int x = parseLineForX(line);
-      int y = parseLineForY(line);
-      int energy = parseLineForEnergy(line);
-      int shields = parseLineForShields(line);
-      int torpedoes = parseLineForTorpedoes(line);
-      return new Enterprise(x, y, energy, shields, torpedoes);
-    } catch (IOException e) {
-      throw new IllegalStateException("Unable to parse enterprise data.", e);
-    }
+    return new Enterprise(this.enterpriseStats[0], this.enterpriseStats[1],
+        this.enterpriseStats[2], this.enterpriseStats[3], this.enterpriseStats[4]);
   }
 
   public Galaxy buildGalaxy() {
     ensureContentIsAvailable();
-    ArrayList<String> lines = galaxyLines();
-    if (lines.isEmpty()) {
-      throw new IllegalStateException("No quadrant data present in cached content.");
-    }
-    ArrayList<Quadrant> quadrants = new ArrayList<>();
-    for (String line : lines) {
-      try {
-        int x = parseLineForX(line);
-        int y = parseLineForY(line);
-        Map<String, Integer> counts = parseLineForQuadrantSymbol(line);
-        Integer stars = counts.get("stars");
-        Integer starbases = counts.get("starbases");
-        Integer klingons = counts.get("klingons");
-        if (stars == null || starbases == null || klingons == null) {
-          throw new IOException("Missing counts for quadrant.");
-        }
-        quadrants.add(new Quadrant(x, y, starbases, klingons, stars));
-      } catch (IOException e) {
-        throw new IllegalStateException("Unable to parse quadrant data.", e);
-      }
+    ArrayList<Quadrant> quadrants = new ArrayList<>(this.quadrantCount);
+    for (int i = 0; i < this.quadrantCount; i++) {
+      int offset = i * QUADRANT_FIELDS;
+      int counts = this.quadrantRecords[offset + 2];
+      quadrants.add(new Quadrant(this.quadrantRecords[offset], this.quadrantRecords[offset + 1],
+          (counts >>> 4) & 0xF, counts & 0xF, counts >>> 8));
     }
     return new Galaxy(quadrants);
   }
@@ -134,29 +160,30 @@ public class GameLoader {
     return "GameLoader[path=" + this.path + ", success=" + success() + "]";
   }
 
+  /**
+   * Returns the {@code [e]} record of the loaded file, normalised to the form
+   * {@link Enterprise#export()} writes.
+   *
+   * @return the record.
+   */
   public String enterpriseLine() {
-    ensureContentIsAvailable();
-    for (String line : contentLines()) {
-      if (line != null) {
-        String trimmed = line.trim();
-        if (!trimmed.isEmpty() && trimmed.startsWith(ENTERPRISE_PREFIX)) {
-          return trimmed;
-        }
-      }
-    }
-    throw new IllegalStateException("Enterprise line not found in cached content.");
+    return buildEnterprise().export().trim();
   }
 
+  /**
+   * Returns the {@code [q]} records of the loaded file in file order, normalised to the form
+   * {@link Galaxy#export()} writes.
+   *
+   * @return the records.
+   */
   public ArrayList<String> galaxyLines() {
     ensureContentIsAvailable();
-    ArrayList<String> lines = new ArrayList<>();
-    for (String line : contentLines()) {
-      if (line != null) {
-        String trimmed = line.trim();
-        if (!trimmed.isEmpty() && trimmed.startsWith(QUADRANT_PREFIX)) {
-          lines.add(trimmed);
-        }
-      }
+    ArrayList<String> lines = new ArrayList<>(this.quadrantCount);
+    for (int i = 0; i < this.quadrantCount; i++) {
+      int offset = i * QUADRANT_FIELDS;
+      int counts = this.quadrantRecords[offset + 2];
+      lines.add("[q] x:" + this.quadrantRecords[offset] + " y:" + this.quadrantRecords[offset + 1]
+          + " s:" + (counts >>> 8) + ((counts >>> 4) & 0xF) + (counts & 0xF) + " |");
     }
     return lines;
   }
@@ -174,15 +201,11 @@ public class GameLoader {
   }
 
   private void ensureContentIsAvailable() {
-    if (this.cachedContent == null) {
-      throw new IllegalStateException("No cached content available. Call load() and ensure it succeeds first.");
+    if (this.enterpriseStats == null) {
+      throw new IllegalStateException("No loaded content available. Call load() and ensure it succeeds first.");
     }
   }
 
-  private List<String> contentLines() {
-    return List.of(this.cachedContent.split("\\R", -1));
-  }
-
   private int parseIntegerToken(String line, String token) throws IOException {
     if (line == null) {
       throw new IOException("Line cannot be null.");
@@ -1,5 +1,8 @@
 package sttrswing.model;
 
+import sttrswing.logging.Category;
+import sttrswing.logging.GameLog;
+import sttrswing.logging.Level;
 import sttrswing.model.enums.Faction;
 import sttrswing.model.interfaces.HasFaction;
 import sttrswing.model.interfaces.Hittable;
@@ -10,8 +13,13 @@ import sttrswing.model.interfaces.Hittable;
  */
 public class Klingon extends Entity implements Hittable, HasFaction {
 
-    private final int maxEnergy = 300;
-    private final Stat energy = new Stat(maxEnergy, maxEnergy);
+    /**
+     * The energy every {@link Klingon} starts with.
+     */
+    static final int STARTING_ENERGY = 300;
+
+    private final int maxEnergy = STARTING_ENERGY;
+    private final Stat energy = new Stat(maxEnergy, maxEnergy, this);
     private Faction faction = Faction.NEUTRAL;
     //until identified the klingon is detected as neutral
 
@@ -25,6 +33,30 @@ public class Klingon extends Entity implements Hittable, HasFaction {
         super(x, y);
     }
 
+    /**
+     * Constructs a {@link Klingon} at the given X and Y position with the given energy, for
+     * restoring a saved one.
+     *
+     * @param x      - horizontal coordinate
+     * @param y      - vertical coordinate
+     * @param energy - energy it has left, kept within 0 and its starting energy.
+     */
+    Klingon(final int x, final int y, final int energy) {
+        super(x, y);
+        this.energy.set(energy);
+    }
+
+    /**
+     * Constructs a {@link Klingon} in the same state as the given one.
+     *
+     * @param source - the {@link Klingon} to copy.
+     */
+    Klingon(final Klingon source) {
+        super(source);
+        this.energy.set(source.energy.get());
+        this.faction = source.faction;
+    }
+
     /**
      * Return the {@link Faction} this belongs to.
      *
@@ -56,9 +88,10 @@ public class Klingon extends Entity implements Hittable, HasFaction {
      * @param damage - amount to reduce the {@link Klingon} energy reserves by.
      */
     public void hit(final int damage) {
-        System.out.println("KLINGON HIT FOR" + -damage + " ENERGY:" + this.energy);
+        final int before = this.energy.get();
         this.energy.adjust(-damage);
-        System.out.println("KLINGON NOW HAS ENERGY:" + this.energy);
+        GameLog.log(Level.DEBUG, Category.COMBAT, "klingon hit", "damage", damage,
+                "energyBefore", before, "energyAfter", this.energy.get());
         if (this.energy.get() < 1) {
             this.remove(); //mark for removal
         }
@@ -85,6 +118,20 @@ public class Klingon extends Entity implements Hittable, HasFaction {
         return "+K+";
     }
 
+    /**
+     * Returns how much energy this {@link Klingon} has left.
+     *
+     * @return how much energy this {@link Klingon} has left.
+     */
+    int energy() {
+        return this.energy.get();
+    }
+
+    @Override
+    long hashedState() {
+        return this.energy.get();
+    }
+
     @Override
     public void scan() {
         super.scan();
@@ -0,0 +1,99 @@
+package sttrswing.model;
+
+import sttrswing.model.enums.StopReason;
+
+/**
+ * Works out how far something moving in a straight line across a {@link Quadrant} gets, using the
+ * rays in {@link SectorRays} against the {@link Quadrant}s occupancy bitboard. The whole move is
+ * resolved in one go without stepping or moving anything, so a path can be previewed as cheaply as
+ * it can be taken.
+ *
+ * <p>The result is packed into a single int so resolving allocates nothing, read it back with
+ * {@link #stopX}, {@link #stopY}, {@link #steps} and {@link #stopReason}.</p>
+ */
+public final class MovementResolver {
+
+  private static final int SIDE = 8;
+  private static final StopReason[] REASONS = StopReason.values();
+
+  private MovementResolver() {
+    // Utility class
+  }
+
+  /**
+   * Resolves a move of up to the given number of sectors from the given sector along the given
+   * course, stopping early in front of the first occupied sector or at the edge.
+   *
+   * @param quadrant - the {@link Quadrant} being moved across.
+   * @param x        - horizontal coordinate of the sector moved from, between 0 and 7.
+   * @param y        - vertical coordinate of the sector moved from, between 0 and 7.
+   * @param course   - the course moved along, 1:→, 2:↗, 3:↑, 4:↖, 5:←, 6:↙, 7:↓, 8:↘.
+   * @param distance - how many sectors to try to move, anything below 1 moves nowhere.
+   * @return the packed result of the move.
+   * @throws IllegalArgumentException if the course is not between 1 and 8.
+   */
+  public static int resolve(final Quadrant quadrant, final int x, final int y, final int course,
+      final int distance) {
+    if (!SectorRays.isCourse(course)) {
+      throw new IllegalArgumentException("Course must be between 1 and 8, got " + course + ".");
+    }
+    final long ray = SectorRays.ray(course, x, y);
+    final int blocker = SectorRays.nearest(course, ray & quadrant.occupancy());
+    // along a straight or diagonal line the steps to a sector is the larger of its offsets
+    final int free = blocker < 0 ? Long.bitCount(ray)
+        : Math.max(Math.abs(blocker % SIDE - x), Math.abs(blocker / SIDE - y)) - 1;
+
+    final int steps;
+    final StopReason reason;
+    if (distance <= free) {
+      steps = Math.max(0, distance);
+      reason = StopReason.DISTANCE;
+    } else {
+      steps = free;
+      reason = blocker < 0 ? StopReason.EDGE : StopReason.ENTITY;
+    }
+    final int stopX = x + SectorRays.dx(course) * steps;
+    final int stopY = y + SectorRays.dy(course) * steps;
+    return stopX | stopY << 3 | steps << 6 | reason.ordinal() << 10;
+  }
+
+  /**
+   * Returns the horizontal coordinate of the sector the move stopped in.
+   *
+   * @param move - a result from {@link #resolve}.
+   * @return the horizontal coordinate of the sector the move stopped in.
+   */
+  public static int stopX(final int move) {
+    return move & 7;
+  }
+
+  /**
+   * Returns the vertical coordinate of the sector the move stopped in.
+   *
+   * @param move - a result from {@link #resolve}.
+   * @return the vertical coordinate of the sector the move stopped in.
+   */
+  public static int stopY(final int move) {
+    return (move >>> 3) & 7;
+  }
+
+  /**
+   * Returns how many sectors the move covered.
+   *
+   * @param move - a result from {@link #resolve}.
+   * @return how many sectors the move covered.
+   */
+  public static int steps(final int move) {
+    return (move >>> 6) & 15;
+  }
+
+  /**
+   * Returns why the move stopped where it did.
+   *
+   * @param move - a result from {@link #resolve}.
+   * @return why the move stopped where it did.
+   */
+  public static StopReason stopReason(final int move) {
+    return REASONS[move >>> 10];
+  }
+}
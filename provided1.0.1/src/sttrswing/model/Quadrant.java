@@ -1,23 +1,51 @@
 package sttrswing.model;
 
+import sttrswing.logging.Category;
+import sttrswing.logging.GameLog;
+import sttrswing.logging.Level;
 import sttrswing.model.interfaces.HasPosition;
 import sttrswing.model.interfaces.Hittable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.LongConsumer;
 
 /**
  * {@link Quadrant} are sections of space with a randomised mixture of {@link Star}s,
  * {@link Klingon}s and {@link Starbase}s.
+ *
+ * <p>Alongside the entity lists, each {@link Quadrant} keeps a 64-bit occupancy bitboard per kind
+ * of {@link Entity} (bit {@code y * 8 + x} set means that sector is taken) and a table mapping
+ * each sector to the {@link Entity} in it, so sector lookups never have to walk the lists. Entities
+ * should therefore only be added, moved or removed through the {@link Quadrant} itself.</p>
  */
 public class Quadrant implements Hittable, HasPosition {
 
+    private static final int SIDE = 8;
+    private static final int SECTORS = SIDE * SIDE;
+    /**
+     * Odd constant, 2^64 over the golden ratio, stepping the seed of each random empty sector draw.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
     private final List<Star> stars = new ArrayList<>();
     private final List<Klingon> klingons = new ArrayList<>();
     private final List<Starbase> starbases = new ArrayList<>();
+    private final Entity[] sectors = new Entity[SECTORS];
+    private long starMask = 0L;
+    private long klingonMask = 0L;
+    private long starbaseMask = 0L;
     private final XyPair position;
-    private final int maxRows = 8;
-    private final int maxCols = 8;
+    private final long randomSeed;
+    private long randomDraws;
+    private Galaxy galaxy;
+    private Object owner;
+    private int lastTickedTurn;
+    private long stateHash;
+    private boolean changed;
+    private final LongConsumer hashObserver = this::rehash;
+    private final int maxRows = SIDE;
+    private final int maxCols = SIDE;
 
     /**
      * Constructs a {@link Quadrant} at the given coordinates.
@@ -26,8 +54,161 @@ public class Quadrant implements Hittable, HasPosition {
      * @param galaxyY - vertical coordinate for this {@link Quadrant} in the {@link Galaxy}.
      */
     public Quadrant(final int galaxyX, final int galaxyY) {
+        this(galaxyX, galaxyY, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a {@link Quadrant} at the given coordinates, drawing every random choice from the
+     * given generator. Two {@link Quadrant}s built from generators with the same seed are laid out
+     * identically, and go on to pick the same random empty sectors.
+     *
+     * @param galaxyX - horizontal coordinate for this {@link Quadrant} in the {@link Galaxy}.
+     * @param galaxyY - vertical coordinate for this {@link Quadrant} in the {@link Galaxy}.
+     * @param random  - the generator this {@link Quadrant} uses for all of its random choices.
+     */
+    public Quadrant(final int galaxyX, final int galaxyY, final SplittableRandom random) {
+        this(galaxyX, galaxyY, random, layout(random));
+    }
+
+    /**
+     * Constructs a {@link Quadrant} at the given coordinates with an entity placed on every sector
+     * set in the given bitboards.
+     *
+     * @param galaxyX - horizontal coordinate for this {@link Quadrant} in the {@link Galaxy}.
+     * @param galaxyY - vertical coordinate for this {@link Quadrant} in the {@link Galaxy}.
+     * @param random  - the generator this {@link Quadrant} uses for its later random choices.
+     * @param layout  - the {@link Starbase}, {@link Klingon} and {@link Star} bitboards, in that
+     *                order, as produced by {@link #layout(SplittableRandom)}.
+     */
+    private Quadrant(final int galaxyX, final int galaxyY, final SplittableRandom random,
+                     final long[] layout) {
+        this.position = new XyPair(galaxyX, galaxyY);
+        this.randomSeed = random.nextLong();
+        for (long bits = layout[0]; bits != 0L; bits &= bits - 1) {
+            final int sector = Long.numberOfTrailingZeros(bits);
+            this.addStarbase(new Starbase(this.sectorX(sector), this.sectorY(sector)));
+        }
+        for (long bits = layout[1]; bits != 0L; bits &= bits - 1) {
+            final int sector = Long.numberOfTrailingZeros(bits);
+            this.addKlingon(new Klingon(this.sectorX(sector), this.sectorY(sector)));
+        }
+        for (long bits = layout[2]; bits != 0L; bits &= bits - 1) {
+            final int sector = Long.numberOfTrailingZeros(bits);
+            this.addStar(new Star(this.sectorX(sector), this.sectorY(sector)));
+        }
+    }
+
+    /**
+     * Constructs a copy of the given {@link Quadrant} holding copies of all of its entities, for a
+     * {@link Galaxy} that shares the original with a fork to change in its place. The copy carries
+     * on from the same point of the same random sequence, so it goes on to make exactly the random
+     * choices the original would have and a replay from a fork matches the game it was taken from.
+     *
+     * @param source - the {@link Quadrant} to copy.
+     */
+    private Quadrant(final Quadrant source) {
+        this.position = new XyPair(source.getX(), source.getY());
+        this.randomSeed = source.randomSeed;
+        this.randomDraws = source.randomDraws;
+        for (Starbase starbase : source.starbases) {
+            this.addStarbase(new Starbase(starbase));
+        }
+        for (Klingon klingon : source.klingons) {
+            this.addKlingon(new Klingon(klingon));
+        }
+        for (Star star : source.stars) {
+            this.addStar(new Star(star));
+        }
+        this.starbaseMask = source.starbaseMask;
+        this.klingonMask = source.klingonMask;
+        this.starMask = source.starMask;
+        this.lastTickedTurn = source.lastTickedTurn;
+    }
+
+    /**
+     * Constructs a {@link Quadrant} holding exactly the given entities, for restoring a saved one
+     * without drawing anything random. Entities are kept in the order given.
+     *
+     * @param galaxyX        - horizontal coordinate for this {@link Quadrant} in the {@link Galaxy}.
+     * @param galaxyY        - vertical coordinate for this {@link Quadrant} in the {@link Galaxy}.
+     * @param randomSeed     - seed of its sequence of random empty sector choices.
+     * @param randomDraws    - how far along that sequence it is.
+     * @param lastTickedTurn - the turn it was last brought up to date on.
+     * @param starbases      - its {@link Starbase}s.
+     * @param klingons       - its {@link Klingon}s.
+     * @param stars          - its {@link Star}s.
+     * @throws IllegalArgumentException if an entity is outside the {@link Quadrant} or two share a
+     *                                  sector.
+     */
+    Quadrant(final int galaxyX, final int galaxyY, final long randomSeed, final long randomDraws,
+             final int lastTickedTurn, final List<Starbase> starbases,
+             final List<Klingon> klingons, final List<Star> stars) {
         this.position = new XyPair(galaxyX, galaxyY);
-        Random random = new Random();
+        this.randomSeed = randomSeed;
+        this.randomDraws = randomDraws;
+        this.lastTickedTurn = lastTickedTurn;
+        for (Starbase starbase : starbases) {
+            this.checkPlaceable(starbase);
+            this.addStarbase(starbase);
+        }
+        for (Klingon klingon : klingons) {
+            this.checkPlaceable(klingon);
+            this.addKlingon(klingon);
+        }
+        for (Star star : stars) {
+            this.checkPlaceable(star);
+            this.addStar(star);
+        }
+    }
+
+    private void checkPlaceable(final Entity entity) {
+        if (!this.isInBounds(entity.getX(), entity.getY())) {
+            throw new IllegalArgumentException("Sector (" + entity.getX() + "," + entity.getY()
+                    + ") is outside quadrant (" + this.getX() + "," + this.getY() + ").");
+        }
+        if (this.sectors[this.sectorIndex(entity.getX(), entity.getY())] != null) {
+            throw new IllegalArgumentException("Sector (" + entity.getX() + "," + entity.getY()
+                    + ") of quadrant (" + this.getX() + "," + this.getY()
+                    + ") is already taken.");
+        }
+    }
+
+    /**
+     * Returns the seed of this {@link Quadrant}s sequence of random empty sector choices.
+     *
+     * @return the seed.
+     */
+    long randomSeed() {
+        return this.randomSeed;
+    }
+
+    /**
+     * Returns how many random empty sector choices this {@link Quadrant} has made.
+     *
+     * @return how many random empty sector choices have been made.
+     */
+    long randomDraws() {
+        return this.randomDraws;
+    }
+
+    /**
+     * Returns the turn this {@link Quadrant} was last brought up to date on.
+     *
+     * @return the turn this {@link Quadrant} was last brought up to date on.
+     */
+    int lastTickedTurn() {
+        return this.lastTickedTurn;
+    }
+
+    /**
+     * Rolls how many of everything a randomly generated {@link Quadrant} holds, without placing
+     * any of it. This is all a {@link Galaxy} needs to know about a {@link Quadrant} it has not
+     * built yet, {@link #layout(SplittableRandom)} places exactly these.
+     *
+     * @param random - the generator to roll with, it is left just past the count rolls.
+     * @return how many {@link Starbase}s, {@link Klingon}s and {@link Star}s, in that order.
+     */
+    static int[] counts(final SplittableRandom random) {
         // Doing 1-100 below is less efficient than 0-99, but makes it easy to see what I am doing
         int enemies = random.nextInt(100) + 1; // pick a random number from 1-100
         // this is not my final answer, I'm just using this variable as a temporary for now
@@ -66,22 +247,50 @@ public class Quadrant implements Hittable, HasPosition {
             // 3 in 10 chance - bad luck, no help here!
             starbases = 0;
         }
+        return new int[] {starbases, enemies, stars};
+    }
+
+    /**
+     * Rolls where everything in a randomly generated {@link Quadrant} goes, without creating any
+     * of it. This lets a {@link Galaxy} learn what a {@link Quadrant} will hold without paying for
+     * the whole {@link Quadrant}, building it later from a generator with the same seed.
+     *
+     * @param random - the generator to roll with, it is left just past the placement rolls.
+     * @return the {@link Starbase}, {@link Klingon} and {@link Star} bitboards, in that order.
+     */
+    static long[] layout(final SplittableRandom random) {
+        final int[] counts = counts(random);
+        int starbases = counts[0];
+        int enemies = counts[1];
+        int stars = counts[2];
         // Now place all these in random spots in the Quadrant
-        for (int y = 0; y < maxRows; y += 1) {
-            for (int x = 0; x < maxCols; x += 1) {
-                int d6 = random.nextInt(6) + 1; // d6 is a six-sided die (dice)
-                if (d6 == 1 && starbases > 0) { // have to thow a "1" on the die to get a Starbase
-                    starbases -= 1;
-                    this.starbases.add(new Starbase(x, y));
-                } else if (d6 == 2 && enemies > 0) { // or thow a "2" on the die to get a Klingon
-                    enemies -= 1;
-                    this.klingons.add(new Klingon(x, y));
-                } else if (d6 == 3 && stars > 0) { // or thow a "3" on the die to get a Star
-                    stars -= 1;
-                    this.stars.add(new Star(x, y));
+        long starbaseMask = 0L;
+        long klingonMask = 0L;
+        long starMask = 0L;
+        // keep going over the empty sectors until everything rolled is placed, so the counts alone
+        // say what the quadrant holds
+        while (starbases + enemies + stars > 0) {
+            for (int y = 0; y < SIDE; y += 1) {
+                for (int x = 0; x < SIDE; x += 1) {
+                    final long sector = 1L << (y * SIDE + x);
+                    if (((starbaseMask | klingonMask | starMask) & sector) != 0L) {
+                        continue; // already taken on an earlier pass
+                    }
+                    int d6 = random.nextInt(6) + 1; // d6 is a six-sided die (dice)
+                    if (d6 == 1 && starbases > 0) { // have to thow a "1" on the die to get a Starbase
+                        starbases -= 1;
+                        starbaseMask |= sector;
+                    } else if (d6 == 2 && enemies > 0) { // or thow a "2" on the die to get a Klingon
+                        enemies -= 1;
+                        klingonMask |= sector;
+                    } else if (d6 == 3 && stars > 0) { // or thow a "3" on the die to get a Star
+                        stars -= 1;
+                        starMask |= sector;
+                    }
                 }
             }
         }
+        return new long[] {starbaseMask, klingonMask, starMask};
     }
 
     /**
@@ -109,7 +318,24 @@ public class Quadrant implements Hittable, HasPosition {
      *                  </p>
      */
     public Quadrant(final int galaxyX, final int galaxyY, int starbases, int klingons, int stars) {
+        this(galaxyX, galaxyY, starbases, klingons, stars, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a {@link Quadrant} with the given number of {@link Starbase}s, {@link Klingon}s
+     * and {@link Star}s placed on random empty sectors chosen with the given generator.
+     *
+     * @param galaxyX   - horizontal coordinate
+     * @param galaxyY   - vertical coordinate
+     * @param starbases - number of {@link Starbase} to place on empty sectors
+     * @param klingons  - number of {@link Klingon} to place on empty sectors
+     * @param stars     - number of {@link Star} to place on empty sectors
+     * @param random    - the generator this {@link Quadrant} uses for all of its random choices.
+     */
+    public Quadrant(final int galaxyX, final int galaxyY, int starbases, int klingons, int stars,
+                    final SplittableRandom random) {
         this.position = new XyPair(galaxyX, galaxyY);
+        this.randomSeed = random.nextLong();
         /*
         This is the original test code below,
         but YOU still have to modify it to put the objects in random places.
@@ -117,47 +343,357 @@ public class Quadrant implements Hittable, HasPosition {
         Look up how to use java.util.Random in the Java API.
         @todo change this test code to randomise the location of each the objects in the Quadrant
          */
+        // once every sector is taken there is nowhere left to place anything else
         for (int starbase = 0; starbase < starbases; starbase++) {
-            XyPair position = this.getRandomEmptySector();
-            this.starbases.add(new Starbase(position.getX(), position.getY()));
+            int sector = this.randomEmptySectorIndex();
+            if (sector < 0) {
+                return;
+            }
+            this.addStarbase(new Starbase(this.sectorX(sector), this.sectorY(sector)));
         }
         for (int klingon = 0; klingon < klingons; klingon++) {
-            XyPair position = this.getRandomEmptySector();
-            this.klingons.add(new Klingon(position.getX(), position.getY()));
+            int sector = this.randomEmptySectorIndex();
+            if (sector < 0) {
+                return;
+            }
+            this.addKlingon(new Klingon(this.sectorX(sector), this.sectorY(sector)));
         }
         for (int star = 0; star < stars; star++) {
-            XyPair position = this.getRandomEmptySector();
-            this.stars.add(new Star(position.getX(), position.getY()));
+            int sector = this.randomEmptySectorIndex();
+            if (sector < 0) {
+                return;
+            }
+            this.addStar(new Star(this.sectorX(sector), this.sectorY(sector)));
         }
     }
 
+    /**
+     * Returns the coordinates of a randomly chosen sector that no {@link Star}, {@link Klingon} or
+     * {@link Starbase} occupies, or null if every sector is taken.
+     *
+     * @return the coordinates of a random empty sector, or null if there are none.
+     */
     public XyPair getRandomEmptySector() {
-        final List<XyPair> fullSectors = new ArrayList<>();
+        final int sector = this.randomEmptySectorIndex();
+        if (sector < 0) {
+            return null;
+        }
+        return new XyPair(this.sectorX(sector), this.sectorY(sector));
+    }
+
+    /**
+     * Picks a random empty sector straight off the occupancy bitboards, without allocating.
+     *
+     * @return the index ({@code y * 8 + x}) of a random empty sector, or -1 if every sector is
+     *     taken.
+     */
+    int randomEmptySectorIndex() {
+        long empty = ~this.occupancy();
+        if (empty == 0L) {
+            return -1;
+        }
+        // the n-th draw (counting from 1) mixes randomSeed + n * GOLDEN_GAMMA with the mix64
+        // finaliser and scales its top 32 bits down to the number of empty sectors, so it is worked
+        // out from the draw count alone and a copy of this quadrant carries on the same sequence
+        this.randomDraws += 1;
+        this.markChanged();
+        final long bits = mix64(this.randomSeed + this.randomDraws * GOLDEN_GAMMA);
+        int skip = (int) (((bits >>> 32) * Long.bitCount(empty)) >>> 32);
+        for (; skip > 0; skip -= 1) {
+            empty &= empty - 1; // clear the lowest empty sector
+        }
+        return Long.numberOfTrailingZeros(empty);
+    }
 
+    /**
+     * Scrambles the bits of the given value, the finaliser {@link SplittableRandom} uses.
+     */
+    private static long mix64(final long value) {
+        long z = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the occupancy bitboard for this {@link Quadrant}, bit {@code y * 8 + x} is set if a
+     * {@link Star}, {@link Klingon} or {@link Starbase} is in that sector.
+     *
+     * @return the occupancy bitboard for every {@link Entity} in this {@link Quadrant}.
+     */
+    public long occupancy() {
+        return this.starMask | this.klingonMask | this.starbaseMask;
+    }
+
+    /**
+     * Returns the occupancy bitboard of the {@link Star}s in this {@link Quadrant}.
+     *
+     * @return the occupancy bitboard of the {@link Star}s in this {@link Quadrant}.
+     */
+    long starMask() {
+        return this.starMask;
+    }
+
+    /**
+     * Returns the occupancy bitboard of the {@link Klingon}s in this {@link Quadrant}.
+     *
+     * @return the occupancy bitboard of the {@link Klingon}s in this {@link Quadrant}.
+     */
+    long klingonMask() {
+        return this.klingonMask;
+    }
+
+    /**
+     * Returns the occupancy bitboard of the {@link Starbase}s in this {@link Quadrant}.
+     *
+     * @return the occupancy bitboard of the {@link Starbase}s in this {@link Quadrant}.
+     */
+    long starbaseMask() {
+        return this.starbaseMask;
+    }
+
+    /**
+     * Returns if the sector at the given coordinates is occupied by a {@link Star},
+     * {@link Klingon} or {@link Starbase}. Coordinates outside the {@link Quadrant} are never
+     * occupied.
+     *
+     * @param x - horizontal coordinate
+     * @param y - vertical coordinate
+     * @return if the sector at the given coordinates is occupied.
+     */
+    public boolean isOccupied(final int x, final int y) {
+        if (!this.isInBounds(x, y)) {
+            return false;
+        }
+        return (this.occupancy() & (1L << this.sectorIndex(x, y))) != 0L;
+    }
+
+    /**
+     * Returns the {@link Entity} in the sector with the given index, or null if it is empty.
+     *
+     * @param sector - index ({@code y * 8 + x}) of the sector, must be between 0 and 63.
+     * @return the {@link Entity} in that sector, or null if it is empty.
+     */
+    Entity entityAtSector(final int sector) {
+        return this.sectors[sector];
+    }
+
+    /**
+     * Moves an {@link Entity} held by this {@link Quadrant} to the given empty sector, keeping the
+     * occupancy bitboards in step with its new position.
+     *
+     * @param entity - the {@link Entity} to move, must be one of this {@link Quadrant}s entities.
+     * @param x      - horizontal coordinate to move to.
+     * @param y      - vertical coordinate to move to.
+     * @return if the move was made, false if the target sector is outside the {@link Quadrant},
+     *     already occupied, or the {@link Entity} is not in this {@link Quadrant}.
+     */
+    public boolean move(final Entity entity, final int x, final int y) {
+        if (!this.isInBounds(entity.getX(), entity.getY()) || !this.isInBounds(x, y)) {
+            return false;
+        }
+        final int from = this.sectorIndex(entity.getX(), entity.getY());
+        final int to = this.sectorIndex(x, y);
+        if (this.sectors[from] != entity || this.sectors[to] != null) {
+            return false;
+        }
+        final long fromBit = 1L << from;
+        final long toBit = 1L << to;
+        if ((this.starMask & fromBit) != 0L) {
+            this.starMask ^= fromBit | toBit;
+        } else if ((this.klingonMask & fromBit) != 0L) {
+            this.klingonMask ^= fromBit | toBit;
+        } else {
+            this.starbaseMask ^= fromBit | toBit;
+        }
+        this.sectors[from] = null;
+        this.sectors[to] = entity;
+        entity.setX(x);
+        entity.setY(y);
+        return true;
+    }
+
+    /**
+     * Registers the {@link Galaxy} holding this {@link Quadrant} so it can be told when
+     * {@link #cleanup()} removes {@link Klingon}s or {@link Starbase}s.
+     *
+     * @param galaxy - the {@link Galaxy} this {@link Quadrant} belongs to.
+     * @param owner  - the edit token the {@link Galaxy} marks the {@link Quadrant}s it may change
+     *               in place with.
+     */
+    void attach(final Galaxy galaxy, final Object owner) {
+        this.galaxy = galaxy;
+        this.owner = owner;
+    }
+
+    /**
+     * Returns true if this {@link Quadrant} was attached with the given edit token.
+     *
+     * @param owner - an edit token.
+     * @return true if this {@link Quadrant} was attached with the given edit token.
+     */
+    boolean isOwnedBy(final Object owner) {
+        return this.owner == owner;
+    }
+
+    /**
+     * Returns a copy of this {@link Quadrant} (see {@link #Quadrant(Quadrant)}), not yet attached to
+     * any {@link Galaxy}.
+     *
+     * @return a copy of this {@link Quadrant}.
+     */
+    Quadrant copy() {
+        return new Quadrant(this);
+    }
+
+    private void addStar(final Star star) {
+        this.stars.add(star);
+        this.starMask |= this.occupy(star);
+        this.stateHash ^= star.observe(this.hashObserver, this.salt(Zobrist.STAR));
+    }
+
+    private void addKlingon(final Klingon klingon) {
+        this.klingons.add(klingon);
+        this.klingonMask |= this.occupy(klingon);
+        this.stateHash ^= klingon.observe(this.hashObserver, this.salt(Zobrist.KLINGON));
+    }
+
+    private void addStarbase(final Starbase starbase) {
+        this.starbases.add(starbase);
+        this.starbaseMask |= this.occupy(starbase);
+        this.stateHash ^= starbase.observe(this.hashObserver, this.salt(Zobrist.STARBASE));
+    }
+
+    private long salt(final int kind) {
+        return Zobrist.salt(kind, this.getX(), this.getY());
+    }
+
+    /**
+     * Applies a change to this {@link Quadrant}s share of the state hash, passing it on to the
+     * {@link Galaxy} holding it.
+     *
+     * @param delta - the XOR of the old and new share of one of its entities.
+     */
+    private void rehash(final long delta) {
+        this.stateHash ^= delta;
+        this.markChanged();
+        if (this.galaxy != null) {
+            this.galaxy.rehash(delta);
+        }
+    }
+
+    /**
+     * Tells the {@link Galaxy} holding this {@link Quadrant} that it has changed since the
+     * {@link Galaxy} last handed out its changes (see {@link Galaxy#takeChanges()}), once per
+     * save.
+     */
+    void markChanged() {
+        if (!this.changed && this.galaxy != null) {
+            this.changed = true;
+            this.galaxy.quadrantChanged(this);
+        }
+    }
+
+    /**
+     * Forgets that this {@link Quadrant} has changed, once the {@link Galaxy} holding it has handed
+     * out its changes.
+     */
+    void clearChanged() {
+        this.changed = false;
+    }
+
+    /**
+     * Returns this {@link Quadrant}s share of the state hash (see {@link Game#stateHash()}), the
+     * placement and energy of every entity in it, kept up to date as they change.
+     *
+     * @return this {@link Quadrant}s share of the state hash.
+     */
+    long stateHash() {
+        return this.stateHash;
+    }
+
+    /**
+     * Works out this {@link Quadrant}s share of the state hash from scratch.
+     *
+     * @return this {@link Quadrant}s share of the state hash.
+     */
+    long computeStateHash() {
+        long hash = 0L;
         for (Star star : this.stars) {
-            fullSectors.add(new XyPair(star.getX(), star.getY()));
+            hash ^= star.computeStateHash();
         }
         for (Klingon klingon : this.klingons) {
-            fullSectors.add(new XyPair(klingon.getX(), klingon.getY()));
+            hash ^= klingon.computeStateHash();
         }
         for (Starbase starbase : this.starbases) {
-            fullSectors.add(new XyPair(starbase.getX(), starbase.getY()));
+            hash ^= starbase.computeStateHash();
         }
+        return hash;
+    }
 
-        final List<XyPair> emptySectors = new ArrayList<>();
-        for (int y = 0; y < this.maxRows; y++) {
-            for (int x = 0; x < this.maxCols; x++) {
-                XyPair option = new XyPair(x, y);
-                if (!fullSectors.contains(option)) {
-                    emptySectors.add(option);
-                }
+    /**
+     * Works out the share of the state hash a {@link Quadrant} freshly built from the given layout
+     * would have, without building it.
+     *
+     * @param galaxyX - horizontal coordinate for the {@link Quadrant} in the {@link Galaxy}.
+     * @param galaxyY - vertical coordinate for the {@link Quadrant} in the {@link Galaxy}.
+     * @param layout  - the bitboards from {@link #layout(SplittableRandom)}.
+     * @return the share of the state hash of the {@link Quadrant}.
+     */
+    static long layoutHash(final int galaxyX, final int galaxyY, final long[] layout) {
+        final long[] salts = {Zobrist.salt(Zobrist.STARBASE, galaxyX, galaxyY),
+            Zobrist.salt(Zobrist.KLINGON, galaxyX, galaxyY),
+            Zobrist.salt(Zobrist.STAR, galaxyX, galaxyY)};
+        final long[] states = {Starbase.STARTING_ENERGY, Klingon.STARTING_ENERGY, 0L};
+        long hash = 0L;
+        for (int kind = 0; kind < layout.length; kind += 1) {
+            for (long bits = layout[kind]; bits != 0L; bits &= bits - 1) {
+                final int sector = Long.numberOfTrailingZeros(bits);
+                hash ^= Zobrist.key(salts[kind], sector % SIDE, sector / SIDE, states[kind]);
             }
         }
-        if (emptySectors.isEmpty()) {
-            return null;
+        return hash;
+    }
+
+    /**
+     * Records the given {@link Entity} in the sector table and returns its occupancy bit.
+     *
+     * @param entity - the {@link Entity} being placed, must be on an empty sector.
+     * @return the occupancy bit for the sector the {@link Entity} is in.
+     */
+    private long occupy(final Entity entity) {
+        final int sector = this.sectorIndex(entity.getX(), entity.getY());
+        this.sectors[sector] = entity;
+        return 1L << sector;
+    }
+
+    /**
+     * Clears the given {@link Entity} out of the sector table and returns its occupancy bit.
+     *
+     * @param entity - the {@link Entity} being removed.
+     * @return the occupancy bit to clear for the sector the {@link Entity} was in.
+     */
+    private long vacate(final Entity entity) {
+        final int sector = this.sectorIndex(entity.getX(), entity.getY());
+        if (this.sectors[sector] == entity) {
+            this.sectors[sector] = null;
         }
-        Random random = new Random();
-        return emptySectors.get(random.nextInt(emptySectors.size()));
+        return 1L << sector;
+    }
+
+    private boolean isInBounds(final int x, final int y) {
+        return x >= 0 && y >= 0 && x < this.maxCols && y < this.maxRows;
+    }
+
+    private int sectorIndex(final int x, final int y) {
+        return y * this.maxCols + x;
+    }
+
+    private int sectorX(final int sector) {
+        return sector % this.maxCols;
+    }
+
+    private int sectorY(final int sector) {
+        return sector / this.maxCols;
     }
 
     public List<Klingon> klingons() {
@@ -230,22 +766,11 @@ public class Quadrant implements Hittable, HasPosition {
      * @return 3 character {@link String} symbol.
      */
     public String getSymbolAt(final int x, final int y) {
-        for (Star star : stars) {
-            if (star.getX() == x && star.getY() == y) {
-                return star.symbol();
-            }
+        final Entity entity = this.getEntityAt(x, y);
+        if (entity == null) {
+            return "   ";
         }
-        for (Klingon ship : klingons) {
-            if (ship.getX() == x && ship.getY() == y) {
-                return ship.symbol();
-            }
-        }
-        for (Starbase starbase : starbases) {
-            if (starbase.getX() == x && starbase.getY() == y) {
-                return starbase.symbol();
-            }
-        }
-        return "   ";
+        return entity.symbol();
     }
 
     /**
@@ -257,22 +782,10 @@ public class Quadrant implements Hittable, HasPosition {
      * return that, otherwise return null.
      */
     public Entity getEntityAt(final int x, final int y) {
-        for (Starbase starbase : this.starbases) {
-            if (starbase.getX() == x && starbase.getY() == y) {
-                return starbase;
-            }
-        }
-        for (Entity star : this.stars) {
-            if (star.getX() == x && star.getY() == y) {
-                return star;
-            }
-        }
-        for (Klingon klingon : this.klingons) {
-            if (klingon.getX() == x && klingon.getY() == y) {
-                return klingon;
-            }
+        if (!this.isInBounds(x, y)) {
+            return null;
         }
-        return null;
+        return this.sectors[this.sectorIndex(x, y)];
     }
 
     /**
@@ -332,6 +845,16 @@ public class Quadrant implements Hittable, HasPosition {
         return "" + this.stars.size() + this.starbases.size() + this.klingons.size();
     }
 
+    /**
+     * Returns the same counts as {@link #symbol()} packed into an int, a byte each, as
+     * {@code stars << 16 | starbases << 8 | klingons}.
+     *
+     * @return the packed counts.
+     */
+    int counts() {
+        return this.stars.size() << 16 | this.starbases.size() << 8 | this.klingons.size();
+    }
+
     /**
      * Handles a 'turn' of the {@link Game} for the {@link Starbase}s and {@link Klingon}s in this
      * {@link Quadrant}. Intended to be called only if the {@link Quadrant} is currently active.
@@ -347,7 +870,8 @@ public class Quadrant implements Hittable, HasPosition {
         for (Klingon klingon : this.klingons) {
             boolean isDocked = enterprise.docked((ArrayList<Starbase>) this.starbases);
             if (isDocked) {
-                System.out.println("ship was docked with a nearby starbase and thus safe from attack!");
+                GameLog.log(Level.DEBUG, Category.COMBAT,
+                        "ship was docked with a nearby starbase and thus safe from attack");
             } else {
                 totalDamage += klingon.attack(enterprise);
             }
@@ -373,6 +897,72 @@ public class Quadrant implements Hittable, HasPosition {
         }
     }
 
+    /**
+     * Returns true if {@link #outOfFocusTick} has anything to do in this {@link Quadrant}, which is
+     * what decides whether the {@link TickScheduler} visits it each turn. Only {@link Starbase}s
+     * change while out of focus.
+     *
+     * @return true if {@link #outOfFocusTick} has anything to do in this {@link Quadrant}.
+     */
+    public boolean hasOutOfFocusWork() {
+        return !this.starbases.isEmpty();
+    }
+
+    /**
+     * Applies the given number of {@link #outOfFocusTick} turns in one go. While out of focus the
+     * number of {@link Klingon}s here never changes, so every turn does the same thing to each
+     * {@link Starbase} and the bounds on its energy make that a single larger hit or heal.
+     *
+     * @param turns - how many out of focus turns to apply.
+     */
+    void outOfFocusTicks(final int turns) {
+        if (turns < 1) {
+            return;
+        }
+        for (Starbase starbase : this.starbases) {
+            if (this.klingonCount() > 2) {
+                starbase.hit(turns);
+            } else {
+                starbase.heal((int) Math.min(10L * turns, Integer.MAX_VALUE));
+            }
+        }
+    }
+
+    /**
+     * Brings this {@link Quadrant} up to the given turn by applying, in one go, every out of focus
+     * turn since it was last brought up to date.
+     *
+     * @param turn - the turn the {@link Galaxy} is on.
+     */
+    void catchUp(final int turn) {
+        this.outOfFocusTicks(turn - this.lastTickedTurn);
+        this.markTicked(turn);
+    }
+
+    /**
+     * Records that this {@link Quadrant} is up to date as of the given turn without applying
+     * anything, for when it was in focus or is already being ticked every turn.
+     *
+     * @param turn - the turn the {@link Galaxy} is on.
+     */
+    void markTicked(final int turn) {
+        if (turn != this.lastTickedTurn) {
+            this.lastTickedTurn = turn;
+            this.markChanged();
+        }
+    }
+
+    /**
+     * Returns true if this {@link Quadrant} has out of focus turns to catch up on before the given
+     * turn.
+     *
+     * @param turn - the turn the {@link Galaxy} is on.
+     * @return true if {@link #catchUp(int)} would change anything.
+     */
+    boolean isBehind(final int turn) {
+        return this.lastTickedTurn < turn;
+    }
+
     /**
      * Hit every {@link Hittable} {@link Klingon} in this {@link Quadrant}.
      *
@@ -390,15 +980,32 @@ public class Quadrant implements Hittable, HasPosition {
      * respective {@link List}. Only public for testing purposes.
      */
     public void cleanup() {
+        int klingonsRemoved = 0;
+        int starbasesRemoved = 0;
+        long removedHash = 0L;
         for (int i = this.klingons.size() - 1; i >= 0; i -= 1) {
             if (this.klingons.get(i).isMarkedForRemoval()) {
-                this.klingons.remove(i);
+                final Klingon klingon = this.klingons.remove(i);
+                this.klingonMask &= ~this.vacate(klingon);
+                removedHash ^= klingon.stateHash();
+                klingon.observe(null, 0L);
+                klingonsRemoved += 1;
             }
         }
         for (int i = this.starbases.size() - 1; i >= 0; i -= 1) {
             if (this.starbases.get(i).isMarkedForRemoval()) {
-                this.starbases.remove(i);
+                final Starbase starbase = this.starbases.remove(i);
+                this.starbaseMask &= ~this.vacate(starbase);
+                removedHash ^= starbase.stateHash();
+                starbase.observe(null, 0L);
+                starbasesRemoved += 1;
             }
         }
+        if (removedHash != 0L) {
+            this.rehash(removedHash);
+        }
+        if (this.galaxy != null && (klingonsRemoved > 0 || starbasesRemoved > 0)) {
+            this.galaxy.countsChanged(this, -klingonsRemoved, -starbasesRemoved);
+        }
     }
 }
\ No newline at end of file
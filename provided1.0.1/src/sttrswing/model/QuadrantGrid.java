@@ -0,0 +1,141 @@
+package sttrswing.model;
+
+/**
+ * The fixed size grid of {@link Quadrant}s behind a {@link Galaxy}, stored so that it can be forked
+ * in constant time.
+ *
+ * <p>Positions are held in a tree of 64 slot nodes, the last level holding the {@link Quadrant}s
+ * themselves. A fork shares the whole tree with the grid it came from and both sides take a new
+ * edit token, so every existing node becomes read only to them. The first write to a position
+ * after that copies just the nodes on its path, which the writer then owns and writes in place
+ * from then on. Nodes are only made once something is stored under them, so a mostly empty grid
+ * stays small.</p>
+ *
+ * <p>The edit token is also what a {@link Galaxy} stamps its {@link Quadrant}s with, telling the
+ * ones it may change in place apart from the ones it still shares with a fork.</p>
+ */
+final class QuadrantGrid {
+
+  private static final int BITS = 6;
+  private static final int BRANCH = 1 << BITS;
+  private static final int MASK = BRANCH - 1;
+
+  private final int size;
+  private final int shift;
+  private Object edit = new Object();
+  private Node root;
+
+  /**
+   * Constructs an empty {@link QuadrantGrid} with the given number of positions.
+   *
+   * @param size - how many positions the grid has.
+   */
+  QuadrantGrid(final int size) {
+    int shift = 0;
+    while ((long) BRANCH << shift < size) {
+      shift += BITS;
+    }
+    this.size = size;
+    this.shift = shift;
+    this.root = new Node(this.edit);
+  }
+
+  /**
+   * Constructs a {@link QuadrantGrid} sharing every node of the given one.
+   *
+   * @param source - the grid to share nodes with, it must already have taken a new edit token.
+   */
+  private QuadrantGrid(final QuadrantGrid source) {
+    this.size = source.size;
+    this.shift = source.shift;
+    this.root = source.root;
+  }
+
+  /**
+   * Returns an independent copy of this grid in constant time. From now on neither grid changes
+   * any node or {@link Quadrant} the two share, each copies what it writes to instead.
+   *
+   * @return the forked grid.
+   */
+  QuadrantGrid fork() {
+    this.edit = new Object();
+    return new QuadrantGrid(this);
+  }
+
+  /**
+   * Returns the token marking nodes and {@link Quadrant}s this grid may change in place.
+   *
+   * @return the current edit token.
+   */
+  Object edit() {
+    return this.edit;
+  }
+
+  /**
+   * Returns how many positions the grid has.
+   *
+   * @return how many positions the grid has.
+   */
+  int size() {
+    return this.size;
+  }
+
+  /**
+   * Returns the {@link Quadrant} at the given position.
+   *
+   * @param index - the position, must be between 0 and {@link #size()}.
+   * @return the {@link Quadrant} at that position, or null if none has been stored there.
+   */
+  Quadrant get(final int index) {
+    Node node = this.root;
+    for (int level = this.shift; level > 0; level -= BITS) {
+      node = (Node) node.slots[(index >>> level) & MASK];
+      if (node == null) {
+        return null;
+      }
+    }
+    return (Quadrant) node.slots[index & MASK];
+  }
+
+  /**
+   * Stores the {@link Quadrant} at the given position, copying any node on the way to it that is
+   * shared with a fork.
+   *
+   * @param index    - the position, must be between 0 and {@link #size()}.
+   * @param quadrant - the {@link Quadrant} to store.
+   */
+  void set(final int index, final Quadrant quadrant) {
+    Node node = this.editable(this.root);
+    this.root = node;
+    for (int level = this.shift; level > 0; level -= BITS) {
+      final int slot = (index >>> level) & MASK;
+      final Node child = (Node) node.slots[slot];
+      final Node editable = child == null ? new Node(this.edit) : this.editable(child);
+      node.slots[slot] = editable;
+      node = editable;
+    }
+    node.slots[index & MASK] = quadrant;
+  }
+
+  private Node editable(final Node node) {
+    if (node.edit == this.edit) {
+      return node;
+    }
+    final Node copy = new Node(this.edit);
+    System.arraycopy(node.slots, 0, copy.slots, 0, BRANCH);
+    return copy;
+  }
+
+  /**
+   * One level of the tree, holding either child nodes or {@link Quadrant}s.
+   */
+  private static final class Node {
+
+    private final Object edit;
+    private final Object[] slots = new Object[BRANCH];
+
+    private Node(final Object edit) {
+      this.edit = edit;
+    }
+  }
+}
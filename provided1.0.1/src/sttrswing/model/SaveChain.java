@@ -0,0 +1,479 @@
+package sttrswing.model;
+
+import static sttrswing.codec.ByteDecoder.getVarint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import sttrswing.codec.ByteEncoder;
+import sttrswing.model.enums.TickMode;
+import sttrswing.model.interfaces.HasPosition;
+
+/**
+ * Saves a {@link Game} over and over to the same place, writing only what changed since the save
+ * before. The first save, and every so often after, is a full save (see {@link FullSaveCodec})
+ * to the base file. Saves in between are deltas written beside it as {@code <base>.d1},
+ * {@code <base>.d2} and so on, each holding the {@link Enterprise} if it changed, the current
+ * {@link Quadrant}, the turn and hashes, and only the {@link Quadrant}s built or changed since the
+ * save before (see {@link Galaxy#takeChanges()}), so a save costs time in proportion to what
+ * changed rather than the size of the {@link Galaxy}. Loading reads the base and applies the
+ * deltas on top in order before building the {@link Galaxy} once. To save without holding up
+ * the thread playing the {@link Game}, save {@link Game#snapshot() snapshots} of it instead, which
+ * carry what changed with them.
+ *
+ * <p>The chain is compacted into a new base once it holds {@code compactAfter} deltas or more
+ * bytes of deltas than the base itself. A full save is also written whenever the {@link Game}
+ * being saved does not follow on from the last save, such as a different {@link Game} or a fork
+ * of it played differently, and after a save fails. Every file is written to a temporary file and
+ * moved into place, so a crash mid-save leaves the chain as it was.</p>
+ *
+ * <p>Delta layout, version 2: the magic number {@code TRKD} and a version byte, a
+ * {@link SaveHeader} of the state saved, so listing saves shows the newest delta without reading
+ * the chain (see {@link #newestHeader}), which version 1 deltas, still read, do not have, the
+ * CRC-32 of the base it follows on from and its position in the chain, a byte for whether the
+ * {@link Enterprise} follows and then the {@link Enterprise} and current {@link Quadrant} as in a
+ * full save, the turns and {@link TickMode}, the share of the state hash of the {@link Quadrant}s
+ * not built yet and the state hash of the whole {@link Galaxy}, then how many {@link Quadrant}s
+ * follow and for each the gap in grid positions since the last and the {@link Quadrant} as in a
+ * full save. A delta whose CRC-32 or position does not match is left over from an earlier chain
+ * and ends the chain.</p>
+ */
+public final class SaveChain {
+
+  /**
+   * How many deltas a chain holds before it is compacted, unless told otherwise.
+   */
+  public static final int DEFAULT_COMPACT_AFTER = 32;
+
+  static final int MAGIC = 0x54524B44; // "TRKD"
+  static final int VERSION = 2;
+
+  private static final Pattern DELTA_NAME = Pattern.compile(
+      "(.+\\." + FullSaveCodec.EXTENSION + ")\\.d[0-9]+", Pattern.CASE_INSENSITIVE);
+  private static final int MAX_VARINT_BYTES = 5;
+
+  private final Path base;
+  private final int compactAfter;
+  private Object changeMark;
+  private int baseCrc;
+  private long baseBytes;
+  private long deltaBytes;
+  private int deltas;
+  private boolean lastWasFull;
+
+  /**
+   * Constructs a {@link SaveChain} saving to the given base file, compacting after
+   * {@link #DEFAULT_COMPACT_AFTER} deltas.
+   *
+   * @param base - the base file, deltas are written beside it.
+   */
+  public SaveChain(final Path base) {
+    this(base, DEFAULT_COMPACT_AFTER);
+  }
+
+  /**
+   * Constructs a {@link SaveChain} saving to the given base file. Nothing is read or written until
+   * the first {@link #save} or {@link #load}, and the first save is always a full one.
+   *
+   * @param base         - the base file, deltas are written beside it.
+   * @param compactAfter - how many deltas to write before writing a full save again.
+   * @throws IllegalArgumentException if compactAfter is less than 1.
+   */
+  public SaveChain(final Path base, final int compactAfter) {
+    if (compactAfter < 1) {
+      throw new IllegalArgumentException("Must compact after at least 1 delta, got "
+          + compactAfter + ".");
+    }
+    this.base = base;
+    this.compactAfter = compactAfter;
+  }
+
+  /**
+   * Returns the base file of this chain.
+   *
+   * @return the base file of this chain.
+   */
+  public Path base() {
+    return this.base;
+  }
+
+  /**
+   * Returns how many deltas follow the base file.
+   *
+   * @return how many deltas follow the base file.
+   */
+  public int deltaCount() {
+    return this.deltas;
+  }
+
+  /**
+   * Returns true if the last successful {@link #save} wrote a full save rather than a delta.
+   *
+   * @return true if the last save was a full save.
+   */
+  public boolean lastWasFull() {
+    return this.lastWasFull;
+  }
+
+  /**
+   * Saves the given {@link Game}, as a delta on top of the last save if it follows on from it and
+   * the chain is not due to be compacted, otherwise as a new base.
+   *
+   * @param game - the {@link Game} to save.
+   * @return the file written.
+   * @throws IOException if a file can not be written, the next save is then a full one.
+   */
+  public Path save(final Game game) throws IOException {
+    return this.save(SaveSnapshot.take(game, false));
+  }
+
+  /**
+   * Saves the given snapshot (see {@link Game#snapshot()}), as a delta on top of the last save if
+   * it follows on from it and the chain is not due to be compacted, otherwise as a new base. Need
+   * not be called on the thread playing the {@link Game}, as long as snapshots are saved in the
+   * order they were taken.
+   *
+   * @param snapshot - the snapshot to save.
+   * @return the file written.
+   * @throws IOException if a file can not be written, the next save is then a full one.
+   */
+  public Path save(final SaveSnapshot snapshot) throws IOException {
+    final Game game = snapshot.game();
+    final Galaxy galaxy = game.getGalaxy();
+    final boolean follows = this.changeMark != null && this.changeMark == snapshot.since();
+    // forget what we know first, so a failed write is followed by a full save
+    this.changeMark = null;
+    final Path written;
+    if (follows && this.deltas < this.compactAfter && this.deltaBytes <= this.baseBytes) {
+      final byte[] bytes = encodeDelta(this.baseCrc, this.deltas + 1, game.saveHeader(),
+          snapshot.enterpriseChanged() ? game.getEnterprise() : null, galaxy,
+          game.galaxyPosition(), snapshot.changes());
+      written = this.deltaPath(this.deltas + 1);
+      AtomicFile.write(written, bytes);
+      this.deltas += 1;
+      this.deltaBytes += bytes.length;
+      this.lastWasFull = false;
+    } else {
+      final byte[] bytes = FullSaveCodec.encode(game.getEnterprise(), galaxy,
+          game.galaxyPosition());
+      written = this.base;
+      AtomicFile.write(written, bytes);
+      this.startChain(bytes);
+      this.deleteDeltasFrom(1);
+      this.lastWasFull = true;
+    }
+    this.changeMark = snapshot.mark();
+    return written;
+  }
+
+  /**
+   * Reads the base file and every delta that follows on from it, and carries on the chain from
+   * there, so saving the {@link Game} it is loaded into goes on writing deltas.
+   *
+   * @return the saved {@link Enterprise}, {@link Galaxy} and current {@link Quadrant}.
+   * @throws IOException              if a file can not be read.
+   * @throws IllegalArgumentException if the base or a delta that follows on from it is malformed,
+   *                                  or together they do not rebuild the state that was saved.
+   */
+  public SavedGame load() throws IOException {
+    this.changeMark = null;
+    final byte[] bytes = Files.readAllBytes(this.base);
+    final FullSaveCodec.Image image = FullSaveCodec.decodeImage(bytes, null);
+    this.startChain(bytes);
+    for (ByteBuffer delta = this.nextDelta(); delta != null; delta = this.nextDelta()) {
+      applyDelta(image, delta);
+      this.deltas += 1;
+      this.deltaBytes += delta.capacity();
+    }
+    // anything left over past the end of the chain would be mistaken for part of it later
+    this.deleteDeltasFrom(this.deltas + 1);
+    final SavedGame saved = image.build(null);
+    saved.galaxy().takeChanges();
+    saved.enterprise().takeChanged();
+    this.changeMark = saved.galaxy().changeMark();
+    return saved;
+  }
+
+  /**
+   * Reads the given base file and every delta that follows on from it, without carrying on the
+   * chain.
+   *
+   * @param base - the base file.
+   * @return the saved {@link Enterprise}, {@link Galaxy} and current {@link Quadrant}.
+   * @throws IOException              if a file can not be read.
+   * @throws IllegalArgumentException if the base or a delta that follows on from it is malformed,
+   *                                  or together they do not rebuild the state that was saved.
+   */
+  public static SavedGame read(final Path base) throws IOException {
+    return read(base, Files.readAllBytes(base));
+  }
+
+  /**
+   * Applies every delta that follows on from the given base file to its contents, already read by
+   * the caller, for example while reporting progress.
+   *
+   * @param base  - the base file, the deltas are looked for beside it.
+   * @param bytes - the contents of the base file.
+   * @return the saved {@link Enterprise}, {@link Galaxy} and current {@link Quadrant}.
+   * @throws IOException              if a delta can not be read.
+   * @throws IllegalArgumentException if the base or a delta that follows on from it is malformed,
+   *                                  or together they do not rebuild the state that was saved.
+   */
+  public static SavedGame read(final Path base, final byte[] bytes) throws IOException {
+    return read(base, bytes, null);
+  }
+
+  /**
+   * Reads a chain as {@link #read(Path, byte[])} does, telling the given listener how many bytes of
+   * the base have been decoded as it goes, and giving up once the thread is interrupted so a load
+   * running in the background can be cancelled.
+   *
+   * @param base     - the base file, the deltas are looked for beside it.
+   * @param bytes    - the contents of the base file.
+   * @param progress - told the running total of bytes of the base decoded, ending with all of
+   *                 them.
+   * @return the saved {@link Enterprise}, {@link Galaxy} and current {@link Quadrant}.
+   * @throws IOException              if a delta can not be read.
+   * @throws IllegalArgumentException if the base or a delta that follows on from it is malformed,
+   *                                  or together they do not rebuild the state that was saved.
+   * @throws java.util.concurrent.CancellationException if the thread is interrupted, it is left
+   *                                  interrupted.
+   */
+  public static SavedGame read(final Path base, final byte[] bytes, final LongConsumer progress)
+      throws IOException {
+    final FullSaveCodec.Image image = FullSaveCodec.decodeImage(bytes, progress);
+    final int crc = crc(bytes);
+    for (int n = 1; ; n += 1) {
+      final ByteBuffer delta = readDelta(deltaPath(base, n), crc, n);
+      if (delta == null) {
+        return image.build(progress);
+      }
+      applyDelta(image, delta);
+    }
+  }
+
+  /**
+   * Returns the base file of the chain the given file is a delta of.
+   *
+   * @param file - any file.
+   * @return the base file beside it, or null if the file is not named as a delta.
+   */
+  public static Path baseOf(final Path file) {
+    final Path name = file.getFileName();
+    if (name == null) {
+      return null;
+    }
+    final Matcher matcher = DELTA_NAME.matcher(name.toString());
+    return matcher.matches() ? file.resolveSibling(matcher.group(1)) : null;
+  }
+
+  /**
+   * Works out the CRC-32 of the given base file, which every delta that follows on from it holds,
+   * reading the whole file.
+   *
+   * @param base - the base file.
+   * @return its CRC-32.
+   * @throws IOException if the file can not be read.
+   */
+  public static int crc(final Path base) throws IOException {
+    try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(base),
+        new CRC32())) {
+      in.transferTo(OutputStream.nullOutputStream());
+      return (int) in.getChecksum().getValue();
+    }
+  }
+
+  /**
+   * Reads only the {@link SaveHeader} of the newest delta that follows on from the given base, so
+   * a listing of saves can show what was saved last without reading the chain.
+   *
+   * @param base    - the base file, the deltas are looked for beside it.
+   * @param baseCrc - the CRC-32 of the base, see {@link #crc(Path)}.
+   * @return the header of the newest delta, or null if no delta follows on from the base or the
+   *     newest one was written before deltas had headers.
+   * @throws IOException if a delta can not be read.
+   */
+  public static SaveHeader newestHeader(final Path base, final int baseCrc) throws IOException {
+    SaveHeader header = null;
+    for (int n = 1; ; n += 1) {
+      final Path path = deltaPath(base, n);
+      if (!Files.exists(path)) {
+        return header;
+      }
+      final byte[] start;
+      try (InputStream in = Files.newInputStream(path)) {
+        start = in.readNBytes(Integer.BYTES + 1 + SaveHeader.BYTES + Integer.BYTES
+            + MAX_VARINT_BYTES);
+      }
+      final ByteBuffer in = ByteBuffer.wrap(start);
+      try {
+        if (!startsDelta(in)) {
+          return header;
+        }
+        final SaveHeader delta = in.get() >= 2 ? SaveHeader.get(in) : null;
+        if (in.getInt() != baseCrc || getVarint(in) != n) {
+          return header;
+        }
+        header = delta;
+      } catch (BufferUnderflowException | IllegalArgumentException e) {
+        return header;
+      }
+    }
+  }
+
+  /**
+   * Encodes a delta holding the given changes.
+   *
+   * @param baseCrc         - CRC-32 of the base the delta follows on from.
+   * @param sequence        - position of the delta in the chain, from 1.
+   * @param header          - the {@link SaveHeader} of the state being saved.
+   * @param enterprise      - the {@link Enterprise} if it changed, otherwise null.
+   * @param galaxy          - the {@link Galaxy} being saved.
+   * @param currentQuadrant - the {@link Quadrant} the {@link Enterprise} is in, may be null.
+   * @param changes         - grid positions of the {@link Quadrant}s to write, ascending.
+   * @return the encoded delta.
+   */
+  static byte[] encodeDelta(final int baseCrc, final int sequence, final SaveHeader header,
+      final Enterprise enterprise, final Galaxy galaxy, final HasPosition currentQuadrant,
+      final int[] changes) {
+    final ByteEncoder out = new ByteEncoder(256);
+    out.putInt(MAGIC);
+    out.put(VERSION);
+    header.put(out);
+    out.putInt(baseCrc);
+    out.putVarint(sequence);
+    out.put(enterprise == null ? 0 : 1);
+    if (enterprise != null) {
+      FullSaveCodec.putEnterprise(out, enterprise);
+    }
+    FullSaveCodec.putCurrentQuadrant(out, currentQuadrant);
+    out.putVarint(galaxy.getTurns());
+    out.put(galaxy.getTickMode().ordinal());
+    out.putLong(galaxy.pendingHash());
+    out.putLong(galaxy.stateHash());
+    out.putVarint(changes.length);
+    int previous = -1;
+    for (int index : changes) {
+      out.putVarint(index - previous - 1);
+      previous = index;
+      FullSaveCodec.putQuadrant(out, galaxy.builtAt(index));
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Applies a delta whose start has already been checked and read to the given image.
+   *
+   * @throws IllegalArgumentException if the delta is malformed.
+   */
+  private static void applyDelta(final FullSaveCodec.Image image, final ByteBuffer in) {
+    try {
+      if (in.get() != 0) {
+        image.enterprise = FullSaveCodec.getEnterprise(in);
+      }
+      image.currentQuadrant = FullSaveCodec.getCurrentQuadrant(in);
+      image.turns = getVarint(in);
+      image.tickMode = FullSaveCodec.getTickMode(in);
+      image.pendingHash = in.getLong();
+      image.stateHash = in.getLong();
+      int index = -1;
+      for (int n = getVarint(in); n > 0; n -= 1) {
+        index += getVarint(in) + 1;
+        image.put(index, FullSaveCodec.getQuadrant(in, index, image.height));
+      }
+      if (in.hasRemaining()) {
+        throw new IllegalArgumentException("Delta save has " + in.remaining()
+            + " bytes left over.");
+      }
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Delta save is cut short.", e);
+    }
+  }
+
+  /**
+   * Reads the given delta if it exists and follows on from the given base at the given position.
+   *
+   * @return the delta, positioned just past its position in the chain, or null if there is none
+   *     or it is left over from an earlier chain.
+   */
+  private static ByteBuffer readDelta(final Path path, final int baseCrc, final int sequence)
+      throws IOException {
+    if (!Files.exists(path)) {
+      return null;
+    }
+    final ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(path));
+    try {
+      if (!startsDelta(in)) {
+        return null;
+      }
+      if (in.get() >= 2) {
+        SaveHeader.get(in);
+      }
+      if (in.getInt() != baseCrc || getVarint(in) != sequence) {
+        return null;
+      }
+    } catch (BufferUnderflowException | IllegalArgumentException e) {
+      return null;
+    }
+    return in;
+  }
+
+  /**
+   * Returns true if the given bytes start with the magic number and a version this can read,
+   * leaving the buffer at the version byte.
+   */
+  private static boolean startsDelta(final ByteBuffer in) {
+    if (in.getInt() != MAGIC) {
+      return false;
+    }
+    final int version = in.get(in.position());
+    return version >= 1 && version <= VERSION;
+  }
+
+  private ByteBuffer nextDelta() throws IOException {
+    return readDelta(this.deltaPath(this.deltas + 1), this.baseCrc, this.deltas + 1);
+  }
+
+  private void startChain(final byte[] baseBytes) {
+    this.baseCrc = crc(baseBytes);
+    this.baseBytes = baseBytes.length;
+    this.deltaBytes = 0;
+    this.deltas = 0;
+  }
+
+  private void deleteDeltasFrom(final int first) throws IOException {
+    for (int n = first; Files.deleteIfExists(this.deltaPath(n)); n += 1) {
+      // keep going until there is a gap
+    }
+  }
+
+  private Path deltaPath(final int sequence) {
+    return deltaPath(this.base, sequence);
+  }
+
+  /**
+   * Returns where the delta at the given position in the chain on the given base is written.
+   *
+   * @param base     - the base file.
+   * @param sequence - position of the delta in the chain, from 1.
+   * @return the delta file beside the base.
+   */
+  public static Path deltaPath(final Path base, final int sequence) {
+    return base.resolveSibling(base.getFileName() + ".d" + sequence);
+  }
+
+  private static int crc(final byte[] bytes) {
+    final CRC32 crc = new CRC32();
+    crc.update(bytes);
+    return (int) crc.getValue();
+  }
+}
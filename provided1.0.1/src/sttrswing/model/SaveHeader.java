@@ -0,0 +1,177 @@
+package sttrswing.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import sttrswing.codec.ByteEncoder;
+
+/**
+ * A summary of a save small enough to read without parsing the save itself, for listing saves.
+ * Every save format puts it at the very start of the file at a fixed size:
+ * <ul>
+ *   <li>binary ({@link BinarySaveCodec}) and full-fidelity ({@link FullSaveCodec}) saves from
+ *   version 2 on, and delta saves ({@link SaveChain}) from version 2 on, hold it straight after
+ *   the magic number and version byte, as six 4 byte big-endian ints, {@value #BYTES} bytes in
+ *   all,</li>
+ *   <li>text saves start with it as a line of {@value #TEXT_BYTES} characters,
+ *   {@code [h] t:0000000012 k:0000000005 b:0000000002 e:0000002500 w:0000000008 h:0000000008 |},
+ *   which loaders skip as it is not an {@code [e]} or {@code [q]} record.</li>
+ * </ul>
+ *
+ * @param turns     - how many turns the {@link Galaxy} had been ticked through.
+ * @param klingons  - how many {@link Klingon}s were left.
+ * @param starbases - how many {@link Starbase}s were left.
+ * @param energy    - how much energy the {@link Enterprise} had left.
+ * @param width     - how many {@link Quadrant}s wide the {@link Galaxy} is.
+ * @param height    - how many {@link Quadrant}s high the {@link Galaxy} is.
+ */
+public record SaveHeader(int turns, int klingons, int starbases, int energy, int width,
+    int height) {
+
+  /**
+   * Size of the header in a binary or full-fidelity save, not counting the magic number and
+   * version byte before it.
+   */
+  public static final int BYTES = 6 * Integer.BYTES;
+
+  /**
+   * Size of the header line in a text save, including its line break.
+   */
+  public static final int TEXT_BYTES = 84;
+
+  private static final int PREFIX_BYTES = Integer.BYTES + 1;
+  private static final int DIGITS = 10;
+  private static final String TEXT_TAG = "[h]";
+  private static final String TEXT_KEYS = "tkbewh";
+
+  /**
+   * Returns the header for the given state.
+   *
+   * @param enterprise - the {@link Enterprise} being saved.
+   * @param galaxy     - the {@link Galaxy} being saved.
+   * @return the header for the given state.
+   */
+  public static SaveHeader of(final Enterprise enterprise, final Galaxy galaxy) {
+    return new SaveHeader(galaxy.getTurns(), galaxy.klingonCount(), galaxy.starbaseCount(),
+        enterprise.energy(), galaxy.getWidth(), galaxy.getHeight());
+  }
+
+  /**
+   * Reads only the header at the start of the given save file, whatever its format.
+   *
+   * @param path - the save file.
+   * @return the header, or null if the file does not start with one, such as a save written
+   *     before headers were added.
+   * @throws IOException if the file can not be read.
+   */
+  public static SaveHeader read(final Path path) throws IOException {
+    final byte[] start;
+    try (InputStream in = Files.newInputStream(path)) {
+      start = in.readNBytes(Math.max(PREFIX_BYTES + BYTES, TEXT_BYTES));
+    }
+    return parse(start);
+  }
+
+  /**
+   * Reads the header at the start of the given bytes of a save, whatever its format.
+   *
+   * @param start - the first bytes of a save, at least the header's worth if there is one.
+   * @return the header, or null if the bytes do not start with one.
+   */
+  static SaveHeader parse(final byte[] start) {
+    if (start.length >= PREFIX_BYTES + BYTES) {
+      final ByteBuffer in = ByteBuffer.wrap(start);
+      final int magic = in.getInt();
+      final int version = in.get();
+      if ((magic == BinarySaveCodec.MAGIC || magic == FullSaveCodec.MAGIC
+          || magic == SaveChain.MAGIC) && version >= 2) {
+        return get(in);
+      }
+    }
+    if (start.length >= TEXT_BYTES) {
+      return parseText(new String(start, 0, TEXT_BYTES, StandardCharsets.US_ASCII));
+    }
+    return null;
+  }
+
+  /**
+   * Reads a header written by {@link #put}.
+   *
+   * @param in - positioned at the header.
+   * @return the header.
+   * @throws java.nio.BufferUnderflowException if there is not a header's worth left.
+   */
+  static SaveHeader get(final ByteBuffer in) {
+    return new SaveHeader(in.getInt(), in.getInt(), in.getInt(), in.getInt(), in.getInt(),
+        in.getInt());
+  }
+
+  /**
+   * Writes this header in the binary form.
+   *
+   * @param out - where to write it.
+   */
+  void put(final ByteEncoder out) {
+    for (int value : this.values()) {
+      out.putInt(value);
+    }
+  }
+
+  /**
+   * Returns this header as the line that starts a text save, {@value #TEXT_BYTES} characters
+   * including its line break.
+   *
+   * @return this header as a line of a text save.
+   * @throws IllegalArgumentException if a value is negative.
+   */
+  public String toText() {
+    final StringBuilder line = new StringBuilder(TEXT_BYTES).append(TEXT_TAG);
+    final int[] values = this.values();
+    for (int i = 0; i < values.length; i += 1) {
+      if (values[i] < 0) {
+        throw new IllegalArgumentException("Save header values must not be negative, got "
+            + values[i] + ".");
+      }
+      final String digits = Integer.toString(values[i]);
+      line.append(' ').append(TEXT_KEYS.charAt(i)).append(':')
+          .append("0".repeat(DIGITS - digits.length())).append(digits);
+    }
+    return line.append(" |\n").toString();
+  }
+
+  private static SaveHeader parseText(final String line) {
+    if (!line.startsWith(TEXT_TAG) || !line.endsWith(" |\n")) {
+      return null;
+    }
+    final int[] values = new int[TEXT_KEYS.length()];
+    int position = TEXT_TAG.length();
+    for (int i = 0; i < values.length; i += 1) {
+      if (line.charAt(position) != ' ' || line.charAt(position + 1) != TEXT_KEYS.charAt(i)
+          || line.charAt(position + 2) != ':') {
+        return null;
+      }
+      position += 3;
+      long value = 0;
+      for (int end = position + DIGITS; position < end; position += 1) {
+        final char c = line.charAt(position);
+        if (c < '0' || c > '9') {
+          return null;
+        }
+        value = value * 10 + (c - '0');
+      }
+      if (value > Integer.MAX_VALUE) {
+        return null;
+      }
+      values[i] = (int) value;
+    }
+    return new SaveHeader(values[0], values[1], values[2], values[3], values[4], values[5]);
+  }
+
+  private int[] values() {
+    return new int[] {this.turns, this.klingons, this.starbases, this.energy, this.width,
+        this.height};
+  }
+}
@@ -0,0 +1,124 @@
+package sttrswing.model;
+
+import java.util.Arrays;
+
+/**
+ * A {@link Game} to save together with what changed in it since the snapshot before, so that a
+ * {@link SaveChain} can write a delta from a fork saved on another thread. The changes are taken
+ * from the live {@link Game} when the snapshot is made (see {@link Game#snapshot()}), since
+ * taking them from the fork would leave the live {@link Game} holding them under a mark no save
+ * follows on from, making every later save a full one.
+ *
+ * <p>A snapshot follows on from the one before it if the live {@link Galaxy} was not replaced in
+ * between, which {@link SaveChain} checks with the change marks the snapshot was taken between.
+ * Snapshots that are never saved, such as those an autosave replaces with a later one before
+ * writing them, must be {@link #followedBy merged} into the later one or the changes they hold are
+ * lost, and the chain then falls back to a full save.</p>
+ */
+public final class SaveSnapshot {
+
+  private final Game game;
+  private final Object since;
+  private final Object mark;
+  private final int[] changes;
+  private final boolean enterpriseChanged;
+
+  private SaveSnapshot(final Game game, final Object since, final Object mark,
+      final int[] changes, final boolean enterpriseChanged) {
+    this.game = game;
+    this.since = since;
+    this.mark = mark;
+    this.changes = changes;
+    this.enterpriseChanged = enterpriseChanged;
+  }
+
+  /**
+   * Takes what changed in the given {@link Game} since the last snapshot of it.
+   *
+   * @param game - the live {@link Game}.
+   * @param fork - true to save a fork of the {@link Game}, taken after the changes, false to save
+   *             the {@link Game} itself before it changes again.
+   * @return the snapshot.
+   */
+  static SaveSnapshot take(final Game game, final boolean fork) {
+    final Galaxy galaxy = game.getGalaxy();
+    final Object since = galaxy.changeMark();
+    final int[] changes = galaxy.takeChanges();
+    final boolean enterpriseChanged = game.getEnterprise().takeChanged();
+    return new SaveSnapshot(fork ? game.fork() : game, since, galaxy.changeMark(), changes,
+        enterpriseChanged);
+  }
+
+  /**
+   * Returns the {@link Game} to save.
+   *
+   * @return the {@link Game} to save.
+   */
+  public Game game() {
+    return this.game;
+  }
+
+  /**
+   * Returns a snapshot of the later state that holds the changes of both, for saving only the
+   * later one when this one has not been saved.
+   *
+   * @param later - a snapshot taken of the same {@link Game} after this one.
+   * @return the later state, with the changes since the snapshot before this one.
+   */
+  public SaveSnapshot followedBy(final SaveSnapshot later) {
+    if (later.since != this.mark) {
+      // the galaxy was replaced in between, so nothing can follow on from this one anyway
+      return later;
+    }
+    return new SaveSnapshot(later.game, this.since, later.mark,
+        union(this.changes, later.changes), this.enterpriseChanged || later.enterpriseChanged);
+  }
+
+  /**
+   * Returns the change mark of the {@link Galaxy} before this snapshot was taken.
+   */
+  Object since() {
+    return this.since;
+  }
+
+  /**
+   * Returns the change mark of the {@link Galaxy} once this snapshot was taken.
+   */
+  Object mark() {
+    return this.mark;
+  }
+
+  /**
+   * Returns the grid positions of the {@link Quadrant}s changed since the snapshot before,
+   * ascending.
+   */
+  int[] changes() {
+    return this.changes;
+  }
+
+  /**
+   * Returns true if the {@link Enterprise} changed since the snapshot before.
+   */
+  boolean enterpriseChanged() {
+    return this.enterpriseChanged;
+  }
+
+  private static int[] union(final int[] a, final int[] b) {
+    final int[] merged = new int[a.length + b.length];
+    int i = 0;
+    int j = 0;
+    int n = 0;
+    while (i < a.length || j < b.length) {
+      final int next;
+      if (j == b.length || i < a.length && a[i] <= b[j]) {
+        next = a[i++];
+      } else {
+        next = b[j++];
+      }
+      if (n == 0 || merged[n - 1] != next) {
+        merged[n++] = next;
+      }
+    }
+    return Arrays.copyOf(merged, n);
+  }
+}
@@ -0,0 +1,24 @@
+package sttrswing.model;
+
+/**
+ * The {@link Enterprise} and {@link Galaxy} read back from a save file, ready to hand to
+ * {@link sttrswing.model.interfaces.GameModel#load}.
+ *
+ * @param enterprise      - the saved {@link Enterprise}.
+ * @param galaxy          - the saved {@link Galaxy}.
+ * @param currentQuadrant - coordinates of the {@link Quadrant} the {@link Enterprise} was in, or
+ *                        null if the save format does not record it.
+ */
+public record SavedGame(Enterprise enterprise, Galaxy galaxy, XyPair currentQuadrant) {
+
+  /**
+   * Constructs a {@link SavedGame} from a save format that does not record which
+   * {@link Quadrant} the {@link Enterprise} was in.
+   *
+   * @param enterprise - the saved {@link Enterprise}.
+   * @param galaxy     - the saved {@link Galaxy}.
+   */
+  public SavedGame(final Enterprise enterprise, final Galaxy galaxy) {
+    this(enterprise, galaxy, null);
+  }
+}
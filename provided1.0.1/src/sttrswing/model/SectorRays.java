@@ -0,0 +1,111 @@
+package sttrswing.model;
+
+/**
+ * Precomputed rays across the 8*8 sectors of a {@link Quadrant}, one for each of the 8 courses
+ * from each of the 64 sectors, laid out on the same bitboard as {@link Quadrant#occupancy()}
+ * (bit = y * 8 + x).
+ *
+ * <p>A ray holds every sector a straight line along the course passes through after leaving its
+ * starting sector, up to the edge of the {@link Quadrant}. Intersecting a ray with an occupancy
+ * mask leaves exactly the sectors along the line that something sits in, and the nearest of those
+ * is the lowest set bit for courses that move to higher bits or the highest set bit for courses
+ * that move to lower ones.</p>
+ */
+public final class SectorRays {
+
+  private static final int SIDE = 8;
+  private static final int SECTORS = SIDE * SIDE;
+  private static final int COURSES = 8;
+  private static final int[] DX = {1, 1, 0, -1, -1, -1, 0, 1};
+  private static final int[] DY = {0, -1, -1, -1, 0, 1, 1, 1};
+  private static final long[] RAYS = new long[COURSES * SECTORS];
+
+  static {
+    for (int course = 1; course <= COURSES; course += 1) {
+      for (int sector = 0; sector < SECTORS; sector += 1) {
+        long ray = 0L;
+        int x = sector % SIDE + DX[course - 1];
+        int y = sector / SIDE + DY[course - 1];
+        while (x >= 0 && y >= 0 && x < SIDE && y < SIDE) {
+          ray |= 1L << (y * SIDE + x);
+          x += DX[course - 1];
+          y += DY[course - 1];
+        }
+        RAYS[(course - 1) * SECTORS + sector] = ray;
+      }
+    }
+  }
+
+  private SectorRays() {
+    // Utility class
+  }
+
+  /**
+   * Returns true if the given course is one of the 8 a ray exists for, 1:→, 2:↗, 3:↑, 4:↖, 5:←,
+   * 6:↙, 7:↓, 8:↘.
+   *
+   * @param course - the course to check.
+   * @return true if the given course is between 1 and 8.
+   */
+  public static boolean isCourse(final int course) {
+    return course >= 1 && course <= COURSES;
+  }
+
+  /**
+   * Returns how far one step along the given course moves horizontally.
+   *
+   * @param course - the direction of travel, between 1 and 8.
+   * @return -1, 0 or 1.
+   */
+  public static int dx(final int course) {
+    return DX[course - 1];
+  }
+
+  /**
+   * Returns how far one step along the given course moves vertically.
+   *
+   * @param course - the direction of travel, between 1 and 8.
+   * @return -1, 0 or 1.
+   */
+  public static int dy(final int course) {
+    return DY[course - 1];
+  }
+
+  /**
+   * Returns the ray leaving the given sector along the given course.
+   *
+   * @param course - the direction of the ray, between 1 and 8.
+   * @param x      - horizontal coordinate of the starting sector, between 0 and 7.
+   * @param y      - vertical coordinate of the starting sector, between 0 and 7.
+   * @return every sector the ray passes through, not including the starting sector.
+   */
+  public static long ray(final int course, final int x, final int y) {
+    return RAYS[(course - 1) * SECTORS + y * SIDE + x];
+  }
+
+  /**
+   * Returns true if the given course moves towards higher bits of the bitboard.
+   *
+   * @param course - the direction of travel, between 1 and 8.
+   * @return true if the given course moves towards higher bits of the bitboard.
+   */
+  public static boolean ascends(final int course) {
+    // 1:→ +1, 6:↙ +7, 7:↓ +8, 8:↘ +9, the rest step downwards
+    return course == 1 || course >= 6;
+  }
+
+  /**
+   * Returns the sector nearest to the start of the given ray that is set in the given mask.
+   *
+   * @param course - the direction of the ray, between 1 and 8.
+   * @param hits   - the ray already intersected with whatever can be hit.
+   * @return the index of the nearest sector, or -1 if the mask is empty.
+   */
+  public static int nearest(final int course, final long hits) {
+    if (hits == 0L) {
+      return -1;
+    }
+    return ascends(course) ? Long.numberOfTrailingZeros(hits)
+        : Long.SIZE - 1 - Long.numberOfLeadingZeros(hits);
+  }
+}
@@ -22,6 +22,15 @@ public class Star extends Entity implements HasFaction {
     this.scan();
   }
 
+  /**
+   * Constructs a {@link Star} in the same state as the given one.
+   *
+   * @param source - the {@link Star} to copy.
+   */
+  Star(final Star source) {
+    super(source);
+  }
+
   /**
    * Return the {@link Faction} this belongs to.
    *
@@ -11,8 +11,13 @@ import sttrswing.model.interfaces.Hittable;
  */
 public class Starbase extends Entity implements Hittable, HasFaction, Healable {
 
-  private final int maxEnergy = 300;
-  private final Stat energy = new Stat(maxEnergy, maxEnergy);
+  /**
+   * The energy every {@link Starbase} starts with.
+   */
+  static final int STARTING_ENERGY = 300;
+
+  private final int maxEnergy = STARTING_ENERGY;
+  private final Stat energy = new Stat(maxEnergy, maxEnergy, this);
   private Faction faction = Faction.NEUTRAL;
 
   /**
@@ -26,6 +31,30 @@ public class Starbase extends Entity implements Hittable, HasFaction, Healable {
     this.setSymbol("[S]");
   }
 
+  /**
+   * Constructs a {@link Starbase} at the given coordinates with the given energy, for restoring a
+   * saved one.
+   *
+   * @param x      - horizontal coordinate
+   * @param y      - vertical coordinate
+   * @param energy - energy it has left, kept within 0 and its starting energy.
+   */
+  Starbase(final int x, final int y, final int energy) {
+    this(x, y);
+    this.energy.set(energy);
+  }
+
+  /**
+   * Constructs a {@link Starbase} in the same state as the given one.
+   *
+   * @param source - the {@link Starbase} to copy.
+   */
+  Starbase(final Starbase source) {
+    super(source);
+    this.energy.set(source.energy.get());
+    this.faction = source.faction;
+  }
+
   /**
    * Return the {@link Faction} this appears to belong to.
    *
@@ -104,4 +133,18 @@ public class Starbase extends Entity implements Hittable, HasFaction, Healable {
   public void heal(int energy) {
     this.energy.adjust(energy);
   }
+
+  /**
+   * Returns how much energy this {@link Starbase} has left.
+   *
+   * @return how much energy this {@link Starbase} has left.
+   */
+  int energy() {
+    return this.energy.get();
+  }
+
+  @Override
+  long hashedState() {
+    return this.energy.get();
+  }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ public class Stat {
   private final int min;
   private int current;
   private int max;
+  private final Entity owner;
 
 
   /**
@@ -21,10 +22,25 @@ public class Stat {
    *                enforcement.
    */
   public Stat(final int current, final int max) {
+    this(current, max, null);
+  }
+
+  /**
+   * Constructs a {@link Stat} instance belonging to the given {@link Entity}, which is told
+   * whenever the current value changes so it can keep its share of the state hash up to date.
+   *
+   * @param current - amount to set the current value of the {@link Stat} to, minimum and maximum
+   *                bounds will be enforced on construction.
+   * @param max     - amount to set the maximum value of the {@link Stat} to, used in boundary
+   *                enforcement.
+   * @param owner   - the {@link Entity} this {@link Stat} belongs to, may be null.
+   */
+  Stat(final int current, final int max, final Entity owner) {
     this.min = 0;
     this.current = current;
     this.max = max;
-    this.enforceBounds();
+    this.owner = owner;
+    this.clamp();
   }
 
   /**
@@ -34,8 +50,10 @@ public class Stat {
    * @param amount - the amount we wish to adjust the current value by
    */
   public void adjust(final int amount) {
+    final int before = this.current;
     this.current += amount;
-    this.enforceBounds();
+    this.clamp();
+    this.changed(before);
   }
 
   /**
@@ -45,8 +63,10 @@ public class Stat {
    * @param amount - amount we wish to the set the current value to.
    */
   public void set(final int amount) {
+    final int before = this.current;
     this.current = amount;
-    this.enforceBounds();
+    this.clamp();
+    this.changed(before);
   }
 
   /**
@@ -80,6 +100,12 @@ public class Stat {
    * Adjust the current value to be within the set minimum and maximum bounds (inclusive).
    */
   public void enforceBounds() {
+    final int before = this.current;
+    this.clamp();
+    this.changed(before);
+  }
+
+  private void clamp() {
     if (this.current > max) {
       this.current = max;
     }
@@ -88,6 +114,15 @@ public class Stat {
     }
   }
 
+  /**
+   * Tells the owning {@link Entity} if the current value is no longer the given one.
+   */
+  private void changed(final int before) {
+    if (this.owner != null && this.current != before) {
+      this.owner.stateChanged();
+    }
+  }
+
   /**
    * Returns a String representation of the {@link Stat}.
    *
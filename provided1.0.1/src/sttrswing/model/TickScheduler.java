@@ -0,0 +1,116 @@
+package sttrswing.model;
+
+/**
+ * Keeps track of which {@link Quadrant}s in a {@link Galaxy} have anything to do when they are
+ * ticked out of focus (see {@link Quadrant#hasOutOfFocusWork()}), so a turn only visits those
+ * rather than every {@link Quadrant} in the {@link Galaxy}.
+ *
+ * <p>Active {@link Quadrant}s are packed into the front of an array, with each grid position
+ * remembering its slot so adding or dropping one is constant time. A turn therefore costs time
+ * proportional to the number of active {@link Quadrant}s, however large and empty the
+ * {@link Galaxy} around them is.</p>
+ *
+ * <p>Only grid positions are held, never the {@link Quadrant}s themselves, so a {@link Galaxy} can
+ * swap in its own copy of a {@link Quadrant} it shares with a fork without telling the scheduler.
+ * For the same reason a forked {@link Galaxy} can share its scheduler until the active set of one
+ * side changes (see {@link #copy()}).</p>
+ */
+public class TickScheduler {
+
+  private final int[] slots;
+  private final int[] positions;
+  private int size;
+
+  /**
+   * Constructs an empty {@link TickScheduler} for a {@link Galaxy} holding up to the given number
+   * of {@link Quadrant}s.
+   *
+   * @param capacity - how many grid positions the {@link Galaxy} has.
+   */
+  TickScheduler(final int capacity) {
+    // slot + 1 for each grid position, 0 means not active
+    this.slots = new int[capacity];
+    this.positions = new int[capacity];
+  }
+
+  /**
+   * Constructs a {@link TickScheduler} with the same active set as the given one.
+   *
+   * @param source - the scheduler to copy.
+   */
+  private TickScheduler(final TickScheduler source) {
+    this.slots = source.slots.clone();
+    this.positions = source.positions.clone();
+    this.size = source.size;
+  }
+
+  /**
+   * Returns a copy of this {@link TickScheduler} that can be changed without affecting this one.
+   *
+   * @return a copy of this {@link TickScheduler}.
+   */
+  TickScheduler copy() {
+    return new TickScheduler(this);
+  }
+
+  /**
+   * Adds the given {@link Quadrant} to, or drops it from, the active set depending on whether it
+   * currently has out of focus work. Should be called whenever something that
+   * {@link Quadrant#hasOutOfFocusWork()} depends on changes.
+   *
+   * @param position - grid position of the {@link Quadrant} in its {@link Galaxy}.
+   * @param quadrant - the {@link Quadrant} to check.
+   */
+  void refresh(final int position, final Quadrant quadrant) {
+    final boolean isActive = this.slots[position] != 0;
+    final boolean hasWork = quadrant.hasOutOfFocusWork();
+    if (hasWork && !isActive) {
+      this.positions[this.size] = position;
+      this.size += 1;
+      this.slots[position] = this.size;
+    } else if (!hasWork && isActive) {
+      // swap the last active quadrant into the freed slot
+      final int slot = this.slots[position] - 1;
+      this.size -= 1;
+      this.positions[slot] = this.positions[this.size];
+      this.slots[this.positions[slot]] = slot + 1;
+      this.slots[position] = 0;
+    }
+  }
+
+  /**
+   * Returns true if the {@link Quadrant} at the given grid position is in the active set.
+   *
+   * @param position - grid position of the {@link Quadrant} in its {@link Galaxy}.
+   * @return true if the {@link Quadrant} at the given grid position is in the active set.
+   */
+  boolean isActive(final int position) {
+    return this.slots[position] != 0;
+  }
+
+  /**
+   * Returns how many {@link Quadrant}s are in the active set.
+   *
+   * @return how many {@link Quadrant}s are in the active set.
+   */
+  public int activeCount() {
+    return this.size;
+  }
+
+  /**
+   * Calls .outOfFocusTick() on every active {@link Quadrant} except the one at the given position.
+   *
+   * @param galaxy - the {@link Galaxy} this scheduler belongs to, asked for each {@link Quadrant}.
+   * @param skip   - grid position to leave alone, usually the one the {@link Enterprise} is in,
+   *               -1 to skip none.
+   * @param game   - The game that is to be ticked.
+   */
+  void tick(final Galaxy galaxy, final int skip, final Game game) {
+    for (int i = 0; i < this.size; i += 1) {
+      final int position = this.positions[i];
+      if (position != skip) {
+        galaxy.ownedAt(position).outOfFocusTick(game);
+      }
+    }
+  }
+}
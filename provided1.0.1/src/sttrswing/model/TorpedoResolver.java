@@ -0,0 +1,37 @@
+package sttrswing.model;
+
+/**
+ * Works out what a torpedo fired across a {@link Quadrant} hits, using the rays in
+ * {@link SectorRays} against the {@link Quadrant}s occupancy bitboard. Resolving a shot is a table
+ * lookup and a couple of bit operations, with no stepping and nothing allocated.
+ */
+public final class TorpedoResolver {
+
+  /**
+   * Returned by {@link #resolve} when the torpedo leaves the {@link Quadrant} without hitting
+   * anything.
+   */
+  public static final int MISS = -1;
+
+  private TorpedoResolver() {
+    // Utility class
+  }
+
+  /**
+   * Returns the sector the first thing a torpedo fired from the given sector along the given
+   * course hits is in.
+   *
+   * @param quadrant - the {@link Quadrant} the torpedo is fired in.
+   * @param x        - horizontal coordinate of the sector fired from, between 0 and 7.
+   * @param y        - vertical coordinate of the sector fired from, between 0 and 7.
+   * @param course   - the course fired along, 1:→, 2:↗, 3:↑, 4:↖, 5:←, 6:↙, 7:↓, 8:↘.
+   * @return the index (y * 8 + x) of the sector hit, or {@link #MISS}.
+   * @throws IllegalArgumentException if the course is not between 1 and 8.
+   */
+  public static int resolve(final Quadrant quadrant, final int x, final int y, final int course) {
+    if (!SectorRays.isCourse(course)) {
+      throw new IllegalArgumentException("Course must be between 1 and 8, got " + course + ".");
+    }
+    return SectorRays.nearest(course, SectorRays.ray(course, x, y) & quadrant.occupancy());
+  }
+}
@@ -0,0 +1,45 @@
+package sttrswing.model;
+
+import java.io.IOException;
+
+/**
+ * Thrown by {@link TrekParser} when a {@code .trek} save is malformed, saying where.
+ */
+public class TrekFormatException extends IOException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int line;
+  private final int column;
+
+  /**
+   * Constructs a {@link TrekFormatException}.
+   *
+   * @param problem - what is wrong.
+   * @param line    - line of the save the problem is on, from 1.
+   * @param column  - column of that line the problem is at, from 1.
+   */
+  public TrekFormatException(final String problem, final int line, final int column) {
+    super("Line " + line + ", column " + column + ": " + problem);
+    this.line = line;
+    this.column = column;
+  }
+
+  /**
+   * Returns the line of the save the problem is on.
+   *
+   * @return the line, from 1.
+   */
+  public int getLine() {
+    return this.line;
+  }
+
+  /**
+   * Returns the column of the line the problem is at.
+   *
+   * @return the column, from 1.
+   */
+  public int getColumn() {
+    return this.column;
+  }
+}
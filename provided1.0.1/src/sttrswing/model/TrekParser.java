@@ -0,0 +1,333 @@
+package sttrswing.model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+
+/**
+ * Reads a {@code .trek} save, as written by {@link Game#export()}, in a single pass over a
+ * {@link Reader}, handing each record to a {@link Handler} as soon as it has been read.
+ *
+ * <p>Characters are read through a fixed size buffer and numbers are accumulated straight from
+ * them, so no {@link String} is made for a line or a token and the parser holds the same few
+ * kilobytes however large the save is. A record is a line starting with {@code [e]} for the
+ * {@link Enterprise} or {@code [q]} for a {@link Quadrant}, followed by {@code key:value} fields
+ * in any order and optionally ended by {@code |}:</p>
+ * <ul>
+ *   <li>{@code [e] x:5 y:5 e:2500 s:500 t:10 |}</li>
+ *   <li>{@code [q] x:0 y:1 s:203 |}, the symbol being the star, starbase and klingon counts as in
+ *   {@link Quadrant#symbol()}.</li>
+ * </ul>
+ * Like the line based loaders before it, lines that are not records are skipped. Anything wrong
+ * with a record is reported as a {@link TrekFormatException} giving its line and column.
+ */
+public final class TrekParser {
+
+  /**
+   * Receives the records of a save as they are read.
+   */
+  public interface Handler {
+
+    /**
+     * Called for the {@code [e]} record.
+     *
+     * @param x         - horizontal sector of the {@link Enterprise}.
+     * @param y         - vertical sector of the {@link Enterprise}.
+     * @param energy    - energy of the {@link Enterprise}.
+     * @param shields   - shields of the {@link Enterprise}.
+     * @param torpedoes - torpedoes of the {@link Enterprise}.
+     */
+    void enterprise(int x, int y, int energy, int shields, int torpedoes);
+
+    /**
+     * Called for each {@code [q]} record.
+     *
+     * @param x         - horizontal coordinate of the {@link Quadrant}.
+     * @param y         - vertical coordinate of the {@link Quadrant}.
+     * @param stars     - how many {@link Star}s it holds.
+     * @param starbases - how many {@link Starbase}s it holds.
+     * @param klingons  - how many {@link Klingon}s it holds.
+     */
+    void quadrant(int x, int y, int stars, int starbases, int klingons);
+  }
+
+  private static final int BUFFER_CHARS = 8192;
+  private static final int EOF = -1;
+
+  private static final String ENTERPRISE_KEYS = "xyest";
+  private static final String QUADRANT_KEYS = "xys";
+  private static final int SYMBOL_DIGITS = 3;
+
+  private final Reader in;
+  private final Handler handler;
+  private final char[] buffer = new char[BUFFER_CHARS];
+  private final int[] values = new int[ENTERPRISE_KEYS.length() + SYMBOL_DIGITS];
+  private int position = 0;
+  private int limit = 0;
+  // where the next character to be read is
+  private int line = 1;
+  private int column = 1;
+  // where the character last read was
+  private int lastLine = 1;
+  private int lastColumn = 0;
+  private boolean enterpriseRead = false;
+  private long quadrantsRead = 0;
+
+  private TrekParser(final Reader in, final Handler handler) {
+    this.in = in;
+    this.handler = handler;
+  }
+
+  /**
+   * Reads a whole save, handing every record to the handler in the order they appear.
+   *
+   * @param in      - the save to read, it is not closed.
+   * @param handler - receives the records.
+   * @throws TrekFormatException if the save is malformed, has no {@code [e]} record, more than one
+   *                             or no {@code [q]} records.
+   * @throws IOException         if the save can not be read.
+   */
+  public static void parse(final Reader in, final Handler handler) throws IOException {
+    new TrekParser(in, handler).parse();
+  }
+
+  /**
+   * Reads a whole save, building the {@link Enterprise} and a {@link Quadrant} per record as it
+   * goes. Like {@link GameLoader} every {@link Quadrant} is rebuilt from its counts, with
+   * everything in it placed afresh.
+   *
+   * @param in - the save to read, it is not closed.
+   * @return the saved {@link Enterprise} and {@link Galaxy}.
+   * @throws TrekFormatException      if the save is malformed.
+   * @throws IOException              if the save can not be read.
+   * @throws IllegalArgumentException if two records are for the same {@link Quadrant}.
+   */
+  public static SavedGame read(final Reader in) throws IOException {
+    final ArrayList<Quadrant> quadrants = new ArrayList<>();
+    final Enterprise[] enterprise = new Enterprise[1];
+    parse(in, new Handler() {
+      @Override
+      public void enterprise(final int x, final int y, final int energy, final int shields,
+          final int torpedoes) {
+        enterprise[0] = new Enterprise(x, y, energy, shields, torpedoes);
+      }
+
+      @Override
+      public void quadrant(final int x, final int y, final int stars, final int starbases,
+          final int klingons) {
+        quadrants.add(new Quadrant(x, y, starbases, klingons, stars));
+      }
+    });
+    return new SavedGame(enterprise[0], new Galaxy(quadrants));
+  }
+
+  private void parse() throws IOException {
+    while (true) {
+      int c = this.peek();
+      while (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+        this.next();
+        c = this.peek();
+      }
+      if (c == EOF) {
+        break;
+      }
+      if (c == '[') {
+        this.next();
+        final int tag = lower(this.peek());
+        if (tag == EOF || tag == '\n' || tag == '\r') {
+          // a lone '[' ends its line, leave the line break so the next line is still read
+          continue;
+        }
+        this.next();
+        if ((tag == 'e' || tag == 'q') && this.peek() == ']') {
+          this.next();
+          this.record(tag == 'e');
+          continue;
+        }
+      }
+      this.skipLine();
+    }
+    if (!this.enterpriseRead) {
+      throw this.error("Save has no [e] record for the Enterprise.", this.line, this.column);
+    }
+    if (this.quadrantsRead == 0) {
+      throw this.error("Save has no [q] records for the galaxy.", this.line, this.column);
+    }
+  }
+
+  private void record(final boolean enterprise) throws IOException {
+    final int recordLine = this.lastLine;
+    final int recordColumn = this.lastColumn - 2;
+    if (enterprise && this.enterpriseRead) {
+      throw this.error("Save has a second [e] record.", recordLine, recordColumn);
+    }
+    final String keys = enterprise ? ENTERPRISE_KEYS : QUADRANT_KEYS;
+    int seen = 0;
+    while (true) {
+      int c = this.peek();
+      while (c == ' ' || c == '\t') {
+        this.next();
+        c = this.peek();
+      }
+      if (c == EOF || c == '\n' || c == '\r') {
+        break;
+      }
+      if (c == '|') {
+        this.skipLine();
+        break;
+      }
+      this.next();
+      final int key = keys.indexOf(lower(c));
+      if (key < 0) {
+        throw this.error("Unexpected '" + (char) c + "' in " + tag(enterprise)
+            + " record, expected one of the fields " + fields(keys) + ".");
+      }
+      if ((seen & 1 << key) != 0) {
+        throw this.error("Field '" + keys.charAt(key) + ":' appears twice.");
+      }
+      seen |= 1 << key;
+      if (this.next() != ':') {
+        throw this.error("Expected ':' after '" + keys.charAt(key) + "'.");
+      }
+      if (!enterprise && keys.charAt(key) == 's') {
+        this.symbol();
+      } else {
+        this.values[key] = this.number(keys.charAt(key));
+      }
+    }
+    if (seen != (1 << keys.length()) - 1) {
+      for (int key = 0; key < keys.length(); key += 1) {
+        if ((seen & 1 << key) == 0) {
+          throw this.error(tag(enterprise) + " record is missing its '" + keys.charAt(key)
+              + ":' field.", recordLine, recordColumn);
+        }
+      }
+    }
+    if (enterprise) {
+      this.enterpriseRead = true;
+      this.handler.enterprise(this.values[0], this.values[1], this.values[2], this.values[3],
+          this.values[4]);
+    } else {
+      this.quadrantsRead += 1;
+      this.handler.quadrant(this.values[0], this.values[1], this.values[2], this.values[3],
+          this.values[4]);
+    }
+  }
+
+  /**
+   * Reads a whole number that must come next.
+   */
+  private int number(final char key) throws IOException {
+    if (!isDigit(this.peek())) {
+      this.next();
+      throw this.error("Expected a whole number after '" + key + ":'.");
+    }
+    long value = 0;
+    while (isDigit(this.peek())) {
+      value = value * 10 + (this.next() - '0');
+      if (value > Integer.MAX_VALUE) {
+        throw this.error("Number after '" + key + ":' is too large.");
+      }
+    }
+    return (int) value;
+  }
+
+  /**
+   * Reads a quadrant symbol of exactly three digits into the last three values.
+   */
+  private void symbol() throws IOException {
+    for (int digit = 0; digit < SYMBOL_DIGITS; digit += 1) {
+      if (!isDigit(this.peek())) {
+        this.next();
+        throw this.error("Quadrant symbol must be exactly three digits.");
+      }
+      this.values[2 + digit] = this.next() - '0';
+    }
+    if (isDigit(this.peek())) {
+      this.next();
+      throw this.error("Quadrant symbol must be exactly three digits.");
+    }
+  }
+
+  private void skipLine() throws IOException {
+    int c = this.next();
+    while (c != '\n' && c != EOF) {
+      c = this.next();
+    }
+  }
+
+  private int peek() throws IOException {
+    if (this.position == this.limit && !this.fill()) {
+      return EOF;
+    }
+    return this.buffer[this.position];
+  }
+
+  /**
+   * Reads the next character, turning every kind of line break into a single '\n'.
+   */
+  private int next() throws IOException {
+    if (this.position == this.limit && !this.fill()) {
+      this.lastLine = this.line;
+      this.lastColumn = this.column;
+      return EOF;
+    }
+    int c = this.buffer[this.position++];
+    this.lastLine = this.line;
+    this.lastColumn = this.column;
+    if (c == '\r') {
+      if (this.peek() == '\n') {
+        this.position += 1;
+      }
+      c = '\n';
+    }
+    if (c == '\n') {
+      this.line += 1;
+      this.column = 1;
+    } else {
+      this.column += 1;
+    }
+    return c;
+  }
+
+  private boolean fill() throws IOException {
+    final int read = this.in.read(this.buffer, 0, this.buffer.length);
+    if (read <= 0) {
+      return false;
+    }
+    this.position = 0;
+    this.limit = read;
+    return true;
+  }
+
+  /**
+   * Reports a problem with the character last read.
+   */
+  private TrekFormatException error(final String problem) {
+    return this.error(problem, this.lastLine, this.lastColumn);
+  }
+
+  private TrekFormatException error(final String problem, final int line, final int column) {
+    return new TrekFormatException(problem, line, Math.max(1, column));
+  }
+
+  private static String tag(final boolean enterprise) {
+    return enterprise ? "[e]" : "[q]";
+  }
+
+  private static String fields(final String keys) {
+    final StringBuilder fields = new StringBuilder();
+    for (int i = 0; i < keys.length(); i += 1) {
+      fields.append(i == 0 ? "" : ", ").append(keys.charAt(i)).append(':');
+    }
+    return fields.toString();
+  }
+
+  private static boolean isDigit(final int c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static int lower(final int c) {
+    return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+  }
+}
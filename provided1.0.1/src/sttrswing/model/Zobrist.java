@@ -0,0 +1,59 @@
+package sttrswing.model;
+
+/**
+ * Keys for the Zobrist style 64-bit hash of a {@link Game}s state (see {@link Game#stateHash()}).
+ *
+ * <p>Every hashed piece of state, such as a {@link Klingon} with a given energy on a given sector
+ * of a given {@link Quadrant}, has its own pseudo random 64-bit key and the hash of a whole state
+ * is those keys XORed together. Changing one piece therefore only needs its old key XORed out and
+ * its new one XORed in. Rather than a table of random numbers the keys are derived by mixing the
+ * piece's description with the SplitMix64 finaliser, as positions and energies have far too many
+ * possible values to tabulate.</p>
+ */
+final class Zobrist {
+
+  static final int STAR = 1;
+  static final int KLINGON = 2;
+  static final int STARBASE = 3;
+  static final int ENTERPRISE = 4;
+  static final int CURRENT_QUADRANT = 5;
+
+  private Zobrist() {
+  }
+
+  /**
+   * Returns the salt for a kind of hashed state in the {@link Quadrant} at the given coordinates,
+   * which every key for that kind and {@link Quadrant} is derived from.
+   *
+   * @param kind - one of the kind constants above.
+   * @param x    - horizontal coordinate of the {@link Quadrant}.
+   * @param y    - vertical coordinate of the {@link Quadrant}.
+   * @return the salt.
+   */
+  static long salt(final int kind, final int x, final int y) {
+    return mix(mix(((long) x << 32) ^ (y & 0xFFFFFFFFL)) + kind);
+  }
+
+  /**
+   * Returns the key for something at the given sector in the given state.
+   *
+   * @param salt  - the salt for its kind and {@link Quadrant}, see {@link #salt}.
+   * @param x     - horizontal coordinate of its sector.
+   * @param y     - vertical coordinate of its sector.
+   * @param state - everything else about it that is hashed, such as its energy.
+   * @return the key.
+   */
+  static long key(final long salt, final int x, final int y, final long state) {
+    return mix(mix(salt ^ ((x & 0xFFFFL) | (y & 0xFFFFL) << 16)) + state);
+  }
+
+  /**
+   * The SplitMix64 finaliser, spreads every bit of the input across the whole output.
+   */
+  private static long mix(long z) {
+    z += 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,22 @@
+package sttrswing.model.enums;
+
+/**
+ * Enum for use choosing how a generated {@link sttrswing.model.Galaxy} builds its
+ * {@link sttrswing.model.Quadrant}s.
+ */
+public enum GenerationMode {
+  /**
+   * Every Quadrant and everything in it is built up front when the Galaxy is constructed.
+   */
+  EAGER,
+  /**
+   * As {@link #EAGER}, but the Quadrants are built across every core of the common fork/join pool.
+   * Produces exactly the same Galaxy as {@link #EAGER} for the same seed.
+   */
+  PARALLEL,
+  /**
+   * Only the Star, Starbase and Klingon counts of each Quadrant are worked out up front, a Quadrant
+   * and everything in it is built the first time it is asked for.
+   */
+  LAZY
+}
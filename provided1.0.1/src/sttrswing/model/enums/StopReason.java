@@ -0,0 +1,20 @@
+package sttrswing.model.enums;
+
+/**
+ * Enum for use describing why a move within a {@link sttrswing.model.Quadrant} stopped where it
+ * did.
+ */
+public enum StopReason {
+  /**
+   * Moved the full distance asked for.
+   */
+  DISTANCE,
+  /**
+   * The next sector along would have been past the edge of the Quadrant.
+   */
+  EDGE,
+  /**
+   * The next sector along was taken by an Entity.
+   */
+  ENTITY
+}
@@ -0,0 +1,17 @@
+package sttrswing.model.enums;
+
+/**
+ * Enum for use choosing how a {@link sttrswing.model.Galaxy} applies out of focus turns to the
+ * {@link sttrswing.model.Quadrant}s the {@link sttrswing.model.Enterprise} is not in.
+ */
+public enum TickMode {
+  /**
+   * Every Quadrant with out of focus work is ticked every turn.
+   */
+  EAGER,
+  /**
+   * Each Quadrant remembers the turn it was last brought up to date and applies the turns it has
+   * missed in one go the next time it is looked at through the Galaxy.
+   */
+  LAZY
+}
@@ -3,6 +3,11 @@ package sttrswing.model.interfaces;
 import sttrswing.model.Enterprise;
 import sttrswing.model.Galaxy;
 import sttrswing.model.Game;
+import sttrswing.model.SaveHeader;
+import sttrswing.model.SaveSnapshot;
+import sttrswing.model.SavedGame;
+import sttrswing.model.navigation.Route;
+import sttrswing.model.reports.ActionReport;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -33,6 +38,14 @@ public interface GameModel {
    */
   String lastActionReport();
 
+  /**
+   * Returns the typed outcome of the last game action, the numbers behind
+   * {@link #lastActionReport()} without building its text.
+   *
+   * @return the typed outcome of the last game action.
+   */
+  ActionReport lastAction();
+
   /**
    * Get the current X,Y coordinates for the current {@link sttrswing.model.Quadrant}.
    *
@@ -178,6 +191,51 @@ public interface GameModel {
    */
   void moveBetweenQuadrants(int course, double distance);
 
+  /**
+   * Plots the shortest warp route from the current {@link sttrswing.model.Quadrant} to the given
+   * one, without moving.
+   *
+   * @param targetX horizontal coordinate of the target quadrant
+   * @param targetY vertical coordinate of the target quadrant
+   * @return the legs of the route and its projected energy cost
+   */
+  Route plotCourse(int targetX, int targetY);
+
+  /**
+   * Plots the shortest warp route to the given {@link sttrswing.model.Quadrant} and warps along
+   * each of its legs in turn.
+   *
+   * @param targetX horizontal coordinate of the target quadrant
+   * @param targetY vertical coordinate of the target quadrant
+   * @return the route that was flown
+   */
+  Route engageAutopilot(int targetX, int targetY);
+
+  /**
+   * Returns an independent copy of this game state, for trying out a sequence of actions without
+   * affecting the game itself. Forking is cheap and the copy only pays for what it changes.
+   *
+   * @return an independent copy of this game state
+   */
+  GameModel fork();
+
+  /**
+   * Returns a fork of this game to save on another thread, holding what changed since the last
+   * snapshot so a {@link sttrswing.model.SaveChain} can write only that, see
+   * {@link SaveSnapshot}. Must be called on the thread playing the game.
+   *
+   * @return a snapshot of this game state
+   */
+  SaveSnapshot snapshot();
+
+  /**
+   * Returns a 64-bit hash of the whole game state that is kept up to date as the state changes,
+   * so that identical states can be spotted cheaply.
+   *
+   * @return the state hash of this game
+   */
+  long stateHash();
+
   /**
    * Takes a newly made {@link Enterprise} and {@link Galaxy} to use for the game and updates all
    * relevant internal state.
@@ -187,6 +245,14 @@ public interface GameModel {
    */
   public void load(Enterprise enterprise, Galaxy galaxy);
 
+  /**
+   * Takes a game read back from a save to use for the game, also moving into the
+   * {@link sttrswing.model.Quadrant} it was saved in if the save recorded it.
+   *
+   * @param saved the saved game we want the game to use.
+   */
+  void load(SavedGame saved);
+
   /**
    * Export out a stringified representation of the internal state of our Game, specifically exports
    * the
@@ -205,4 +271,28 @@ public interface GameModel {
    * @return a stringified representation of the internal state of our Game.
    */
   String export();
+
+  /**
+   * Export the same state as {@link #export()} in the compact binary save format, see
+   * {@link sttrswing.model.BinarySaveCodec}.
+   *
+   * @return the state of our Game encoded as a binary save.
+   */
+  byte[] exportBinary();
+
+  /**
+   * Export the whole state of our Game, where everything is and how much energy it has left, in
+   * the full-fidelity save format, see {@link sttrswing.model.FullSaveCodec}.
+   *
+   * @return the state of our Game encoded as a full save.
+   */
+  byte[] exportFull();
+
+  /**
+   * Returns the summary written at the start of every save of our Game, see
+   * {@link sttrswing.model.SaveHeader}.
+   *
+   * @return the save header for the current state of our Game.
+   */
+  SaveHeader saveHeader();
 }
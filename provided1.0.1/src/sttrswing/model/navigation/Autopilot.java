@@ -0,0 +1,195 @@
+package sttrswing.model.navigation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import sttrswing.model.SectorRays;
+
+/**
+ * Plots shortest multi leg warp routes across a galaxy of fixed dimensions. The
+ * {@link DistanceField} towards each target is built once and kept in a small least recently used
+ * cache, so plotting again towards a recent target only walks the route itself. The cache only
+ * depends on the shape of the galaxy, so it stays valid for as long as the galaxy does; call
+ * {@link #invalidate()} if the galaxy's layout ever changes.
+ */
+public class Autopilot {
+
+  /**
+   * How many distance fields are kept before the least recently used one is dropped.
+   */
+  public static final int CACHED_FIELDS = 8;
+
+  /**
+   * The widest or highest galaxy routes can be plotted across.
+   */
+  public static final int MAX_SIDE = 0xFFFF;
+
+  private final int width;
+  private final int height;
+  private final int energyPerQuadrant;
+  private final Map<Integer, DistanceField> fields =
+      new LinkedHashMap<>(CACHED_FIELDS * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, DistanceField> eldest) {
+          return this.size() > CACHED_FIELDS;
+        }
+      };
+
+  /**
+   * Constructs an {@link Autopilot} for a galaxy of the given dimensions.
+   *
+   * @param width             - how many quadrants wide the galaxy is.
+   * @param height            - how many quadrants high the galaxy is.
+   * @param energyPerQuadrant - the energy it costs to warp through a single quadrant.
+   */
+  public Autopilot(final int width, final int height, final int energyPerQuadrant) {
+    if (width <= 0 || height <= 0 || width > MAX_SIDE || height > MAX_SIDE) {
+      throw new IllegalArgumentException("Galaxy dimensions must be between 1 and " + MAX_SIDE);
+    }
+    if (energyPerQuadrant < 0) {
+      throw new IllegalArgumentException("energyPerQuadrant must not be negative");
+    }
+    this.width = width;
+    this.height = height;
+    this.energyPerQuadrant = energyPerQuadrant;
+  }
+
+  /**
+   * Returns the {@link DistanceField} towards the given target, building and caching it if it is
+   * not already cached.
+   *
+   * @param targetX - horizontal coordinate of the target quadrant.
+   * @param targetY - vertical coordinate of the target quadrant.
+   * @return the distance field towards the target.
+   * @throws IllegalArgumentException if the target is outside the galaxy.
+   */
+  public synchronized DistanceField fieldTowards(final int targetX, final int targetY) {
+    this.checkInside(targetX, targetY, "Target");
+    return this.fields.computeIfAbsent(targetX * this.height + targetY,
+        key -> new DistanceField(this.width, this.height, targetX, targetY));
+  }
+
+  /**
+   * Plots the shortest route from one quadrant to another. Among the shortest routes the one with
+   * the fewest legs is preferred: a leg keeps its course for as long as that still closes in on
+   * the target, and a new leg takes the course that can be held the longest.
+   *
+   * @param fromX   - horizontal coordinate of the starting quadrant.
+   * @param fromY   - vertical coordinate of the starting quadrant.
+   * @param targetX - horizontal coordinate of the target quadrant.
+   * @param targetY - vertical coordinate of the target quadrant.
+   * @return the route, with no legs if the start is the target.
+   * @throws IllegalArgumentException if either quadrant is outside the galaxy.
+   * @throws IllegalStateException    if the target can not be reached from the start.
+   */
+  public Route plot(final int fromX, final int fromY, final int targetX, final int targetY) {
+    this.checkInside(fromX, fromY, "Start");
+    final DistanceField field = this.fieldTowards(targetX, targetY);
+    int remaining = field.distanceFrom(fromX, fromY);
+    if (remaining == DistanceField.UNREACHABLE) {
+      throw new IllegalStateException("Target quadrant can not be reached");
+    }
+    final int quadrants = remaining;
+    final List<Leg> legs = new ArrayList<>();
+    int x = fromX;
+    int y = fromY;
+    int course = 0;
+    int legLength = 0;
+    while (remaining > 0) {
+      if (course == 0 || !closesIn(field, x, y, course, remaining, true)) {
+        final int next = longestCourse(field, x, y, remaining);
+        if (next != course) {
+          if (legLength > 0) {
+            legs.add(new Leg(course, legLength));
+          }
+          course = next;
+          legLength = 0;
+        }
+      }
+      x += SectorRays.dx(course);
+      y += SectorRays.dy(course);
+      legLength += 1;
+      remaining -= 1;
+    }
+    if (legLength > 0) {
+      legs.add(new Leg(course, legLength));
+    }
+    return new Route(legs, quadrants, Math.multiplyExact(quadrants, this.energyPerQuadrant));
+  }
+
+  /**
+   * Drops every cached {@link DistanceField}.
+   */
+  public synchronized void invalidate() {
+    this.fields.clear();
+  }
+
+  /**
+   * Returns how many distance fields are currently cached.
+   *
+   * @return the number of cached distance fields.
+   */
+  public synchronized int cachedFieldCount() {
+    return this.fields.size();
+  }
+
+  /**
+   * Finds the course from the given quadrant that keeps closing in on the target for the most
+   * consecutive warps. Courses that never move away from the target along either axis are
+   * preferred, so open space is crossed with a diagonal leg and a straight one.
+   */
+  private static int longestCourse(final DistanceField field, final int x, final int y,
+      final int remaining) {
+    int best = longestCourse(field, x, y, remaining, true);
+    if (best == 0) {
+      best = longestCourse(field, x, y, remaining, false);
+    }
+    if (best == 0) {
+      throw new IllegalStateException("Distance field has no way towards its target");
+    }
+    return best;
+  }
+
+  private static int longestCourse(final DistanceField field, final int x, final int y,
+      final int remaining, final boolean direct) {
+    int best = 0;
+    int bestRun = 0;
+    for (int course = 1; course <= 8; course += 1) {
+      final int dx = SectorRays.dx(course);
+      final int dy = SectorRays.dy(course);
+      int run = 0;
+      while (run < remaining
+          && closesIn(field, x + dx * run, y + dy * run, course, remaining - run, direct)) {
+        run += 1;
+      }
+      if (run > bestRun) {
+        best = course;
+        bestRun = run;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Returns if a single warp along the course from the given quadrant brings it one warp closer to
+   * the target and, when direct, takes it no further from the target along either axis.
+   */
+  private static boolean closesIn(final DistanceField field, final int x, final int y,
+      final int course, final int remaining, final boolean direct) {
+    final int nx = x + SectorRays.dx(course);
+    final int ny = y + SectorRays.dy(course);
+    if (field.distanceFrom(nx, ny) != remaining - 1) {
+      return false;
+    }
+    return !direct
+        || (Math.abs(field.getTargetX() - nx) <= Math.abs(field.getTargetX() - x)
+        && Math.abs(field.getTargetY() - ny) <= Math.abs(field.getTargetY() - y));
+  }
+
+  private void checkInside(final int x, final int y, final String name) {
+    if (x < 0 || y < 0 || x >= this.width || y >= this.height) {
+      throw new IllegalArgumentException(name + " quadrant is outside the galaxy");
+    }
+  }
+}
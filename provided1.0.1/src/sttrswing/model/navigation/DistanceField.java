@@ -0,0 +1,118 @@
+package sttrswing.model.navigation;
+
+/**
+ * How many warps of a single quadrant it takes to reach one target quadrant from every quadrant of
+ * a galaxy, found with a breadth first search outwards from the target over all 8 directions.
+ * Stored in the same column by column order as the {@link sttrswing.model.Galaxy} grid
+ * (index = x * height + y).
+ */
+public final class DistanceField {
+
+  /**
+   * Distance held by quadrants the target can not be reached from.
+   */
+  public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+  private static final int[] STEP_X = {-1, -1, -1, 0, 0, 1, 1, 1};
+  private static final int[] STEP_Y = {-1, 0, 1, -1, 1, -1, 0, 1};
+
+  private final int width;
+  private final int height;
+  private final int targetX;
+  private final int targetY;
+  private final int[] distances;
+
+  /**
+   * Builds the {@link DistanceField} for the given target in a galaxy of the given dimensions.
+   *
+   * @param width   - how many quadrants wide the galaxy is.
+   * @param height  - how many quadrants high the galaxy is.
+   * @param targetX - horizontal coordinate of the target quadrant.
+   * @param targetY - vertical coordinate of the target quadrant.
+   */
+  DistanceField(final int width, final int height, final int targetX, final int targetY) {
+    this.width = width;
+    this.height = height;
+    this.targetX = targetX;
+    this.targetY = targetY;
+    // holds distance + 1 so a freshly zeroed array already marks every quadrant as unvisited
+    this.distances = new int[Math.multiplyExact(width, height)];
+
+    // queued quadrants are packed as x << 16 | y, so nothing has to be divided out of an index
+    final int[] queue = new int[this.distances.length];
+    int head = 0;
+    int tail = 0;
+    final int[] offsets = {-height - 1, -height, -height + 1, -1, 1, height - 1, height,
+        height + 1};
+    final int target = targetX * height + targetY;
+    this.distances[target] = 1;
+    queue[tail++] = targetX << 16 | targetY;
+    while (head < tail) {
+      final int x = queue[head] >>> 16;
+      final int y = queue[head++] & 0xFFFF;
+      final int index = x * height + y;
+      final int next = this.distances[index] + 1;
+      if (x > 0 && y > 0 && x < width - 1 && y < height - 1) {
+        for (int i = 0; i < offsets.length; i += 1) {
+          final int neighbour = index + offsets[i];
+          if (this.distances[neighbour] == 0) {
+            this.distances[neighbour] = next;
+            queue[tail++] = (x + STEP_X[i]) << 16 | (y + STEP_Y[i]);
+          }
+        }
+        continue;
+      }
+      for (int dx = -1; dx <= 1; dx += 1) {
+        final int nx = x + dx;
+        if (nx < 0 || nx >= width) {
+          continue;
+        }
+        for (int dy = -1; dy <= 1; dy += 1) {
+          final int ny = y + dy;
+          if (ny < 0 || ny >= height) {
+            continue;
+          }
+          final int neighbour = nx * height + ny;
+          if (this.distances[neighbour] == 0) {
+            this.distances[neighbour] = next;
+            queue[tail++] = nx << 16 | ny;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns how many single quadrant warps it takes to reach the target from the given quadrant.
+   *
+   * @param x - horizontal coordinate of the quadrant.
+   * @param y - vertical coordinate of the quadrant.
+   * @return the number of warps, or {@link #UNREACHABLE} if it is outside the galaxy or the target
+   *         can not be reached from it.
+   */
+  public int distanceFrom(final int x, final int y) {
+    if (x < 0 || y < 0 || x >= this.width || y >= this.height) {
+      return UNREACHABLE;
+    }
+    final int distance = this.distances[x * this.height + y];
+    return distance == 0 ? UNREACHABLE : distance - 1;
+  }
+
+  /**
+   * Returns the horizontal coordinate of the target quadrant.
+   *
+   * @return the horizontal coordinate of the target quadrant.
+   */
+  public int getTargetX() {
+    return this.targetX;
+  }
+
+  /**
+   * Returns the vertical coordinate of the target quadrant.
+   *
+   * @return the vertical coordinate of the target quadrant.
+   */
+  public int getTargetY() {
+    return this.targetY;
+  }
+}
@@ -0,0 +1,11 @@
+package sttrswing.model.navigation;
+
+/**
+ * One straight warp of a {@link Route}, as it would be entered into
+ * {@link sttrswing.model.Game#moveBetweenQuadrants(int, double)}.
+ *
+ * @param course   - the direction of the warp, 1:→, 2:↗, 3:↑, 4:↖, 5:←, 6:↙, 7:↓, 8:↘.
+ * @param distance - how many quadrants to warp through.
+ */
+public record Leg(int course, int distance) {
+}
@@ -0,0 +1,25 @@
+package sttrswing.model.navigation;
+
+import java.util.List;
+
+/**
+ * A shortest route between two quadrants of a {@link sttrswing.model.Galaxy}, broken into as few
+ * straight {@link Leg}s as a shortest route allows.
+ *
+ * @param legs       - the warps to make, in order.
+ * @param quadrants  - how many quadrants the route passes through, not counting the start.
+ * @param energyCost - how much energy the route is projected to cost.
+ */
+public record Route(List<Leg> legs, int quadrants, int energyCost) {
+
+  /**
+   * Constructs a {@link Route}, keeping an unmodifiable copy of the legs.
+   *
+   * @param legs       - the warps to make, in order.
+   * @param quadrants  - how many quadrants the route passes through, not counting the start.
+   * @param energyCost - how much energy the route is projected to cost.
+   */
+  public Route {
+    legs = List.copyOf(legs);
+  }
+}
@@ -0,0 +1,38 @@
+package sttrswing.model.reports;
+
+/**
+ * The outcome of the last action taken in a {@link sttrswing.model.Game}, kept as the numbers
+ * that describe it rather than as text. Bots and telemetry can read the fields directly, the text
+ * the player sees is only built when {@link #text()} is called.
+ */
+public sealed interface ActionReport permits NoActionReport, PhaserReport, TorpedoReport,
+    ScanReport, ShieldsReport, MoveReport, MoveBlockedReport, WarpReport {
+
+  /**
+   * Builds the text shown to the player for this report.
+   *
+   * @return the text shown to the player for this report.
+   */
+  String text();
+
+  /**
+   * Returns a string representation of which direction a given course will go using utf 8 arrows.
+   * 1:"→", 2:"↗", 3:"↑", 4:"↖", 5:"←", 6:"↙", 7:"↓", 8:"↘", otherwise: "X"
+   *
+   * @param course - given course value indicating direction
+   * @return a string representation of which direction a given course will go using utf 8 arrows.
+   */
+  static String arrow(final int course) {
+    return switch (course) {
+      case 1 -> "→";
+      case 2 -> "↗";
+      case 3 -> "↑";
+      case 4 -> "↖";
+      case 5 -> "←";
+      case 6 -> "↙";
+      case 7 -> "↓";
+      case 8 -> "↘";
+      default -> "X";
+    };
+  }
+}
@@ -0,0 +1,17 @@
+package sttrswing.model.reports;
+
+/**
+ * Report of a single step of movement being blocked.
+ *
+ * @param blocker - symbol of what was in the way, null if it was the edge of the quadrant.
+ */
+public record MoveBlockedReport(String blocker) implements ActionReport {
+
+  @Override
+  public String text() {
+    if (this.blocker == null) {
+      return "HIT THE EDGE OF THIS QUADRANT.";
+    }
+    return "ENCOUNTERED A ENTITY:" + this.blocker + "EN ROUTE.";
+  }
+}
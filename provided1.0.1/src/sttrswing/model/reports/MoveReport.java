@@ -0,0 +1,23 @@
+package sttrswing.model.reports;
+
+import sttrswing.model.enums.StopReason;
+
+/**
+ * Report of moving within the current quadrant.
+ *
+ * @param course     - the course moved along.
+ * @param distance   - how many sectors were asked for.
+ * @param moved      - how many sectors were actually covered.
+ * @param stopReason - why the move stopped where it did.
+ * @param quadrantX  - horizontal coordinate of the quadrant moved in.
+ * @param quadrantY  - vertical coordinate of the quadrant moved in.
+ */
+public record MoveReport(int course, int distance, int moved, StopReason stopReason,
+    int quadrantX, int quadrantY) implements ActionReport {
+
+  @Override
+  public String text() {
+    return "Moved" + ActionReport.arrow(this.course) + "(" + this.distance + ") within Quadrant("
+        + this.quadrantX + "," + this.quadrantY + ")";
+  }
+}
@@ -0,0 +1,17 @@
+package sttrswing.model.reports;
+
+/**
+ * Report held before any action has been taken.
+ */
+public record NoActionReport() implements ActionReport {
+
+  /**
+   * The only instance needed.
+   */
+  public static final NoActionReport INSTANCE = new NoActionReport();
+
+  @Override
+  public String text() {
+    return "";
+  }
+}
@@ -0,0 +1,23 @@
+package sttrswing.model.reports;
+
+/**
+ * Report of firing phasers, the energy spent is split evenly (rounding down) between every
+ * {@link sttrswing.model.Klingon} in the quadrant.
+ *
+ * @param energy          - how much energy was spent firing.
+ * @param targets         - how many Klingons were targeted, 0 if the energy was wasted.
+ * @param damagePerTarget - how much damage each Klingon took.
+ * @param kills           - how many Klingons were destroyed.
+ */
+public record PhaserReport(int energy, int targets, int damagePerTarget, int kills)
+    implements ActionReport {
+
+  @Override
+  public String text() {
+    if (this.targets < 1) {
+      return "Phaser (" + this.energy + ") energy wasted, there are no valid targets!";
+    }
+    return "Phaser (" + this.energy + ") at " + this.targets + " targets, " + this.damagePerTarget
+        + " dmg each, " + this.kills + " down";
+  }
+}
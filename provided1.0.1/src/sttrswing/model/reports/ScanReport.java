@@ -0,0 +1,20 @@
+package sttrswing.model.reports;
+
+/**
+ * Report of scanning the current quadrant.
+ *
+ * @param quadrantX - horizontal coordinate of the quadrant scanned.
+ * @param quadrantY - vertical coordinate of the quadrant scanned.
+ * @param klingons  - how many Klingons are in it.
+ * @param stars     - how many Stars are in it.
+ * @param starbases - how many Starbases are in it.
+ */
+public record ScanReport(int quadrantX, int quadrantY, int klingons, int stars, int starbases)
+    implements ActionReport {
+
+  @Override
+  public String text() {
+    return "Scanned Quadrant(" + this.quadrantX + "," + this.quadrantY + ") | " + this.klingons
+        + " Klingons " + this.stars + " Stars " + this.starbases + " Starbases";
+  }
+}
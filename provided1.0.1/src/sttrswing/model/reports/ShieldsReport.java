@@ -0,0 +1,18 @@
+package sttrswing.model.reports;
+
+/**
+ * Report of moving energy into the shields.
+ *
+ * @param transferred - whether any energy could be spared for the shields.
+ * @param energy      - how much energy went into the shields.
+ */
+public record ShieldsReport(boolean transferred, int energy) implements ActionReport {
+
+  @Override
+  public String text() {
+    if (!this.transferred) {
+      return "Captain I cannae give anymore to the shields!";
+    }
+    return this.energy + " Energy transferred to Shields captain!";
+  }
+}
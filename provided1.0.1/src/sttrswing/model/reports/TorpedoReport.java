@@ -0,0 +1,47 @@
+package sttrswing.model.reports;
+
+/**
+ * Report of firing a torpedo.
+ *
+ * @param course       - the course the torpedo was fired along.
+ * @param result       - what happened to the torpedo.
+ * @param targetSymbol - symbol of what was hit as it looked before the hit, null unless
+ *                     {@link Result#HIT}.
+ */
+public record TorpedoReport(int course, Result result, String targetSymbol)
+    implements ActionReport {
+
+  /**
+   * What happened to a torpedo.
+   */
+  public enum Result {
+    /**
+     * There were no torpedoes left to fire.
+     */
+    NO_AMMO,
+    /**
+     * The launch failed even though torpedoes were left.
+     */
+    LAUNCH_FAILED,
+    /**
+     * The torpedo left the quadrant without hitting anything.
+     */
+    MISSED,
+    /**
+     * The torpedo hit something.
+     */
+    HIT
+  }
+
+  @Override
+  public String text() {
+    return switch (this.result) {
+      case NO_AMMO -> "NO TORPEDOS LEFT TO FIRE CAPTAIN!";
+      case LAUNCH_FAILED -> "I can't do it captain! We have no Torpedos left!";
+      case MISSED -> "Torpedo fired at course bearing:" + this.course
+          + ActionReport.arrow(this.course) + " flies off into the dark of space.";
+      case HIT -> "Torpedo fired at course bearing:" + this.course
+          + ActionReport.arrow(this.course) + " has hit target! It hit a:" + this.targetSymbol;
+    };
+  }
+}
@@ -0,0 +1,19 @@
+package sttrswing.model.reports;
+
+/**
+ * Report of warping between quadrants.
+ *
+ * @param course   - the course warped along.
+ * @param distance - how many quadrants were asked for.
+ * @param sectorX  - horizontal coordinate of the sector arrived at.
+ * @param sectorY  - vertical coordinate of the sector arrived at.
+ */
+public record WarpReport(int course, int distance, int sectorX, int sectorY)
+    implements ActionReport {
+
+  @Override
+  public String text() {
+    return "Moved" + ActionReport.arrow(this.course) + "(" + this.distance
+        + ") between quadrants, arrived at quadrant (" + this.sectorX + ", " + this.sectorY + ")";
+  }
+}
@@ -0,0 +1,145 @@
+package sttrswing.server;
+
+import sttrswing.model.interfaces.GameModel;
+import sttrswing.model.interfaces.HasPosition;
+import sttrswing.model.navigation.Route;
+
+/**
+ * Plays one line of the server protocol against a {@link GameModel} and returns the one line reply.
+ * Replies start with {@code OK} or, if the command could not be played, {@code ERR} followed by
+ * why. The game commands are those of {@link sttrswing.headless.ScriptedPolicy} plus a few to look
+ * at the game:
+ * <ul>
+ *   <li>{@code phasers <energy>}</li>
+ *   <li>{@code torpedo <course>}</li>
+ *   <li>{@code move <course> <distance>}</li>
+ *   <li>{@code warp <course> <distance>}</li>
+ *   <li>{@code shields <energy>}</li>
+ *   <li>{@code scan}</li>
+ *   <li>{@code autopilot <x> <y>}</li>
+ *   <li>{@code turn}</li>
+ *   <li>{@code status}</li>
+ *   <li>{@code report}</li>
+ *   <li>{@code hash}</li>
+ * </ul>
+ * The actions reply with their action report, flattened onto one line.
+ */
+final class CommandInterpreter {
+
+  private CommandInterpreter() {
+  }
+
+  /**
+   * Plays the given command against the given game. Not thread safe, callers must make sure only
+   * one command is played against a game at a time.
+   *
+   * @param game    - the game to play the command against.
+   * @param command - the command, already split into words.
+   * @return the reply to send back.
+   */
+  static String execute(final GameModel game, final String[] command) {
+    try {
+      return switch (command[0]) {
+        case "phasers" -> {
+          game.firePhasers(argument(command, 1, 1));
+          yield report(game);
+        }
+        case "torpedo" -> {
+          game.fireTorpedo(argument(command, 1, 1));
+          yield report(game);
+        }
+        case "move" -> {
+          game.moveWithinQuadrant(argument(command, 2, 1), argument(command, 2, 2));
+          yield report(game);
+        }
+        case "warp" -> {
+          game.moveBetweenQuadrants(argument(command, 2, 1), argument(command, 2, 2));
+          yield report(game);
+        }
+        case "shields" -> {
+          game.shields(argument(command, 1, 1));
+          yield report(game);
+        }
+        case "scan" -> {
+          arguments(command, 0);
+          game.scanQuadrant();
+          yield report(game);
+        }
+        case "autopilot" -> {
+          final Route route = game.engageAutopilot(argument(command, 2, 1),
+              argument(command, 2, 2));
+          yield "OK legs=" + route.legs().size() + " quadrants=" + route.quadrants() + " "
+              + flatten(game.lastActionReport());
+        }
+        case "turn" -> {
+          arguments(command, 0);
+          game.turn();
+          yield "OK " + status(game);
+        }
+        case "status" -> {
+          arguments(command, 0);
+          yield "OK " + status(game);
+        }
+        case "report" -> {
+          arguments(command, 0);
+          yield report(game);
+        }
+        case "hash" -> {
+          arguments(command, 0);
+          yield "OK " + Long.toHexString(game.stateHash());
+        }
+        default -> "ERR Unknown command '" + command[0] + "'.";
+      };
+    } catch (RuntimeException e) {
+      return "ERR " + flatten(String.valueOf(e.getMessage()));
+    }
+  }
+
+  /**
+   * Returns the game's status as space separated key=value pairs.
+   *
+   * @param game - the game to describe.
+   * @return the game's status.
+   */
+  static String status(final GameModel game) {
+    final HasPosition quadrant = game.galaxyPosition();
+    final HasPosition sector = game.playerPosition();
+    return "quadrant=" + quadrant.getX() + "," + quadrant.getY()
+        + " sector=" + sector.getX() + "," + sector.getY()
+        + " energy=" + game.playerEnergy()
+        + " shields=" + game.playerShields()
+        + " torpedoes=" + game.spareTorpedoes()
+        + " klingons=" + game.totalKlingonCount()
+        + " starbases=" + game.totalStarbaseCount()
+        + " state=" + (game.hasWon() ? "won" : game.hasLost() ? "lost" : "playing");
+  }
+
+  private static String report(final GameModel game) {
+    return "OK " + flatten(game.lastActionReport());
+  }
+
+  /**
+   * Squeezes every run of whitespace, including line breaks, into a single space so a multi line
+   * report fits on one line of the protocol.
+   */
+  private static String flatten(final String text) {
+    return text == null ? "" : text.strip().replaceAll("\\s+", " ");
+  }
+
+  private static void arguments(final String[] command, final int expected) {
+    if (command.length != expected + 1) {
+      throw new IllegalArgumentException("'" + command[0] + "' takes " + expected
+          + " argument(s), got " + (command.length - 1) + ".");
+    }
+  }
+
+  private static int argument(final String[] command, final int expected, final int index) {
+    arguments(command, expected);
+    try {
+      return Integer.parseInt(command[index]);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          "Expected a whole number but got '" + command[index] + "'.", e);
+    }
+  }
+}
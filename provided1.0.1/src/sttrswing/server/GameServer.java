@@ -0,0 +1,256 @@
+package sttrswing.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+import sttrswing.headless.BatchRunner;
+import sttrswing.headless.LatencyHistogram;
+import sttrswing.model.interfaces.GameModel;
+
+/**
+ * Serves games to any number of clients over a line based protocol on a local TCP port.
+ *
+ * <p>Every connection is handled on its own virtual thread. A connection first starts a session
+ * with {@code new [seed]} or joins an existing one with {@code join <id>}, after which every
+ * {@link CommandInterpreter} command is played against that session's game. {@code stats} replies
+ * with the server's {@link ServerStats}, its command rate measured since that connection last
+ * asked, and {@code quit} closes the connection. Every command gets exactly one line in reply,
+ * starting with {@code OK} or {@code ERR}. A session ends once the last connection to it
+ * closes.</p>
+ */
+public class GameServer implements AutoCloseable {
+
+  private final int port;
+  private final long seed;
+  private final LongFunction<GameModel> games;
+  private final Map<Long, Session> sessions = new ConcurrentHashMap<>();
+  private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+  private final AtomicLong nextSession = new AtomicLong(1);
+  private final LongAdder commands = new LongAdder();
+  private final LatencyHistogram endedLatencies = new LatencyHistogram();
+  private ServerSocket socket;
+  private Thread acceptor;
+  private long startNanos;
+
+  /**
+   * Constructs a {@link GameServer}, call {@link #start()} to start accepting connections.
+   *
+   * @param port  - the port to listen on, 0 to pick any free one.
+   * @param seed  - the seed games started without one of their own are derived from.
+   * @param games - creates the game for a new session from its seed.
+   * @throws IllegalArgumentException if the port is not between 0 and 65535.
+   */
+  public GameServer(final int port, final long seed, final LongFunction<GameModel> games) {
+    if (port < 0 || port > 0xFFFF) {
+      throw new IllegalArgumentException("Port must be between 0 and 65535, got " + port + ".");
+    }
+    this.port = port;
+    this.seed = seed;
+    this.games = games;
+  }
+
+  /**
+   * Binds to the port on the loopback address and starts accepting connections.
+   *
+   * @throws IOException           if the port can not be bound.
+   * @throws IllegalStateException if the server has already been started.
+   */
+  public synchronized void start() throws IOException {
+    if (this.socket != null) {
+      throw new IllegalStateException("Server has already been started.");
+    }
+    this.socket = new ServerSocket(this.port, 0, InetAddress.getLoopbackAddress());
+    this.startNanos = System.nanoTime();
+    this.acceptor = Thread.ofVirtual().name("game-server-acceptor").start(this::accept);
+  }
+
+  /**
+   * Returns the port the server is listening on.
+   *
+   * @return the port the server is listening on.
+   * @throws IllegalStateException if the server has not been started.
+   */
+  public synchronized int getPort() {
+    if (this.socket == null) {
+      throw new IllegalStateException("Server has not been started.");
+    }
+    return this.socket.getLocalPort();
+  }
+
+  /**
+   * Returns how busy the server is, every count is cumulative since the server started so callers
+   * measuring a rate keep their own previous snapshot.
+   *
+   * @return a snapshot of how busy the server is.
+   */
+  public synchronized ServerStats stats() {
+    final long uptime = System.nanoTime() - this.startNanos;
+    final long commands = this.commands.sum();
+
+    final LatencyHistogram latencies = new LatencyHistogram();
+    synchronized (this.endedLatencies) {
+      latencies.merge(this.endedLatencies);
+    }
+    for (Session session : this.sessions.values()) {
+      session.mergeLatencies(latencies);
+    }
+    return new ServerStats(this.sessions.size(), this.connections.size(), commands, uptime,
+        latencies.percentile(50), latencies.percentile(99), latencies.max());
+  }
+
+  /**
+   * Stops accepting connections, closes every open one and ends every session.
+   *
+   * @throws IOException if the listening socket fails to close.
+   */
+  @Override
+  public void close() throws IOException {
+    final Thread acceptor;
+    synchronized (this) {
+      if (this.socket == null) {
+        return;
+      }
+      this.socket.close();
+      acceptor = this.acceptor;
+    }
+    for (Socket connection : this.connections) {
+      connection.close();
+    }
+    try {
+      acceptor.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    for (Session session : this.sessions.values()) {
+      session.close();
+    }
+  }
+
+  private void accept() {
+    while (true) {
+      final Socket connection;
+      try {
+        connection = this.socket.accept();
+      } catch (IOException e) {
+        return; // the server socket was closed
+      }
+      this.connections.add(connection);
+      Thread.ofVirtual().name("game-server-connection").start(() -> this.serve(connection));
+    }
+  }
+
+  private void serve(final Socket connection) {
+    Session session = null;
+    ServerStats previousStats = null;
+    try (connection;
+        BufferedReader in = new BufferedReader(
+            new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+        BufferedWriter out = new BufferedWriter(
+            new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = in.readLine()) != null) {
+        final long received = System.nanoTime();
+        final String trimmed = line.trim();
+        if (trimmed.isEmpty()) {
+          continue;
+        }
+        final String[] command = trimmed.split("\\s+");
+        final String reply;
+        switch (command[0]) {
+          case "quit" -> {
+            return;
+          }
+          case "new", "join" -> {
+            final Session joined = command[0].equals("new") ? this.newSession(command)
+                : this.joinSession(command);
+            if (joined != null) {
+              if (session != null) {
+                this.leave(session);
+              }
+              session = joined;
+              reply = "OK session=" + session.id();
+            } else {
+              reply = "ERR Usage is 'new [seed]' or 'join <id>' with the id of a running session.";
+            }
+          }
+          case "stats" -> {
+            // the rate is measured since this connection last asked, not since anyone else did
+            final ServerStats stats = this.stats();
+            reply = "OK " + stats.describeSince(previousStats);
+            previousStats = stats;
+          }
+          default -> reply = session == null
+              ? "ERR Start a session with 'new [seed]' or 'join <id>' first."
+              : session.execute(command, received);
+        }
+        out.write(reply);
+        out.write('\n');
+        // pipelined commands are answered in one write once the client stops sending
+        if (!in.ready()) {
+          out.flush();
+        }
+      }
+    } catch (IOException e) {
+      // the client went away or the server is closing, either way there is no one to reply to
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      this.connections.remove(connection);
+      if (session != null) {
+        this.leave(session);
+      }
+    }
+  }
+
+  private Session newSession(final String[] command) {
+    if (command.length > 2) {
+      return null;
+    }
+    final long id = this.nextSession.getAndIncrement();
+    final long gameSeed;
+    try {
+      gameSeed = command.length == 2 ? Long.parseLong(command[1])
+          : BatchRunner.gameSeed(this.seed, (int) id);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+    final Session session = new Session(id, this.games.apply(gameSeed), this.commands);
+    session.join();
+    this.sessions.put(id, session);
+    return session;
+  }
+
+  private Session joinSession(final String[] command) {
+    if (command.length != 2) {
+      return null;
+    }
+    final Session session;
+    try {
+      session = this.sessions.get(Long.parseLong(command[1]));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+    return session != null && session.join() ? session : null;
+  }
+
+  private void leave(final Session session) {
+    if (session.leave()) {
+      this.sessions.remove(session.id());
+      synchronized (this.endedLatencies) {
+        session.mergeLatencies(this.endedLatencies);
+      }
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package sttrswing.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import sttrswing.headless.BatchRunner;
+import sttrswing.headless.LatencyHistogram;
+
+/**
+ * Command line load generator for a {@link GameServer}: every client starts its own session on a
+ * virtual thread and plays random commands one at a time, waiting for each reply before sending
+ * the next.
+ *
+ * <p>Usage: {@code LoadGenerator [--host name] [--port n] [--clients n] [--commands n]
+ * [--seed n]}. Prints the round trip latency the clients saw and the server's own stats.</p>
+ */
+public class LoadGenerator {
+
+  private static final String[] COMMANDS = {"phasers", "torpedo", "move", "warp", "shields",
+      "scan", "status"};
+
+  /**
+   * Entry point for the load generator.
+   *
+   * @param args options described in the class comment.
+   * @throws IOException          if the server can not be reached.
+   * @throws InterruptedException if interrupted while waiting for the clients.
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    String host = "localhost";
+    int port = 7878;
+    int clients = 1_000;
+    int commands = 200;
+    long seed = 1L;
+    for (int i = 0; i < args.length; i += 1) {
+      switch (args[i]) {
+        case "--host" -> host = args[++i];
+        case "--port" -> port = Integer.parseInt(args[++i]);
+        case "--clients" -> clients = Integer.parseInt(args[++i]);
+        case "--commands" -> commands = Integer.parseInt(args[++i]);
+        case "--seed" -> seed = Long.parseLong(args[++i]);
+        default -> throw new IllegalArgumentException("Unknown option '" + args[i] + "'.");
+      }
+    }
+
+    final LatencyHistogram latencies = new LatencyHistogram();
+    long errors = 0;
+    final long start = System.nanoTime();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final List<Future<Client>> running = new ArrayList<>();
+      for (int i = 0; i < clients; i += 1) {
+        final Client client = new Client(host, port, commands, BatchRunner.gameSeed(seed, i));
+        running.add(executor.submit(client::play));
+      }
+      for (Future<Client> future : running) {
+        try {
+          final Client client = future.get();
+          latencies.merge(client.latencies);
+          errors += client.errors;
+        } catch (ExecutionException e) {
+          System.out.println("client failed: " + e.getCause());
+        }
+      }
+    }
+    final long elapsed = System.nanoTime() - start;
+
+    System.out.printf("clients      %d x %d commands against %s:%d%n", clients, commands, host,
+        port);
+    System.out.printf("commands     %d in %.2fs, %.0f commands/s, %d errors%n",
+        latencies.count(), elapsed / 1e9, latencies.count() / (elapsed / 1e9), errors);
+    System.out.printf("round trip   p50 %.1fus  p99 %.1fus  max %.1fus%n",
+        latencies.percentile(50) / 1e3, latencies.percentile(99) / 1e3, latencies.max() / 1e3);
+    try (Socket socket = new Socket(host, port);
+        BufferedReader in = reader(socket);
+        BufferedWriter out = writer(socket)) {
+      System.out.println("server       " + send(out, in, "stats"));
+    }
+  }
+
+  private static BufferedReader reader(final Socket socket) throws IOException {
+    return new BufferedReader(
+        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+  }
+
+  private static BufferedWriter writer(final Socket socket) throws IOException {
+    return new BufferedWriter(
+        new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+  }
+
+  private static String send(final BufferedWriter out, final BufferedReader in,
+      final String command) throws IOException {
+    out.write(command);
+    out.write('\n');
+    out.flush();
+    final String reply = in.readLine();
+    if (reply == null) {
+      throw new IOException("Server closed the connection.");
+    }
+    return reply;
+  }
+
+  /**
+   * One simulated player, with its own connection and session.
+   */
+  private static final class Client {
+
+    private final String host;
+    private final int port;
+    private final int commands;
+    private final long seed;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private long errors = 0;
+
+    private Client(final String host, final int port, final int commands, final long seed) {
+      this.host = host;
+      this.port = port;
+      this.commands = commands;
+      this.seed = seed;
+    }
+
+    private Client play() throws IOException {
+      final SplittableRandom random = new SplittableRandom(this.seed);
+      try (Socket socket = new Socket(this.host, this.port);
+          BufferedReader in = reader(socket);
+          BufferedWriter out = writer(socket)) {
+        socket.setTcpNoDelay(true);
+        if (!send(out, in, "new " + this.seed).startsWith("OK")) {
+          throw new IOException("Server refused to start a session.");
+        }
+        for (int i = 0; i < this.commands; i += 1) {
+          final String command = command(random);
+          final long sent = System.nanoTime();
+          final String reply = send(out, in, command);
+          this.latencies.record(System.nanoTime() - sent);
+          if (!reply.startsWith("OK")) {
+            this.errors += 1;
+          }
+        }
+        out.write("quit\n");
+        out.flush();
+      }
+      return this;
+    }
+
+    private static String command(final SplittableRandom random) {
+      final String command = COMMANDS[random.nextInt(COMMANDS.length)];
+      return switch (command) {
+        case "phasers" -> command + " " + random.nextInt(1, 200);
+        case "torpedo" -> command + " " + random.nextInt(1, 9);
+        case "move" -> command + " " + random.nextInt(1, 9) + " " + random.nextInt(1, 4);
+        case "warp" -> command + " " + random.nextInt(1, 9) + " " + random.nextInt(1, 2);
+        case "shields" -> command + " " + random.nextInt(0, 300);
+        default -> command;
+      };
+    }
+  }
+}
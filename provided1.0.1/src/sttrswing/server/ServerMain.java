@@ -0,0 +1,66 @@
+package sttrswing.server;
+
+import java.io.IOException;
+import java.util.function.LongFunction;
+import sttrswing.model.Game;
+import sttrswing.model.enums.GenerationMode;
+import sttrswing.model.enums.TickMode;
+import sttrswing.model.interfaces.GameModel;
+
+/**
+ * Command line entry point for running a {@link GameServer}.
+ *
+ * <p>Usage: {@code ServerMain [--port n] [--seed n] [--size n] [--lazy] [--report-seconds n]}.
+ * Prints the server's {@link ServerStats} every few seconds until killed.</p>
+ */
+public class ServerMain {
+
+  /**
+   * Entry point for the game server.
+   *
+   * @param args options described in the class comment.
+   * @throws IOException          if the port can not be bound.
+   * @throws InterruptedException if interrupted while serving.
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    int port = 7878;
+    long seed = 1L;
+    int size = 8;
+    boolean lazy = false;
+    int reportSeconds = 5;
+    for (int i = 0; i < args.length; i += 1) {
+      switch (args[i]) {
+        case "--port" -> port = Integer.parseInt(args[++i]);
+        case "--seed" -> seed = Long.parseLong(args[++i]);
+        case "--size" -> size = Integer.parseInt(args[++i]);
+        case "--lazy" -> lazy = true;
+        case "--report-seconds" -> reportSeconds = Integer.parseInt(args[++i]);
+        default -> throw new IllegalArgumentException("Unknown option '" + args[i] + "'.");
+      }
+    }
+
+    final int galaxySize = size;
+    final boolean lazyGalaxy = lazy;
+    final LongFunction<GameModel> factory = gameSeed -> {
+      if (!lazyGalaxy) {
+        return new Game(galaxySize, galaxySize, gameSeed);
+      }
+      final Game game = new Game(galaxySize, galaxySize, gameSeed, GenerationMode.LAZY);
+      game.getGalaxy().setTickMode(TickMode.LAZY);
+      return game;
+    };
+
+    try (GameServer server = new GameServer(port, seed, factory)) {
+      server.start();
+      System.out.printf("listening on port %d, %dx%d galaxy, seed %d%n", server.getPort(), size,
+          size, seed);
+      ServerStats previous = null;
+      while (true) {
+        Thread.sleep(reportSeconds * 1000L);
+        final ServerStats stats = server.stats();
+        System.out.println(stats.describeSince(previous));
+        previous = stats;
+      }
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package sttrswing.server;
+
+/**
+ * A snapshot of how busy a {@link GameServer} is.
+ *
+ * <p>Every count is cumulative since the server started, so taking a snapshot changes nothing
+ * for anyone else. A caller wanting a rate over some interval keeps its previous snapshot and
+ * passes it to {@link #commandsPerSecondSince(ServerStats)}.</p>
+ *
+ * @param sessions    - how many sessions are being played.
+ * @param connections - how many clients are connected.
+ * @param commands    - how many commands have been played since the server started.
+ * @param uptimeNanos - how long the server had been running when the snapshot was taken.
+ * @param p50Nanos    - median time from reading a command to having its reply.
+ * @param p99Nanos    - 99th percentile time from reading a command to having its reply.
+ * @param maxNanos    - longest time from reading a command to having its reply.
+ */
+public record ServerStats(int sessions, int connections, long commands, long uptimeNanos,
+    long p50Nanos, long p99Nanos, long maxNanos) {
+
+  /**
+   * Returns how many commands were played per second between an earlier snapshot and this one.
+   *
+   * @param previous - an earlier snapshot of the same server, null to measure since it started.
+   * @return commands played per second since the previous snapshot.
+   */
+  public double commandsPerSecondSince(final ServerStats previous) {
+    final long commands = previous == null ? this.commands : this.commands - previous.commands;
+    final long nanos = previous == null ? this.uptimeNanos
+        : this.uptimeNanos - previous.uptimeNanos;
+    return commands / (Math.max(1L, nanos) / 1e9);
+  }
+
+  /**
+   * Describes this snapshot with its command rate measured since an earlier one.
+   *
+   * @param previous - an earlier snapshot of the same server, null to measure since it started.
+   * @return a one line description of this snapshot.
+   */
+  public String describeSince(final ServerStats previous) {
+    return String.format("sessions=%d connections=%d commands=%d commands/s=%.0f p50=%.1fus"
+            + " p99=%.1fus max=%.1fus", this.sessions, this.connections, this.commands,
+        this.commandsPerSecondSince(previous), this.p50Nanos / 1e3, this.p99Nanos / 1e3,
+        this.maxNanos / 1e3);
+  }
+
+  @Override
+  public String toString() {
+    return this.describeSince(null);
+  }
+}
@@ -0,0 +1,130 @@
+package sttrswing.server;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import sttrswing.headless.LatencyHistogram;
+import sttrswing.model.interfaces.GameModel;
+
+/**
+ * One game being played on a {@link GameServer}, possibly by several connections at once.
+ *
+ * <p>The game is only ever touched from the session's own single virtual thread executor, so
+ * commands from every connection joined to it are played one at a time in the order they arrive
+ * while different sessions run in parallel without sharing any state.</p>
+ */
+final class Session {
+
+  private final long id;
+  private final GameModel game;
+  private final LongAdder commands;
+  private final ExecutorService executor;
+  private final LatencyHistogram latencies = new LatencyHistogram();
+  private int connections = 0;
+  private boolean closed = false;
+
+  /**
+   * Constructs a {@link Session}.
+   *
+   * @param id       - the id connections join the session by.
+   * @param game     - the game played in the session.
+   * @param commands - counter of commands played across the whole server.
+   */
+  Session(final long id, final GameModel game, final LongAdder commands) {
+    this.id = id;
+    this.game = game;
+    this.commands = commands;
+    this.executor =
+        Executors.newSingleThreadExecutor(Thread.ofVirtual().name("session-" + id).factory());
+  }
+
+  /**
+   * Returns the id connections join the session by.
+   *
+   * @return the id of the session.
+   */
+  long id() {
+    return this.id;
+  }
+
+  /**
+   * Plays the given command against the session's game once every command queued before it has
+   * been played, and waits for the reply.
+   *
+   * @param command       - the command, already split into words.
+   * @param receivedNanos - {@link System#nanoTime()} when the command was read, its latency is
+   *                      measured from then.
+   * @return the reply to send back.
+   * @throws InterruptedException if interrupted while waiting for the reply.
+   */
+  String execute(final String[] command, final long receivedNanos) throws InterruptedException {
+    final Future<String> reply;
+    try {
+      reply = this.executor.submit(() -> {
+        final String result = CommandInterpreter.execute(this.game, command);
+        final long latency = System.nanoTime() - receivedNanos;
+        synchronized (this.latencies) {
+          this.latencies.record(latency);
+        }
+        this.commands.increment();
+        return result;
+      });
+    } catch (RejectedExecutionException e) {
+      return "ERR Session " + this.id + " has ended.";
+    }
+    try {
+      return reply.get();
+    } catch (ExecutionException e) {
+      return "ERR " + e.getCause();
+    }
+  }
+
+  /**
+   * Adds the latency of every command played so far to the given histogram.
+   *
+   * @param into - the histogram to add to.
+   */
+  void mergeLatencies(final LatencyHistogram into) {
+    synchronized (this.latencies) {
+      into.merge(this.latencies);
+    }
+  }
+
+  /**
+   * Records another connection joining the session.
+   *
+   * @return false if the session has already ended and can not be joined.
+   */
+  synchronized boolean join() {
+    if (this.closed) {
+      return false;
+    }
+    this.connections += 1;
+    return true;
+  }
+
+  /**
+   * Records a connection leaving the session, ending it once the last one has left.
+   *
+   * @return true if that ended the session.
+   */
+  synchronized boolean leave() {
+    this.connections -= 1;
+    if (this.connections > 0 || this.closed) {
+      return false;
+    }
+    this.close();
+    return true;
+  }
+
+  /**
+   * Ends the session, letting any command already queued finish.
+   */
+  synchronized void close() {
+    this.closed = true;
+    this.executor.shutdown();
+  }
+}
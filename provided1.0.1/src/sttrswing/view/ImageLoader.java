@@ -5,6 +5,9 @@ import java.io.File;
 import java.io.IOException;
 import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
+import sttrswing.logging.Category;
+import sttrswing.logging.GameLog;
+import sttrswing.logging.Level;
 
 public class ImageLoader {
 
@@ -21,7 +24,7 @@ public class ImageLoader {
       BufferedImage img = ImageIO.read(new File(path));
       this.icon = new ImageIcon(img);
     } catch (IOException exception) {
-      System.out.println(exception.getMessage());
+      GameLog.log(Level.WARN, Category.IO, "image load failed", "error", exception.getMessage());
     }
   }
 
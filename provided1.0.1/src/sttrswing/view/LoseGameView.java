@@ -2,6 +2,9 @@ package sttrswing.view;
 
 import sttrswing.controller.GameController;
 import sttrswing.controller.ImageLoader;
+import sttrswing.logging.Category;
+import sttrswing.logging.GameLog;
+import sttrswing.logging.Level;
 import sttrswing.model.interfaces.GameModel;
 import java.awt.Font;
 import java.awt.GridLayout;
@@ -33,7 +36,7 @@ public class LoseGameView extends View {
    */
   public LoseGameView(final GameModel game, final GameController controller) {
     super("Star Trek | Game Over");
-    System.out.println(imageLoader.get());
+    GameLog.log(Level.DEBUG, Category.UI, "lose view image", "icon", imageLoader.get());
     this.game = game;
     this.controller = controller;
     JLabel destroyedEnterprise = new JLabel(imageLoader.get());
@@ -0,0 +1,57 @@
+package sttrswing.view.guicomponents;
+
+import java.awt.Dimension;
+import java.io.File;
+import java.util.function.Function;
+import javax.swing.BorderFactory;
+import javax.swing.JFileChooser;
+import javax.swing.JLabel;
+import javax.swing.SwingConstants;
+import sttrswing.model.SaveHeader;
+
+/**
+ * JLabel to sit beside a JFileChooser as its accessory, showing what is in the save file selected
+ * from its {@link SaveHeader}: the turn reached, Klingons and starbases left, Enterprise energy and
+ * galaxy size.
+ */
+public class SavePreview extends JLabel {
+  private final Function<File, SaveHeader> headers;
+
+  /**
+   * Create a preview for the given chooser that looks up the header of each file selected.
+   *
+   * @param chooser - the chooser to preview the selected file of, this is set as its accessory.
+   * @param headers - returns the header of a file, or null if it has none. Called on the Event
+   *                Dispatch Thread each time the selection changes, so it should not parse the
+   *                save.
+   */
+  public SavePreview(final JFileChooser chooser, final Function<File, SaveHeader> headers) {
+    super();
+    this.headers = headers;
+    this.setVerticalAlignment(SwingConstants.TOP);
+    this.setBorder(BorderFactory.createEmptyBorder(4, 8, 4, 8));
+    this.setPreferredSize(new Dimension(160, 120));
+    this.preview(null);
+    chooser.setAccessory(this);
+    chooser.addPropertyChangeListener(JFileChooser.SELECTED_FILE_CHANGED_PROPERTY,
+        e -> this.preview((File) e.getNewValue()));
+  }
+
+  /**
+   * Show the header of the given file, or that there is nothing to preview.
+   *
+   * @param file - the file selected, may be null.
+   */
+  public void preview(final File file) {
+    final SaveHeader header = file == null ? null : this.headers.apply(file);
+    if (header == null) {
+      this.setText("No preview");
+      return;
+    }
+    this.setText("<html>Turn " + header.turns()
+        + "<br>Klingons: " + header.klingons()
+        + "<br>Starbases: " + header.starbases()
+        + "<br>Energy: " + header.energy()
+        + "<br>Galaxy: " + header.width() + "x" + header.height() + "</html>");
+  }
+}
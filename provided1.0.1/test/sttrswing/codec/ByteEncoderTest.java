@@ -0,0 +1,109 @@
+package sttrswing.codec;
+
+import static org.junit.Assert.*;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class ByteEncoderTest {
+
+  @Test
+  public void testVarintsRoundTrip() {
+    // Arrange
+    ByteEncoder out = new ByteEncoder(1);
+    long[] unsigned = {0, 1, 127, 128, 300, Integer.MAX_VALUE, Long.MAX_VALUE};
+    long[] signed = {0, -1, 63, -64, 64, Integer.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE};
+    for (long value : unsigned) {
+      out.putVarlong(value);
+    }
+    for (long value : signed) {
+      out.putZigzagVarlong(value);
+    }
+    out.putVarint(5);
+    out.putZigzagVarint(-5);
+
+    // Act
+    ByteBuffer in = out.view(0);
+
+    // Assert
+    for (long value : unsigned) {
+      assertEquals(value, ByteDecoder.getVarlong(in));
+    }
+    for (long value : signed) {
+      assertEquals(value, ByteDecoder.getZigzagVarlong(in));
+    }
+    assertEquals(5, ByteDecoder.getVarint(in));
+    assertEquals(-5, ByteDecoder.getZigzagVarint(in));
+    assertFalse(in.hasRemaining());
+  }
+
+  @Test
+  public void testSmallValuesTakeOneByte() {
+    // Arrange
+    ByteEncoder out = new ByteEncoder(16);
+
+    // Act
+    out.putVarint(127);
+    out.putZigzagVarint(-64);
+    out.putZigzagVarint(63);
+
+    // Assert
+    assertEquals(3, out.length());
+  }
+
+  @Test
+  public void testFixedWidthValuesAreBigEndian() {
+    // Arrange
+    ByteEncoder out = new ByteEncoder(0);
+
+    // Act
+    out.put(0x1FF);
+    out.putShort(0x1234);
+    out.putInt(0x56789ABC);
+    out.putLong(-2L);
+    out.putDouble(1.5);
+
+    // Assert
+    ByteBuffer in = ByteBuffer.wrap(out.toByteArray());
+    assertEquals((byte) 0xFF, in.get());
+    assertEquals(0x1234, in.getShort());
+    assertEquals(0x56789ABC, in.getInt());
+    assertEquals(-2L, in.getLong());
+    assertEquals(1.5, in.getDouble(), 0.0);
+    assertFalse(in.hasRemaining());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsANegativeUnsignedValue() {
+    // Act
+    new ByteEncoder(16).putVarint(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsAVarintLargerThanAnInt() {
+    // Arrange
+    ByteEncoder out = new ByteEncoder(16);
+    out.putVarlong(Integer.MAX_VALUE + 1L);
+
+    // Act
+    ByteDecoder.getVarint(out.view(0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsAVarintLongerThan64Bits() {
+    // Arrange
+    byte[] bytes = new byte[11];
+    Arrays.fill(bytes, (byte) 0x80);
+
+    // Act
+    ByteDecoder.getZigzagVarlong(ByteBuffer.wrap(bytes));
+  }
+
+  @Test(expected = BufferUnderflowException.class)
+  public void testAVarintCutShortUnderflows() {
+    // Act
+    ByteDecoder.getVarint(ByteBuffer.wrap(new byte[] {(byte) 0x80, (byte) 0x80}));
+  }
+}
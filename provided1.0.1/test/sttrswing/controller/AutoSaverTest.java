@@ -0,0 +1,136 @@
+package sttrswing.controller;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import sttrswing.model.Game;
+
+public class AutoSaverTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testSavesTheStateAtTheTimeOfTheRequest() throws Exception {
+    // Arrange
+    Game game = new Game(10, 10, 3L);
+    game.firePhasers(100);
+    game.turn();
+    long requestedHash = game.stateHash();
+    Path path = temp.getRoot().toPath().resolve("autosave.trekf");
+
+    try (AutoSaver saver = new AutoSaver(path)) {
+      // Act
+      saver.request(game);
+      game.moveBetweenQuadrants(3, 2);
+      game.turn();
+      saver.flush();
+
+      // Assert
+      Game loaded = new Game(3, 3, 0L);
+      loaded.load(GameLoader.read(path));
+      assertEquals(requestedHash, loaded.stateHash());
+      assertNotNull(saver.lastSaveTime());
+      assertNotNull(saver.lastSaveDuration());
+      assertNull(saver.lastFailure());
+    }
+  }
+
+  @Test
+  public void testFullSavesAreFollowedByDeltas() throws Exception {
+    // Arrange
+    Game game = new Game(30, 30, 7L);
+    Path path = temp.getRoot().toPath().resolve("autosave.trekf");
+
+    try (AutoSaver saver = new AutoSaver(path)) {
+      // Act
+      saver.request(game);
+      saver.flush();
+      long full = Files.size(path);
+      for (int i = 0; i < 20; i += 1) {
+        game.firePhasers(10);
+        game.moveBetweenQuadrants(1 + i % 8, 1);
+        game.turn();
+        saver.request(game);
+      }
+      saver.flush();
+
+      // Assert
+      Path delta = path.resolveSibling("autosave.trekf.d1");
+      assertTrue(Files.exists(delta));
+      assertTrue(Files.size(delta) < full);
+      assertEquals(full, Files.size(path));
+      Game loaded = new Game(3, 3, 0L);
+      loaded.load(GameLoader.read(path));
+      assertEquals(game.stateHash(), loaded.stateHash());
+      assertNull(saver.lastFailure());
+    }
+  }
+
+  @Test
+  public void testCoalescesABurstOfRequests() throws Exception {
+    // Arrange
+    Game game = new Game(8, 8, 4L);
+    Path path = temp.getRoot().toPath().resolve("autosave.trek");
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger writes = new AtomicInteger();
+
+    try (AutoSaver saver = new AutoSaver(path, snapshot -> {
+      writes.incrementAndGet();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return snapshot.export().getBytes();
+    })) {
+      // Act
+      for (int i = 0; i < 50; i += 1) {
+        game.turn();
+        saver.request(game);
+      }
+      release.countDown();
+      saver.flush();
+
+      // Assert
+      assertTrue(writes.get() <= 2);
+      assertEquals(game.export(), Files.readString(path));
+    }
+  }
+
+  @Test
+  public void testReportsAFailedSaveAndKeepsGoing() throws Exception {
+    // Arrange
+    Game game = new Game(8, 8, 5L);
+    Path directory = temp.getRoot().toPath();
+    Path blocked = directory.resolve("blocked");
+    Files.writeString(blocked, "not a directory");
+
+    try (AutoSaver saver = new AutoSaver(blocked.resolve("autosave.trek"))) {
+      // Act
+      saver.request(game);
+      saver.flush();
+
+      // Assert
+      assertTrue(saver.lastFailure() instanceof IOException);
+      assertNull(saver.lastSaveTime());
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRejectsRequestsOnceClosed() throws IOException {
+    // Arrange
+    AutoSaver saver = new AutoSaver(temp.getRoot().toPath().resolve("a.trek"));
+    saver.close();
+
+    // Act
+    saver.request(new Game(8, 8, 6L));
+  }
+}
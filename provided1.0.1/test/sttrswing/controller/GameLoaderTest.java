@@ -0,0 +1,160 @@
+package sttrswing.controller;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import sttrswing.model.Game;
+import sttrswing.model.SavedGame;
+import sttrswing.model.enums.GenerationMode;
+
+public class GameLoaderTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testParseReadsBackAnExport() {
+    // Arrange
+    Game game = new Game(6, 9, 4L);
+
+    // Act
+    SavedGame saved = GameLoader.parse(game.export());
+
+    // Assert
+    assertEquals(game.getEnterprise().export(), saved.enterprise().export());
+    assertEquals(game.getGalaxy().export(), saved.galaxy().export());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseRejectsMissingQuadrants() {
+    GameLoader.parse("[e] x:1 y:2 e:3000 s:0 t:10 |\n");
+  }
+
+  @Test
+  public void testReadPicksTheFormatByExtension() throws IOException {
+    // Arrange
+    Game game = new Game(8, 8, 2L);
+    Path directory = temp.getRoot().toPath();
+    Path text = directory.resolve("save.trek");
+    Path binary = directory.resolve("save.trekb");
+    GameSaver.save(text.toString(), game.export());
+    GameSaver.save(binary.toString(), game.exportBinary());
+
+    // Act
+    SavedGame fromText = GameLoader.read(text);
+    SavedGame fromBinary = GameLoader.read(binary);
+
+    // Assert
+    assertEquals(game.export(), fromText.enterprise().export() + fromText.galaxy().export());
+    assertEquals(game.export(),
+        fromBinary.enterprise().export() + fromBinary.galaxy().export());
+  }
+
+  @Test
+  public void testReadRestoresAFullSaveExactly() throws IOException {
+    // Arrange
+    Game game = new Game(8, 8, 3L);
+    game.scanQuadrant();
+    game.firePhasers(150);
+    game.turn();
+    Path full = temp.getRoot().toPath().resolve("save.trekf");
+    GameSaver.save(full.toString(), game.exportFull());
+
+    // Act
+    Game loaded = new Game(2, 2, 1L);
+    loaded.load(GameLoader.read(full));
+
+    // Assert
+    assertEquals(game.stateHash(), loaded.stateHash());
+  }
+
+  @Test
+  public void testReadReportsProgressUpToTheFileSize() throws IOException {
+    // Arrange
+    Game game = new Game(40, 40, 4L);
+    Path text = temp.getRoot().toPath().resolve("save.trek");
+    GameSaver.save(text.toString(), game.export());
+    List<Long> progress = new ArrayList<>();
+
+    // Act
+    SavedGame saved = GameLoader.read(text, progress::add);
+
+    // Assert
+    assertEquals(game.getGalaxy().export(), saved.galaxy().export());
+    assertTrue(progress.size() > 1);
+    for (int i = 1; i < progress.size(); i += 1) {
+      assertTrue(progress.get(i) > progress.get(i - 1));
+    }
+    assertEquals(Files.size(text), (long) progress.get(progress.size() - 1));
+  }
+
+  @Test
+  public void testReadStopsOnceInterrupted() throws IOException {
+    // Arrange
+    Path binary = temp.getRoot().toPath().resolve("save.trekb");
+    GameSaver.save(binary.toString(), new Game(8, 8, 5L).exportBinary());
+
+    try {
+      // Act
+      Thread.currentThread().interrupt();
+      GameLoader.read(binary, bytesRead -> { });
+      fail("expected an InterruptedIOException");
+    } catch (InterruptedIOException e) {
+      // Assert
+      assertTrue(Thread.interrupted());
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  public void testReadStopsPartWayThroughBuildingTheGalaxy() throws IOException {
+    // Arrange
+    Path binary = temp.getRoot().toPath().resolve("save.trekb");
+    GameSaver.save(binary.toString(),
+        new Game(500, 500, 6L, GenerationMode.LAZY).exportBinary());
+    List<Long> progress = new ArrayList<>();
+
+    try {
+      // Act
+      GameLoader.read(binary, bytesDecoded -> {
+        progress.add(bytesDecoded);
+        Thread.currentThread().interrupt();
+      });
+      fail("expected an InterruptedIOException");
+    } catch (InterruptedIOException e) {
+      // Assert
+      assertTrue(Thread.interrupted());
+      assertEquals(1, progress.size());
+      assertTrue(progress.get(0) < Files.size(binary));
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  public void testReadReportsDecodingABinarySave() throws IOException {
+    // Arrange
+    Path full = temp.getRoot().toPath().resolve("save.trekf");
+    GameSaver.save(full.toString(), new Game(60, 60, 7L).exportFull());
+    List<Long> progress = new ArrayList<>();
+
+    // Act
+    GameLoader.read(full, progress::add);
+
+    // Assert
+    assertTrue(progress.size() > 1);
+    for (int i = 1; i < progress.size(); i += 1) {
+      assertTrue(progress.get(i) > progress.get(i - 1));
+    }
+    assertEquals(Files.size(full), (long) progress.get(progress.size() - 1));
+  }
+}
@@ -0,0 +1,105 @@
+package sttrswing.controller;
+
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.swing.SwingUtilities;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import sttrswing.model.Game;
+import sttrswing.model.enums.GenerationMode;
+
+public class LoadWorkerTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testLoadsIntoTheGameOnTheEventDispatchThread() throws Exception {
+    // Arrange
+    Game saved = new Game(30, 30, 6L);
+    saved.firePhasers(100);
+    saved.turn();
+    Path path = temp.getRoot().toPath().resolve("save.trekf");
+    GameSaver.save(path.toString(), saved.exportFull());
+    Game game = new Game(4, 4, 7L);
+    CountDownLatch finished = new CountDownLatch(1);
+    AtomicBoolean onEdt = new AtomicBoolean();
+    AtomicReference<Long> hash = new AtomicReference<>();
+    LoadWorker worker = new LoadWorker(path, game, () -> {
+      onEdt.set(SwingUtilities.isEventDispatchThread());
+      hash.set(game.stateHash());
+      finished.countDown();
+    }, e -> finished.countDown());
+
+    // Act
+    worker.execute();
+
+    // Assert
+    assertTrue(finished.await(10, TimeUnit.SECONDS));
+    assertTrue(onEdt.get());
+    assertEquals(Long.valueOf(saved.stateHash()), hash.get());
+    assertEquals(100, worker.getProgress());
+  }
+
+  @Test
+  public void testReportsAFailureAndLeavesTheGameAlone() throws Exception {
+    // Arrange
+    Path path = temp.getRoot().toPath().resolve("save.trekb");
+    Files.write(path, new byte[] {1, 2, 3});
+    Game game = new Game(4, 4, 8L);
+    long before = game.stateHash();
+    CountDownLatch finished = new CountDownLatch(1);
+    AtomicReference<Exception> failure = new AtomicReference<>();
+    LoadWorker worker = new LoadWorker(path, game, finished::countDown, e -> {
+      failure.set(e);
+      finished.countDown();
+    });
+
+    // Act
+    worker.execute();
+
+    // Assert
+    assertTrue(finished.await(10, TimeUnit.SECONDS));
+    assertTrue(failure.get() instanceof IllegalArgumentException);
+    SwingUtilities.invokeAndWait(() -> assertEquals(before, game.stateHash()));
+  }
+
+  @Test
+  public void testCancellingPartWayLeavesTheGameAlone() throws Exception {
+    // Arrange
+    Path path = temp.getRoot().toPath().resolve("save.trekb");
+    GameSaver.save(path.toString(),
+        new Game(1000, 1000, 9L, GenerationMode.LAZY).exportBinary());
+    Game game = new Game(4, 4, 10L);
+    long before = game.stateHash();
+    AtomicInteger loaded = new AtomicInteger();
+    AtomicInteger failed = new AtomicInteger();
+    CountDownLatch cancelled = new CountDownLatch(1);
+    LoadWorker worker = new LoadWorker(path, game, loaded::incrementAndGet,
+        e -> failed.incrementAndGet());
+    worker.addPropertyChangeListener(event -> {
+      if ("progress".equals(event.getPropertyName()) && worker.cancel(true)) {
+        cancelled.countDown();
+      }
+    });
+
+    // Act
+    worker.execute();
+
+    // Assert
+    assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+    SwingUtilities.invokeAndWait(() -> { });
+    assertTrue(worker.isCancelled());
+    assertEquals(0, loaded.get());
+    assertEquals(0, failed.get());
+    SwingUtilities.invokeAndWait(() -> assertEquals(before, game.stateHash()));
+  }
+}
@@ -0,0 +1,162 @@
+package sttrswing.controller;
+
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import sttrswing.model.Game;
+import sttrswing.model.SaveChain;
+
+public class SaveCatalogTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private static void save(final Game game, final Path path) throws Exception {
+    GameSaver.save(path.toString(), GameSaver.encode(game, path));
+  }
+
+  /**
+   * Looks up the entry for the given save until it passes the given test or a while passes, as
+   * some platforms poll for changes to report rather than being told of them.
+   */
+  private static SaveCatalog.Entry await(final SaveCatalog catalog, final Path path,
+      final Predicate<SaveCatalog.Entry> done) throws InterruptedException {
+    final long deadline = System.nanoTime() + 15_000_000_000L;
+    SaveCatalog.Entry entry = catalog.entry(path);
+    while (!done.test(entry) && System.nanoTime() < deadline) {
+      Thread.sleep(50);
+      entry = catalog.entry(path);
+    }
+    return entry;
+  }
+
+  @Test
+  public void testListsTheHeaderOfEverySave() throws Exception {
+    // Arrange
+    Path directory = temp.getRoot().toPath();
+    Game small = new Game(8, 8, 1L);
+    Game large = new Game(20, 10, 2L);
+    large.turn();
+    save(small, directory.resolve("a.trek"));
+    save(large, directory.resolve("b.trekb"));
+    save(small, directory.resolve("c.trekf"));
+    Files.writeString(directory.resolve("notes.txt"), "not a save");
+
+    // Act
+    try (SaveCatalog catalog = new SaveCatalog(directory)) {
+      List<SaveCatalog.Entry> entries = catalog.entries();
+
+      // Assert
+      assertEquals(3, entries.size());
+      assertEquals(directory.resolve("a.trek"), entries.get(0).path());
+      assertEquals(small.saveHeader(), entries.get(0).header());
+      assertEquals(large.saveHeader(), entries.get(1).header());
+      assertEquals(small.saveHeader(), entries.get(2).header());
+      assertEquals(Files.size(directory.resolve("b.trekb")), entries.get(1).size());
+      assertEquals(3, catalog.headersRead());
+    }
+  }
+
+  @Test
+  public void testDoesNotReadUnchangedSavesAgain() throws Exception {
+    // Arrange
+    Path directory = temp.getRoot().toPath();
+    for (int i = 0; i < 20; i += 1) {
+      save(new Game(8, 8, i), directory.resolve("save" + i + ".trekb"));
+    }
+
+    try (SaveCatalog catalog = new SaveCatalog(directory)) {
+      // Act
+      catalog.entries();
+      catalog.entries();
+      int changed = catalog.refresh();
+
+      // Assert
+      assertEquals(0, changed);
+      assertEquals(20, catalog.headersRead());
+    }
+  }
+
+  @Test
+  public void testPicksUpChangedAndDeletedSaves() throws Exception {
+    // Arrange
+    Path directory = temp.getRoot().toPath();
+    Path kept = directory.resolve("kept.trekf");
+    Path deleted = directory.resolve("deleted.trekb");
+    Game game = new Game(8, 8, 3L);
+    save(game, kept);
+    save(game, deleted);
+
+    try (SaveCatalog catalog = new SaveCatalog(directory)) {
+      SaveCatalog.Entry before = catalog.entry(kept);
+
+      // Act
+      game.turn();
+      game.turn();
+      save(game, kept);
+      // make sure the change shows even where modification times are coarse
+      Files.setLastModifiedTime(kept, FileTime.fromMillis(
+          before.modified().toMillis() + 2_000L));
+      Files.delete(deleted);
+      SaveCatalog.Entry after = await(catalog, kept, entry -> !Objects.equals(entry, before));
+      SaveCatalog.Entry gone = await(catalog, deleted, Objects::isNull);
+
+      // Assert
+      assertEquals(game.saveHeader(), after.header());
+      assertNotEquals(before.header(), after.header());
+      assertNull(gone);
+      assertEquals(1, catalog.entries().size());
+    }
+  }
+
+  @Test
+  public void testListsAChainWithTheHeaderOfItsNewestDelta() throws Exception {
+    // Arrange
+    Path directory = temp.getRoot().toPath();
+    Path base = directory.resolve("autosave.trekf");
+    Game game = new Game(8, 8, 4L);
+    SaveChain chain = new SaveChain(base);
+    chain.save(game);
+
+    try (SaveCatalog catalog = new SaveCatalog(directory)) {
+      SaveCatalog.Entry before = catalog.entry(base);
+
+      // Act
+      game.turn();
+      game.turn();
+      chain.save(game);
+      SaveCatalog.Entry after = await(catalog, base,
+          entry -> game.saveHeader().equals(entry.header()));
+
+      // Assert
+      assertFalse(chain.lastWasFull());
+      assertNotEquals(before.header(), after.header());
+      assertEquals(game.saveHeader(), after.header());
+      assertEquals(1, catalog.entries().size());
+    }
+  }
+
+  @Test
+  public void testSavesWithoutAHeaderAreListedWithoutOne() throws Exception {
+    // Arrange
+    Path directory = temp.getRoot().toPath();
+    Files.writeString(directory.resolve("old.trek"), new Game(8, 8, 5L).export());
+
+    // Act
+    try (SaveCatalog catalog = new SaveCatalog(directory)) {
+      SaveCatalog.Entry entry = catalog.entry(directory.resolve("old.trek"));
+
+      // Assert
+      assertNotNull(entry);
+      assertNull(entry.header());
+    }
+  }
+}
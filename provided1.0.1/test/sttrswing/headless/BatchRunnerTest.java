@@ -0,0 +1,90 @@
+package sttrswing.headless;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import sttrswing.model.Game;
+
+public class BatchRunnerTest {
+
+  @Test
+  public void testSameSeedSameOutcomesWhateverTheThreadCount() {
+    // Arrange
+    BatchRunner single = new BatchRunner(1, 200, seed -> new Game(8, 8, seed), RandomPolicy::new);
+    BatchRunner pooled = new BatchRunner(4, 200, seed -> new Game(8, 8, seed), RandomPolicy::new);
+
+    // Act
+    BatchReport first = single.run(300, 17L);
+    BatchReport second = pooled.run(300, 17L);
+
+    // Assert
+    assertEquals(300, first.games());
+    for (Outcome outcome : Outcome.values()) {
+      assertEquals(first.count(outcome), second.count(outcome));
+    }
+    assertEquals(first.turns(), second.turns());
+  }
+
+  @Test
+  public void testScriptedPolicyCanWin() {
+    // Arrange
+    // a single quadrant galaxy with every klingon already destroyed
+    BatchRunner runner = new BatchRunner(2, 50, seed -> {
+      Game game = new Game(1, 1, seed);
+      game.getCurrentQuadrant().klingons().forEach(k -> k.hit(1000));
+      game.getCurrentQuadrant().cleanup();
+      return game;
+    }, () -> new ScriptedPolicy("# nothing left to fight\nscan\n"));
+
+    // Act
+    BatchReport report = runner.run(10, 3L);
+
+    // Assert
+    assertEquals(10, report.count(Outcome.WON));
+    assertEquals(0, report.turns());
+  }
+
+  @Test
+  public void testFailuresAreCountedAndReported() {
+    // Arrange
+    BatchRunner runner = new BatchRunner(2, 10, seed -> new Game(8, 8, seed),
+        () -> (game, random) -> {
+          throw new IllegalStateException("boom");
+        });
+
+    // Act
+    BatchReport report = runner.run(5, 9L);
+
+    // Assert
+    assertEquals(5, report.count(Outcome.FAILED));
+    assertTrue(report.firstFailure().startsWith("game 0 (seed "));
+    assertTrue(report.firstFailure().contains("boom"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testScriptRejectsUnknownCommand() {
+    // Arrange & Act
+    new ScriptedPolicy("phasers 100\nwarp 1\n");
+  }
+
+  @Test
+  public void testHistogramPercentiles() {
+    // Arrange
+    LatencyHistogram histogram = new LatencyHistogram();
+    LatencyHistogram other = new LatencyHistogram();
+
+    // Act
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i * 1000L);
+    }
+    other.record(5_000_000L);
+    histogram.merge(other);
+
+    // Assert
+    assertEquals(1001, histogram.count());
+    assertEquals(5_000_000L, histogram.max());
+    assertEquals(5_000_000L, histogram.percentile(100));
+    assertEquals(500_000L, histogram.percentile(50), 500_000L / 16.0);
+    assertEquals(990_000L, histogram.percentile(99), 990_000L / 16.0);
+  }
+}
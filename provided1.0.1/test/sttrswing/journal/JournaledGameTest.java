@@ -0,0 +1,152 @@
+package sttrswing.journal;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import sttrswing.headless.RandomPolicy;
+import sttrswing.model.interfaces.GameModel;
+
+public class JournaledGameTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private static final JournalHeader HEADER = new JournalHeader(16, 16, 11L, false);
+
+  /**
+   * Plays random commands against the game, returning its state hash after each one.
+   */
+  private static List<Long> play(final GameModel game, final int commands) {
+    final RandomPolicy policy = new RandomPolicy();
+    final SplittableRandom random = new SplittableRandom(5L);
+    final List<Long> hashes = new ArrayList<>();
+    hashes.add(game.stateHash());
+    for (int i = 0; i < commands; i += 1) {
+      policy.act(game, random);
+      hashes.add(game.stateHash());
+    }
+    return hashes;
+  }
+
+  @Test
+  public void testJournalingDoesNotChangeTheGame() {
+    // Arrange
+    JournaledGame journaled = new JournaledGame(HEADER, 8);
+
+    // Act
+    List<Long> expected = play(HEADER.newGame(), 300);
+    List<Long> actual = play(journaled, 300);
+
+    // Assert
+    assertEquals(expected, actual);
+    assertEquals(300, journaled.commandCount());
+  }
+
+  @Test
+  public void testStateAtRebuildsEveryCommand() {
+    // Arrange
+    JournaledGame journaled = new JournaledGame(HEADER, 8);
+    List<Long> hashes = play(journaled, 100);
+
+    // Act & Assert
+    for (int command = 0; command <= 100; command += 1) {
+      assertEquals("command " + command, (long) hashes.get(command),
+          journaled.stateAt(command).stateHash());
+    }
+  }
+
+  @Test
+  public void testStateAtIsIndependent() {
+    // Arrange
+    JournaledGame journaled = new JournaledGame(HEADER, 4);
+    play(journaled, 20);
+    long before = journaled.stateHash();
+
+    // Act
+    GameModel past = journaled.stateAt(10);
+    past.firePhasers(100);
+    past.turn();
+
+    // Assert
+    assertEquals(before, journaled.stateHash());
+    assertEquals(20, journaled.commandCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testStateAtRejectsTheFuture() {
+    // Arrange
+    JournaledGame journaled = new JournaledGame(HEADER, 4);
+    play(journaled, 3);
+
+    // Act
+    journaled.stateAt(4);
+  }
+
+  @Test
+  public void testReplayFromFile() throws IOException {
+    // Arrange
+    Path path = temp.newFile("journal.trekj").toPath();
+    List<Long> hashes;
+    try (JournalWriter writer = new JournalWriter(path, HEADER, SyncMode.NONE)) {
+      hashes = play(new JournaledGame(writer, 16), 200);
+    }
+
+    // Act
+    GameModel whole = JournalReader.replay(path);
+    GameModel part = JournalReader.replay(path, 57);
+
+    // Assert
+    assertEquals(HEADER, JournalReader.header(path));
+    assertEquals((long) hashes.get(200), whole.stateHash());
+    assertEquals((long) hashes.get(57), part.stateHash());
+  }
+
+  @Test
+  public void testReplayStopsAtATornRecord() throws IOException {
+    // Arrange
+    Path path = temp.newFile("journal.trekj").toPath();
+    List<Long> hashes;
+    try (JournalWriter writer = new JournalWriter(path, HEADER, SyncMode.EVERY_COMMAND)) {
+      JournaledGame game = new JournaledGame(writer, 1000);
+      hashes = play(game, 10);
+      game.moveWithinQuadrant(3, 2.5);
+    }
+    byte[] bytes = Files.readAllBytes(path);
+    // cut the last record, an opcode, a course and an 8 byte distance, off part way through
+    Files.write(path, Arrays.copyOf(bytes, bytes.length - 4));
+
+    // Act
+    GameModel replayed = JournalReader.replay(path);
+
+    // Assert
+    assertEquals((long) hashes.get(10), replayed.stateHash());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReplayRejectsOtherFiles() throws IOException {
+    // Arrange
+    Path path = temp.newFile("journal.trek").toPath();
+    Files.writeString(path, "[e]x:1;y:1;e:3000;s:0;t:10\n");
+
+    // Act
+    JournalReader.replay(path);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testJournaledGamesCanNotLoad() {
+    // Arrange
+    JournaledGame journaled = new JournaledGame(HEADER, 4);
+
+    // Act
+    journaled.load(null, null);
+  }
+}
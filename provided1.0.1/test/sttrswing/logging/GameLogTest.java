@@ -0,0 +1,100 @@
+package sttrswing.logging;
+
+import static org.junit.Assert.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+import sttrswing.model.Klingon;
+
+public class GameLogTest {
+
+  @After
+  public void tearDown() {
+    GameLog.disable();
+  }
+
+  @Test
+  public void testDisabledByDefault() {
+    // Arrange & Act & Assert
+    for (Level level : Level.values()) {
+      for (Category category : Category.values()) {
+        assertFalse(GameLog.isEnabled(level, category));
+      }
+    }
+  }
+
+  @Test
+  public void testEnabledEventsReachSinkInOrder() {
+    // Arrange
+    MemoryLogSink sink = new MemoryLogSink(100);
+    GameLog.enable(Level.DEBUG, EnumSet.of(Category.COMBAT), sink, 64);
+
+    // Act
+    GameLog.log(Level.DEBUG, Category.COMBAT, "first", "a", 1);
+    GameLog.log(Level.INFO, Category.COMBAT, "second", "a", 2, "b", 3);
+    GameLog.log(Level.WARN, Category.COMBAT, "third", "why", "because");
+    GameLog.flush();
+
+    // Assert
+    List<String> lines = sink.lines();
+    assertEquals(3, lines.size());
+    assertTrue(lines.get(0).endsWith(" DEBUG COMBAT first a=1"));
+    assertTrue(lines.get(1).endsWith(" INFO COMBAT second a=2 b=3"));
+    assertTrue(lines.get(2).endsWith(" WARN COMBAT third why=\"because\""));
+  }
+
+  @Test
+  public void testLevelAndCategoryGuards() {
+    // Arrange
+    MemoryLogSink sink = new MemoryLogSink(100);
+    GameLog.enable(Level.INFO, EnumSet.of(Category.TURN), sink, 64);
+
+    // Act
+    GameLog.log(Level.DEBUG, Category.TURN, "too low");
+    GameLog.log(Level.ERROR, Category.COMBAT, "wrong category");
+    GameLog.log(Level.INFO, Category.TURN, "kept");
+    GameLog.flush();
+
+    // Assert
+    assertFalse(GameLog.isEnabled(Level.DEBUG, Category.TURN));
+    assertTrue(GameLog.isEnabled(Level.ERROR, Category.TURN));
+    assertEquals(1, sink.lines().size());
+    assertTrue(sink.lines().get(0).endsWith("kept"));
+  }
+
+  @Test
+  public void testModelEventsAreRouted() {
+    // Arrange
+    MemoryLogSink sink = new MemoryLogSink(100);
+    GameLog.enable(Level.DEBUG, EnumSet.allOf(Category.class), sink, 64);
+    Klingon klingon = new Klingon(1, 1);
+
+    // Act
+    klingon.hit(100);
+    GameLog.flush();
+
+    // Assert
+    assertEquals(1, sink.lines().size());
+    assertTrue(sink.lines().get(0)
+        .endsWith("klingon hit damage=100 energyBefore=300 energyAfter=200"));
+  }
+
+  @Test
+  public void testDisableWritesOutPendingEvents() {
+    // Arrange
+    MemoryLogSink sink = new MemoryLogSink(10_000);
+    GameLog.enable(Level.TRACE, EnumSet.allOf(Category.class), sink, 8192);
+
+    // Act
+    for (int i = 0; i < 5000; i++) {
+      GameLog.log(Level.TRACE, Category.MOVEMENT, "step", "i", i);
+    }
+    GameLog.disable();
+
+    // Assert
+    assertEquals(5000, sink.lines().size());
+    assertTrue(sink.lines().get(4999).endsWith("step i=4999"));
+  }
+}
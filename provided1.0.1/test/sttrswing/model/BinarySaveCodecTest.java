@@ -0,0 +1,109 @@
+package sttrswing.model;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.junit.Test;
+import sttrswing.model.enums.GenerationMode;
+
+public class BinarySaveCodecTest {
+
+  private static void assertSameGalaxy(final Galaxy expected, final Galaxy actual) {
+    assertEquals(expected.getWidth(), actual.getWidth());
+    assertEquals(expected.getHeight(), actual.getHeight());
+    for (int x = 0; x < expected.getWidth(); x += 1) {
+      for (int y = 0; y < expected.getHeight(); y += 1) {
+        assertEquals("quadrant " + x + "," + y, expected.symbolAt(x, y), actual.symbolAt(x, y));
+      }
+    }
+  }
+
+  @Test
+  public void testRoundTrip() {
+    // Arrange
+    Game game = new Game(12, 7, 5L);
+    game.shields(200);
+
+    // Act
+    SavedGame saved = BinarySaveCodec.decode(game.exportBinary());
+
+    // Assert
+    Enterprise enterprise = game.getEnterprise();
+    assertEquals(enterprise.getX(), saved.enterprise().getX());
+    assertEquals(enterprise.getY(), saved.enterprise().getY());
+    assertEquals(enterprise.energy(), saved.enterprise().energy());
+    assertEquals(enterprise.shields(), saved.enterprise().shields());
+    assertEquals(enterprise.torpedoAmmo(), saved.enterprise().torpedoAmmo());
+    assertSameGalaxy(game.getGalaxy(), saved.galaxy());
+  }
+
+  @Test
+  public void testRoundTripReadsSummariesOfALazyGalaxy() {
+    // Arrange
+    Galaxy galaxy = new Galaxy(40, 40, 9L, GenerationMode.LAZY);
+    galaxy.quadrantAt(3, 4);
+
+    // Act
+    SavedGame saved = BinarySaveCodec.decode(BinarySaveCodec.encode(new Enterprise(), galaxy));
+
+    // Assert
+    assertSameGalaxy(galaxy, saved.galaxy());
+  }
+
+  @Test
+  public void testMuchSmallerThanText() {
+    // Arrange
+    Game game = new Game(64, 64, 1L);
+
+    // Act
+    int binary = game.exportBinary().length;
+    int text = game.export().getBytes(StandardCharsets.UTF_8).length;
+
+    // Assert
+    assertEquals("2 bytes per quadrant plus a small header", 64 * 64 * 2, binary,
+        32 + SaveHeader.BYTES);
+    assertTrue(binary * 5 < text);
+  }
+
+  @Test
+  public void testMissingQuadrantsStayMissing() {
+    // Arrange
+    ArrayList<Quadrant> quadrants = new ArrayList<>();
+    quadrants.add(new Quadrant(0, 0, 1, 2, 3));
+    quadrants.add(new Quadrant(2, 1, 0, 0, 9));
+    Galaxy galaxy = new Galaxy(quadrants);
+
+    // Act
+    SavedGame saved = BinarySaveCodec.decode(BinarySaveCodec.encode(new Enterprise(), galaxy));
+
+    // Assert
+    assertSameGalaxy(galaxy, saved.galaxy());
+    assertNull(saved.galaxy().symbolAt(1, 1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsText() {
+    BinarySaveCodec.decode(new Game(8, 8, 1L).export().getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsATruncatedSave() {
+    // Arrange
+    byte[] bytes = new Game(8, 8, 1L).exportBinary();
+
+    // Act
+    BinarySaveCodec.decode(Arrays.copyOf(bytes, bytes.length - 1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsAnotherVersion() {
+    // Arrange
+    byte[] bytes = new Game(8, 8, 1L).exportBinary();
+    bytes[4] = (byte) (BinarySaveCodec.VERSION + 1);
+
+    // Act
+    BinarySaveCodec.decode(bytes);
+  }
+}
@@ -0,0 +1,145 @@
+package sttrswing.model;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import org.junit.Test;
+import sttrswing.model.enums.GenerationMode;
+import sttrswing.model.enums.TickMode;
+
+public class FullSaveCodecTest {
+
+  private static Game reload(final Game game) {
+    Game loaded = new Game(3, 3, 0L);
+    loaded.load(FullSaveCodec.decode(game.exportFull()));
+    return loaded;
+  }
+
+  @Test
+  public void testRoundTripRestoresTheExactState() {
+    // Arrange
+    Game game = new Game(10, 10, 5L);
+    Scenarios.fightAndWarp(game);
+
+    // Act
+    Game loaded = reload(game);
+
+    // Assert
+    assertEquals(game.stateHash(), loaded.stateHash());
+    assertEquals(game.export(), loaded.export());
+    assertEquals(game.galaxyPosition().getX(), loaded.galaxyPosition().getX());
+    assertEquals(game.galaxyPosition().getY(), loaded.galaxyPosition().getY());
+    assertEquals(game.getGalaxy().getTurns(), loaded.getGalaxy().getTurns());
+    Quadrant expected = game.getCurrentQuadrant();
+    Quadrant actual = loaded.getCurrentQuadrant();
+    for (int x = 0; x < 8; x += 1) {
+      for (int y = 0; y < 8; y += 1) {
+        assertEquals(expected.getSymbolAt(x, y), actual.getSymbolAt(x, y));
+      }
+    }
+  }
+
+  @Test
+  public void testLoadedGamePlaysOnIdentically() {
+    // Arrange
+    Game game = new Game(10, 10, 6L);
+    Scenarios.fightAndWarp(game);
+    Game loaded = reload(game);
+
+    // Act
+    Scenarios.fightAndWarp(game);
+    Scenarios.fightAndWarp(loaded);
+
+    // Assert
+    assertEquals(game.stateHash(), loaded.stateHash());
+    assertEquals(game.computeStateHash(), loaded.computeStateHash());
+  }
+
+  @Test
+  public void testLazyGalaxyKeepsUnbuiltQuadrantsUnbuilt() {
+    // Arrange
+    Game game = new Game(300, 300, 7L, GenerationMode.LAZY);
+    game.getGalaxy().setTickMode(TickMode.LAZY);
+    Scenarios.fightAndWarp(game);
+    int built = game.getGalaxy().materialisedCount();
+
+    // Act
+    Game loaded = reload(game);
+
+    // Assert
+    assertEquals(built, loaded.getGalaxy().materialisedCount());
+    assertEquals(TickMode.LAZY, loaded.getGalaxy().getTickMode());
+    assertEquals(game.getGalaxy().getSeed(), loaded.getGalaxy().getSeed());
+    assertEquals(game.stateHash(), loaded.stateHash());
+    assertEquals(game.totalKlingonCount(), loaded.totalKlingonCount());
+    assertEquals(game.getGalaxy().symbolAt(299, 0), loaded.getGalaxy().symbolAt(299, 0));
+    assertEquals(game.getGalaxy().quadrantAt(0, 299).symbol(),
+        loaded.getGalaxy().quadrantAt(0, 299).symbol());
+    assertEquals(game.stateHash(), loaded.stateHash());
+  }
+
+  @Test
+  public void testSavesAForkWithoutDisturbingIt() {
+    // Arrange
+    Game game = new Game(10, 10, 8L);
+    Scenarios.fightAndWarp(game);
+    Game fork = game.fork();
+    Scenarios.fightAndWarp(fork);
+
+    // Act
+    Game loaded = reload(fork);
+
+    // Assert
+    assertEquals(fork.stateHash(), loaded.stateHash());
+    assertNotEquals(game.stateHash(), loaded.stateHash());
+  }
+
+  @Test
+  public void testRestoresScannedFlagsAndEnergies() {
+    // Arrange
+    Game game = new Game(6, 6, 9L);
+    game.scanQuadrant();
+    game.firePhasers(90);
+
+    // Act
+    SavedGame saved = FullSaveCodec.decode(game.exportFull());
+
+    // Assert
+    Quadrant expected = game.getCurrentQuadrant();
+    Quadrant actual = saved.galaxy().quadrantAt(expected.getX(), expected.getY());
+    assertEquals(expected.klingons().size(), actual.klingons().size());
+    for (int i = 0; i < expected.klingons().size(); i += 1) {
+      assertEquals(expected.klingons().get(i).energy(), actual.klingons().get(i).energy());
+      assertTrue(actual.klingons().get(i).isScanned());
+      assertEquals(expected.klingons().get(i).faction(), actual.klingons().get(i).faction());
+    }
+    assertEquals(expected.getX(), saved.currentQuadrant().getX());
+    assertEquals(expected.getY(), saved.currentQuadrant().getY());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsABinarySave() {
+    FullSaveCodec.decode(new Game(8, 8, 1L).exportBinary());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsATruncatedSave() {
+    // Arrange
+    byte[] bytes = new Game(8, 8, 1L).exportFull();
+
+    // Act
+    FullSaveCodec.decode(Arrays.copyOf(bytes, bytes.length - 1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsASaveThatDoesNotRebuildItsHash() {
+    // Arrange
+    Game game = new Game(8, 8, 1L);
+    byte[] bytes = game.exportFull();
+    // the last byte is the flags of the last star, whose sector byte comes just before it
+    bytes[bytes.length - 2] = (byte) ((bytes[bytes.length - 2] + 1) % 64);
+
+    // Act
+    FullSaveCodec.decode(bytes);
+  }
+}
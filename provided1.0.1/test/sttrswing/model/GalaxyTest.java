@@ -0,0 +1,468 @@
+package sttrswing.model;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import sttrswing.model.enums.GenerationMode;
+import sttrswing.model.enums.TickMode;
+
+public class GalaxyTest {
+
+  @Test
+  public void testDefaultConstructorIsEightByEight() {
+    // Arrange & Act
+    Galaxy galaxy = new Galaxy();
+
+    // Assert
+    assertEquals(8, galaxy.getWidth());
+    assertEquals(8, galaxy.getHeight());
+    for (int x = 0; x < 8; x++) {
+      for (int y = 0; y < 8; y++) {
+        Quadrant quadrant = galaxy.quadrantAt(x, y);
+        assertNotNull(quadrant);
+        assertEquals(x, quadrant.getX());
+        assertEquals(y, quadrant.getY());
+      }
+    }
+  }
+
+  @Test
+  public void testConfigurableDimensions() {
+    // Arrange & Act
+    Galaxy galaxy = new Galaxy(12, 5);
+
+    // Assert
+    assertEquals(12, galaxy.getWidth());
+    assertEquals(5, galaxy.getHeight());
+    assertNotNull(galaxy.quadrantAt(11, 4));
+    assertNull(galaxy.quadrantAt(4, 11));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidDimensionsRejected() {
+    new Galaxy(0, 8);
+  }
+
+  @Test
+  public void testQuadrantAtOutOfBounds() {
+    // Arrange
+    Galaxy galaxy = new Galaxy();
+
+    // Act & Assert
+    assertNull(galaxy.quadrantAt(-1, 0));
+    assertNull(galaxy.quadrantAt(0, -1));
+    assertNull(galaxy.quadrantAt(8, 0));
+    assertNull(galaxy.quadrantAt(0, 8));
+  }
+
+  @Test
+  public void testConstructFromQuadrants() {
+    // Arrange
+    ArrayList<Quadrant> quadrants = new ArrayList<>();
+    Quadrant first = new Quadrant(0, 0, 1, 0, 0);
+    Quadrant second = new Quadrant(2, 1, 0, 1, 0);
+    quadrants.add(first);
+    quadrants.add(second);
+
+    // Act
+    Galaxy galaxy = new Galaxy(quadrants);
+
+    // Assert
+    assertEquals(3, galaxy.getWidth());
+    assertEquals(2, galaxy.getHeight());
+    assertSame(first, galaxy.quadrantAt(0, 0));
+    assertSame(second, galaxy.quadrantAt(2, 1));
+    assertNull(galaxy.quadrantAt(1, 1));
+    assertEquals(1, galaxy.klingonCount());
+    assertEquals(1, galaxy.starbaseCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDuplicateCoordinatesRejected() {
+    // Arrange
+    ArrayList<Quadrant> quadrants = new ArrayList<>();
+    quadrants.add(new Quadrant(3, 3, 0, 0, 0));
+    quadrants.add(new Quadrant(3, 3, 1, 1, 1));
+
+    // Act
+    new Galaxy(quadrants);
+  }
+
+  @Test
+  public void testClusterAtCorner() {
+    // Arrange
+    Galaxy galaxy = new Galaxy();
+
+    // Act & Assert
+    assertEquals(4, galaxy.getQuadrantClusterAt(0, 0).size());
+    assertEquals(9, galaxy.getQuadrantClusterAt(4, 4).size());
+    assertTrue(galaxy.getQuadrantClusterAt(8, 8).isEmpty());
+  }
+
+  @Test
+  public void testTotalsFollowCleanup() {
+    // Arrange
+    ArrayList<Quadrant> quadrants = new ArrayList<>();
+    Quadrant first = new Quadrant(0, 0, 2, 3, 0);
+    Quadrant second = new Quadrant(1, 0, 1, 1, 0);
+    quadrants.add(first);
+    quadrants.add(second);
+    Galaxy galaxy = new Galaxy(quadrants);
+    assertEquals(4, galaxy.klingonCount());
+    assertEquals(3, galaxy.starbaseCount());
+
+    // Act
+    first.klingons().get(0).hit(400);
+    first.klingons().get(1).hit(400);
+    second.starbases().get(0).hit(400);
+    first.cleanup();
+    second.cleanup();
+
+    // Assert
+    assertEquals(2, galaxy.klingonCount());
+    assertEquals(2, galaxy.starbaseCount());
+  }
+
+  @Test
+  public void testTotalsIgnoreMarkedUntilCleanup() {
+    // Arrange
+    ArrayList<Quadrant> quadrants = new ArrayList<>();
+    Quadrant quadrant = new Quadrant(0, 0, 0, 2, 0);
+    quadrants.add(quadrant);
+    Galaxy galaxy = new Galaxy(quadrants);
+
+    // Act
+    quadrant.klingons().get(0).hit(400);
+
+    // Assert
+    assertEquals(2, galaxy.klingonCount());
+    quadrant.cleanup();
+    assertEquals(1, galaxy.klingonCount());
+  }
+
+  @Test
+  public void testSameSeedGeneratesSameGalaxy() {
+    // Arrange
+    Galaxy first = new Galaxy(16, 16, 1234L);
+    Galaxy second = new Galaxy(16, 16, 1234L);
+
+    // Act & Assert
+    assertEquals(1234L, first.getSeed());
+    assertEquals(first.export(), second.export());
+    assertEquals(first.klingonCount(), second.klingonCount());
+  }
+
+  @Test
+  public void testDifferentSeedsGenerateDifferentGalaxies() {
+    // Arrange
+    Galaxy first = new Galaxy(16, 16, 1L);
+    Galaxy second = new Galaxy(16, 16, 2L);
+
+    // Act & Assert
+    assertNotEquals(first.export(), second.export());
+  }
+
+  @Test
+  public void testQuadrantCanBeRegeneratedAlone() {
+    // Arrange
+    Galaxy galaxy = new Galaxy(16, 16, 99L);
+    Quadrant original = galaxy.quadrantAt(9, 3);
+
+    // Act
+    Quadrant regenerated = new Quadrant(9, 3, Galaxy.quadrantRandom(99L, 9, 3));
+
+    // Assert
+    assertEquals(original.starMask(), regenerated.starMask());
+    assertEquals(original.klingonMask(), regenerated.klingonMask());
+    assertEquals(original.starbaseMask(), regenerated.starbaseMask());
+  }
+
+  @Test
+  public void testLazyGalaxyMatchesEagerGalaxy() {
+    // Arrange
+    Galaxy eager = new Galaxy(16, 16, 4321L, GenerationMode.EAGER);
+    Galaxy lazy = new Galaxy(16, 16, 4321L, GenerationMode.LAZY);
+
+    // Act & Assert
+    assertEquals(eager.export(), lazy.export());
+    assertEquals(eager.klingonCount(), lazy.klingonCount());
+    assertEquals(eager.starbaseCount(), lazy.starbaseCount());
+    assertEquals(eager.symbolAt(5, 11), lazy.symbolAt(5, 11));
+    assertEquals(eager.quadrantAt(5, 11).klingonMask(), lazy.quadrantAt(5, 11).klingonMask());
+  }
+
+  @Test
+  public void testLazyGalaxyOnlyBuildsVisitedQuadrants() {
+    // Arrange
+    Galaxy galaxy = new Galaxy(64, 64, 8L, GenerationMode.LAZY);
+
+    // Act
+    galaxy.export();
+    galaxy.symbolAt(3, 3);
+    galaxy.klingonCount();
+    Quadrant quadrant = galaxy.quadrantAt(10, 20);
+
+    // Assert
+    assertEquals(1, galaxy.materialisedCount());
+    assertSame(quadrant, galaxy.quadrantAt(10, 20));
+    assertEquals(1, galaxy.materialisedCount());
+  }
+
+  @Test
+  public void testLazyQuadrantCatchesUpOnMissedTurns() {
+    // Arrange
+    Galaxy eager = new Galaxy(16, 16, 55L, GenerationMode.EAGER);
+    Galaxy lazy = new Galaxy(16, 16, 55L, GenerationMode.LAZY);
+
+    // Act
+    for (int turn = 0; turn < 300; turn++) {
+      eager.outOfFocusTick(new ArrayList<>(), null);
+      lazy.outOfFocusTick(new ArrayList<>(), null);
+    }
+
+    // Assert
+    for (int x = 0; x < 16; x++) {
+      for (int y = 0; y < 16; y++) {
+        List<Starbase> expected = eager.quadrantAt(x, y).starbases();
+        List<Starbase> actual = lazy.quadrantAt(x, y).starbases();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+          assertEquals(expected.get(i).isMarkedForRemoval(), actual.get(i).isMarkedForRemoval());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testParallelGalaxyMatchesEagerGalaxy() {
+    // Arrange
+    Galaxy eager = new Galaxy(40, 25, 777L, GenerationMode.EAGER);
+    Galaxy parallel = new Galaxy(40, 25, 777L, GenerationMode.PARALLEL);
+
+    // Act & Assert
+    assertEquals(eager.export(), parallel.export());
+    assertEquals(eager.klingonCount(), parallel.klingonCount());
+    assertEquals(eager.starbaseCount(), parallel.starbaseCount());
+    for (int x = 0; x < 40; x++) {
+      for (int y = 0; y < 25; y++) {
+        assertEquals(eager.quadrantAt(x, y).occupancy(), parallel.quadrantAt(x, y).occupancy());
+      }
+    }
+  }
+
+  @Test
+  public void testGenerateQuadrantsParallelKeepsOrder() {
+    // Arrange
+    Galaxy galaxy = new Galaxy(12, 9, 3L);
+
+    // Act
+    List<Quadrant> sequential = galaxy.generateQuadrants();
+    List<Quadrant> parallel = galaxy.generateQuadrantsParallel();
+
+    // Assert
+    assertEquals(sequential.size(), parallel.size());
+    for (int i = 0; i < sequential.size(); i++) {
+      assertEquals(sequential.get(i).getX(), parallel.get(i).getX());
+      assertEquals(sequential.get(i).getY(), parallel.get(i).getY());
+      assertEquals(sequential.get(i).occupancy(), parallel.get(i).occupancy());
+    }
+  }
+
+  @Test
+  public void testOnlyQuadrantsWithStarbasesAreScheduled() {
+    // Arrange
+    ArrayList<Quadrant> quadrants = new ArrayList<>();
+    Quadrant withStarbase = new Quadrant(0, 0, 1, 3, 0);
+    quadrants.add(withStarbase);
+    quadrants.add(new Quadrant(1, 0, 0, 3, 4));
+    quadrants.add(new Quadrant(2, 0, 2, 0, 0));
+
+    // Act
+    Galaxy galaxy = new Galaxy(quadrants);
+
+    // Assert
+    assertEquals(2, galaxy.activeQuadrantCount());
+    withStarbase.starbases().get(0).hit(1000);
+    withStarbase.cleanup();
+    assertEquals(1, galaxy.activeQuadrantCount());
+  }
+
+  @Test
+  public void testScheduledTickSkipsGivenQuadrant() {
+    // Arrange
+    ArrayList<Quadrant> quadrants = new ArrayList<>();
+    Quadrant skipped = new Quadrant(0, 0, 1, 3, 0);
+    Quadrant ticked = new Quadrant(1, 0, 1, 3, 0);
+    quadrants.add(skipped);
+    quadrants.add(ticked);
+    Galaxy galaxy = new Galaxy(quadrants);
+
+    // Act
+    for (int turn = 0; turn < 300; turn++) {
+      galaxy.outOfFocusTick(skipped, null);
+    }
+
+    // Assert
+    assertFalse(skipped.starbases().get(0).isMarkedForRemoval());
+    assertTrue(ticked.starbases().get(0).isMarkedForRemoval());
+  }
+
+  @Test
+  public void testLazyQuadrantIsScheduledWhenBuilt() {
+    // Arrange
+    Galaxy galaxy = new Galaxy(32, 32, 21L, GenerationMode.LAZY);
+    assertEquals(0, galaxy.activeQuadrantCount());
+
+    // Act
+    int expected = 0;
+    for (int x = 0; x < 32; x++) {
+      if (galaxy.quadrantAt(x, x).hasOutOfFocusWork()) {
+        expected++;
+      }
+    }
+
+    // Assert
+    assertEquals(expected, galaxy.activeQuadrantCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRescheduleRejectsForeignQuadrant() {
+    // Arrange
+    Galaxy galaxy = new Galaxy(4, 4, 1L);
+
+    // Act
+    galaxy.reschedule(new Quadrant(1, 1, 1, 0, 0));
+  }
+
+  @Test
+  public void testLazyTicksMatchEagerTicks() {
+    for (int turns : new int[] {1, 40, 299, 300, 500}) {
+      // Arrange
+      Galaxy eager = new Galaxy(16, 16, 606L);
+      Galaxy lazy = new Galaxy(16, 16, 606L);
+      lazy.setTickMode(TickMode.LAZY);
+      Quadrant eagerSkip = eager.quadrantAt(8, 8);
+      Quadrant lazySkip = lazy.quadrantAt(8, 8);
+
+      // Act
+      for (int turn = 0; turn < turns; turn++) {
+        eager.outOfFocusTick(eagerSkip, null);
+        lazy.outOfFocusTick(lazySkip, null);
+      }
+
+      // Assert
+      assertEquals(eager.export(), lazy.export());
+      for (int x = 0; x < 16; x++) {
+        for (int y = 0; y < 16; y++) {
+          assertEquals(starbaseEnergies(eager.quadrantAt(x, y)),
+              starbaseEnergies(lazy.quadrantAt(x, y)));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testSwitchingBackToEagerCatchesUp() {
+    // Arrange
+    ArrayList<Quadrant> quadrants = new ArrayList<>();
+    Quadrant raided = new Quadrant(0, 0, 1, 3, 0);
+    quadrants.add(raided);
+    Galaxy galaxy = new Galaxy(quadrants);
+    galaxy.setTickMode(TickMode.LAZY);
+
+    // Act
+    for (int turn = 0; turn < 300; turn++) {
+      galaxy.outOfFocusTick((Quadrant) null, null);
+    }
+
+    // Assert
+    assertFalse(raided.starbases().get(0).isMarkedForRemoval());
+    galaxy.setTickMode(TickMode.EAGER);
+    assertTrue(raided.starbases().get(0).isMarkedForRemoval());
+    assertEquals(300, galaxy.getTurns());
+  }
+
+  @Test
+  public void testForkSharesQuadrantsUntilTouched() {
+    // Arrange
+    Galaxy galaxy = new Galaxy(8, 8, 3L);
+    Quadrant original = galaxy.quadrantAt(2, 5);
+
+    // Act
+    Galaxy fork = galaxy.fork();
+    Quadrant forked = fork.quadrantAt(2, 5);
+
+    // Assert
+    assertNotSame(original, forked);
+    assertTrue(fork.owns(forked));
+    assertFalse(galaxy.owns(original));
+    assertFalse(galaxy.owns(forked));
+    assertEquals(original.symbol(), forked.symbol());
+    assertSame(forked, fork.quadrantAt(2, 5));
+    assertNotSame(original, galaxy.quadrantAt(2, 5));
+  }
+
+  @Test
+  public void testForkKeepsItsOwnTotalsAndSchedule() {
+    // Arrange
+    ArrayList<Quadrant> quadrants = new ArrayList<>();
+    quadrants.add(new Quadrant(0, 0, 1, 2, 0));
+    quadrants.add(new Quadrant(0, 1, 1, 1, 0));
+    Galaxy galaxy = new Galaxy(quadrants);
+
+    // Act
+    Galaxy fork = galaxy.fork();
+    Quadrant raided = fork.quadrantAt(0, 0);
+    for (Klingon klingon : raided.klingons()) {
+      klingon.remove();
+    }
+    raided.starbases().get(0).remove();
+    raided.cleanup();
+
+    // Assert
+    assertEquals(3, galaxy.klingonCount());
+    assertEquals(2, galaxy.starbaseCount());
+    assertEquals(2, galaxy.activeQuadrantCount());
+    assertEquals(2, galaxy.quadrantAt(0, 0).klingonCount());
+    assertEquals(1, fork.klingonCount());
+    assertEquals(1, fork.starbaseCount());
+    assertEquals(1, fork.activeQuadrantCount());
+  }
+
+  @Test
+  public void testLazyForkCatchesUpOnlyItsOwnCopy() {
+    // Arrange
+    ArrayList<Quadrant> quadrants = new ArrayList<>();
+    quadrants.add(new Quadrant(0, 0, 1, 3, 0));
+    Galaxy galaxy = new Galaxy(quadrants);
+    galaxy.setTickMode(TickMode.LAZY);
+
+    // Act
+    Galaxy fork = galaxy.fork();
+    for (int turn = 0; turn < 300; turn++) {
+      fork.outOfFocusTick((Quadrant) null, null);
+    }
+
+    // Assert
+    assertTrue(fork.quadrantAt(0, 0).starbases().get(0).isMarkedForRemoval());
+    assertFalse(galaxy.quadrantAt(0, 0).starbases().get(0).isMarkedForRemoval());
+    assertEquals(0, galaxy.getTurns());
+  }
+
+  /**
+   * Reads how much energy each starbase in the quadrant holds by docking an empty enterprise,
+   * which drains the starbases.
+   */
+  private static List<Integer> starbaseEnergies(Quadrant quadrant) {
+    List<Integer> energies = new ArrayList<>();
+    for (Starbase starbase : quadrant.starbases()) {
+      int y = starbase.getY() == 0 ? 1 : starbase.getY() - 1;
+      Enterprise enterprise = new Enterprise(starbase.getX(), y, 0, 0, 0);
+      starbase.attemptHeal(enterprise);
+      energies.add(enterprise.energy());
+    }
+    return energies;
+  }
+}
@@ -0,0 +1,189 @@
+package sttrswing.model;
+
+import static org.junit.Assert.*;
+
+import java.util.SplittableRandom;
+import org.junit.Test;
+import sttrswing.model.enums.GenerationMode;
+import sttrswing.model.enums.TickMode;
+
+public class GameTest {
+
+  @Test
+  public void testForkIsUnaffectedByOriginal() {
+    // Arrange
+    Game game = new Game(8, 8, 42L);
+    String before = game.export();
+    Game fork = game.fork();
+
+    // Act
+    game.firePhasers(1000);
+    game.turn();
+    game.moveBetweenQuadrants(1, 2);
+    game.scanQuadrant();
+    game.turn();
+
+    // Assert
+    assertEquals(before, fork.export());
+    assertEquals(4, fork.galaxyPosition().getX());
+    assertEquals(4, fork.galaxyPosition().getY());
+  }
+
+  @Test
+  public void testOriginalIsUnaffectedByFork() {
+    // Arrange
+    Game game = new Game(8, 8, 42L);
+    String before = game.export();
+    int klingons = game.totalKlingonCount();
+
+    // Act
+    for (int i = 0; i < 20; i++) {
+      Game fork = game.fork();
+      fork.firePhasers(2000);
+      fork.fireTorpedo(1 + i % 8);
+      fork.turn();
+      fork.moveBetweenQuadrants(1 + i % 8, 3);
+      fork.turn();
+    }
+
+    // Assert
+    assertEquals(before, game.export());
+    assertEquals(klingons, game.totalKlingonCount());
+  }
+
+  @Test
+  public void testForkPlaysOnIndependently() {
+    // Arrange
+    Game game = new Game(8, 8, 7L);
+    Game fork = game.fork();
+    Game expectedFork = new Game(8, 8, 7L);
+    Game expectedForkOfFork = new Game(8, 8, 7L);
+
+    // Act
+    Game forkOfFork = fork.fork();
+    fork.shields(500);
+    forkOfFork.shields(100);
+    expectedFork.shields(500);
+    expectedForkOfFork.shields(100);
+
+    // Assert
+    assertEquals(new Game(8, 8, 7L).export(), game.export());
+    assertEquals(expectedFork.export(), fork.export());
+    assertEquals(expectedForkOfFork.export(), forkOfFork.export());
+    assertNotEquals(fork.playerShields(), forkOfFork.playerShields());
+  }
+
+  @Test
+  public void testIncrementalStateHashMatchesRecomputedHash() {
+    for (long seed = 0; seed < 40; seed++) {
+      // Arrange
+      SplittableRandom random = new SplittableRandom(seed);
+      GenerationMode mode = GenerationMode.values()[(int) (seed % 3)];
+      Game game = new Game(6, 5, seed, mode);
+      if (seed % 2 == 0) {
+        game.getGalaxy().setTickMode(TickMode.LAZY);
+      }
+      assertEquals(game.computeStateHash(), game.stateHash());
+
+      for (int step = 0; step < 60 && !game.hasLost(); step++) {
+        // Act
+        if (random.nextInt(10) == 0) {
+          game = game.fork();
+        }
+        playRandomAction(game, random);
+
+        // Assert
+        assertEquals("seed " + seed + " step " + step, game.computeStateHash(), game.stateHash());
+      }
+    }
+  }
+
+  @Test
+  public void testEqualStatesHashEqual() {
+    // Arrange
+    Game eager = new Game(8, 8, 11L, GenerationMode.EAGER);
+    Game lazy = new Game(8, 8, 11L, GenerationMode.LAZY);
+    Game other = new Game(8, 8, 12L);
+
+    // Act
+    long start = eager.stateHash();
+    eager.moveWithinQuadrant(0, 0);
+    eager.getEnterprise().setX(eager.getEnterprise().getX() + 1);
+    long moved = eager.stateHash();
+    eager.getEnterprise().setX(eager.getEnterprise().getX() - 1);
+
+    // Assert
+    assertEquals(lazy.stateHash(), start);
+    assertEquals(start, eager.stateHash());
+    assertNotEquals(start, moved);
+    assertNotEquals(start, other.stateHash());
+    assertEquals(start, eager.fork().stateHash());
+  }
+
+  @Test
+  public void testCrossesAGalaxyWiderThanAThousandQuadrants() {
+    // Arrange
+    Game game = new Game(1024, 1024, 13L, GenerationMode.LAZY);
+    game.engageAutopilot(0, 0);
+
+    // Act
+    game.engageAutopilot(1023, 1023);
+    game.moveBetweenQuadrants(5, 1010);
+
+    // Assert
+    Quadrant quadrant = game.getCurrentQuadrant();
+    assertEquals(13, quadrant.getX());
+    assertEquals(1023, quadrant.getY());
+    Enterprise enterprise = game.getEnterprise();
+    assertNull(quadrant.getEntityAt(enterprise.getX(), enterprise.getY()));
+  }
+
+  @Test
+  public void testWarpOnlyBuildsTheQuadrantItEndsIn() {
+    // Arrange
+    Game game = new Game(2048, 4, 14L, GenerationMode.LAZY);
+
+    // Act
+    game.moveBetweenQuadrants(5, 1000);
+    game.moveBetweenQuadrants(1, 5000);
+
+    // Assert
+    assertEquals(3, game.getGalaxy().materialisedCount());
+    assertEquals(2047, game.getCurrentQuadrant().getX());
+    assertSame(game.getCurrentQuadrant(), game.getGalaxy().quadrantAt(2047,
+        game.getCurrentQuadrant().getY()));
+  }
+
+  @Test
+  public void testWarpOnNoCourseStaysPut() {
+    // Arrange
+    Game game = new Game(8, 8, 1L);
+    Quadrant quadrant = game.getCurrentQuadrant();
+    int x = game.getEnterprise().getX();
+    int y = game.getEnterprise().getY();
+    String report = game.lastActionReport();
+
+    // Act
+    game.moveBetweenQuadrants(9, Integer.MAX_VALUE);
+    game.moveBetweenQuadrants(0, 3);
+
+    // Assert
+    assertSame(quadrant, game.getCurrentQuadrant());
+    assertEquals(x, game.getEnterprise().getX());
+    assertEquals(y, game.getEnterprise().getY());
+    assertEquals(report, game.lastActionReport());
+  }
+
+  private static void playRandomAction(Game game, SplittableRandom random) {
+    int course = 1 + random.nextInt(8);
+    switch (random.nextInt(7)) {
+      case 0 -> game.firePhasers(random.nextInt(400));
+      case 1 -> game.fireTorpedo(course);
+      case 2 -> game.shields(random.nextInt(300));
+      case 3 -> game.moveWithinQuadrant(course, 1 + random.nextInt(4));
+      case 4 -> game.moveBetweenQuadrants(course, 1 + random.nextInt(2));
+      case 5 -> game.scanQuadrant();
+      default -> game.turn();
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package sttrswing.model;
+
+import static org.junit.Assert.*;
+
+import java.util.SplittableRandom;
+import org.junit.Test;
+import sttrswing.model.enums.StopReason;
+import sttrswing.model.reports.MoveReport;
+
+public class MovementResolverTest {
+
+  @Test
+  public void testMatchesSteppingOneSectorAtATime() {
+    Game game = new Game();
+    for (int seed = 0; seed < 30; seed++) {
+      // Arrange
+      Quadrant quadrant = new Quadrant(0, 0, new SplittableRandom(seed));
+      for (int sector = 0; sector < 64; sector++) {
+        for (int course = 1; course <= 8; course++) {
+          for (int distance = 0; distance <= 8; distance++) {
+            Entity stepped = new Entity(sector % 8, sector / 8);
+            boolean valid = true;
+            int jumps = distance;
+            while (valid && jumps > 0) {
+              jumps--;
+              valid = game.attemptMoveInQuadrant(quadrant, stepped, game.getVectorFrom(course));
+            }
+
+            // Act
+            int move = MovementResolver.resolve(quadrant, sector % 8, sector / 8, course, distance);
+
+            // Assert
+            String where = "sector " + sector + " course " + course + " distance " + distance;
+            assertEquals(where, stepped.getX(), MovementResolver.stopX(move));
+            assertEquals(where, stepped.getY(), MovementResolver.stopY(move));
+            assertEquals(where, valid, MovementResolver.stopReason(move) == StopReason.DISTANCE);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testReportsWhyTheMoveStopped() {
+    // Arrange
+    Quadrant quadrant = new Quadrant(0, 0, 0, 0, 0);
+
+    // Act
+    int toEdge = MovementResolver.resolve(quadrant, 5, 5, 1, 7);
+    int shortMove = MovementResolver.resolve(quadrant, 5, 5, 5, 2);
+
+    // Assert
+    assertEquals(StopReason.EDGE, MovementResolver.stopReason(toEdge));
+    assertEquals(2, MovementResolver.steps(toEdge));
+    assertEquals(7, MovementResolver.stopX(toEdge));
+    assertEquals(StopReason.DISTANCE, MovementResolver.stopReason(shortMove));
+    assertEquals(3, MovementResolver.stopX(shortMove));
+  }
+
+  @Test
+  public void testGameMoveStopsInFrontOfEntity() {
+    // Arrange
+    Game game = new Game(1, 1, 5L);
+    Quadrant quadrant = game.getCurrentQuadrant();
+    game.getEnterprise().setX(0);
+    game.getEnterprise().setY(0);
+    int blocker = SectorRays.nearest(8, SectorRays.ray(8, 0, 0) & quadrant.occupancy());
+
+    // Act
+    game.moveWithinQuadrant(8, 8);
+
+    // Assert
+    MoveReport report = (MoveReport) game.lastAction();
+    if (blocker < 0) {
+      assertEquals(StopReason.EDGE, report.stopReason());
+      assertEquals(7, game.getEnterprise().getX());
+    } else {
+      assertEquals(StopReason.ENTITY, report.stopReason());
+      assertEquals(blocker % 8 - 1, game.getEnterprise().getX());
+      assertEquals(blocker % 8 - 1, report.moved());
+    }
+  }
+}
@@ -8,10 +8,14 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.SplittableRandom;
 import org.junit.Test;
 
 public class QuadrantTest {
 
+  // fixes where everything is placed so checks on particular sectors always see the same layout
+  private static final long SEED = 2024L;
+
   @Test
   public void testConstructorInitialization() {
     // Arrange
@@ -19,7 +23,7 @@ public class QuadrantTest {
     int y = 5;
 
     // Act
-    Quadrant quadrant = new Quadrant(x, y, 1, 2, 3);
+    Quadrant quadrant = new Quadrant(x, y, 1, 2, 3, new SplittableRandom(SEED));
 
     // Assert
     assertEquals(x, quadrant.getX());
@@ -32,7 +36,7 @@ public class QuadrantTest {
   @Test
   public void testRandomConstructorProducesValidQuadrant() {
     // Arrange & Act
-    Quadrant quadrant = new Quadrant(4, 6);
+    Quadrant quadrant = new Quadrant(4, 6, new SplittableRandom(SEED));
 
     // Assert
     assertEquals(4, quadrant.getX());
@@ -64,7 +68,7 @@ public class QuadrantTest {
 
     // Act
     for (int i = 0; i < 20; i++) {
-      Quadrant quadrant = new Quadrant(5, 5);
+      Quadrant quadrant = new Quadrant(5, 5, new SplittableRandom(i));
       signatures.add(layoutSignature(quadrant));
     }
 
@@ -72,10 +76,35 @@ public class QuadrantTest {
     assertTrue("Expected at least two different quadrant layouts", signatures.size() > 1);
   }
 
+  @Test
+  public void testSeededConstructorIsReproducible() {
+    // Arrange
+    Quadrant first = new Quadrant(5, 5, new SplittableRandom(42));
+    Quadrant second = new Quadrant(5, 5, new SplittableRandom(42));
+
+    // Act & Assert
+    assertEquals(layoutSignature(first), layoutSignature(second));
+    assertEquals(first.symbol(), second.symbol());
+  }
+
+  @Test
+  public void testSeededRandomEmptySectorIsReproducible() {
+    // Arrange
+    Quadrant first = new Quadrant(0, 0, 1, 2, 3, new SplittableRandom(7));
+    Quadrant second = new Quadrant(0, 0, 1, 2, 3, new SplittableRandom(7));
+
+    // Act & Assert
+    assertEquals(layoutSignature(first), layoutSignature(second));
+    for (int i = 0; i < 10; i++) {
+      assertEquals(first.getRandomEmptySector().toString(),
+          second.getRandomEmptySector().toString());
+    }
+  }
+
   @Test
   public void testConstructorEntityPlacement() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 2, 3, 4);
+    Quadrant quadrant = new Quadrant(0, 0, 2, 3, 4, new SplittableRandom(SEED));
 
     // Act
     List<Starbase> starbases = quadrant.starbases();
@@ -111,7 +140,7 @@ public class QuadrantTest {
   @Test
   public void testGetEntitiesSize() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 3, 2, 4);
+    Quadrant quadrant = new Quadrant(0, 0, 3, 2, 4, new SplittableRandom(SEED));
 
     // Act
     int fromLists = quadrant.starbaseCount() + quadrant.klingonCount() + quadrant.starCount();
@@ -131,7 +160,7 @@ public class QuadrantTest {
   @Test
   public void testConstructorWithZeroEntities() {
     // Arrange
-    Quadrant quadrant = new Quadrant(3, 4, 0, 0, 0);
+    Quadrant quadrant = new Quadrant(3, 4, 0, 0, 0, new SplittableRandom(SEED));
 
     // Act & Assert
     assertEquals(0, quadrant.starbases().size());
@@ -143,7 +172,7 @@ public class QuadrantTest {
   @Test
   public void testConstructorPlacementAvoidsCollisions() {
     // Arrange
-    Quadrant quadrant = new Quadrant(1, 1, 5, 6, 7);
+    Quadrant quadrant = new Quadrant(1, 1, 5, 6, 7, new SplittableRandom(SEED));
 
     // Act
     Set<String> positions = new HashSet<>();
@@ -165,7 +194,7 @@ public class QuadrantTest {
   @Test
   public void testGetX() {
     // Arrange
-    Quadrant quadrant = new Quadrant(6, 7, 1, 1, 1);
+    Quadrant quadrant = new Quadrant(6, 7, 1, 1, 1, new SplittableRandom(SEED));
 
     // Act
     int x = quadrant.getX();
@@ -177,7 +206,7 @@ public class QuadrantTest {
   @Test
   public void testGetY() {
     // Arrange
-    Quadrant quadrant = new Quadrant(6, 7, 1, 1, 1);
+    Quadrant quadrant = new Quadrant(6, 7, 1, 1, 1, new SplittableRandom(SEED));
 
     // Act
     int y = quadrant.getY();
@@ -189,7 +218,7 @@ public class QuadrantTest {
   @Test
   public void testGetSymbolAt() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 1);
+    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 1, new SplittableRandom(SEED));
     Starbase starbase = quadrant.starbases().get(0);
     Klingon klingon = quadrant.klingons().get(0);
     Star star = quadrant.stars().get(0);
@@ -204,7 +233,7 @@ public class QuadrantTest {
   @Test
   public void testGetEntityAtOccupied() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 1);
+    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 1, new SplittableRandom(SEED));
     Starbase starbase = quadrant.starbases().get(0);
     Klingon klingon = quadrant.klingons().get(0);
     Star star = quadrant.stars().get(0);
@@ -218,7 +247,7 @@ public class QuadrantTest {
   @Test
   public void testGetEntityAtEmpty() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 1);
+    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 1, new SplittableRandom(SEED));
 
     // Act
     Entity entity = quadrant.getEntityAt(7, 7);
@@ -235,7 +264,7 @@ public class QuadrantTest {
   @Test
   public void testGetEntityAtOutOfBounds() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 1);
+    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 1, new SplittableRandom(SEED));
 
     // Act & Assert
     assertNull(quadrant.getEntityAt(-1, 0));
@@ -246,7 +275,7 @@ public class QuadrantTest {
   @Test
   public void testKlingonsListContainsOnlyKlingons() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 2, 4, 1);
+    Quadrant quadrant = new Quadrant(0, 0, 2, 4, 1, new SplittableRandom(SEED));
 
     // Act
     List<Klingon> klingons = quadrant.klingons();
@@ -263,7 +292,7 @@ public class QuadrantTest {
   @Test
   public void testStarbasesListContainsOnlyStarbases() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 3, 1, 2);
+    Quadrant quadrant = new Quadrant(0, 0, 3, 1, 2, new SplittableRandom(SEED));
 
     // Act
     List<Starbase> starbases = quadrant.starbases();
@@ -280,7 +309,7 @@ public class QuadrantTest {
   @Test
   public void testStarsListContainsOnlyStars() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 1, 2, 5);
+    Quadrant quadrant = new Quadrant(0, 0, 1, 2, 5, new SplittableRandom(SEED));
 
     // Act
     List<Star> stars = quadrant.stars();
@@ -298,7 +327,7 @@ public class QuadrantTest {
   @Test
   public void testKlingonCountAfterCleanup() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 0, 2, 0);
+    Quadrant quadrant = new Quadrant(0, 0, 0, 2, 0, new SplittableRandom(SEED));
     Klingon klingon = quadrant.klingons().get(0);
 
     // Act
@@ -314,7 +343,7 @@ public class QuadrantTest {
   @Test
   public void testKlingonsMarkedForRemovalCountInitial() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 1, 2, 3);
+    Quadrant quadrant = new Quadrant(0, 0, 1, 2, 3, new SplittableRandom(SEED));
 
     // Act
     int marked = quadrant.klingonsMarkedForRemovalCount();
@@ -326,7 +355,7 @@ public class QuadrantTest {
   @Test
   public void testCleanupRemovesStarbases() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 2, 0, 0);
+    Quadrant quadrant = new Quadrant(0, 0, 2, 0, 0, new SplittableRandom(SEED));
     Starbase starbase = quadrant.starbases().get(0);
 
     // Act
@@ -341,7 +370,7 @@ public class QuadrantTest {
   @Test
   public void testRemoveMarkedEntitiesUpdatesGetEntityAt() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 0);
+    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 0, new SplittableRandom(SEED));
     Starbase starbase = quadrant.starbases().get(0);
     int x = starbase.getX();
     int y = starbase.getY();
@@ -357,7 +386,7 @@ public class QuadrantTest {
   @Test
   public void testCleanupWhenNoneMarkedDoesNothing() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 1);
+    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 1, new SplittableRandom(SEED));
     int klingonsBefore = quadrant.klingonCount();
     int starbasesBefore = quadrant.starbaseCount();
 
@@ -372,7 +401,7 @@ public class QuadrantTest {
   @Test
   public void testSymbolUpdatesAfterRemoval() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 1, 2, 1);
+    Quadrant quadrant = new Quadrant(0, 0, 1, 2, 1, new SplittableRandom(SEED));
     String initialSymbol = quadrant.symbol();
 
     // Act
@@ -388,7 +417,7 @@ public class QuadrantTest {
   @Test
   public void testToStringUpdatesAfterRemoval() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 1, 2, 3);
+    Quadrant quadrant = new Quadrant(0, 0, 1, 2, 3, new SplittableRandom(SEED));
     String initial = quadrant.toString();
 
     // Act
@@ -404,7 +433,7 @@ public class QuadrantTest {
   @Test
   public void testHitDamagesAllKlingons() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 0, 2, 0);
+    Quadrant quadrant = new Quadrant(0, 0, 0, 2, 0, new SplittableRandom(SEED));
     Klingon first = quadrant.klingons().get(0);
     Klingon second = quadrant.klingons().get(1);
     int firstEnergy = getEnergy(first);
@@ -421,7 +450,7 @@ public class QuadrantTest {
   @Test
   public void testHitDamagesAllKlingonsEqually() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 0, 3, 0);
+    Quadrant quadrant = new Quadrant(0, 0, 0, 3, 0, new SplittableRandom(SEED));
     List<Integer> before = new ArrayList<>();
     for (Klingon klingon : quadrant.klingons()) {
       before.add(getEnergy(klingon));
@@ -441,7 +470,7 @@ public class QuadrantTest {
   @Test
   public void testHitDoesNotDamageOtherEntities() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 1, 2, 1);
+    Quadrant quadrant = new Quadrant(0, 0, 1, 2, 1, new SplittableRandom(SEED));
     Starbase starbase = quadrant.starbases().get(0);
     int starbaseEnergy = getEnergy(starbase);
 
@@ -456,7 +485,7 @@ public class QuadrantTest {
   @Test
   public void testHitWithZeroDamage() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 0, 2, 0);
+    Quadrant quadrant = new Quadrant(0, 0, 0, 2, 0, new SplittableRandom(SEED));
     List<Integer> energies = new ArrayList<>();
     for (Klingon klingon : quadrant.klingons()) {
       energies.add(getEnergy(klingon));
@@ -475,7 +504,7 @@ public class QuadrantTest {
   @Test
   public void testKlingonsMarkedForRemovalCountAfterHit() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 0, 3, 0);
+    Quadrant quadrant = new Quadrant(0, 0, 0, 3, 0, new SplittableRandom(SEED));
 
     // Act
     quadrant.klingons().get(0).hit(350);
@@ -488,7 +517,7 @@ public class QuadrantTest {
   @Test
   public void testScanMarksEntities() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 1);
+    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 1, new SplittableRandom(SEED));
     Starbase starbase = quadrant.starbases().get(0);
     Klingon klingon = quadrant.klingons().get(0);
     Star star = quadrant.stars().get(0);
@@ -508,7 +537,7 @@ public class QuadrantTest {
   @Test
   public void testRandomEmptySectorMultipleCalls() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 1);
+    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 1, new SplittableRandom(SEED));
 
     // Act & Assert
     for (int i = 0; i < 20; i++) {
@@ -522,21 +551,119 @@ public class QuadrantTest {
   @Test
   public void testGetRandomEmptySectorOnFullQuadrant() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 20, 20, 24);
+    Quadrant quadrant = new Quadrant(0, 0, 20, 20, 24, new SplittableRandom(SEED));
+
+    // Act
+    XyPair empty = quadrant.getRandomEmptySector();
+
+    // Assert
+    assertEquals(-1L, quadrant.occupancy());
+    assertNull(empty);
+  }
+
+  @Test
+  public void testGetRandomEmptySectorOnNearlyFullQuadrant() {
+    // Arrange
+    Quadrant quadrant = new Quadrant(0, 0, 20, 20, 23, new SplittableRandom(SEED));
 
     // Act
     XyPair empty = quadrant.getRandomEmptySector();
 
     // Assert
     assertNotNull(empty);
-    assertTrue(empty.getX() >= 0 && empty.getX() < 8);
-    assertTrue(empty.getY() >= 0 && empty.getY() < 8);
+    assertFalse(quadrant.isOccupied(empty.getX(), empty.getY()));
+    assertNull(quadrant.getEntityAt(empty.getX(), empty.getY()));
+  }
+
+  @Test
+  public void testRandomEmptySectorIsNeverOccupied() {
+    // Arrange
+    Quadrant quadrant = new Quadrant(0, 0, 3, 3, 9, new SplittableRandom(SEED));
+
+    // Act & Assert
+    for (int i = 0; i < 200; i++) {
+      XyPair empty = quadrant.getRandomEmptySector();
+      assertFalse(quadrant.isOccupied(empty.getX(), empty.getY()));
+    }
+  }
+
+  @Test
+  public void testOccupancyMatchesEntities() {
+    // Arrange
+    Quadrant quadrant = new Quadrant(0, 0, 3, 3, 9, new SplittableRandom(SEED));
+
+    // Act
+    long expected = 0L;
+    for (Starbase starbase : quadrant.starbases()) {
+      expected |= 1L << (starbase.getY() * 8 + starbase.getX());
+    }
+    for (Klingon klingon : quadrant.klingons()) {
+      expected |= 1L << (klingon.getY() * 8 + klingon.getX());
+    }
+    for (Star star : quadrant.stars()) {
+      expected |= 1L << (star.getY() * 8 + star.getX());
+    }
+
+    // Assert
+    assertEquals(expected, quadrant.occupancy());
+    assertEquals(15, Long.bitCount(quadrant.occupancy()));
+  }
+
+  @Test
+  public void testMoveUpdatesOccupancy() {
+    // Arrange
+    Quadrant quadrant = new Quadrant(0, 0, 0, 1, 0, new SplittableRandom(SEED));
+    Klingon klingon = quadrant.klingons().get(0);
+    int fromX = klingon.getX();
+    int fromY = klingon.getY();
+    int toX = (fromX + 1) % 8;
+
+    // Act
+    boolean moved = quadrant.move(klingon, toX, fromY);
+
+    // Assert
+    assertTrue(moved);
+    assertEquals(toX, klingon.getX());
+    assertFalse(quadrant.isOccupied(fromX, fromY));
+    assertNull(quadrant.getEntityAt(fromX, fromY));
+    assertSame(klingon, quadrant.getEntityAt(toX, fromY));
+  }
+
+  @Test
+  public void testMoveOntoOccupiedSectorFails() {
+    // Arrange
+    Quadrant quadrant = new Quadrant(0, 0, 1, 1, 0, new SplittableRandom(SEED));
+    Klingon klingon = quadrant.klingons().get(0);
+    Starbase starbase = quadrant.starbases().get(0);
+
+    // Act
+    boolean moved = quadrant.move(klingon, starbase.getX(), starbase.getY());
+
+    // Assert
+    assertFalse(moved);
+    assertSame(klingon, quadrant.getEntityAt(klingon.getX(), klingon.getY()));
+    assertSame(starbase, quadrant.getEntityAt(starbase.getX(), starbase.getY()));
+  }
+
+  @Test
+  public void testCleanupClearsOccupancy() {
+    // Arrange
+    Quadrant quadrant = new Quadrant(0, 0, 0, 1, 0, new SplittableRandom(SEED));
+    Klingon klingon = quadrant.klingons().get(0);
+
+    // Act
+    klingon.hit(400);
+    quadrant.cleanup();
+
+    // Assert
+    assertEquals(0L, quadrant.occupancy());
+    assertFalse(quadrant.isOccupied(klingon.getX(), klingon.getY()));
   }
 
   @Test
   public void testSymbolFormat() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 3, 2, 1);
+    Quadrant quadrant = new Quadrant(0, 0, 3, 2, 1, new SplittableRandom(SEED));
 
     // Act
     String symbol = quadrant.symbol();
@@ -548,7 +675,7 @@ public class QuadrantTest {
   @Test
   public void testToStringContainsCounts() {
     // Arrange
-    Quadrant quadrant = new Quadrant(0, 0, 2, 1, 3);
+    Quadrant quadrant = new Quadrant(0, 0, 2, 1, 3, new SplittableRandom(SEED));
 
     // Act
     String description = quadrant.toString();
@@ -0,0 +1,264 @@
+package sttrswing.model;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import sttrswing.model.enums.GenerationMode;
+import sttrswing.model.enums.TickMode;
+
+public class SaveChainTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private Path base() {
+    return temp.getRoot().toPath().resolve("game.trekf");
+  }
+
+  @Test
+  public void testDeltasLoadBackTheExactState() throws IOException {
+    // Arrange
+    Game game = new Game(12, 12, 4L);
+    SaveChain chain = new SaveChain(base());
+    chain.save(game);
+    Scenarios.fightAndWarp(game);
+    chain.save(game);
+    Scenarios.fightAndWarp(game);
+
+    // Act
+    Path written = chain.save(game);
+    SavedGame saved = SaveChain.read(chain.base());
+
+    // Assert
+    assertEquals(chain.base().resolveSibling("game.trekf.d2"), written);
+    assertFalse(chain.lastWasFull());
+    Game loaded = new Game(3, 3, 0L);
+    loaded.load(saved);
+    assertEquals(game.stateHash(), loaded.stateHash());
+    assertEquals(game.computeStateHash(), loaded.computeStateHash());
+    assertEquals(game.export(), loaded.export());
+    assertArrayEquals(game.exportFull(), loaded.exportFull());
+  }
+
+  @Test
+  public void testDeltaHoldsOnlyWhatChanged() throws IOException {
+    // Arrange
+    Game game = new Game(60, 60, 5L);
+    game.getGalaxy().setTickMode(TickMode.LAZY);
+    SaveChain chain = new SaveChain(base());
+    chain.save(game);
+
+    // Act
+    game.moveWithinQuadrant(7, 1);
+    Path delta = chain.save(game);
+
+    // Assert
+    assertTrue(Files.size(delta) * 100 < Files.size(chain.base()));
+    assertEquals(1, chain.deltaCount());
+  }
+
+  @Test
+  public void testCompactsIntoANewBase() throws IOException {
+    // Arrange
+    Game game = new Game(10, 10, 6L);
+    SaveChain chain = new SaveChain(base(), 2);
+    for (int i = 0; i < 3; i += 1) {
+      chain.save(game);
+      game.turn();
+    }
+
+    // Act
+    Path written = chain.save(game);
+
+    // Assert
+    assertEquals(chain.base(), written);
+    assertTrue(chain.lastWasFull());
+    assertEquals(0, chain.deltaCount());
+    assertFalse(Files.exists(chain.base().resolveSibling("game.trekf.d1")));
+    assertFalse(Files.exists(chain.base().resolveSibling("game.trekf.d2")));
+    assertEquals(game.getGalaxy().stateHash(),
+        SaveChain.read(chain.base()).galaxy().stateHash());
+  }
+
+  @Test
+  public void testSavingADivergedGameWritesAFullSave() throws IOException {
+    // Arrange
+    Game game = new Game(10, 10, 7L);
+    SaveChain chain = new SaveChain(base());
+    chain.save(game);
+    Game fork = game.fork();
+    Scenarios.fightAndWarp(fork);
+    chain.save(fork);
+    Scenarios.fightAndWarp(game);
+
+    // Act
+    chain.save(game);
+
+    // Assert
+    assertTrue(chain.lastWasFull());
+    Game loaded = new Game(3, 3, 0L);
+    loaded.load(SaveChain.read(chain.base()));
+    assertEquals(game.stateHash(), loaded.stateHash());
+  }
+
+  @Test
+  public void testIgnoresDeltasLeftOverFromAnEarlierChain() throws IOException {
+    // Arrange
+    Game game = new Game(10, 10, 8L);
+    SaveChain chain = new SaveChain(base());
+    chain.save(game);
+    Scenarios.fightAndWarp(game);
+    chain.save(game);
+    Game other = new Game(9, 9, 9L);
+
+    // Act
+    FullSaveCodec.write(chain.base(), other.getEnterprise(), other.getGalaxy(),
+        other.galaxyPosition());
+    SavedGame saved = SaveChain.read(chain.base());
+
+    // Assert
+    assertEquals(other.getGalaxy().stateHash(), saved.galaxy().stateHash());
+  }
+
+  @Test
+  public void testLoadCarriesOnTheChain() throws IOException {
+    // Arrange
+    Game game = new Game(10, 10, 10L);
+    SaveChain first = new SaveChain(base());
+    first.save(game);
+    Scenarios.fightAndWarp(game);
+    first.save(game);
+    SaveChain second = new SaveChain(first.base());
+    Game loaded = new Game(3, 3, 0L);
+    loaded.load(second.load());
+
+    // Act
+    Scenarios.fightAndWarp(game);
+    Scenarios.fightAndWarp(loaded);
+    second.save(loaded);
+
+    // Assert
+    assertFalse(second.lastWasFull());
+    assertEquals(2, second.deltaCount());
+    Game reloaded = new Game(3, 3, 0L);
+    reloaded.load(SaveChain.read(first.base()));
+    assertEquals(game.stateHash(), reloaded.stateHash());
+  }
+
+  @Test
+  public void testDeltasCarryQuadrantsBuiltSinceTheBase() throws IOException {
+    // Arrange
+    Game game = new Game(200, 200, 11L, GenerationMode.LAZY);
+    game.getGalaxy().setTickMode(TickMode.LAZY);
+    SaveChain chain = new SaveChain(base());
+    chain.save(game);
+    for (int warp = 0; warp < 10; warp += 1) {
+      game.moveBetweenQuadrants(warp % 8 + 1, 1);
+      game.turn();
+      chain.save(game);
+    }
+
+    // Act
+    SavedGame saved = SaveChain.read(chain.base());
+
+    // Assert
+    assertEquals(game.getGalaxy().materialisedCount(), saved.galaxy().materialisedCount());
+    Game loaded = new Game(3, 3, 0L);
+    loaded.load(saved);
+    assertEquals(game.stateHash(), loaded.stateHash());
+  }
+
+  @Test
+  public void testSnapshotsSavedElsewhereWriteDeltas() throws IOException {
+    // Arrange
+    Game game = new Game(12, 12, 12L);
+    SaveChain chain = new SaveChain(base());
+    chain.save(game.snapshot());
+    Scenarios.fightAndWarp(game);
+    SaveSnapshot snapshot = game.snapshot();
+    long snapshotHash = game.stateHash();
+
+    // Act
+    Scenarios.fightAndWarp(game);
+    chain.save(snapshot);
+
+    // Assert
+    assertFalse(chain.lastWasFull());
+    assertEquals(1, chain.deltaCount());
+    Game loaded = new Game(3, 3, 0L);
+    loaded.load(SaveChain.read(chain.base()));
+    assertEquals(snapshotHash, loaded.stateHash());
+    assertNotEquals(snapshotHash, game.stateHash());
+  }
+
+  @Test
+  public void testMergedSnapshotsKeepTheChangesOfBoth() throws IOException {
+    // Arrange
+    Game game = new Game(12, 12, 13L);
+    SaveChain chain = new SaveChain(base());
+    chain.save(game.snapshot());
+    game.moveBetweenQuadrants(1, 2);
+    game.firePhasers(200);
+    SaveSnapshot skipped = game.snapshot();
+    game.moveBetweenQuadrants(5, 4);
+    game.firePhasers(200);
+    game.turn();
+    SaveSnapshot latest = game.snapshot();
+
+    // Act
+    chain.save(skipped.followedBy(latest));
+
+    // Assert
+    assertFalse(chain.lastWasFull());
+    Game loaded = new Game(3, 3, 0L);
+    loaded.load(SaveChain.read(chain.base()));
+    assertEquals(game.stateHash(), loaded.stateHash());
+    assertArrayEquals(game.exportFull(), loaded.exportFull());
+  }
+
+  @Test
+  public void testSnapshotOfAReplacedGalaxyWritesAFullSave() throws IOException {
+    // Arrange
+    Game game = new Game(10, 10, 14L);
+    SaveChain chain = new SaveChain(base());
+    chain.save(game.snapshot());
+    Game other = new Game(8, 8, 15L);
+    game.load(other.getEnterprise(), other.getGalaxy());
+
+    // Act
+    chain.save(game.snapshot());
+
+    // Assert
+    assertTrue(chain.lastWasFull());
+    assertEquals(0, chain.deltaCount());
+  }
+
+  @Test
+  public void testDeltasCarryTheHeaderOfTheStateSaved() throws IOException {
+    // Arrange
+    Game game = new Game(10, 10, 16L);
+    SaveChain chain = new SaveChain(base());
+    chain.save(game);
+    Scenarios.fightAndWarp(game);
+
+    // Act
+    Path delta = chain.save(game);
+
+    // Assert
+    assertEquals(game.saveHeader(), SaveHeader.read(delta));
+    assertEquals(game.saveHeader(), SaveChain.newestHeader(chain.base(),
+        SaveChain.crc(chain.base())));
+    assertNull(SaveChain.newestHeader(chain.base(), 0));
+    assertEquals(chain.base(), SaveChain.baseOf(delta));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsCompactingAfterNothing() {
+    new SaveChain(Path.of("game.trekf"), 0);
+  }
+}
@@ -0,0 +1,107 @@
+package sttrswing.model;
+
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SaveHeaderTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private static SaveHeader expected(final Game game) {
+    Galaxy galaxy = game.getGalaxy();
+    return new SaveHeader(galaxy.getTurns(), galaxy.klingonCount(), galaxy.starbaseCount(),
+        game.getEnterprise().energy(), galaxy.getWidth(), galaxy.getHeight());
+  }
+
+  @Test
+  public void testEveryFormatStartsWithTheHeader() {
+    // Arrange
+    Game game = new Game(9, 6, 7L);
+    game.shields(300);
+    game.turn();
+    game.turn();
+    SaveHeader expected = expected(game);
+    byte[] text = (game.saveHeader().toText() + game.export())
+        .getBytes(StandardCharsets.UTF_8);
+
+    // Act
+    SaveHeader binary = SaveHeader.parse(game.exportBinary());
+    SaveHeader full = SaveHeader.parse(game.exportFull());
+    SaveHeader textual = SaveHeader.parse(text);
+
+    // Assert
+    assertEquals(expected, game.saveHeader());
+    assertEquals(expected, binary);
+    assertEquals(expected, full);
+    assertEquals(expected, textual);
+  }
+
+  @Test
+  public void testTextHeaderIsAFixedSizeLineLoadersSkip() throws Exception {
+    // Arrange
+    Game game = new Game(8, 8, 3L);
+    String header = game.saveHeader().toText();
+
+    // Act
+    SavedGame saved = TrekParser.read(new StringReader(header + game.export()));
+
+    // Assert
+    assertEquals(SaveHeader.TEXT_BYTES, header.getBytes(StandardCharsets.US_ASCII).length);
+    assertEquals(game.getEnterprise().export(), saved.enterprise().export());
+    assertEquals(game.getGalaxy().export(), saved.galaxy().export());
+  }
+
+  @Test
+  public void testReadsOnlyTheStartOfTheFile() throws Exception {
+    // Arrange
+    Game game = new Game(64, 64, 11L);
+    byte[] full = game.exportFull();
+    // a save cut short straight after its header can not be decoded, only its header read
+    Path path = temp.newFile("header." + FullSaveCodec.EXTENSION).toPath();
+    Files.write(path, Arrays.copyOf(full, Integer.BYTES + 1 + SaveHeader.BYTES));
+
+    // Act
+    SaveHeader header = SaveHeader.read(path);
+
+    // Assert
+    assertEquals(expected(game), header);
+  }
+
+  @Test
+  public void testSavesWithoutAHeaderHaveNone() throws Exception {
+    // Arrange
+    Game game = new Game(8, 8, 4L);
+    byte[] binary = game.exportBinary();
+    ByteBuffer versionOne = ByteBuffer.allocate(binary.length - SaveHeader.BYTES);
+    versionOne.put(binary, 0, Integer.BYTES).put((byte) 1)
+        .put(binary, Integer.BYTES + 1 + SaveHeader.BYTES,
+            binary.length - Integer.BYTES - 1 - SaveHeader.BYTES);
+    Path text = temp.newFile("header.trek").toPath();
+    Files.writeString(text, game.export());
+
+    // Act
+    SaveHeader fromVersionOne = SaveHeader.parse(versionOne.array());
+    SaveHeader fromText = SaveHeader.read(text);
+
+    // Assert
+    assertNull(fromVersionOne);
+    assertNull(fromText);
+    assertNull(SaveHeader.parse(new byte[0]));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTextHeaderRejectsNegativeValues() {
+    // Act
+    new SaveHeader(1, 2, 3, -4, 8, 8).toText();
+  }
+}
@@ -0,0 +1,30 @@
+package sttrswing.model;
+
+/**
+ * Games played the same way by every save test, so they all cover the same state.
+ */
+final class Scenarios {
+
+  private Scenarios() {
+    // Utility class
+  }
+
+  /**
+   * Plays a few turns that change every kind of state a save must keep: the current
+   * {@link Quadrant} is scanned and fought in, the {@link Enterprise} warps to another
+   * {@link Quadrant}, fires a torpedo there and moves within it, and the {@link Galaxy} ticks.
+   *
+   * @param game - the {@link Game} to play.
+   */
+  static void fightAndWarp(final Game game) {
+    game.scanQuadrant();
+    game.firePhasers(200);
+    game.turn();
+    game.moveBetweenQuadrants(3, 2);
+    game.scanQuadrant();
+    game.fireTorpedo(5);
+    game.turn();
+    game.moveWithinQuadrant(7, 2);
+    game.turn();
+  }
+}
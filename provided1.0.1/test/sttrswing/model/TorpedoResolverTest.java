@@ -0,0 +1,73 @@
+package sttrswing.model;
+
+import static org.junit.Assert.*;
+
+import java.util.SplittableRandom;
+import org.junit.Test;
+
+public class TorpedoResolverTest {
+
+  private static final int[] DX = {1, 1, 0, -1, -1, -1, 0, 1};
+  private static final int[] DY = {0, -1, -1, -1, 0, 1, 1, 1};
+
+  @Test
+  public void testMatchesSteppingOneSectorAtATime() {
+    for (int seed = 0; seed < 50; seed++) {
+      // Arrange
+      Quadrant quadrant = new Quadrant(0, 0, new SplittableRandom(seed));
+
+      for (int sector = 0; sector < 64; sector++) {
+        for (int course = 1; course <= 8; course++) {
+          // Act
+          int actual = TorpedoResolver.resolve(quadrant, sector % 8, sector / 8, course);
+
+          // Assert
+          assertEquals("sector " + sector + " course " + course,
+              step(quadrant, sector % 8, sector / 8, course), actual);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testEmptyQuadrantIsAlwaysAMiss() {
+    // Arrange
+    Quadrant quadrant = new Quadrant(0, 0, 0, 0, 0);
+
+    // Act & Assert
+    for (int course = 1; course <= 8; course++) {
+      assertEquals(TorpedoResolver.MISS, TorpedoResolver.resolve(quadrant, 3, 4, course));
+    }
+  }
+
+  @Test
+  public void testRaysStopAtTheEdge() {
+    // Arrange & Act & Assert
+    assertEquals(0L, SectorRays.ray(1, 7, 2));
+    assertEquals(0L, SectorRays.ray(3, 4, 0));
+    assertEquals(0xFEL, SectorRays.ray(1, 0, 0));
+    assertEquals(0x0101010101010100L, SectorRays.ray(7, 0, 0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsInvalidCourse() {
+    // Arrange & Act
+    TorpedoResolver.resolve(new Quadrant(0, 0, 0, 0, 0), 1, 1, 9);
+  }
+
+  /**
+   * Walks the torpedo one sector at a time to find what it hits.
+   */
+  private static int step(Quadrant quadrant, int x, int y, int course) {
+    x += DX[course - 1];
+    y += DY[course - 1];
+    while (x >= 0 && y >= 0 && x < 8 && y < 8) {
+      if (quadrant.getEntityAt(x, y) != null) {
+        return y * 8 + x;
+      }
+      x += DX[course - 1];
+      y += DY[course - 1];
+    }
+    return TorpedoResolver.MISS;
+  }
+}
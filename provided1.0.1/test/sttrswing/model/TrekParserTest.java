@@ -0,0 +1,147 @@
+package sttrswing.model;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import org.junit.Test;
+
+public class TrekParserTest {
+
+  private static TrekFormatException parseFailure(final String content) throws IOException {
+    try {
+      TrekParser.read(new StringReader(content));
+    } catch (TrekFormatException e) {
+      return e;
+    }
+    fail("expected a TrekFormatException");
+    return null;
+  }
+
+  @Test
+  public void testReadsBackAnExport() throws IOException {
+    // Arrange
+    Game game = new Game(9, 5, 3L);
+
+    // Act
+    SavedGame saved = TrekParser.read(new StringReader(game.export()));
+
+    // Assert
+    assertEquals(game.export(), saved.enterprise().export() + saved.galaxy().export());
+  }
+
+  @Test
+  public void testAcceptsLooseFormatting() throws IOException {
+    // Arrange
+    String content = "a comment\r\n\r\n  [E]  t:7 s:0 y:2 x:1 e:300\r\n[q] s:203 x:0 y:0 |  tail\n";
+
+    // Act
+    SavedGame saved = TrekParser.read(new StringReader(content));
+
+    // Assert
+    assertEquals("[e] x:1 y:2 e:300 s:0 t:7 |\n", saved.enterprise().export());
+    assertEquals("203", saved.galaxy().symbolAt(0, 0));
+  }
+
+  @Test
+  public void testALoneBracketDoesNotSwallowTheNextLine() throws IOException {
+    // Arrange
+    String content = "[\n[e] x:1 y:2 e:300 s:0 t:7 |\n[\r\n[q] x:0 y:0 s:203 |\n[";
+
+    // Act
+    SavedGame saved = TrekParser.read(new StringReader(content));
+
+    // Assert
+    assertEquals("[e] x:1 y:2 e:300 s:0 t:7 |\n", saved.enterprise().export());
+    assertEquals("203", saved.galaxy().symbolAt(0, 0));
+  }
+
+  @Test
+  public void testReadsThroughASmallBuffer() throws IOException {
+    // Arrange
+    Game game = new Game(40, 40, 8L);
+    Reader trickle = new StringReader(game.export()) {
+      @Override
+      public int read(char[] buffer, int offset, int length) throws IOException {
+        return super.read(buffer, offset, Math.min(length, 3));
+      }
+    };
+
+    // Act
+    SavedGame saved = TrekParser.read(trickle);
+
+    // Assert
+    assertEquals(game.getGalaxy().export(), saved.galaxy().export());
+  }
+
+  @Test
+  public void testReportsWhereANumberIsMissing() throws IOException {
+    // Act
+    TrekFormatException e = parseFailure("[e] x:1 y:2 e:3000 s:0 t:10 |\n[q] x:0 y:z s:111 |\n");
+
+    // Assert
+    assertEquals(2, e.getLine());
+    assertEquals(11, e.getColumn());
+    assertTrue(e.getMessage().startsWith("Line 2, column 11: "));
+  }
+
+  @Test
+  public void testReportsASymbolOfTheWrongLength() throws IOException {
+    // Act
+    TrekFormatException e = parseFailure("[e] x:1 y:2 e:3000 s:0 t:10 |\n[q] x:0 y:0 s:1111 |\n");
+
+    // Assert
+    assertEquals(2, e.getLine());
+    assertEquals(18, e.getColumn());
+  }
+
+  @Test
+  public void testReportsAMissingField() throws IOException {
+    // Act
+    TrekFormatException e = parseFailure("[e] x:1 e:3000 s:0 t:10\n");
+
+    // Assert
+    assertEquals(1, e.getLine());
+    assertEquals(1, e.getColumn());
+    assertTrue(e.getMessage().contains("'y:'"));
+  }
+
+  @Test
+  public void testReportsAnUnknownField() throws IOException {
+    // Act
+    TrekFormatException e = parseFailure("\n\n   [q] x:0 w:1 s:111 |\n");
+
+    // Assert
+    assertEquals(3, e.getLine());
+    assertEquals(12, e.getColumn());
+  }
+
+  @Test
+  public void testRejectsASaveWithoutQuadrants() throws IOException {
+    // Act
+    TrekFormatException e = parseFailure("[e] x:1 y:2 e:3000 s:0 t:10 |\n");
+
+    // Assert
+    assertEquals(2, e.getLine());
+  }
+
+  @Test
+  public void testRejectsASecondEnterprise() throws IOException {
+    // Act
+    TrekFormatException e =
+        parseFailure("[e] x:1 y:2 e:3000 s:0 t:10 |\n[e] x:1 y:2 e:3000 s:0 t:10 |\n");
+
+    // Assert
+    assertEquals(2, e.getLine());
+  }
+
+  @Test
+  public void testRejectsANumberTooLarge() throws IOException {
+    // Act
+    TrekFormatException e = parseFailure("[e] x:1 y:2 e:99999999999 s:0 t:10 |\n");
+
+    // Assert
+    assertEquals(1, e.getLine());
+  }
+}
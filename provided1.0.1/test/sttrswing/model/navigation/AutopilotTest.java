@@ -0,0 +1,108 @@
+package sttrswing.model.navigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import sttrswing.model.Game;
+import sttrswing.model.SectorRays;
+
+public class AutopilotTest {
+
+  @Test
+  public void plotReachesTargetInShortestNumberOfQuadrants() {
+    // Arrange
+    Autopilot autopilot = new Autopilot(64, 40, 3);
+
+    // Act
+    Route route = autopilot.plot(2, 35, 60, 4);
+
+    // Assert
+    int x = 2;
+    int y = 35;
+    int travelled = 0;
+    for (Leg leg : route.legs()) {
+      x += SectorRays.dx(leg.course()) * leg.distance();
+      y += SectorRays.dy(leg.course()) * leg.distance();
+      travelled += leg.distance();
+    }
+    assertEquals(60, x);
+    assertEquals(4, y);
+    assertEquals(58, route.quadrants());
+    assertEquals(58, travelled);
+    assertEquals(58 * 3, route.energyCost());
+  }
+
+  @Test
+  public void plotUsesAtMostTwoLegsInOpenSpace() {
+    // Arrange
+    Autopilot autopilot = new Autopilot(16, 16, 0);
+
+    // Act
+    Route diagonal = autopilot.plot(0, 0, 15, 15);
+    Route dogleg = autopilot.plot(3, 12, 10, 0);
+
+    // Assert
+    assertEquals(1, diagonal.legs().size());
+    assertEquals(new Leg(8, 15), diagonal.legs().get(0));
+    assertEquals(2, dogleg.legs().size());
+    assertEquals(12, dogleg.quadrants());
+  }
+
+  @Test
+  public void plotToCurrentQuadrantHasNoLegs() {
+    // Arrange
+    Autopilot autopilot = new Autopilot(8, 8, 5);
+
+    // Act
+    Route route = autopilot.plot(4, 4, 4, 4);
+
+    // Assert
+    assertTrue(route.legs().isEmpty());
+    assertEquals(0, route.energyCost());
+  }
+
+  @Test
+  public void fieldsAreCachedPerTargetAndDroppedWhenStale() {
+    // Arrange
+    Autopilot autopilot = new Autopilot(32, 32, 0);
+    DistanceField first = autopilot.fieldTowards(1, 2);
+
+    // Act
+    for (int i = 0; i < Autopilot.CACHED_FIELDS + 4; i += 1) {
+      autopilot.fieldTowards(i, 10);
+      autopilot.fieldTowards(1, 2);
+    }
+
+    // Assert
+    assertSame(first, autopilot.fieldTowards(1, 2));
+    assertEquals(Autopilot.CACHED_FIELDS, autopilot.cachedFieldCount());
+    autopilot.invalidate();
+    assertEquals(0, autopilot.cachedFieldCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void plotRejectsTargetOutsideGalaxy() {
+    // Arrange
+    Autopilot autopilot = new Autopilot(8, 8, 0);
+
+    // Act
+    autopilot.plot(0, 0, 8, 3);
+  }
+
+  @Test
+  public void engageAutopilotWarpsGameToTarget() {
+    // Arrange
+    Game game = new Game(20, 20, 7L);
+
+    // Act
+    Route route = game.engageAutopilot(0, 17);
+
+    // Assert
+    assertEquals(0, game.galaxyPosition().getX());
+    assertEquals(17, game.galaxyPosition().getY());
+    assertEquals(10, route.quadrants());
+    assertEquals(0, game.plotCourse(0, 17).quadrants());
+  }
+}
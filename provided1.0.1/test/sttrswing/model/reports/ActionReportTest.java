@@ -0,0 +1,51 @@
+package sttrswing.model.reports;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import org.junit.Test;
+import sttrswing.model.Enterprise;
+import sttrswing.model.Galaxy;
+import sttrswing.model.Game;
+import sttrswing.model.Quadrant;
+import sttrswing.model.enums.StopReason;
+
+public class ActionReportTest {
+
+  @Test
+  public void testTextMatchesOriginalWording() {
+    // Arrange & Act & Assert
+    assertEquals("", NoActionReport.INSTANCE.text());
+    assertEquals("Phaser (300) energy wasted, there are no valid targets!",
+        new PhaserReport(300, 0, 0, 0).text());
+    assertEquals("Phaser (300) at 3 targets, 100 dmg each, 1 down",
+        new PhaserReport(300, 3, 100, 1).text());
+    assertEquals("Torpedo fired at course bearing:3↑ has hit target! It hit a:+K+",
+        new TorpedoReport(3, TorpedoReport.Result.HIT, "+K+").text());
+    assertEquals("Torpedo fired at course bearing:5← flies off into the dark of space.",
+        new TorpedoReport(5, TorpedoReport.Result.MISSED, null).text());
+    assertEquals("Scanned Quadrant(1,2) | 3 Klingons 4 Stars 0 Starbases",
+        new ScanReport(1, 2, 3, 4, 0).text());
+    assertEquals("200 Energy transferred to Shields captain!", new ShieldsReport(true, 200).text());
+    assertEquals("Moved↘(2) within Quadrant(4,4)", new MoveReport(8, 2, 2, StopReason.DISTANCE, 4, 4).text());
+    assertEquals("ENCOUNTERED A ENTITY: * EN ROUTE.", new MoveBlockedReport(" * ").text());
+    assertEquals("Moved→(1) between quadrants, arrived at quadrant (3, 6)",
+        new WarpReport(1, 1, 3, 6).text());
+  }
+
+  @Test
+  public void testGameRecordsTypedPhaserReport() {
+    // Arrange
+    ArrayList<Quadrant> quadrants = new ArrayList<>();
+    quadrants.add(new Quadrant(0, 0, 0, 2, 0));
+    Game game = new Game();
+    game.load(new Enterprise(5, 5), new Galaxy(quadrants));
+
+    // Act
+    game.phasers(700, game.getGalaxy().quadrantAt(0, 0));
+
+    // Assert
+    assertEquals(new PhaserReport(700, 2, 350, 2), game.lastAction());
+    assertEquals("Phaser (700) at 2 targets, 350 dmg each, 2 down", game.lastActionReport());
+  }
+}
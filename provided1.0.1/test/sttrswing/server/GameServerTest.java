@@ -0,0 +1,205 @@
+package sttrswing.server;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import sttrswing.model.Game;
+
+public class GameServerTest {
+
+  private GameServer server;
+
+  @Before
+  public void setUp() throws IOException {
+    this.server = new GameServer(0, 1L, seed -> new Game(8, 8, seed));
+    this.server.start();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    this.server.close();
+  }
+
+  private Client connect() throws IOException {
+    return new Client(new Socket(InetAddress.getLoopbackAddress(), this.server.getPort()));
+  }
+
+  @Test
+  public void testCommandsNeedASession() throws IOException {
+    // Arrange
+    try (Client client = connect()) {
+
+      // Act
+      String reply = client.send("scan");
+
+      // Assert
+      assertTrue(reply, reply.startsWith("ERR"));
+    }
+  }
+
+  @Test
+  public void testSessionsPlayTheSameGameAsALocalOne() throws IOException {
+    // Arrange
+    Game local = new Game(8, 8, 42L);
+    local.shields(100);
+    local.scanQuadrant();
+
+    try (Client client = connect()) {
+      client.send("new 42");
+
+      // Act
+      client.send("shields 100");
+      String scan = client.send("scan");
+      String hash = client.send("hash");
+      String status = client.send("status");
+
+      // Assert
+      assertTrue(scan, scan.startsWith("OK "));
+      assertEquals("OK " + Long.toHexString(local.stateHash()), hash);
+      assertEquals("OK " + CommandInterpreter.status(local), status);
+    }
+  }
+
+  @Test
+  public void testSessionsAreIsolatedUnlessJoined() throws IOException {
+    // Arrange
+    try (Client first = connect(); Client second = connect(); Client third = connect()) {
+      String id = first.send("new 7").substring("OK session=".length());
+      second.send("new 7");
+      third.send("join " + id);
+      String before = second.send("hash");
+
+      // Act
+      first.send("shields 150");
+
+      // Assert
+      assertEquals(before, second.send("hash"));
+      assertEquals(first.send("hash"), third.send("hash"));
+      assertNotEquals(before, third.send("hash"));
+      assertEquals(first.send("status"), third.send("status"));
+    }
+  }
+
+  @Test
+  public void testBadCommandsAreReportedNotFatal() throws IOException {
+    // Arrange
+    try (Client client = connect()) {
+      client.send("new 3");
+
+      // Act
+      String unknown = client.send("cloak");
+      String missing = client.send("warp 3");
+      String notANumber = client.send("phasers lots");
+      String status = client.send("status");
+
+      // Assert
+      assertTrue(unknown, unknown.startsWith("ERR"));
+      assertTrue(missing, missing.startsWith("ERR"));
+      assertTrue(notANumber, notANumber.startsWith("ERR"));
+      assertTrue(status, status.startsWith("OK quadrant="));
+    }
+  }
+
+  @Test
+  public void testStatsCountCommandsAcrossSessions() throws IOException {
+    // Arrange
+    try (Client first = connect(); Client second = connect()) {
+      first.send("new");
+      second.send("new");
+
+      // Act
+      for (int i = 0; i < 5; i += 1) {
+        first.send("status");
+        second.send("scan");
+      }
+      ServerStats stats = this.server.stats();
+
+      // Assert
+      assertEquals(2, stats.sessions());
+      assertEquals(10, stats.commands());
+      assertTrue(stats.p99Nanos() >= stats.p50Nanos());
+    }
+  }
+
+  @Test
+  public void testStatsFromAClientLeaveOtherSnapshotsAlone() throws IOException {
+    // Arrange
+    try (Client client = connect()) {
+      client.send("new");
+      ServerStats before = this.server.stats();
+      for (int i = 0; i < 5; i += 1) {
+        client.send("status");
+      }
+
+      // Act
+      client.send("stats");
+      client.send("stats");
+      ServerStats after = this.server.stats();
+
+      // Assert
+      assertEquals(5, after.commands() - before.commands());
+      assertTrue(after.uptimeNanos() > before.uptimeNanos());
+      assertTrue(after.commandsPerSecondSince(before) > 0);
+    }
+  }
+
+  @Test
+  public void testSessionEndsWhenItsLastConnectionCloses()
+      throws IOException, InterruptedException {
+    // Arrange
+    String id;
+    try (Client client = connect()) {
+      id = client.send("new").substring("OK session=".length());
+      client.send("quit");
+    }
+    // the server notices the connection closing on its own thread
+    for (int i = 0; i < 500 && this.server.stats().sessions() > 0; i += 1) {
+      Thread.sleep(10);
+    }
+
+    try (Client client = connect()) {
+      // Act
+      String reply = client.send("join " + id);
+
+      // Assert
+      assertTrue(reply, reply.startsWith("ERR"));
+    }
+  }
+
+  /**
+   * A blocking client that sends one command and waits for its reply.
+   */
+  private static final class Client implements AutoCloseable {
+
+    private final Socket socket;
+    private final BufferedReader in;
+    private final PrintWriter out;
+
+    private Client(final Socket socket) throws IOException {
+      this.socket = socket;
+      this.in = new BufferedReader(
+          new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+      this.out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+    }
+
+    private String send(final String command) throws IOException {
+      this.out.print(command + "\n");
+      this.out.flush();
+      return command.equals("quit") ? null : this.in.readLine();
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.socket.close();
+    }
+  }
+}